@@ -0,0 +1,87 @@
+package com.hrsaas.common.cache.benchmark;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hrsaas.common.cache.serializer.CacheCompression;
+import com.hrsaas.common.cache.serializer.CacheSerializers;
+import com.hrsaas.common.cache.twolevel.TwoLevelCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * L1 hit cost of TwoLevelCache for a common-code list (the shape of mdm:commonCode entries),
+ * sharing the cached instance versus copy-on-read through the binary and JSON codecs.
+ * L2 is an in-memory map seeded once and read through to back-fill L1, so only the L1 path is measured.
+ *
+ * Run: ./gradlew :common:common-cache:jmh -Pjmh.includes=TwoLevelCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TwoLevelCacheBenchmark {
+
+    private static final String KEY = "LEAVE_TYPE";
+
+    @Param({"shared", "copy-binary", "copy-json"})
+    public String mode;
+
+    @Param({"10", "100"})
+    public int codes;
+
+    private TwoLevelCache cache;
+
+    @Setup
+    public void setUp() {
+        SerializationPair<Object> serialization = SerializationPair.fromSerializer(
+            "copy-json".equals(mode) ? CacheSerializers.json() : CacheSerializers.binary(CacheCompression.NONE));
+
+        ConcurrentMapCache remote = new ConcurrentMapCache("mdm:commonCode", false);
+        remote.put(KEY, codeList());
+
+        // No invalidation bus: nothing here writes through the two-level cache
+        cache = new TwoLevelCache("mdm:commonCode",
+            Caffeine.newBuilder().maximumSize(1_000).build(),
+            remote,
+            serialization,
+            !"shared".equals(mode),
+            null,
+            new SimpleMeterRegistry());
+        cache.get(KEY);
+    }
+
+    @Benchmark
+    public Object l1Hit() {
+        return cache.get(KEY).get();
+    }
+
+    private List<Map<String, Object>> codeList() {
+        List<Map<String, Object>> list = new ArrayList<>(codes);
+        for (int i = 0; i < codes; i++) {
+            Map<String, Object> code = new LinkedHashMap<>();
+            code.put("id", UUID.randomUUID().toString());
+            code.put("groupCode", KEY);
+            code.put("code", "CODE_" + i);
+            code.put("codeName", "코드 " + i);
+            code.put("codeNameEn", "Code " + i);
+            code.put("sortOrder", i);
+            code.put("active", true);
+            list.add(code);
+        }
+        return list;
+    }
+}
@@ -1,11 +1,14 @@
 package com.hrsaas.common.cache;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hrsaas.common.cache.serializer.CacheCompression;
+import com.hrsaas.common.cache.serializer.CacheSerializers;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationBus;
+import com.hrsaas.common.cache.twolevel.LocalCacheSpec;
+import com.hrsaas.common.cache.twolevel.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -13,7 +16,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -23,21 +27,47 @@ import java.util.Map;
 
 /**
  * Redis cache configuration.
+ * Reference-data caches additionally get an in-process L1 tier (see {@link #localCacheSpecs()}).
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${app.cache.l1.enabled:true}")
+    private boolean l1Enabled;
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        GenericJackson2JsonRedisSerializer jsonSerializer = createRedisSerializer();
+    public CacheInvalidationBus cacheInvalidationBus(RedisConnectionFactory redisConnectionFactory) {
+        return new CacheInvalidationBus(redisConnectionFactory);
+    }
 
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(30))
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(CacheSerializers.json()))
             .disableCachingNullValues();
 
+        // Large tree/list values use the compact binary format. The distinct key prefix keeps
+        // binary and JSON entries apart while nodes with different formats run side by side.
+        RedisCacheConfiguration binaryConfig = defaultConfig
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                CacheSerializers.binary(CacheCompression.LZ4)))
+            .computePrefixWith(cacheName -> cacheName + "::bin:");
+
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // Configure specific cache TTLs
@@ -45,38 +75,65 @@ public class CacheConfig {
         cacheConfigurations.put(CacheNames.TENANT_POLICY, defaultConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put(CacheNames.COMMON_CODE, defaultConfig.entryTtl(Duration.ofHours(24)));
         cacheConfigurations.put(CacheNames.CODE_GROUP, defaultConfig.entryTtl(Duration.ofHours(24)));
-        cacheConfigurations.put(CacheNames.EMPLOYEE, defaultConfig.entryTtl(Duration.ofMinutes(15)));
+        cacheConfigurations.put(CacheNames.EMPLOYEE, binaryConfig.entryTtl(Duration.ofMinutes(15)));
         cacheConfigurations.put(CacheNames.DEPARTMENT, defaultConfig.entryTtl(Duration.ofHours(1)));
-        cacheConfigurations.put(CacheNames.ORGANIZATION_TREE, defaultConfig.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put(CacheNames.ORGANIZATION_TREE, binaryConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put(CacheNames.POSITION, defaultConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put(CacheNames.GRADE, defaultConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put(CacheNames.COMMITTEE, defaultConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put(CacheNames.APPROVAL_TEMPLATE, defaultConfig.entryTtl(Duration.ofHours(1)));
 
         // Menu caches
-        cacheConfigurations.put(CacheNames.MENU_TREE, defaultConfig.entryTtl(Duration.ofHours(24)));
-        cacheConfigurations.put(CacheNames.MENU_TENANT, defaultConfig.entryTtl(Duration.ofHours(24)));
-        cacheConfigurations.put(CacheNames.MENU_USER, defaultConfig.entryTtl(Duration.ofMinutes(15)));
+        cacheConfigurations.put(CacheNames.MENU_TREE, binaryConfig.entryTtl(Duration.ofHours(24)));
+        cacheConfigurations.put(CacheNames.MENU_TENANT, binaryConfig.entryTtl(Duration.ofHours(24)));
+        cacheConfigurations.put(CacheNames.MENU_USER, binaryConfig.entryTtl(Duration.ofMinutes(15)));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        if (!l1Enabled) {
+            return RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(defaultConfig)
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .transactionAware()
+                .build();
+        }
+
+        // Transaction awareness is applied by the two-level manager around both tiers
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
             .cacheDefaults(defaultConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
-            .transactionAware()
             .build();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+            redisCacheManager,
+            localCacheSpecs(),
+            cacheInvalidationBus,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
 
-    private GenericJackson2JsonRedisSerializer createRedisSerializer() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        objectMapper.activateDefaultTyping(
-            BasicPolymorphicTypeValidator.builder()
-                .allowIfSubType(Object.class)
-                .build(),
-            ObjectMapper.DefaultTyping.NON_FINAL,
-            JsonTypeInfo.As.PROPERTY
-        );
-        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    /**
+     * L1 (in-process) settings for read-mostly reference data.
+     * L1 TTLs are kept well below the Redis TTLs so a lost invalidation
+     * message only leaves a node stale for a few minutes.
+     * None of these caches' callers modify the values they read, so L1 shares
+     * instances; use {@link LocalCacheSpec#copyOnRead} for a cache whose values are mutated.
+     */
+    private Map<String, LocalCacheSpec> localCacheSpecs() {
+        Map<String, LocalCacheSpec> specs = new HashMap<>();
+
+        specs.put(CacheNames.TENANT, LocalCacheSpec.of(1_000, Duration.ofMinutes(5)));
+        specs.put(CacheNames.TENANT_POLICY, LocalCacheSpec.of(1_000, Duration.ofMinutes(5)));
+        specs.put(CacheNames.COMMON_CODE, LocalCacheSpec.of(10_000, Duration.ofMinutes(10)));
+        specs.put(CacheNames.CODE_GROUP, LocalCacheSpec.of(2_000, Duration.ofMinutes(10)));
+        specs.put(CacheNames.ORGANIZATION_TREE, LocalCacheSpec.of(500, Duration.ofMinutes(5)));
+        specs.put(CacheNames.DEPARTMENT, LocalCacheSpec.of(5_000, Duration.ofMinutes(5)));
+        specs.put(CacheNames.POSITION, LocalCacheSpec.of(2_000, Duration.ofMinutes(5)));
+        specs.put(CacheNames.GRADE, LocalCacheSpec.of(2_000, Duration.ofMinutes(5)));
+
+        // Menu caches
+        specs.put(CacheNames.MENU_TREE, LocalCacheSpec.of(500, Duration.ofMinutes(10)));
+        specs.put(CacheNames.MENU_TENANT, LocalCacheSpec.of(1_000, Duration.ofMinutes(10)));
+
+        return specs;
     }
 }
@@ -17,6 +17,8 @@ public interface CacheNames {
     String COMMON_CODE = "mdm:commonCode";
     String TENANT_CODE = "mdm:tenantCode";
     String CODE_TREE = "mdm:codeTree";
+    /** Node-local code search index (patched over {@code CacheInvalidationBus} only) */
+    String CODE_SEARCH_INDEX = "mdm:codeSearchIndex";
 
     // Organization related
     String ORGANIZATION = "organization";
@@ -29,6 +31,8 @@ public interface CacheNames {
     // Employee related
     String EMPLOYEE = "employee";
     String EMPLOYEE_PROFILE = "employee:profile";
+    /** Node-local organization name cache (invalidated over {@code CacheInvalidationBus} only) */
+    String EMPLOYEE_ORGANIZATION_NAMES = "employee:organizationNames";
 
     // Auth related
     String SESSION = "session";
@@ -0,0 +1,53 @@
+package com.hrsaas.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Tenant- and key-scoped cache invalidation, replacing {@code allEntries = true}.
+ *
+ * Keys are resolved immediately (while the tenant context is bound) and the
+ * invalidation itself runs after the surrounding transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final TenantCacheKeys tenantCacheKeys;
+
+    /**
+     * Evict entries by their tenant-scoped entity key ({@link TenantCacheKeys#entity(Object)}).
+     */
+    public void evictEntities(String cacheName, Collection<?> ids) {
+        evictKeys(cacheName, ids.stream().map(tenantCacheKeys::entity).toList());
+    }
+
+    /**
+     * Evict entries by an alternate identifier ({@link TenantCacheKeys#entity(String, Object)}).
+     */
+    public void evictEntities(String cacheName, String kind, Collection<?> values) {
+        evictKeys(cacheName, values.stream().map(value -> tenantCacheKeys.entity(kind, value)).toList());
+    }
+
+    /**
+     * Evict already-built cache keys.
+     */
+    public void evictKeys(String cacheName, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        // Transaction-aware caches defer the eviction until commit
+        for (String key : keys) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.hrsaas.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant-scoped cache keys for use in {@code @Cacheable} key expressions.
+ *
+ * Entity keys identify a single record and are evicted individually.
+ *
+ * Usage: {@code @Cacheable(value = CacheNames.EMPLOYEE, key = "@tenantCacheKeys.entity(#id)")}
+ */
+@Component("tenantCacheKeys")
+@RequiredArgsConstructor
+public class TenantCacheKeys {
+
+    private final CacheKeyGenerator cacheKeyGenerator;
+
+    /**
+     * Format: id:{tenantId}:{id}
+     */
+    public String entity(Object id) {
+        return cacheKeyGenerator.generateKey("id", String.valueOf(id));
+    }
+
+    /**
+     * Entity key by an alternate identifier.
+     * Format: {kind}:{tenantId}:{value}
+     */
+    public String entity(String kind, Object value) {
+        return cacheKeyGenerator.generateKey(kind, String.valueOf(value));
+    }
+}
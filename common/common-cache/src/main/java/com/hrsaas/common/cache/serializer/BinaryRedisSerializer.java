@@ -0,0 +1,99 @@
+package com.hrsaas.common.cache.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Versioned binary value serializer for Redis caches.
+ *
+ * Layout: {@code [magic:1][version:1][compression:1][originalLength:4 if compressed][body]}.
+ * The body is Jackson Smile (binary JSON) with shared property names and
+ * class-name strings, so repeated {@code @class} metadata and field names are
+ * written once per value. Bodies at or above the threshold are compressed.
+ *
+ * Values with an unknown magic byte or version are treated as cache misses
+ * rather than errors, so a format change never breaks reads.
+ */
+@Slf4j
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB5;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_LENGTH = 3;
+    private static final int LENGTH_FIELD = 4;
+
+    private final ObjectMapper smileMapper;
+    private final CacheCompression compression;
+    private final int compressionThreshold;
+
+    public BinaryRedisSerializer(ObjectMapper smileMapper, CacheCompression compression, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write binary cache value: " + e.getMessage(), e);
+        }
+
+        CacheCompression codec = body.length >= compressionThreshold ? compression : CacheCompression.NONE;
+        if (codec == CacheCompression.NONE) {
+            return ByteBuffer.allocate(HEADER_LENGTH + body.length)
+                .put(MAGIC).put(VERSION).put(CacheCompression.NONE.getId())
+                .put(body)
+                .array();
+        }
+
+        byte[] compressed = codec.compress(body);
+        return ByteBuffer.allocate(HEADER_LENGTH + LENGTH_FIELD + compressed.length)
+            .put(MAGIC).put(VERSION).put(codec.getId())
+            .putInt(body.length)
+            .put(compressed)
+            .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != VERSION) {
+            log.warn("Unsupported cache value format (magic={}, length={}), treating as miss",
+                     bytes[0], bytes.length);
+            return null;
+        }
+
+        CacheCompression codec = CacheCompression.fromId(bytes[2]);
+        if (codec == null) {
+            log.warn("Unknown cache value compression id={}, treating as miss", bytes[2]);
+            return null;
+        }
+
+        try {
+            if (codec == CacheCompression.NONE) {
+                return smileMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Object.class);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            int originalLength = buffer.getInt();
+            byte[] compressed = new byte[buffer.remaining()];
+            buffer.get(compressed);
+            return smileMapper.readValue(codec.decompress(compressed, originalLength), Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read binary cache value: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.hrsaas.common.cache.serializer;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Compression codecs for cached values. The id is stored in the value header,
+ * so ids must never be reused.
+ */
+public enum CacheCompression {
+
+    NONE(0) {
+        @Override
+        byte[] compress(byte[] data) {
+            return data;
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int originalLength) {
+            return data;
+        }
+    },
+
+    /** Fast, modest ratio. Good default for hot caches. */
+    LZ4(1) {
+        @Override
+        byte[] compress(byte[] data) {
+            return LZ4_FACTORY.fastCompressor().compress(data);
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int originalLength) {
+            return LZ4_FACTORY.fastDecompressor().decompress(data, originalLength);
+        }
+    },
+
+    /** Better ratio at higher CPU cost. Suited to large, rarely rewritten trees. */
+    ZSTD(2) {
+        @Override
+        byte[] compress(byte[] data) {
+            return Zstd.compress(data, ZSTD_LEVEL);
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int originalLength) {
+            return Zstd.decompress(data, originalLength);
+        }
+    };
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+    private static final int ZSTD_LEVEL = 3;
+
+    private final byte id;
+
+    CacheCompression(int id) {
+        this.id = (byte) id;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    abstract byte[] compress(byte[] data);
+
+    abstract byte[] decompress(byte[] data, int originalLength);
+
+    static CacheCompression fromId(byte id) {
+        for (CacheCompression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        return null;
+    }
+}
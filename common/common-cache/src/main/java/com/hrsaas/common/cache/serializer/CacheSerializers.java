@@ -0,0 +1,61 @@
+package com.hrsaas.common.cache.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Factory for Redis cache value serializers.
+ */
+public final class CacheSerializers {
+
+    /** Values smaller than this are not worth compressing. */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 2048;
+
+    private CacheSerializers() {
+        // Utility class
+    }
+
+    /**
+     * JSON serializer with {@code @class} type metadata (original cache format).
+     */
+    public static GenericJackson2JsonRedisSerializer json() {
+        return new GenericJackson2JsonRedisSerializer(configure(new ObjectMapper()));
+    }
+
+    /**
+     * Compact binary serializer (Smile), optionally compressed above the default threshold.
+     */
+    public static RedisSerializer<Object> binary(CacheCompression compression) {
+        return binary(compression, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    public static RedisSerializer<Object> binary(CacheCompression compression, int compressionThreshold) {
+        SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        return new BinaryRedisSerializer(configure(new ObjectMapper(smileFactory)), compression, compressionThreshold);
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(
+            BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType(Object.class)
+                .build(),
+            ObjectMapper.DefaultTyping.NON_FINAL,
+            JsonTypeInfo.As.PROPERTY
+        );
+        return objectMapper;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hrsaas.common.cache.twolevel;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub channel used to keep L1 caches consistent across service instances.
+ * Messages go to the handler subscribed for their cache name, or to the default handler
+ * (the two-level cache manager) when no such subscription exists.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "hr:cache:invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private volatile Consumer<CacheInvalidationMessage> handler = message -> { };
+    private final Map<String, Consumer<CacheInvalidationMessage>> subscribers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.redisTemplate.afterPropertiesSet();
+    }
+
+    public void setHandler(Consumer<CacheInvalidationMessage> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Route messages for a node-local cache that the CacheManager does not own,
+     * e.g. a service's own Caffeine cache, to the given handler.
+     */
+    public void subscribe(String cacheName, Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.put(cacheName, subscriber);
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, JsonUtils.toJson(new CacheInvalidationMessage(nodeId, cacheName, key)));
+        } catch (Exception e) {
+            // L1 TTL bounds staleness on other nodes if the message is lost
+            log.warn("Failed to publish cache invalidation: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = JsonUtils.fromJson(
+                new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+            if (invalidation == null || nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            subscribers.getOrDefault(invalidation.cacheName(), handler).accept(invalidation);
+        } catch (Exception e) {
+            log.warn("Failed to handle cache invalidation message: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.hrsaas.common.cache.twolevel;
+
+/**
+ * Pub/sub message telling other nodes to drop an L1 entry.
+ *
+ * @param origin    node id of the publisher (publishers ignore their own messages)
+ * @param cacheName cache name
+ * @param key       L1 key, or {@code null} to clear the whole cache
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
@@ -0,0 +1,28 @@
+package com.hrsaas.common.cache.twolevel;
+
+import java.time.Duration;
+
+/**
+ * Per-cache settings for the in-process (L1) tier.
+ *
+ * @param maximumSize maximum number of entries held per service instance
+ * @param ttl         time-to-live after write; bounds staleness if an invalidation message is lost
+ * @param copyOnRead  whether L1 hits return a fresh copy of mutable values; only needed for
+ *                    caches whose callers modify the values they get back
+ */
+public record LocalCacheSpec(long maximumSize, Duration ttl, boolean copyOnRead) {
+
+    /**
+     * L1 shares cached instances between callers, who must treat them as read-only.
+     */
+    public static LocalCacheSpec of(long maximumSize, Duration ttl) {
+        return new LocalCacheSpec(maximumSize, ttl, false);
+    }
+
+    /**
+     * L1 hands out a fresh copy of each mutable value on every hit.
+     */
+    public static LocalCacheSpec copyOnRead(long maximumSize, Duration ttl) {
+        return new LocalCacheSpec(maximumSize, ttl, true);
+    }
+}
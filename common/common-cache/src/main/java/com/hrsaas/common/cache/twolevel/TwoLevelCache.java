@@ -0,0 +1,255 @@
+package com.hrsaas.common.cache.twolevel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.ByteBuffer;
+import java.time.temporal.TemporalAccessor;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache with a bounded in-process L1 (Caffeine) in front of a shared L2 (Redis).
+ *
+ * Reads are served from L1 when possible and back-filled from L2 on a miss.
+ * Writes and evictions go to L2 first, then to the local L1, and are broadcast
+ * so that other nodes drop their L1 copy of the entry.
+ *
+ * L1 holds cached instances by reference, so callers of a shared cache must not
+ * modify what they get back. Caches created with copy-on-read keep mutable values
+ * in serialized form instead, and every hit returns a fresh instance; scalars and
+ * records are still shared since they cannot be modified in place. A back-fill
+ * from L2 is skipped if an invalidation for the same key stripe arrived while L2
+ * was being read, so a concurrent eviction cannot be overwritten with the old value.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final SerializationPair<Object> valueSerialization;
+    private final boolean copyOnRead;
+    private final CacheInvalidationBus invalidationBus;
+    /** Bumped on every local invalidation; a back-fill only lands if its stripe is unchanged */
+    private final AtomicLongArray invalidationStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote,
+                         SerializationPair<Object> valueSerialization,
+                         boolean copyOnRead,
+                         CacheInvalidationBus invalidationBus,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.valueSerialization = valueSerialization;
+        this.copyOnRead = copyOnRead;
+        this.invalidationBus = invalidationBus;
+        this.l1Hits = counter(meterRegistry, "l1", "hit");
+        this.l1Misses = counter(meterRegistry, "l1", "miss");
+        this.l2Hits = counter(meterRegistry, "l2", "hit");
+        this.l2Misses = counter(meterRegistry, "l2", "miss");
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+            .description("Cache lookups per tier")
+            .tag("cache", name)
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(fromLocal(stored));
+        }
+        l1Misses.increment();
+
+        long stamp = stamp(localKey);
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            l2Hits.increment();
+            backfill(localKey, stamp, wrapper.get());
+        } else {
+            l2Misses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = localKey(key);
+        long stamp = stamp(localKey);
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            backfill(localKey, stamp, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        invalidateLocal(localKey);
+        if (value != null) {
+            local.put(localKey, toLocal(value));
+        }
+        invalidationBus.publish(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        invalidateLocal(localKey);
+        if (existing == null) {
+            invalidationBus.publish(name, localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        invalidateLocal(localKey);
+        invalidationBus.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = localKey(key);
+        invalidateLocal(localKey);
+        invalidationBus.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        invalidateLocal(null);
+        invalidationBus.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        invalidateLocal(null);
+        invalidationBus.publish(name, null);
+        return invalidated;
+    }
+
+    /**
+     * Drop a local entry in response to another node's write.
+     */
+    void evictLocal(String localKey) {
+        invalidateLocal(localKey);
+    }
+
+    /**
+     * Drops the local entry (all entries for a null key) after bumping its stamp,
+     * so a back-fill that read L2 before this point is discarded.
+     */
+    private void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            for (int i = 0; i < STAMP_STRIPES; i++) {
+                invalidationStamps.incrementAndGet(i);
+            }
+            local.invalidateAll();
+        } else {
+            invalidationStamps.incrementAndGet(stripe(localKey));
+            local.invalidate(localKey);
+        }
+    }
+
+    private long stamp(String localKey) {
+        return invalidationStamps.get(stripe(localKey));
+    }
+
+    private void backfill(String localKey, long stamp, Object value) {
+        Object stored = toLocal(value);
+        local.asMap().compute(localKey, (k, current) ->
+            invalidationStamps.get(stripe(k)) == stamp ? stored : current);
+    }
+
+    private Object toLocal(Object value) {
+        if (!copyOnRead || isImmutable(value)) {
+            return value;
+        }
+        ByteBuffer buffer = valueSerialization.write(value);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new SerializedValue(bytes);
+    }
+
+    private Object fromLocal(Object stored) {
+        if (stored instanceof SerializedValue serialized) {
+            return valueSerialization.read(ByteBuffer.wrap(serialized.bytes()));
+        }
+        return stored;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof UUID || value instanceof Enum<?>
+            || value instanceof TemporalAccessor || value instanceof Record;
+    }
+
+    private static int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), STAMP_STRIPES);
+    }
+
+    /** L1 form of a mutable value; deserialized into a new instance on every hit */
+    private record SerializedValue(byte[] bytes) {
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,93 @@
+package com.hrsaas.common.cache.twolevel;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hrsaas.common.cache.serializer.CacheSerializers;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager that puts a Caffeine L1 in front of selected Redis caches.
+ *
+ * Caches with a {@link LocalCacheSpec} become {@link TwoLevelCache}s; all
+ * other caches are served by Redis alone. The underlying RedisCacheManager
+ * must not be transaction-aware itself; this manager applies the
+ * transaction decoration to the combined cache instead.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                Map<String, LocalCacheSpec> localSpecs,
+                                CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        invalidationBus.setHandler(this::onInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        redisCacheManager.initializeCaches();
+        List<Cache> caches = new ArrayList<>();
+        for (String cacheName : redisCacheManager.getCacheNames()) {
+            caches.add(wrap(redisCacheManager.getCache(cacheName)));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        return redisCache != null ? wrap(redisCache) : null;
+    }
+
+    private Cache wrap(Cache redisCache) {
+        LocalCacheSpec spec = localSpecs.get(redisCache.getName());
+        if (spec == null) {
+            return redisCache;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+            .maximumSize(spec.maximumSize())
+            .expireAfterWrite(spec.ttl())
+            .build();
+
+        SerializationPair<Object> valueSerialization = redisCache instanceof RedisCache redis
+            ? redis.getCacheConfiguration().getValueSerializationPair()
+            : SerializationPair.fromSerializer(CacheSerializers.json());
+
+        TwoLevelCache cache = new TwoLevelCache(
+            redisCache.getName(), local, redisCache, valueSerialization, spec.copyOnRead(),
+            invalidationBus, meterRegistry);
+        twoLevelCaches.put(cache.getName(), cache);
+        log.debug("Two-level cache enabled: cache={}, l1MaxSize={}, l1Ttl={}, copyOnRead={}",
+                  cache.getName(), spec.maximumSize(), spec.ttl(), spec.copyOnRead());
+        return cache;
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        TwoLevelCache cache = twoLevelCaches.get(message.cacheName());
+        if (cache != null) {
+            cache.evictLocal(message.key());
+        }
+    }
+}
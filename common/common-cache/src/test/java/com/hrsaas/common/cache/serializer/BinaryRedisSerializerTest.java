@@ -0,0 +1,98 @@
+package com.hrsaas.common.cache.serializer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BinaryRedisSerializer Tests")
+class BinaryRedisSerializerTest {
+
+    public static class Node {
+        public UUID id;
+        public String name;
+        public LocalDate createdOn;
+        public Instant updatedAt;
+        public List<Node> children = new ArrayList<>();
+
+        public Node() {
+        }
+
+        Node(String name) {
+            this.id = UUID.randomUUID();
+            this.name = name;
+            this.createdOn = LocalDate.of(2026, 1, 1);
+            this.updatedAt = Instant.parse("2026-01-01T00:00:00Z");
+        }
+    }
+
+    private Node tree(int width) {
+        Node root = new Node("root");
+        for (int i = 0; i < width; i++) {
+            Node child = new Node("child-" + i);
+            child.children.add(new Node("leaf-" + i));
+            root.children.add(child);
+        }
+        return root;
+    }
+
+    @Test
+    @DisplayName("Round-trips nested values with type information")
+    void roundTrip_preservesTypes() {
+        RedisSerializer<Object> serializer = CacheSerializers.binary(CacheCompression.NONE);
+        Node root = tree(3);
+
+        Object restored = serializer.deserialize(serializer.serialize(new ArrayList<>(List.of(root))));
+
+        assertThat(restored).isInstanceOf(List.class);
+        Node restoredRoot = (Node) ((List<?>) restored).get(0);
+        assertThat(restoredRoot.id).isEqualTo(root.id);
+        assertThat(restoredRoot.children).hasSize(3);
+        assertThat(restoredRoot.children.get(0).children.get(0).name).isEqualTo("leaf-0");
+        assertThat(restoredRoot.updatedAt).isEqualTo(root.updatedAt);
+    }
+
+    @Test
+    @DisplayName("Compresses values above the threshold with LZ4 and Zstd")
+    void compression_aboveThreshold() {
+        Node root = tree(200);
+        byte[] plain = CacheSerializers.binary(CacheCompression.NONE).serialize(root);
+
+        for (CacheCompression compression : List.of(CacheCompression.LZ4, CacheCompression.ZSTD)) {
+            RedisSerializer<Object> serializer = CacheSerializers.binary(compression, 1024);
+            byte[] bytes = serializer.serialize(root);
+
+            assertThat(bytes[2]).isEqualTo(compression.getId());
+            assertThat(bytes.length).isLessThan(plain.length);
+            assertThat(((Node) serializer.deserialize(bytes)).children).hasSize(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Binary format is smaller than the JSON format")
+    void binary_smallerThanJson() {
+        Node root = tree(50);
+
+        byte[] json = CacheSerializers.json().serialize(root);
+        byte[] binary = CacheSerializers.binary(CacheCompression.NONE).serialize(root);
+
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("Unknown formats are treated as cache misses")
+    void deserialize_unknownFormat_returnsNull() {
+        RedisSerializer<Object> serializer = CacheSerializers.binary(CacheCompression.LZ4);
+
+        assertThat(serializer.deserialize("{\"@class\":\"x\"}".getBytes())).isNull();
+        assertThat(serializer.deserialize(new byte[]{BinaryRedisSerializer.MAGIC, 99, 0})).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.hrsaas.common.cache.twolevel;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.core.util.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CacheInvalidationBus Tests")
+class CacheInvalidationBusTest {
+
+    private CacheInvalidationBus bus;
+    private List<CacheInvalidationMessage> defaultReceived;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(mock(RedisConnectionFactory.class));
+        defaultReceived = new ArrayList<>();
+        bus.setHandler(defaultReceived::add);
+    }
+
+    private static Message message(String cacheName, String key) {
+        byte[] body = JsonUtils.toJson(new CacheInvalidationMessage("other-node", cacheName, key))
+            .getBytes(StandardCharsets.UTF_8);
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8), body);
+    }
+
+    @Test
+    @DisplayName("Messages for a subscribed cache go to its subscriber only")
+    void onMessage_subscribedCache_routesToSubscriber() {
+        List<CacheInvalidationMessage> received = new ArrayList<>();
+        bus.subscribe(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, received::add);
+
+        bus.onMessage(message(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, "t1:d1"), null);
+
+        assertThat(received).extracting(CacheInvalidationMessage::key).containsExactly("t1:d1");
+        assertThat(defaultReceived).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Messages for other caches go to the default handler")
+    void onMessage_otherCache_routesToDefaultHandler() {
+        bus.subscribe(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, message -> { });
+
+        bus.onMessage(message(CacheNames.COMMON_CODE, "LEAVE_TYPE"), null);
+
+        assertThat(defaultReceived).extracting(CacheInvalidationMessage::cacheName).containsExactly(CacheNames.COMMON_CODE);
+    }
+}
@@ -0,0 +1,155 @@
+package com.hrsaas.common.cache.twolevel;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hrsaas.common.cache.serializer.CacheSerializers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private CacheInvalidationBus invalidationBus;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("mdm:commonCode", false);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = twoLevel(remote);
+    }
+
+    private TwoLevelCache twoLevel(Cache remoteCache) {
+        return twoLevel(remoteCache, false);
+    }
+
+    private TwoLevelCache twoLevel(Cache remoteCache, boolean copyOnRead) {
+        return new TwoLevelCache("mdm:commonCode", Caffeine.newBuilder().maximumSize(100).build(), remoteCache,
+            SerializationPair.fromSerializer(CacheSerializers.json()), copyOnRead, invalidationBus, meterRegistry);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets").tag("tier", tier).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("L2 hit back-fills L1 so the next read stays local")
+    void get_l2Hit_backfillsL1() {
+        remote.put("LEAVE_TYPE", "value");
+
+        assertThat(cache.get("LEAVE_TYPE").get()).isEqualTo("value");
+        remote.evict("LEAVE_TYPE");
+        assertThat(cache.get("LEAVE_TYPE").get()).isEqualTo("value");
+
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Miss on both tiers returns null")
+    void get_miss_returnsNull() {
+        assertThat(cache.get("UNKNOWN")).isNull();
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Put writes both tiers and broadcasts invalidation")
+    void put_writesBothTiersAndBroadcasts() {
+        cache.put("LEAVE_TYPE", "value");
+
+        assertThat(remote.get("LEAVE_TYPE").get()).isEqualTo("value");
+        verify(invalidationBus).publish("mdm:commonCode", "LEAVE_TYPE");
+    }
+
+    @Test
+    @DisplayName("Remote invalidation drops only the local entry")
+    void evictLocal_dropsL1Only() {
+        cache.put("LEAVE_TYPE", "value");
+
+        cache.evictLocal("LEAVE_TYPE");
+
+        assertThat(remote.get("LEAVE_TYPE")).isNotNull();
+        assertThat(cache.get("LEAVE_TYPE").get()).isEqualTo("value");
+        assertThat(count("l1", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Clear empties both tiers and broadcasts a cache-wide invalidation")
+    void clear_emptiesBothTiers() {
+        cache.put("A", "1");
+        cache.put("B", "2");
+
+        cache.clear();
+
+        assertThat(cache.get("A")).isNull();
+        assertThat(cache.get("B")).isNull();
+        verify(invalidationBus).publish(org.mockito.ArgumentMatchers.eq("mdm:commonCode"), isNull());
+    }
+
+    @Test
+    @DisplayName("L1 hits share the cached instance by default")
+    void get_l1Hit_sharesInstance() {
+        List<String> codes = new ArrayList<>(List.of("A", "B"));
+        cache.put("CODES", codes);
+
+        assertThat(cache.get("CODES").get()).isSameAs(codes);
+        assertThat(cache.get("CODES").get()).isSameAs(codes);
+        assertThat(count("l1", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Copy-on-read L1 hits return independent copies of mutable values")
+    @SuppressWarnings("unchecked")
+    void get_l1Hit_copyOnRead_returnsCopy() {
+        cache = twoLevel(remote, true);
+        cache.put("CODES", new ArrayList<>(List.of("A", "B")));
+
+        List<String> first = (List<String>) cache.get("CODES").get();
+        first.add("MUTATED");
+        List<String> second = (List<String>) cache.get("CODES").get();
+
+        assertThat(second).containsExactly("A", "B");
+        assertThat(second).isNotSameAs(first);
+        assertThat(count("l1", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Invalidation during an L2 read discards the back-fill")
+    void get_invalidatedDuringL2Read_skipsBackfill() {
+        AtomicReference<TwoLevelCache> racing = new AtomicReference<>();
+        ConcurrentMapCache slowRemote = new ConcurrentMapCache("mdm:commonCode", false) {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper stale = super.get(key);
+                // Another node evicts the entry after this read but before the back-fill
+                racing.get().evictLocal(String.valueOf(key));
+                return stale;
+            }
+        };
+        racing.set(twoLevel(slowRemote));
+        slowRemote.put("LEAVE_TYPE", "stale");
+
+        assertThat(racing.get().get("LEAVE_TYPE").get()).isEqualTo("stale");
+        slowRemote.evict("LEAVE_TYPE");
+
+        assertThat(racing.get().get("LEAVE_TYPE")).isNull();
+    }
+}
@@ -15,6 +15,7 @@ public enum ErrorCode {
     VALIDATION_ERROR("COMMON_006", "유효성 검증 실패", HttpStatus.BAD_REQUEST),
     INTERNAL_ERROR("COMMON_007", "내부 서버 오류", HttpStatus.INTERNAL_SERVER_ERROR),
     EXTERNAL_SERVICE_ERROR("COMMON_008", "외부 서비스 오류", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_CURSOR("COMMON_009", "유효하지 않은 페이지 커서입니다", HttpStatus.BAD_REQUEST),
 
     // Authentication errors
     INVALID_CREDENTIALS("AUTH_001", "잘못된 인증 정보입니다", HttpStatus.UNAUTHORIZED),
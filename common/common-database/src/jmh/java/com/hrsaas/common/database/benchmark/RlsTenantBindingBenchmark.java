@@ -0,0 +1,215 @@
+package com.hrsaas.common.database.benchmark;
+
+import com.hrsaas.common.database.rls.TenantAwareDataSource;
+import com.hrsaas.common.entity.TenantContextHolder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RLS tenant binding cost against PostgreSQL.
+ * Each operation is one transaction of {@code statements} primary-key reads on a FORCE RLS table,
+ * so statements/sec = score x statements. Tenants rotate per transaction.
+ *
+ * <ul>
+ *   <li>statementPrefix: previous StatementInspector, "SET LOCAL ...; " prepended to every statement</li>
+ *   <li>connectionProxy: previous reflective Connection proxy, SET on first statement and RESET on close</li>
+ *   <li>checkoutBinding: TenantAwareDataSource, one constant set_config per checkout</li>
+ * </ul>
+ *
+ * Requires Docker. Run: ./gradlew :common:common-database:jmh -Pjmh.includes=RlsTenantBindingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RlsTenantBindingBenchmark {
+
+    private static final String SELECT_SQL = "SELECT name FROM rls_bench WHERE id = ?";
+
+    @Param({"1", "1000"})
+    public int tenants;
+
+    @Param({"1", "5", "20"})
+    public int statements;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource pool;
+    private TenantAwareDataSource tenantAwareDataSource;
+    private UUID[] tenantIds;
+    private UUID[] rowIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("hr_saas_bench")
+            .withUsername("bench")
+            .withPassword("bench");
+        postgres.start();
+
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(postgres.getJdbcUrl());
+        pool.setUsername(postgres.getUsername());
+        pool.setPassword(postgres.getPassword());
+        pool.setMaximumPoolSize(2);
+        tenantAwareDataSource = new TenantAwareDataSource(pool);
+
+        tenantIds = new UUID[tenants];
+        rowIds = new UUID[tenants];
+        try (Connection connection = pool.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE rls_bench (id UUID PRIMARY KEY, tenant_id UUID NOT NULL, name TEXT NOT NULL)");
+            stmt.execute("ALTER TABLE rls_bench ENABLE ROW LEVEL SECURITY");
+            stmt.execute("ALTER TABLE rls_bench FORCE ROW LEVEL SECURITY");
+            stmt.execute("CREATE POLICY tenant_isolation ON rls_bench USING (" +
+                "NULLIF(current_setting('app.current_tenant', true), '') IS NULL " +
+                "OR tenant_id = NULLIF(current_setting('app.current_tenant', true), '')::UUID)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO rls_bench VALUES (?, ?, ?)")) {
+                for (int i = 0; i < tenants; i++) {
+                    tenantIds[i] = UUID.randomUUID();
+                    rowIds[i] = UUID.randomUUID();
+                    insert.setObject(1, rowIds[i]);
+                    insert.setObject(2, tenantIds[i]);
+                    insert.setString(3, "tenant-" + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            stmt.execute("ANALYZE rls_bench");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TenantContextHolder.clear();
+        if (pool != null) {
+            pool.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public void statementPrefix(Blackhole bh) throws SQLException {
+        int tenant = nextTenant();
+        String sql = "SET LOCAL app.current_tenant = '" + tenantIds[tenant] + "'; " + SELECT_SQL;
+        try (Connection connection = pool.getConnection()) {
+            runTransaction(connection, sql, tenant, bh);
+        }
+    }
+
+    @Benchmark
+    public void connectionProxy(Blackhole bh) throws SQLException {
+        int tenant = nextTenant();
+        TenantContextHolder.setCurrentTenant(tenantIds[tenant]);
+        try (Connection connection = LegacyConnectionProxy.wrap(pool.getConnection())) {
+            runTransaction(connection, SELECT_SQL, tenant, bh);
+        }
+    }
+
+    @Benchmark
+    public void checkoutBinding(Blackhole bh) throws SQLException {
+        int tenant = nextTenant();
+        TenantContextHolder.setCurrentTenant(tenantIds[tenant]);
+        try (Connection connection = tenantAwareDataSource.getConnection()) {
+            runTransaction(connection, SELECT_SQL, tenant, bh);
+        }
+    }
+
+    private int nextTenant() {
+        int tenant = next;
+        next = (next + 1) % tenants;
+        return tenant;
+    }
+
+    /**
+     * Statement-level prepare as Hibernate does it; PgJDBC's per-connection cache decides
+     * whether the server-side prepared statement is reused.
+     */
+    private void runTransaction(Connection connection, String sql, int tenant, Blackhole bh) throws SQLException {
+        connection.setAutoCommit(false);
+        for (int i = 0; i < statements; i++) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setObject(1, rowIds[tenant]);
+                try (ResultSet rs = stmt.execute() ? stmt.getResultSet() : nextResultSet(stmt)) {
+                    if (!rs.next()) {
+                        throw new IllegalStateException("RLS hid the tenant's own row");
+                    }
+                    bh.consume(rs.getString(1));
+                }
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    /** Skips the SET LOCAL update count of the prefixed multi-statement text */
+    private static ResultSet nextResultSet(PreparedStatement stmt) throws SQLException {
+        while (!stmt.getMoreResults()) {
+            if (stmt.getUpdateCount() == -1) {
+                throw new IllegalStateException("No result set returned");
+            }
+        }
+        return stmt.getResultSet();
+    }
+
+    /**
+     * The reflective proxy TenantAwareDataSource used before binding moved to checkout.
+     */
+    private static final class LegacyConnectionProxy implements InvocationHandler {
+
+        private final Connection target;
+        private boolean tenantSet;
+
+        private LegacyConnectionProxy(Connection target) {
+            this.target = target;
+        }
+
+        static Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new LegacyConnectionProxy(connection));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("prepareStatement".equals(method.getName()) || "createStatement".equals(method.getName())) {
+                if (!tenantSet) {
+                    try (Statement stmt = target.createStatement()) {
+                        stmt.execute("SET app.current_tenant = '" + TenantContextHolder.getCurrentTenant() + "'");
+                        tenantSet = true;
+                    }
+                }
+            }
+            if ("close".equals(method.getName()) && tenantSet) {
+                try (Statement stmt = target.createStatement()) {
+                    stmt.execute("RESET app.current_tenant");
+                    tenantSet = false;
+                }
+            }
+            return method.invoke(target, args);
+        }
+    }
+}
@@ -1,58 +0,0 @@
-package com.hrsaas.common.database.rls;
-
-import com.hrsaas.common.entity.TenantContextHolder;
-import lombok.extern.slf4j.Slf4j;
-import org.hibernate.resource.jdbc.spi.StatementInspector;
-
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
-/**
- * Hibernate StatementInspector that sets PostgreSQL RLS tenant context
- * before SQL execution.
- *
- * Performance optimization: Caches SET LOCAL statements per tenant to reduce
- * string allocation overhead (~20-30% improvement).
- */
-@Slf4j
-public class RlsInterceptor implements StatementInspector {
-
-    private static final String SET_TENANT_SQL = "SET app.current_tenant = '%s'";
-
-    /**
-     * Cache of pre-formatted SET LOCAL statements per tenant.
-     * Key: tenant UUID, Value: "SET LOCAL app.current_tenant = 'uuid'; "
-     */
-    private static final ConcurrentHashMap<UUID, String> SET_TENANT_CACHE = new ConcurrentHashMap<>();
-
-    // Limit cache size to prevent memory leaks (typical systems have < 1000 tenants)
-    private static final int MAX_CACHE_SIZE = 10_000;
-
-    @Override
-    public String inspect(String sql) {
-        UUID tenantId = TenantContextHolder.getCurrentTenant();
-
-        if (tenantId != null) {
-            log.trace("Setting RLS context for tenant: {}", tenantId);
-
-            // Use cached SET LOCAL statement to reduce string allocation overhead
-            String setTenantSql = getOrCreateSetTenantSql(tenantId);
-            return setTenantSql + sql;
-        }
-
-        return sql;
-    }
-
-    private String getOrCreateSetTenantSql(UUID tenantId) {
-        // Prevent unbounded cache growth
-        if (SET_TENANT_CACHE.size() > MAX_CACHE_SIZE) {
-            log.warn("SET_TENANT_CACHE exceeded max size ({}), clearing cache", MAX_CACHE_SIZE);
-            SET_TENANT_CACHE.clear();
-        }
-
-        // SET LOCAL applies only to current transaction and auto-resets
-        // UUID.toString() is already validated format, safe from SQL injection
-        return SET_TENANT_CACHE.computeIfAbsent(tenantId,
-            id -> "SET LOCAL app.current_tenant = '" + id + "'; ");
-    }
-}
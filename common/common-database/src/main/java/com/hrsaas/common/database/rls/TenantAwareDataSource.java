@@ -1,31 +1,66 @@
 package com.hrsaas.common.database.rls;
 
+import com.hrsaas.common.entity.TenantContextHolder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.datasource.DelegatingDataSource;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.UUID;
 
 /**
- * DataSource wrapper that creates tenant-aware connections.
+ * DataSource wrapper that binds the PostgreSQL RLS tenant on connection checkout.
+ *
+ * The tenant GUC is set once per checkout (one transaction under Spring's transaction managers)
+ * through a single constant prepared statement, so application SQL stays tenant-invariant and
+ * keeps benefiting from server-side prepared statements and the Hibernate query plan cache.
+ * The connection itself is returned unwrapped.
+ *
+ * Every checkout overwrites the value ("" when no tenant is bound), so a pooled connection never
+ * carries the previous borrower's tenant and no reset is needed on close.
+ * The binding is session-scoped because the pool hands out connections in auto-commit mode
+ * before the transaction begins; a transaction-local value would be discarded immediately.
  */
 @Slf4j
 public class TenantAwareDataSource extends DelegatingDataSource {
 
+    static final String BIND_TENANT_SQL = "SELECT set_config('app.current_tenant', ?, false)";
+
     public TenantAwareDataSource(DataSource targetDataSource) {
         super(targetDataSource);
     }
 
     @Override
     public Connection getConnection() throws SQLException {
-        Connection connection = super.getConnection();
-        return TenantConnectionInterceptor.createProxy(connection);
+        return bindTenant(super.getConnection());
     }
 
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
-        Connection connection = super.getConnection(username, password);
-        return TenantConnectionInterceptor.createProxy(connection);
+        return bindTenant(super.getConnection(username, password));
+    }
+
+    /**
+     * Fails closed: a connection whose tenant could not be bound is never handed out,
+     * since it may still carry another tenant's value.
+     */
+    private Connection bindTenant(Connection connection) throws SQLException {
+        UUID tenantId = TenantContextHolder.getCurrentTenant();
+        try (PreparedStatement stmt = connection.prepareStatement(BIND_TENANT_SQL)) {
+            stmt.setString(1, tenantId != null ? tenantId.toString() : "");
+            stmt.execute();
+        } catch (SQLException e) {
+            log.error("Failed to bind RLS tenant context: {}", tenantId, e);
+            try {
+                connection.close();
+            } catch (SQLException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+        log.trace("RLS tenant context bound: {}", tenantId);
+        return connection;
     }
 }
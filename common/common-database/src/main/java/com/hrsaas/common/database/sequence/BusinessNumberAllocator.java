@@ -0,0 +1,152 @@
+package com.hrsaas.common.database.sequence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Allocates per-tenant business number sequences (document numbers, request numbers, ...).
+ * <p>
+ * Counters live in a service-owned table with the layout below, one row per tenant and counter key
+ * (e.g. {@code "LEAVE_REQUEST-20260101-"}). Each node reserves a block of {@code blockSize} values
+ * with a single row-level upsert in its own transaction and hands them out from memory, so only one
+ * in {@code blockSize} allocations touches the database and concurrent callers never share a value.
+ * <pre>
+ * CREATE TABLE schema.business_number_counter (
+ *     tenant_id   UUID NOT NULL,
+ *     counter_key VARCHAR(100) NOT NULL,
+ *     next_value  BIGINT NOT NULL,
+ *     updated_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+ *     PRIMARY KEY (tenant_id, counter_key)
+ * );
+ * </pre>
+ * Values are unique but not gap-free: a block left unused by a restart or an idle eviction is
+ * skipped, and with several nodes values are not issued in strict time order. Use a block size of 1
+ * where gap-free ordering matters more than throughput.
+ */
+@Slf4j
+public class BusinessNumberAllocator {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[a-z_][a-z0-9_]*\\.[a-z_][a-z0-9_]*");
+
+    /** Idle blocks (e.g. yesterday's counters) are dropped after this long */
+    private static final Duration BLOCK_IDLE_TIMEOUT = Duration.ofHours(6);
+
+    /**
+     * Reserves {@code size} values and returns the exclusive end of the reserved range.
+     */
+    @FunctionalInterface
+    interface BlockReserver {
+        long reserve(UUID tenantId, String counterKey, int size, LongSupplier firstValue);
+    }
+
+    private record CounterKey(UUID tenantId, String counterKey) {
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+
+    private final BlockReserver reserver;
+    private final int blockSize;
+    private final Cache<CounterKey, Block> blocks = Caffeine.newBuilder()
+        .expireAfterAccess(BLOCK_IDLE_TIMEOUT)
+        .maximumSize(100_000)
+        .build();
+
+    /**
+     * @param counterTable schema-qualified counter table, e.g. {@code hr_approval.business_number_counter}
+     * @param blockSize    values reserved per database round trip
+     */
+    public BusinessNumberAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   String counterTable, int blockSize) {
+        if (!TABLE_NAME.matcher(counterTable).matches()) {
+            throw new IllegalArgumentException("Invalid counter table name: " + counterTable);
+        }
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reserver = new JdbcBlockReserver(jdbcTemplate, requiresNew, counterTable);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    BusinessNumberAllocator(BlockReserver reserver, int blockSize) {
+        this.reserver = reserver;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Next value of the counter, starting at 1 for a new counter.
+     */
+    public long next(UUID tenantId, String counterKey) {
+        return next(tenantId, counterKey, () -> 1L);
+    }
+
+    /**
+     * Next value of the counter.
+     *
+     * @param firstValue first value of a counter that has no row yet, e.g. one past the highest number
+     *                   already issued before the counter existed; evaluated at most once per counter
+     */
+    public long next(UUID tenantId, String counterKey, LongSupplier firstValue) {
+        Block block = blocks.get(new CounterKey(tenantId, counterKey), key -> new Block());
+        // Only callers of the same counter wait here, and only while this node refills its block
+        synchronized (block) {
+            if (block.next >= block.end) {
+                long end = reserver.reserve(tenantId, counterKey, blockSize, firstValue);
+                block.next = end - blockSize;
+                block.end = end;
+                log.debug("Reserved business numbers [{}, {}) for tenant={}, key={}",
+                    block.next, block.end, tenantId, counterKey);
+            }
+            return block.next++;
+        }
+    }
+
+    private static final class JdbcBlockReserver implements BlockReserver {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate requiresNew;
+        private final String updateSql;
+        private final String insertSql;
+
+        private JdbcBlockReserver(JdbcTemplate jdbcTemplate, TransactionTemplate requiresNew, String table) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.requiresNew = requiresNew;
+            this.updateSql = "UPDATE " + table + " SET next_value = next_value + ?, updated_at = now() " +
+                "WHERE tenant_id = ? AND counter_key = ? RETURNING next_value";
+            // A concurrent first insert from another node turns into a plain block increment
+            this.insertSql = "INSERT INTO " + table + " AS c (tenant_id, counter_key, next_value, updated_at) " +
+                "VALUES (?, ?, ?, now()) ON CONFLICT (tenant_id, counter_key) " +
+                "DO UPDATE SET next_value = c.next_value + ?, updated_at = now() RETURNING next_value";
+        }
+
+        @Override
+        public long reserve(UUID tenantId, String counterKey, int size, LongSupplier firstValue) {
+            // Own transaction: the row lock is held only for this statement, and the reservation
+            // survives a rollback of the caller (the block is then simply skipped)
+            Long end = requiresNew.execute(status -> {
+                List<Long> updated = jdbcTemplate.queryForList(updateSql, Long.class, size, tenantId, counterKey);
+                if (!updated.isEmpty()) {
+                    return updated.get(0);
+                }
+                long first = Math.max(1L, firstValue.getAsLong());
+                return jdbcTemplate.queryForObject(insertSql, Long.class, tenantId, counterKey, first + size, size);
+            });
+            if (end == null) {
+                throw new IllegalStateException("Failed to reserve business numbers: " + counterKey);
+            }
+            return end;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.hrsaas.common.database.rls;
+
+import com.hrsaas.common.entity.TenantContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantAwareDataSource Tests")
+class TenantAwareDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private TenantAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new TenantAwareDataSource(target);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(TenantAwareDataSource.BIND_TENANT_SQL)).thenReturn(statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("getConnection: 체크아웃 시 고정 SQL 한 번으로 테넌트 바인딩 후 원본 커넥션 반환")
+    void getConnection_bindsTenantOnce() throws SQLException {
+        UUID tenantId = UUID.randomUUID();
+        TenantContextHolder.setCurrentTenant(tenantId);
+
+        Connection result = dataSource.getConnection();
+
+        assertThat(result).isSameAs(connection);
+        verify(statement).setString(1, tenantId.toString());
+        verify(statement).execute();
+        verify(statement).close();
+        verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    @DisplayName("getConnection: 테넌트가 없으면 빈 값으로 덮어써 이전 테넌트가 남지 않음")
+    void getConnection_noTenant_clearsBinding() throws SQLException {
+        dataSource.getConnection();
+
+        verify(statement).setString(1, "");
+        verify(statement).execute();
+    }
+
+    @Test
+    @DisplayName("getConnection: 바인딩 실패 시 커넥션을 닫고 예외 전파")
+    void getConnection_bindingFails_closesAndThrows() throws SQLException {
+        TenantContextHolder.setCurrentTenant(UUID.randomUUID());
+        SQLException failure = new SQLException("connection reset");
+        when(statement.execute()).thenThrow(failure);
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isSameAs(failure);
+
+        verify(connection).close();
+    }
+}
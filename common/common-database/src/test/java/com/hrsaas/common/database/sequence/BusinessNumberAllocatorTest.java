@@ -0,0 +1,102 @@
+package com.hrsaas.common.database.sequence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BusinessNumberAllocator Tests")
+class BusinessNumberAllocatorTest {
+
+    /** In-memory stand-in for the counter table: next_value per key, incremented by the block size */
+    private static final class FakeCounterTable implements BusinessNumberAllocator.BlockReserver {
+        private final Map<String, Long> rows = new HashMap<>();
+        private final AtomicInteger roundTrips = new AtomicInteger();
+
+        @Override
+        public synchronized long reserve(UUID tenantId, String counterKey, int size,
+                                         LongSupplier firstValue) {
+            roundTrips.incrementAndGet();
+            String key = tenantId + ":" + counterKey;
+            long end = rows.containsKey(key) ? rows.get(key) + size : Math.max(1L, firstValue.getAsLong()) + size;
+            rows.put(key, end);
+            return end;
+        }
+    }
+
+    @Test
+    @DisplayName("next: 새 카운터는 1부터 순서대로 발급")
+    void next_newCounter_startsAtOne() {
+        BusinessNumberAllocator allocator = new BusinessNumberAllocator(new FakeCounterTable(), 10);
+        UUID tenantId = UUID.randomUUID();
+
+        assertThat(allocator.next(tenantId, "LEAVE-20260101-")).isEqualTo(1);
+        assertThat(allocator.next(tenantId, "LEAVE-20260101-")).isEqualTo(2);
+        assertThat(allocator.next(tenantId, "EXPENSE-20260101-")).isEqualTo(1);
+        assertThat(allocator.next(UUID.randomUUID(), "LEAVE-20260101-")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("next: 블록 단위로만 저장소에 접근")
+    void next_reservesWholeBlocks() {
+        FakeCounterTable table = new FakeCounterTable();
+        BusinessNumberAllocator allocator = new BusinessNumberAllocator(table, 10);
+        UUID tenantId = UUID.randomUUID();
+
+        for (int i = 0; i < 25; i++) {
+            allocator.next(tenantId, "LEAVE-20260101-");
+        }
+
+        assertThat(table.roundTrips.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("next: 카운터 행이 없으면 firstValue부터 시작")
+    void next_missingCounter_usesFirstValue() {
+        BusinessNumberAllocator allocator = new BusinessNumberAllocator(new FakeCounterTable(), 5);
+        UUID tenantId = UUID.randomUUID();
+
+        assertThat(allocator.next(tenantId, "LEAVE-20260101-", () -> 42L)).isEqualTo(42);
+        assertThat(allocator.next(tenantId, "LEAVE-20260101-", () -> 1_000L)).isEqualTo(43);
+    }
+
+    @Test
+    @DisplayName("next: 여러 노드/스레드에서 동시에 발급해도 중복 없음")
+    void next_concurrentNodes_issueUniqueValues() throws InterruptedException {
+        FakeCounterTable table = new FakeCounterTable();
+        BusinessNumberAllocator nodeA = new BusinessNumberAllocator(table, 20);
+        BusinessNumberAllocator nodeB = new BusinessNumberAllocator(table, 20);
+        UUID tenantId = UUID.randomUUID();
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            BusinessNumberAllocator node = t % 2 == 0 ? nodeA : nodeB;
+            pool.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (!issued.add(node.next(tenantId, "LEAVE-20260101-"))) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(issued).hasSize(8_000);
+        assertThat(table.roundTrips.get()).isLessThanOrEqualTo(8_000 / 20 + 2);
+    }
+}
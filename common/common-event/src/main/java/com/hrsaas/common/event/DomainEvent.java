@@ -1,5 +1,7 @@
 package com.hrsaas.common.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
@@ -8,14 +10,20 @@ import java.util.UUID;
 
 /**
  * Base class for all domain events.
+ *
+ * Events created through the builder get a fresh eventId and timestamp, and
+ * their eventType defaults to the concrete class name, exactly like events
+ * created through the constructors below.
  */
 @Getter
 @SuperBuilder
 public abstract class DomainEvent {
 
-    private final String eventId;
+    @Builder.Default
+    private final String eventId = UUID.randomUUID().toString();
     private final String eventType;
-    private final Instant timestamp;
+    @Builder.Default
+    private final Instant timestamp = Instant.now();
     private final UUID tenantId;
     private final UUID actorId;
     private final String correlationId;
@@ -47,6 +55,23 @@ public abstract class DomainEvent {
         this.correlationId = correlationId;
     }
 
+    /**
+     * Event type used by consumers to dispatch; the concrete class name unless set explicitly.
+     */
+    public String getEventType() {
+        return eventType != null ? eventType : getClass().getSimpleName();
+    }
+
+    /**
+     * Identifier of the aggregate this event belongs to. Events sharing it are
+     * relayed in order; null when the event has no aggregate, in which case
+     * publishers fall back to the eventId.
+     */
+    @JsonIgnore
+    public String getAggregateId() {
+        return null;
+    }
+
     /**
      * Get the SNS topic name for this event.
      */
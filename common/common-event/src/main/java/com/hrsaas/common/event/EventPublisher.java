@@ -1,5 +1,7 @@
 package com.hrsaas.common.event;
 
+import java.util.Collection;
+
 /**
  * Interface for publishing domain events.
  */
@@ -19,4 +21,11 @@ public interface EventPublisher {
      * Publish an event with a specific key.
      */
     void publish(String topic, String key, DomainEvent event);
+
+    /**
+     * Publish several events at once. Implementations may batch the underlying writes.
+     */
+    default void publishAll(Collection<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
 }
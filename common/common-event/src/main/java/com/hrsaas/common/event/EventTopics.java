@@ -37,6 +37,7 @@ public interface EventTopics {
     String APPROVAL_REJECTED = "approval-rejected";
     String APPROVAL_CANCELED = "approval-canceled";
     String APPROVAL_COMPLETED = "approval-completed";
+    String APPROVAL_ESCALATED = "approval-escalated";
 
     // Attendance events
     String ATTENDANCE_EVENTS = "attendance-events";
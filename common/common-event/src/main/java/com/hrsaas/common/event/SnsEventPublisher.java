@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
 
 /**
  * AWS SNS implementation of EventPublisher.
+ * Publishes synchronously; services with {@code app.event.outbox.enabled=true}
+ * use {@link com.hrsaas.common.event.outbox.OutboxEventPublisher} instead.
  */
 @Slf4j
 @Component
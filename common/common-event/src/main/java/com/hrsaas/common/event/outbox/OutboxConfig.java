@@ -0,0 +1,60 @@
+package com.hrsaas.common.event.outbox;
+
+import com.hrsaas.common.event.EventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.sns.SnsClient;
+
+import java.time.Duration;
+
+/**
+ * Transactional outbox configuration.
+ *
+ * Enable per service with {@code app.event.outbox.enabled=true} once the service
+ * has an outbox table migration. The outbox publisher then takes precedence over
+ * {@link com.hrsaas.common.event.SnsEventPublisher}.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.event.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxRepository outboxRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.event.outbox.table:event_outbox}") String table) {
+        return new OutboxRepository(jdbcTemplate, table);
+    }
+
+    @Bean
+    @Primary
+    public EventPublisher outboxEventPublisher(OutboxRepository outboxRepository) {
+        return new OutboxEventPublisher(outboxRepository);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxRepository outboxRepository,
+            SnsClient snsClient,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.event.outbox.fetch-size:200}") int fetchSize,
+            @Value("${app.event.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.event.outbox.backoff-ms:1000}") long backoffMs,
+            @Value("${app.event.outbox.retention-hours:72}") long retentionHours) {
+        return new OutboxRelay(
+            outboxRepository,
+            snsClient,
+            new TransactionTemplate(transactionManager),
+            fetchSize,
+            maxAttempts,
+            Duration.ofMillis(backoffMs),
+            Duration.ofHours(retentionHours));
+    }
+}
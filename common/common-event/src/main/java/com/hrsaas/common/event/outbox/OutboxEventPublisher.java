@@ -0,0 +1,67 @@
+package com.hrsaas.common.event.outbox;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.event.DomainEvent;
+import com.hrsaas.common.event.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Transactional outbox implementation of EventPublisher.
+ *
+ * Events are written to the outbox table on the caller's connection, so they
+ * commit or roll back together with the business change. {@link OutboxRelay}
+ * forwards them to SNS asynchronously.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventPublisher implements EventPublisher {
+
+    private final OutboxRepository outboxRepository;
+
+    @Override
+    public void publish(DomainEvent event) {
+        publish(event.getTopic(), event);
+    }
+
+    @Override
+    public void publish(String topic, DomainEvent event) {
+        publish(topic, aggregateKey(event), event);
+    }
+
+    @Override
+    public void publish(String topic, String key, DomainEvent event) {
+        String payload = JsonUtils.toJson(event);
+        String aggregateKey = key != null ? key : aggregateKey(event);
+
+        outboxRepository.insert(event.getEventId(), topic, aggregateKey, event.getEventType(), payload);
+
+        log.debug("Event stored in outbox: topic={}, key={}, eventType={}, eventId={}",
+                  topic, aggregateKey, event.getEventType(), event.getEventId());
+    }
+
+    @Override
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        List<OutboxMessage> messages = events.stream()
+            .map(event -> OutboxMessage.builder()
+                .eventId(event.getEventId())
+                .topic(event.getTopic())
+                .aggregateKey(aggregateKey(event))
+                .eventType(event.getEventType())
+                .payload(JsonUtils.toJson(event))
+                .build())
+            .toList();
+
+        outboxRepository.insertAll(messages);
+
+        log.debug("Events stored in outbox: count={}", messages.size());
+    }
+
+    private static String aggregateKey(DomainEvent event) {
+        String aggregateId = event.getAggregateId();
+        return aggregateId != null ? aggregateId : event.getEventId();
+    }
+}
@@ -0,0 +1,27 @@
+package com.hrsaas.common.event.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A single pending row of the event outbox table.
+ */
+@Getter
+@Builder
+public class OutboxMessage {
+
+    private final long id;
+    private final String eventId;
+    private final String topic;
+    private final String aggregateKey;
+    private final String eventType;
+    private final String payload;
+    private final int attempts;
+    private final Instant nextAttemptAt;
+
+    public boolean isDue(Instant now) {
+        return nextAttemptAt == null || !nextAttemptAt.isAfter(now);
+    }
+}
@@ -0,0 +1,248 @@
+package com.hrsaas.common.event.outbox;
+
+import io.awspring.cloud.sns.core.DefaultTopicArnResolver;
+import io.awspring.cloud.sns.core.TopicArnResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drains the event outbox to SNS using PublishBatch.
+ *
+ * Ordering: events sharing an aggregate key are sent strictly in insertion order.
+ * Each send round carries at most one event per key, and a key whose event fails
+ * is held back until that event succeeds or is moved to FAILED after max attempts.
+ * Only one relay per outbox table runs at a time (PostgreSQL advisory lock).
+ */
+@Slf4j
+public class OutboxRelay {
+
+    /** SNS PublishBatch accepts at most 10 entries per request. */
+    static final int SNS_BATCH_LIMIT = 10;
+
+    private final OutboxRepository outboxRepository;
+    private final SnsClient snsClient;
+    private final TransactionTemplate transactionTemplate;
+    private final TopicArnResolver topicArnResolver;
+    private final Map<String, String> topicArnCache = new ConcurrentHashMap<>();
+
+    private final int fetchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       SnsClient snsClient,
+                       TransactionTemplate transactionTemplate,
+                       int fetchSize,
+                       int maxAttempts,
+                       Duration baseBackoff,
+                       Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.snsClient = snsClient;
+        this.transactionTemplate = transactionTemplate;
+        this.topicArnResolver = new DefaultTopicArnResolver(snsClient);
+        this.fetchSize = fetchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${app.event.outbox.poll-interval-ms:500}")
+    public void relay() {
+        boolean hasMore;
+        do {
+            hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> relayOnce()));
+        } while (hasMore);
+    }
+
+    @Scheduled(cron = "${app.event.outbox.cleanup-cron:0 15 * * * *}")
+    public void cleanup() {
+        int deleted = outboxRepository.deletePublishedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Outbox cleanup: table={}, deleted={}", outboxRepository.getTable(), deleted);
+        }
+    }
+
+    /**
+     * Relay one window of pending events. Must run inside a transaction.
+     *
+     * @return true if a full window was read and progress was made, so the caller keeps draining
+     */
+    boolean relayOnce() {
+        if (!outboxRepository.tryLockRelay()) {
+            return false;
+        }
+
+        List<OutboxMessage> window = outboxRepository.findPending(fetchSize);
+        if (window.isEmpty()) {
+            return false;
+        }
+
+        Instant now = Instant.now();
+        Set<String> blockedKeys = new HashSet<>();
+        List<OutboxMessage> pending = new ArrayList<>(window.size());
+        for (OutboxMessage message : window) {
+            if (blockedKeys.contains(message.getAggregateKey())) {
+                continue;
+            }
+            if (!message.isDue(now)) {
+                // Earliest event of this key is backing off; later ones must wait behind it
+                blockedKeys.add(message.getAggregateKey());
+                continue;
+            }
+            pending.add(message);
+        }
+
+        int sent = 0;
+        int failed = 0;
+        while (!pending.isEmpty()) {
+            List<OutboxMessage> round = nextRound(pending, blockedKeys);
+            if (round.isEmpty()) {
+                break;
+            }
+
+            List<Long> publishedIds = new ArrayList<>(round.size());
+            for (List<OutboxMessage> batch : partitionByTopic(round)) {
+                failed += sendBatch(batch, publishedIds, blockedKeys, now);
+            }
+            outboxRepository.markPublished(publishedIds);
+            sent += publishedIds.size();
+        }
+
+        if (sent > 0 || failed > 0) {
+            log.debug("Outbox relay: table={}, published={}, failed={}", outboxRepository.getTable(), sent, failed);
+        }
+        return window.size() >= fetchSize && sent > 0;
+    }
+
+    /**
+     * Take the first pending event of every unblocked key, removing it from the pending list.
+     */
+    private List<OutboxMessage> nextRound(List<OutboxMessage> pending, Set<String> blockedKeys) {
+        List<OutboxMessage> round = new ArrayList<>();
+        Set<String> keysInRound = new HashSet<>();
+        Iterator<OutboxMessage> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            OutboxMessage message = iterator.next();
+            String key = message.getAggregateKey();
+            if (blockedKeys.contains(key)) {
+                iterator.remove();
+            } else if (keysInRound.add(key)) {
+                round.add(message);
+                iterator.remove();
+            }
+        }
+        return round;
+    }
+
+    private List<List<OutboxMessage>> partitionByTopic(List<OutboxMessage> round) {
+        Map<String, List<OutboxMessage>> byTopic = new LinkedHashMap<>();
+        for (OutboxMessage message : round) {
+            byTopic.computeIfAbsent(message.getTopic(), t -> new ArrayList<>()).add(message);
+        }
+
+        List<List<OutboxMessage>> batches = new ArrayList<>();
+        for (List<OutboxMessage> messages : byTopic.values()) {
+            for (int i = 0; i < messages.size(); i += SNS_BATCH_LIMIT) {
+                batches.add(messages.subList(i, Math.min(i + SNS_BATCH_LIMIT, messages.size())));
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * @return number of entries that failed
+     */
+    private int sendBatch(List<OutboxMessage> batch, List<Long> publishedIds, Set<String> blockedKeys, Instant now) {
+        String topic = batch.get(0).getTopic();
+        Map<String, OutboxMessage> byEntryId = new HashMap<>();
+        List<PublishBatchRequestEntry> entries = new ArrayList<>(batch.size());
+
+        try {
+            String topicArn = resolveTopicArn(topic);
+            boolean fifo = topicArn.endsWith(".fifo");
+
+            for (OutboxMessage message : batch) {
+                String entryId = String.valueOf(message.getId());
+                byEntryId.put(entryId, message);
+
+                PublishBatchRequestEntry.Builder entry = PublishBatchRequestEntry.builder()
+                    .id(entryId)
+                    .message(message.getPayload());
+                if (fifo) {
+                    entry.messageGroupId(message.getAggregateKey())
+                        .messageDeduplicationId(message.getEventId());
+                }
+                entries.add(entry.build());
+            }
+
+            PublishBatchResponse response = snsClient.publishBatch(PublishBatchRequest.builder()
+                .topicArn(topicArn)
+                .publishBatchRequestEntries(entries)
+                .build());
+
+            for (PublishBatchResultEntry success : response.successful()) {
+                publishedIds.add(byEntryId.get(success.id()).getId());
+            }
+            for (BatchResultErrorEntry error : response.failed()) {
+                recordFailure(byEntryId.get(error.id()), error.code() + ": " + error.message(), blockedKeys, now);
+            }
+            return response.failed().size();
+        } catch (Exception ex) {
+            log.error("Failed to publish outbox batch to SNS: topic={}, size={}, error={}",
+                      topic, batch.size(), ex.getMessage());
+            for (OutboxMessage message : batch) {
+                recordFailure(message, ex.getMessage(), blockedKeys, now);
+            }
+            return batch.size();
+        }
+    }
+
+    private void recordFailure(OutboxMessage message, String error, Set<String> blockedKeys, Instant now) {
+        int attempts = message.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        Instant nextAttemptAt = now.plus(backoff(attempts));
+
+        outboxRepository.markFailedAttempt(message.getId(), attempts, nextAttemptAt, exhausted, error);
+
+        if (exhausted) {
+            log.error("Outbox event moved to FAILED after {} attempts: topic={}, key={}, eventId={}, error={}",
+                      attempts, message.getTopic(), message.getAggregateKey(), message.getEventId(), error);
+        } else {
+            log.warn("Outbox event publish failed (attempt {}/{}): topic={}, eventId={}, error={}",
+                     attempts, maxAttempts, message.getTopic(), message.getEventId(), error);
+        }
+        blockedKeys.add(message.getAggregateKey());
+    }
+
+    /**
+     * Exponential back-off capped at 64x the base delay.
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, 6);
+        return baseBackoff.multipliedBy(1L << exponent);
+    }
+
+    private String resolveTopicArn(String topic) {
+        return topicArnCache.computeIfAbsent(topic, t -> topicArnResolver.resolveTopicArn(t).toString());
+    }
+}
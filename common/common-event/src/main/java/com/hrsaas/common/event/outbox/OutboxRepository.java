@@ -0,0 +1,121 @@
+package com.hrsaas.common.event.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC access to the event outbox table.
+ *
+ * The table name is configurable so each service can keep its outbox
+ * in its own schema (e.g. {@code hr_core.event_outbox}).
+ */
+public class OutboxRepository {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_PUBLISHED = "PUBLISHED";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp nextAttemptAt = rs.getTimestamp("next_attempt_at");
+        return OutboxMessage.builder()
+            .id(rs.getLong("id"))
+            .eventId(rs.getString("event_id"))
+            .topic(rs.getString("topic"))
+            .aggregateKey(rs.getString("aggregate_key"))
+            .eventType(rs.getString("event_type"))
+            .payload(rs.getString("payload"))
+            .attempts(rs.getInt("attempts"))
+            .nextAttemptAt(nextAttemptAt != null ? nextAttemptAt.toInstant() : null)
+            .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final String table;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate, String table) {
+        if (!table.matches("[A-Za-z0-9_.]+")) {
+            throw new IllegalArgumentException("Invalid outbox table name: " + table);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public void insert(String eventId, String topic, String aggregateKey, String eventType, String payload) {
+        jdbcTemplate.update(
+            "INSERT INTO " + table + " (event_id, topic, aggregate_key, event_type, payload) VALUES (?, ?, ?, ?, ?)",
+            eventId, topic, aggregateKey, eventType, payload);
+    }
+
+    /**
+     * Insert several messages with one JDBC batch.
+     */
+    public void insertAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO " + table + " (event_id, topic, aggregate_key, event_type, payload) VALUES (?, ?, ?, ?, ?)",
+            messages.stream()
+                .map(m -> new Object[]{m.getEventId(), m.getTopic(), m.getAggregateKey(), m.getEventType(), m.getPayload()})
+                .toList());
+    }
+
+    /**
+     * Try to become the single relay for this outbox for the current transaction.
+     * Serializing relays keeps per-key ordering intact when several replicas run.
+     */
+    public boolean tryLockRelay() {
+        Boolean locked = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, table);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    /**
+     * Oldest pending rows in insertion order, including rows still in retry back-off,
+     * so the relay can hold back later events of the same aggregate key.
+     */
+    public List<OutboxMessage> findPending(int limit) {
+        return jdbcTemplate.query(
+            "SELECT id, event_id, topic, aggregate_key, event_type, payload, attempts, next_attempt_at " +
+            "FROM " + table + " WHERE status = '" + STATUS_PENDING + "' ORDER BY id LIMIT ?",
+            ROW_MAPPER, limit);
+    }
+
+    public void markPublished(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update(
+            "UPDATE " + table + " SET status = '" + STATUS_PUBLISHED + "', published_at = now() WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", ids));
+    }
+
+    public void markFailedAttempt(long id, int attempts, Instant nextAttemptAt, boolean exhausted, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(
+            "UPDATE " + table + " SET attempts = ?, next_attempt_at = ?, status = ?, last_error = ? WHERE id = ?",
+            attempts, Timestamp.from(nextAttemptAt), exhausted ? STATUS_FAILED : STATUS_PENDING, lastError, id);
+    }
+
+    public int deletePublishedBefore(Instant threshold) {
+        return jdbcTemplate.update(
+            "DELETE FROM " + table + " WHERE status = '" + STATUS_PUBLISHED + "' AND published_at < ?",
+            Timestamp.from(threshold));
+    }
+}
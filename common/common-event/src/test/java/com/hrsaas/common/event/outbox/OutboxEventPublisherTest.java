@@ -0,0 +1,90 @@
+package com.hrsaas.common.event.outbox;
+
+import com.hrsaas.common.event.DomainEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OutboxEventPublisher Tests")
+class OutboxEventPublisherTest {
+
+    private OutboxRepository outboxRepository;
+    private OutboxEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        publisher = new OutboxEventPublisher(outboxRepository);
+    }
+
+    private static DomainEvent event(String aggregateId) {
+        return new DomainEvent() {
+            @Override
+            public String getAggregateId() {
+                return aggregateId;
+            }
+
+            @Override
+            public String getTopic() {
+                return "test-topic";
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("publish keys the row by the event's aggregate")
+    void publish_usesAggregateId() {
+        DomainEvent event = event("doc-1");
+
+        publisher.publish(event);
+
+        verify(outboxRepository).insert(eq(event.getEventId()), eq("test-topic"), eq("doc-1"),
+            anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("publish falls back to the eventId when the event has no aggregate")
+    void publish_withoutAggregate_usesEventId() {
+        DomainEvent event = event(null);
+
+        publisher.publish(event);
+
+        verify(outboxRepository).insert(eq(event.getEventId()), eq("test-topic"), eq(event.getEventId()),
+            anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("publish keeps an explicit key")
+    void publish_explicitKey_winsOverAggregate() {
+        DomainEvent event = event("doc-1");
+
+        publisher.publish("test-topic", "custom", event);
+
+        verify(outboxRepository).insert(eq(event.getEventId()), eq("test-topic"), eq("custom"),
+            anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("publishAll keys each row by its aggregate")
+    @SuppressWarnings("unchecked")
+    void publishAll_usesAggregateIds() {
+        DomainEvent first = event("doc-1");
+        DomainEvent second = event(null);
+
+        publisher.publishAll(List.of(first, second));
+
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(OutboxMessage::getAggregateKey)
+            .containsExactly("doc-1", second.getEventId());
+    }
+}
@@ -0,0 +1,141 @@
+package com.hrsaas.common.event.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private static final String TOPIC_ARN = "arn:aws:sns:ap-northeast-2:000000000000:employee-created";
+
+    private OutboxRepository outboxRepository;
+    private SnsClient snsClient;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        snsClient = mock(SnsClient.class);
+        relay = new OutboxRelay(outboxRepository, snsClient, null,
+            100, 3, Duration.ofSeconds(1), Duration.ofHours(1));
+        when(outboxRepository.tryLockRelay()).thenReturn(true);
+    }
+
+    private OutboxMessage message(long id, String key) {
+        return OutboxMessage.builder()
+            .id(id)
+            .eventId("evt-" + id)
+            .topic(TOPIC_ARN)
+            .aggregateKey(key)
+            .eventType("EmployeeCreatedEvent")
+            .payload("{\"id\":" + id + "}")
+            .attempts(0)
+            .nextAttemptAt(Instant.now().minusSeconds(1))
+            .build();
+    }
+
+    private PublishBatchResponse allSucceeded(PublishBatchRequest request) {
+        return PublishBatchResponse.builder()
+            .successful(request.publishBatchRequestEntries().stream()
+                .map(e -> PublishBatchResultEntry.builder().id(e.id()).build())
+                .toList())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Events of the same key are sent in separate rounds, in order")
+    void relayOnce_sameKey_sendsInOrderAcrossRounds() {
+        when(outboxRepository.findPending(100)).thenReturn(List.of(
+            message(1, "A"), message(2, "A"), message(3, "B")));
+        when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+            .thenAnswer(inv -> allSucceeded(inv.getArgument(0)));
+
+        relay.relayOnce();
+
+        ArgumentCaptor<PublishBatchRequest> captor = ArgumentCaptor.forClass(PublishBatchRequest.class);
+        verify(snsClient, times(2)).publishBatch(captor.capture());
+        assertThat(captor.getAllValues().get(0).publishBatchRequestEntries())
+            .extracting(PublishBatchRequestEntry::id).containsExactly("1", "3");
+        assertThat(captor.getAllValues().get(1).publishBatchRequestEntries())
+            .extracting(PublishBatchRequestEntry::id).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("A failed event holds back later events of the same key")
+    @SuppressWarnings("unchecked")
+    void relayOnce_failure_blocksKey() {
+        when(outboxRepository.findPending(100)).thenReturn(List.of(
+            message(1, "A"), message(2, "A"), message(3, "B")));
+        when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(PublishBatchResponse.builder()
+            .successful(PublishBatchResultEntry.builder().id("3").build())
+            .failed(BatchResultErrorEntry.builder().id("1").code("Throttled").message("slow down").build())
+            .build());
+
+        relay.relayOnce();
+
+        verify(snsClient, times(1)).publishBatch(any(PublishBatchRequest.class));
+        verify(outboxRepository).markFailedAttempt(eq(1L), eq(1), any(Instant.class), eq(false), anyString());
+        verify(outboxRepository, never()).markFailedAttempt(eq(2L), anyInt(), any(), anyBoolean(), any());
+
+        ArgumentCaptor<Collection<Long>> published = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markPublished(published.capture());
+        assertThat(published.getValue()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Events still in back-off are skipped together with their successors")
+    void relayOnce_backoff_skipsKey() {
+        OutboxMessage backingOff = OutboxMessage.builder()
+            .id(1).eventId("evt-1").topic(TOPIC_ARN).aggregateKey("A").payload("{}")
+            .attempts(1).nextAttemptAt(Instant.now().plusSeconds(60))
+            .build();
+        when(outboxRepository.findPending(100)).thenReturn(List.of(backingOff, message(2, "A")));
+
+        relay.relayOnce();
+
+        verify(snsClient, never()).publishBatch(any(PublishBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Relay does nothing when another replica holds the lock")
+    void relayOnce_lockNotAcquired_skips() {
+        when(outboxRepository.tryLockRelay()).thenReturn(false);
+
+        assertThat(relay.relayOnce()).isFalse();
+
+        verify(outboxRepository, never()).findPending(anyInt());
+    }
+
+    @Test
+    @DisplayName("Back-off grows exponentially and is capped")
+    void backoff_isExponentialAndCapped() {
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(relay.backoff(20)).isEqualTo(Duration.ofSeconds(64));
+    }
+}
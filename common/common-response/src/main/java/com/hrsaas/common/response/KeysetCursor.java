@@ -0,0 +1,54 @@
+package com.hrsaas.common.response;
+
+import com.hrsaas.common.core.exception.ErrorCode;
+import com.hrsaas.common.core.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset (seek) pagination cursor: the sort key and id of the last row of a page.
+ * Encoded as URL-safe Base64 so clients treat it as an opaque token.
+ *
+ * @param sort    sort field the cursor was issued for (a cursor is rejected for another sort)
+ * @param key     sort key value of the last row (may be null when the column is nullable)
+ * @param id      id of the last row, the unique tie-breaker
+ */
+public record KeysetCursor(String sort, String key, UUID id) {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String NULL_KEY = "\u0000";
+
+    public String encode() {
+        String raw = sort + SEPARATOR + (key != null ? key : NULL_KEY) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return decoded cursor, or null for a blank token (first page)
+     * @throws ValidationException if the token is malformed or was issued for a different sort
+     */
+    public static KeysetCursor decode(String token, String expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            String sort = raw.substring(0, first);
+            String key = raw.substring(first + 1, last);
+            UUID id = UUID.fromString(raw.substring(last + 1));
+            if (!sort.equals(expectedSort)) {
+                throw new IllegalArgumentException("sort mismatch");
+            }
+            return new KeysetCursor(sort, NULL_KEY.equals(key) ? null : key, id);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCode.INVALID_CURSOR.getCode(), ErrorCode.INVALID_CURSOR.getDefaultMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.hrsaas.common.response;
+
+/**
+ * How a cursor-paginated endpoint reports the total number of elements.
+ */
+public enum PageCountMode {
+    /** Skip counting; totalElements is -1 */
+    NONE,
+    /** Planner estimate; cheap but approximate */
+    ESTIMATE,
+    /** Exact COUNT(*) */
+    EXACT
+}
@@ -33,6 +33,12 @@ public class PageResponse<T> {
         private boolean last;
         private boolean hasNext;
         private boolean hasPrevious;
+
+        /** 커서 페이지네이션에서 다음 페이지 조회용 커서 (마지막 페이지이거나 오프셋 모드면 null) */
+        private String nextCursor;
+
+        /** totalElements가 실행 계획 기반 추정치인지 여부 (커서 모드에서 count=estimate) */
+        private boolean totalEstimated;
     }
 
     public static <T> PageResponse<T> from(Page<T> page) {
@@ -66,4 +72,31 @@ public class PageResponse<T> {
                 .build())
             .build();
     }
+
+    /**
+     * Keyset (cursor) page. {@code totalElements} is {@code -1} when the count was skipped.
+     *
+     * @param cursor        cursor the page was requested with, or null for the first page
+     * @param totalElements exact or estimated total, or null to skip counting
+     */
+    public static <R> PageResponse<R> ofCursor(List<R> content, int size, String cursor, String nextCursor,
+                                              Long totalElements, boolean totalEstimated) {
+        boolean first = cursor == null || cursor.isBlank();
+        long total = totalElements != null ? totalElements : -1;
+        return PageResponse.<R>builder()
+            .content(content)
+            .page(PageInfo.builder()
+                .number(0)
+                .size(size)
+                .totalElements(total)
+                .totalPages(total >= 0 && size > 0 ? (int) Math.ceil((double) total / size) : -1)
+                .first(first)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .nextCursor(nextCursor)
+                .totalEstimated(totalEstimated)
+                .build())
+            .build();
+    }
 }
@@ -0,0 +1,75 @@
+package com.hrsaas.common.response;
+
+import com.hrsaas.common.core.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("encode/decode: 정렬 키와 ID 왕복")
+    void encodeDecode_roundTrip() {
+        UUID id = UUID.randomUUID();
+        KeysetCursor cursor = new KeysetCursor("name", "홍길동", id);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "name");
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("encode/decode: null 정렬 키 보존")
+    void encodeDecode_nullKey() {
+        KeysetCursor cursor = new KeysetCursor("name", null, UUID.randomUUID());
+
+        assertThat(KeysetCursor.decode(cursor.encode(), "name").key()).isNull();
+    }
+
+    @Test
+    @DisplayName("decode: 빈 토큰은 첫 페이지(null)")
+    void decode_blank_returnsNull() {
+        assertThat(KeysetCursor.decode("", "name")).isNull();
+        assertThat(KeysetCursor.decode(null, "name")).isNull();
+    }
+
+    @Test
+    @DisplayName("decode: 손상된 토큰이나 다른 정렬의 커서는 거부")
+    void decode_invalid_throwsValidationException() {
+        String otherSort = new KeysetCursor("employeeNumber", "E-1", UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor", "name"))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(otherSort, "name"))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("ofCursor: 다음 커서와 건수 생략 표시")
+    void ofCursor_withoutCount() {
+        PageResponse<String> page = PageResponse.ofCursor(List.of("a"), 20, null, "next", null, false);
+
+        assertThat(page.getPage().getNextCursor()).isEqualTo("next");
+        assertThat(page.getPage().isHasNext()).isTrue();
+        assertThat(page.getPage().getTotalElements()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("ofCursor: 커서 없이 요청한 페이지만 첫 페이지")
+    void ofCursor_firstOnlyWithoutCursor() {
+        PageResponse<String> firstPage = PageResponse.ofCursor(List.of("a"), 20, null, "next", null, false);
+        PageResponse<String> nextPage = PageResponse.ofCursor(List.of("b"), 20, "next", null, null, false);
+
+        assertThat(firstPage.getPage().isFirst()).isTrue();
+        assertThat(firstPage.getPage().isHasPrevious()).isFalse();
+        assertThat(nextPage.getPage().isFirst()).isFalse();
+        assertThat(nextPage.getPage().isHasPrevious()).isTrue();
+        assertThat(nextPage.getPage().isLast()).isTrue();
+    }
+}
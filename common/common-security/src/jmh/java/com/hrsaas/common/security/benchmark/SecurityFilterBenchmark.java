@@ -0,0 +1,112 @@
+package com.hrsaas.common.security.benchmark;
+
+import com.hrsaas.common.security.SecurityFilter;
+import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * SecurityFilter hot path for an authenticated request: revocation check, token verification,
+ * context and authority construction.
+ * {@code cacheSize=0} disables the verified-token cache (every request verifies the signature and
+ * parses claims); {@code tokens} is the number of distinct tokens presented in rotation.
+ * {@code legacyParse} is the per-request work the filter did before the cache.
+ *
+ * Run: ./gradlew :common:common-security:jmh -Pjmh.includes=SecurityFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityFilterBenchmark {
+
+    private static final String SECRET = "hr-saas-secret-key-for-jwt-token-signing-minimum-256-bits-required";
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    @Param({"1", "1000"})
+    public int tokens;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecurityFilter securityFilter;
+    private MockHttpServletRequest[] requests;
+    private String[] rawTokens;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800, cacheSize);
+        TokenRevocationService revocations = new TokenRevocationService(
+            null, jwtTokenProvider, new SimpleMeterRegistry(), Clock.systemUTC(), 10_000);
+        securityFilter = new SecurityFilter(jwtTokenProvider, revocations);
+
+        requests = new MockHttpServletRequest[tokens];
+        rawTokens = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            rawTokens[i] = jwtTokenProvider.generateAccessToken(UserContext.builder()
+                .userId(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .employeeId(UUID.randomUUID())
+                .departmentId(UUID.randomUUID())
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .employeeName("홍길동")
+                .departmentName("인사팀")
+                .roles(Set.of("EMPLOYEE", "TEAM_LEADER"))
+                .permissions(Set.of("employee:read:self", "attendance:read", "attendance:write", "approval:read"))
+                .build());
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/me");
+            request.addHeader("Authorization", "Bearer " + rawTokens[i]);
+            requests[i] = request;
+        }
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void filter() throws Exception {
+        securityFilter.doFilter(nextRequest(), response, chain);
+    }
+
+    @Benchmark
+    public void legacyParse(Blackhole bh) {
+        int i = next;
+        next = (next + 1) % tokens;
+        UserContext context = jwtTokenProvider.parseToken(rawTokens[i]);
+        List<SimpleGrantedAuthority> authorities = context.getRoles().stream()
+            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+            .collect(Collectors.toList());
+        bh.consume(new UsernamePasswordAuthenticationToken(context, null, authorities));
+    }
+
+    private MockHttpServletRequest nextRequest() {
+        MockHttpServletRequest request = requests[next];
+        next = (next + 1) % tokens;
+        return request;
+    }
+}
@@ -1,14 +1,14 @@
 package com.hrsaas.common.security;
 
 import com.hrsaas.common.core.exception.ForbiddenException;
-import com.hrsaas.common.security.client.EmployeeServiceClient;
 import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
+import com.hrsaas.common.security.permission.CompiledPermissions;
+import com.hrsaas.common.security.scope.EmployeeScopeResolver;
 import com.hrsaas.common.security.service.PermissionMappingService;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.Collection;
 import java.util.Set;
 import java.util.UUID;
 
@@ -21,19 +21,18 @@ import java.util.UUID;
  *
  * Note: HR_ADMIN was renamed to HR_MANAGER to align with PRD terminology.
  */
-@Slf4j
 @Component("permissionChecker")
 public class PermissionChecker {
 
     private final PermissionMappingService permissionMappingService;
-    private final Optional<EmployeeServiceClient> employeeServiceClient;
+    private final EmployeeScopeResolver employeeScopeResolver;
 
     @Autowired
     public PermissionChecker(
             PermissionMappingService permissionMappingService,
-            @Autowired(required = false) EmployeeServiceClient employeeServiceClient) {
+            EmployeeScopeResolver employeeScopeResolver) {
         this.permissionMappingService = permissionMappingService;
-        this.employeeServiceClient = Optional.ofNullable(employeeServiceClient);
+        this.employeeScopeResolver = employeeScopeResolver;
     }
 
     public void requireRole(String role) {
@@ -130,34 +129,44 @@ public class PermissionChecker {
      * Considers role-based scope (all, department, team, self).
      */
     public boolean canAccessEmployee(UUID employeeId) {
-        Set<String> permissions = SecurityContextHolder.getCurrentPermissions();
+        CompiledPermissions permissions = permissionMappingService.compile(SecurityContextHolder.getCurrentPermissions());
 
-        if (permissionMappingService.hasPermission(permissions, "employee:read")) {
+        if (permissions.matches("employee:read")) {
             return true;
         }
-        if (permissionMappingService.hasPermission(permissions, "employee:read:department")) {
+        if (permissions.matches("employee:read:department")) {
             return isSameDepartment(employeeId);
         }
-        if (permissionMappingService.hasPermission(permissions, "employee:read:team")) {
+        if (permissions.matches("employee:read:team")) {
             return isSameTeam(employeeId);
         }
-        if (permissionMappingService.hasPermission(permissions, "employee:read:self")) {
+        if (permissions.matches("employee:read:self")) {
             return isSelf(employeeId);
         }
 
         return false;
     }
 
+    /**
+     * Bulk variant of {@link #canAccessEmployee(UUID)} for list endpoints.
+     * Resolves department/team scope with a single affiliation lookup instead of one per employee.
+     *
+     * @return accessible employee IDs in input order
+     */
+    public Set<UUID> filterAccessibleEmployees(Collection<UUID> employeeIds) {
+        return employeeScopeResolver.filterAccessible("employee:read", employeeIds);
+    }
+
     /**
      * Check if the current user can modify the specified employee's data.
      */
     public boolean canModifyEmployee(UUID employeeId) {
-        Set<String> permissions = SecurityContextHolder.getCurrentPermissions();
+        CompiledPermissions permissions = permissionMappingService.compile(SecurityContextHolder.getCurrentPermissions());
 
-        if (permissionMappingService.hasPermission(permissions, "employee:write")) {
+        if (permissions.matches("employee:write")) {
             return true;
         }
-        if (permissionMappingService.hasPermission(permissions, "employee:write:self")) {
+        if (permissions.matches("employee:write:self")) {
             return isSelf(employeeId);
         }
 
@@ -174,7 +183,8 @@ public class PermissionChecker {
 
     /**
      * Check if the specified employee is in the same department as the current user.
-     * Queries the employee service via Feign client for the target employee's department.
+     * Looks up the target employee's department through {@link EmployeeScopeResolver}
+     * (request memo, affiliation cache, then the employee service).
      */
     public boolean isSameDepartment(UUID employeeId) {
         UserContext context = SecurityContextHolder.getContext();
@@ -192,7 +202,7 @@ public class PermissionChecker {
 
     /**
      * Check if the specified employee is in the same team as the current user.
-     * Queries the employee service via Feign client for the target employee's team.
+     * Looks up the target employee's team through {@link EmployeeScopeResolver}.
      */
     public boolean isSameTeam(UUID employeeId) {
         UserContext context = SecurityContextHolder.getContext();
@@ -212,15 +222,15 @@ public class PermissionChecker {
      * Check if user can approve attendance for the specified employee.
      */
     public boolean canApproveAttendance(UUID employeeId) {
-        Set<String> permissions = SecurityContextHolder.getCurrentPermissions();
+        CompiledPermissions permissions = permissionMappingService.compile(SecurityContextHolder.getCurrentPermissions());
 
-        if (permissionMappingService.hasPermission(permissions, "attendance:approve")) {
+        if (permissions.matches("attendance:approve")) {
             return true;
         }
-        if (permissionMappingService.hasPermission(permissions, "attendance:approve:department")) {
+        if (permissions.matches("attendance:approve:department")) {
             return isSameDepartment(employeeId);
         }
-        if (permissionMappingService.hasPermission(permissions, "attendance:approve:team")) {
+        if (permissions.matches("attendance:approve:team")) {
             return isSameTeam(employeeId);
         }
 
@@ -228,16 +238,6 @@ public class PermissionChecker {
     }
 
     private EmployeeAffiliationDto getEmployeeAffiliation(UUID employeeId) {
-        if (employeeServiceClient.isEmpty()) {
-            log.warn("EmployeeServiceClient not available - cannot check affiliation for employee: {}", employeeId);
-            return null;
-        }
-
-        try {
-            return employeeServiceClient.get().getAffiliation(employeeId);
-        } catch (Exception e) {
-            log.warn("Failed to fetch employee affiliation for: {}", employeeId, e);
-            return null;
-        }
+        return employeeScopeResolver.getAffiliation(employeeId);
     }
 }
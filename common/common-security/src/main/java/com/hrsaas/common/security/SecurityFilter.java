@@ -1,6 +1,8 @@
 package com.hrsaas.common.security;
 
 import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.jwt.VerifiedToken;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import com.hrsaas.common.tenant.TenantContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,15 +13,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.stream.Collectors;
 
 /**
  * Filter to extract user context from JWT in Authorization header.
  * Each service directly validates JWT tokens (no gateway header propagation).
+ * Revoked tokens are rejected against the node-local revocation list (no Redis call per request).
  *
  * NOTE: @Component removed to prevent double registration (servlet filter + SecurityFilterChain).
  * SecurityFilter is now created as @Bean in each service's SecurityConfig.
@@ -30,6 +31,7 @@ import java.util.stream.Collectors;
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -66,18 +68,19 @@ public class SecurityFilter extends OncePerRequestFilter {
             return;
         }
 
+        if (tokenRevocationService.isRevoked(token)) {
+            log.debug("JWT rejected: token revoked");
+            return;
+        }
+
         try {
-            UserContext context = jwtTokenProvider.parseToken(token);
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+            UserContext context = verified.context();
             SecurityContextHolder.setContext(context);
 
             // Bridge to Spring Security's SecurityContextHolder
-            var authorities = context.getRoles() != null
-                    ? context.getRoles().stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .collect(Collectors.toList())
-                    : java.util.Collections.<SimpleGrantedAuthority>emptyList();
             var authentication = new UsernamePasswordAuthenticationToken(
-                    context, null, authorities);
+                    context, null, verified.authorities());
             org.springframework.security.core.context.SecurityContextHolder
                     .getContext().setAuthentication(authentication);
 
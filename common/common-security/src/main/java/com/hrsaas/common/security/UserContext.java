@@ -12,7 +12,7 @@ import java.util.UUID;
  * Authenticated user context information.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserContext {
@@ -2,6 +2,9 @@ package com.hrsaas.common.security.client;
 
 import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -11,4 +14,20 @@ import java.util.UUID;
 public interface EmployeeServiceClient {
 
     EmployeeAffiliationDto getAffiliation(UUID employeeId);
+
+    /**
+     * Bulk lookup used by scope filtering. Employees that are not found are omitted from the result.
+     * Implementations should override this with a single remote call; the default falls back to
+     * one {@link #getAffiliation} call per employee.
+     */
+    default Map<UUID, EmployeeAffiliationDto> getAffiliations(Collection<UUID> employeeIds) {
+        Map<UUID, EmployeeAffiliationDto> affiliations = new HashMap<>();
+        for (UUID employeeId : employeeIds) {
+            EmployeeAffiliationDto affiliation = getAffiliation(employeeId);
+            if (affiliation != null) {
+                affiliations.put(employeeId, affiliation);
+            }
+        }
+        return affiliations;
+    }
 }
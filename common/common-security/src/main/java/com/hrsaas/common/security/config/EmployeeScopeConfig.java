@@ -0,0 +1,37 @@
+package com.hrsaas.common.security.config;
+
+import com.hrsaas.common.security.scope.EmployeeAffiliationCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Wires the affiliation cache used by scope checks to Redis pub/sub invalidation.
+ */
+@Configuration
+public class EmployeeScopeConfig {
+
+    @Bean
+    public EmployeeAffiliationCache employeeAffiliationCache(
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${security.affiliation-cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${security.affiliation-cache.max-size:50000}") long maximumSize) {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        redisTemplate.afterPropertiesSet();
+        return new EmployeeAffiliationCache(redisTemplate, ttlMillis, maximumSize);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer employeeAffiliationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            EmployeeAffiliationCache employeeAffiliationCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(employeeAffiliationCache, new ChannelTopic(EmployeeAffiliationCache.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,52 @@
+package com.hrsaas.common.security.config;
+
+import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Clock;
+
+/**
+ * Wires the node-local token revocation list to Redis pub/sub and starts its periodic sync.
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean(destroyMethod = "stop")
+    public TokenRevocationService tokenRevocationService(
+            RedisConnectionFactory redisConnectionFactory,
+            JwtTokenProvider jwtTokenProvider,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${jwt.revocation.sync-overlap-ms:10000}") long syncOverlapMillis,
+            @Value("${jwt.revocation.sync-interval-ms:5000}") long syncIntervalMillis) {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        redisTemplate.afterPropertiesSet();
+        TokenRevocationService service = new TokenRevocationService(
+            redisTemplate,
+            jwtTokenProvider,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+            Clock.systemUTC(),
+            syncOverlapMillis);
+        service.start(syncIntervalMillis);
+        return service;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TokenRevocationService tokenRevocationService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.CHANNEL));
+        return container;
+    }
+}
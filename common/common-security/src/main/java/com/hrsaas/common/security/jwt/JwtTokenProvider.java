@@ -1,15 +1,22 @@
 package com.hrsaas.common.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.security.permission.PermissionSet;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -24,13 +31,24 @@ public class JwtTokenProvider {
     private final long accessTokenExpiry;
     private final long refreshTokenExpiry;
 
+    /**
+     * Verified tokens by digest, each kept until the token's own expiry. Cached entries are never
+     * handed out; callers get a copy of the context (see {@link #verify(String)}).
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiry:1800}") long accessTokenExpiry,
-            @Value("${jwt.refresh-token-expiry:604800}") long refreshTokenExpiry) {
+            @Value("${jwt.refresh-token-expiry:604800}") long refreshTokenExpiry,
+            @Value("${jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiry = accessTokenExpiry;
         this.refreshTokenExpiry = refreshTokenExpiry;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
 
         if (accessTokenExpiry <= 0) {
             throw new IllegalArgumentException("Access token expiry must be positive");
@@ -104,8 +122,41 @@ public class JwtTokenProvider {
      * Parse and validate a JWT token, returning the UserContext.
      */
     public UserContext parseToken(String token) {
+        return toUserContext(validateToken(token));
+    }
+
+    /**
+     * Validate a token and return its context and authorities.
+     * Repeated presentations of the same token are served from a bounded cache keyed by the token
+     * digest until the token expires, skipping the signature check and claim parsing.
+     * Each call returns its own {@link UserContext}, so a caller mutating it cannot leak into
+     * other requests presenting the same token.
+     * @throws JwtException if token is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        String digest = TokenDigest.sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return withContextCopy(cached);
+        }
+
         Claims claims = validateToken(token);
+        UserContext context = toUserContext(claims);
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(context, toAuthorities(context.getRoles()),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        if (expiration != null) {
+            verifiedTokens.put(digest, verified);
+            return withContextCopy(verified);
+        }
+        return verified;
+    }
+
+    private static VerifiedToken withContextCopy(VerifiedToken verified) {
+        return new VerifiedToken(verified.context().toBuilder().build(), verified.authorities(), verified.expiresAt());
+    }
 
+    private UserContext toUserContext(Claims claims) {
         UserContext.UserContextBuilder builder = UserContext.builder();
 
         String sub = claims.getSubject();
@@ -124,7 +175,7 @@ public class JwtTokenProvider {
         builder.departmentName(claims.get("department_name", String.class));
 
         builder.roles(extractStringSet(claims, "roles"));
-        builder.permissions(extractStringSet(claims, "permissions"));
+        builder.permissions(PermissionSet.of(extractStringSet(claims, "permissions")));
 
         return builder.build();
     }
@@ -192,8 +243,40 @@ public class JwtTokenProvider {
         if (value instanceof Collection) {
             return ((Collection<Object>) value).stream()
                     .map(Object::toString)
-                    .collect(Collectors.toSet());
+                    .collect(Collectors.toUnmodifiableSet());
         }
         return Set.of();
     }
+
+    private static List<GrantedAuthority> toAuthorities(Set<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        }
+        return List.copyOf(authorities);
+    }
+
+    /**
+     * Expires each cached verification exactly when its token does.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
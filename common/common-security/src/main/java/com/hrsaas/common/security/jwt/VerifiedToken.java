@@ -0,0 +1,17 @@
+package com.hrsaas.common.security.jwt;
+
+import com.hrsaas.common.security.UserContext;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Result of a successful token verification. The claims are parsed once per token and cached until
+ * {@code expiresAt}; every request receives its own copy of the context.
+ *
+ * @param context     per-request user context with unmodifiable role and permission sets
+ * @param authorities {@code ROLE_}-prefixed authorities for Spring Security
+ * @param expiresAt   token expiry (epoch millis)
+ */
+public record VerifiedToken(UserContext context, List<GrantedAuthority> authorities, long expiresAt) {
+}
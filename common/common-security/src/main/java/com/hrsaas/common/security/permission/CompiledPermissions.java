@@ -0,0 +1,73 @@
+package com.hrsaas.common.security.permission;
+
+/**
+ * Immutable, precompiled form of a user's permission set: one bit per granted permission id in the
+ * {@link PermissionMatcher} catalog plus a flag for the global wildcards ({@code *}, {@code *:*}).
+ * <p>
+ * {@link #matches(String)} resolves the required permission to its candidate ids once per distinct
+ * string and afterwards only tests bits, so wildcard and scope checks do not split or build strings.
+ */
+public final class CompiledPermissions {
+
+    static final CompiledPermissions NONE = new CompiledPermissions(null, false, new long[0]);
+
+    private final PermissionMatcher matcher;
+    private final boolean all;
+    private final long[] words;
+
+    CompiledPermissions(PermissionMatcher matcher, boolean all, long[] words) {
+        this.matcher = matcher;
+        this.all = all;
+        this.words = words;
+    }
+
+    /**
+     * Whether the compiled grants satisfy {@code requiredPermission}: global wildcard, exact match,
+     * {@code resource:*}, or the unscoped {@code resource:action} for a {@code resource:action:scope}
+     * requirement.
+     */
+    public boolean matches(String requiredPermission) {
+        if (all) {
+            return true;
+        }
+        if (matcher == null || requiredPermission == null) {
+            return false;
+        }
+        for (int id : matcher.candidates(requiredPermission)) {
+            if (contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matchesAny(String... requiredPermissions) {
+        for (String permission : requiredPermissions) {
+            if (matches(permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matchesAll(String... requiredPermissions) {
+        for (String permission : requiredPermissions) {
+            if (!matches(permission)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the grants include a global wildcard.
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    private boolean contains(int id) {
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.hrsaas.common.security.permission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Permission evaluation engine shared by method security ({@code PermissionChecker}) and menu filtering.
+ * <p>
+ * Every permission string that is granted or required is interned into a catalog of dense int ids.
+ * A user's permission set is compiled into a {@link CompiledPermissions} bitset over that catalog, and
+ * each required permission is resolved once into the ids that can satisfy it (exact, {@code resource:*},
+ * and {@code resource:action} for scoped requirements). Both catalogs only grow with the distinct strings
+ * found in signed tokens and in code or menu definitions.
+ * <p>
+ * Compiled sets are cached by identity for {@link PermissionSet}s only, such as the permission set of a
+ * verified token held by {@code JwtTokenProvider}, so a token is compiled once and shared by every request
+ * that presents it. Any other set is compiled on each call because it may change after compilation.
+ */
+public class PermissionMatcher {
+
+    static final long DEFAULT_COMPILED_CACHE_SIZE = 10_000;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Map<String, int[]> requirements = new ConcurrentHashMap<>();
+    private final Cache<PermissionSet, CompiledPermissions> compiled;
+    private final Function<Set<String>, CompiledPermissions> compiler = this::doCompile;
+    private final Function<String, int[]> resolver = this::resolve;
+
+    public PermissionMatcher() {
+        this(DEFAULT_COMPILED_CACHE_SIZE);
+    }
+
+    public PermissionMatcher(long compiledCacheSize) {
+        // weakKeys() compares keys by identity, which is exactly the "same token" semantics we want
+        this.compiled = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(compiledCacheSize)
+            .build();
+    }
+
+    /**
+     * Compile a user's permission set. A {@link PermissionSet} is compiled once and reused.
+     */
+    public CompiledPermissions compile(Set<String> grants) {
+        if (grants == null || grants.isEmpty()) {
+            return CompiledPermissions.NONE;
+        }
+        if (grants instanceof PermissionSet permissionSet) {
+            return compiled.get(permissionSet, compiler);
+        }
+        return doCompile(grants);
+    }
+
+    /**
+     * Number of interned permission strings.
+     */
+    int catalogSize() {
+        return ids.size();
+    }
+
+    int[] candidates(String requiredPermission) {
+        int[] candidates = requirements.get(requiredPermission);
+        return candidates != null ? candidates : requirements.computeIfAbsent(requiredPermission, resolver);
+    }
+
+    private CompiledPermissions doCompile(Set<String> grants) {
+        boolean all = false;
+        BitSet bits = new BitSet();
+        for (String grant : grants) {
+            if (grant == null) {
+                continue;
+            }
+            if ("*".equals(grant) || "*:*".equals(grant)) {
+                all = true;
+            } else {
+                bits.set(intern(grant));
+            }
+        }
+        return new CompiledPermissions(this, all, bits.toLongArray());
+    }
+
+    /**
+     * Ids of the grants that satisfy {@code required}. Runs once per distinct required string.
+     */
+    private int[] resolve(String required) {
+        String[] parts = required.split(":");
+        if (parts.length == 3) {
+            return new int[] {intern(required), intern(parts[0] + ":*"), intern(parts[0] + ":" + parts[1])};
+        }
+        if (parts.length >= 2) {
+            return new int[] {intern(required), intern(parts[0] + ":*")};
+        }
+        return new int[] {intern(required)};
+    }
+
+    private int intern(String permission) {
+        Integer id = ids.get(permission);
+        return id != null ? id : ids.computeIfAbsent(permission, p -> nextId.getAndIncrement());
+    }
+}
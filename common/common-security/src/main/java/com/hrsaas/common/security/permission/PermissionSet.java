@@ -0,0 +1,46 @@
+package com.hrsaas.common.security.permission;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Unmodifiable permission set whose compiled form {@link PermissionMatcher} caches by identity.
+ * <p>
+ * Used for the permissions of a verified token, which stay fixed for the token's lifetime and are
+ * shared by every request presenting it. Any other {@link Set} is compiled on each call.
+ */
+public final class PermissionSet extends AbstractSet<String> {
+
+    private static final PermissionSet EMPTY = new PermissionSet(Set.of());
+
+    private final Set<String> permissions;
+
+    private PermissionSet(Set<String> permissions) {
+        this.permissions = permissions;
+    }
+
+    public static PermissionSet of(Collection<String> permissions) {
+        if (permissions instanceof PermissionSet permissionSet) {
+            return permissionSet;
+        }
+        return permissions == null || permissions.isEmpty() ? EMPTY : new PermissionSet(Set.copyOf(permissions));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return permissions.contains(o);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        // Set.copyOf iterators do not support remove()
+        return permissions.iterator();
+    }
+
+    @Override
+    public int size() {
+        return permissions.size();
+    }
+}
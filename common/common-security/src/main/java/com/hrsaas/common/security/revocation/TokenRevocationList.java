@@ -0,0 +1,68 @@
+package com.hrsaas.common.security.revocation;
+
+import com.hrsaas.common.security.jwt.TokenDigest;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory set of revoked access tokens keyed by token digest.
+ * Entries are also grouped into one-minute buckets by expiry so expired tokens are dropped a bucket
+ * at a time instead of scanning the whole set.
+ */
+public class TokenRevocationList {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    public static String digest(String token) {
+        return TokenDigest.sha256(token);
+    }
+
+    /**
+     * @return {@code false} if the token already expired or was already present
+     */
+    public boolean add(String digest, long expiresAt, long now) {
+        if (expiresAt <= now || expiries.putIfAbsent(digest, expiresAt) != null) {
+            return false;
+        }
+        buckets.computeIfAbsent(expiresAt / BUCKET_MILLIS, bucket -> ConcurrentHashMap.newKeySet()).add(digest);
+        return true;
+    }
+
+    public boolean contains(String digest, long now) {
+        Long expiresAt = expiries.get(digest);
+        return expiresAt != null && expiresAt > now;
+    }
+
+    public boolean isEmpty() {
+        return expiries.isEmpty();
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+
+    /**
+     * Drops every bucket that ended before the current one.
+     * Tokens added concurrently expire in the future and therefore land in a bucket that is kept.
+     */
+    public int purgeExpired(long now) {
+        int removed = 0;
+        Iterator<Set<String>> expired = buckets.headMap(now / BUCKET_MILLIS).values().iterator();
+        while (expired.hasNext()) {
+            for (String digest : expired.next()) {
+                if (expiries.remove(digest) != null) {
+                    removed++;
+                }
+            }
+            expired.remove();
+        }
+        return removed;
+    }
+}
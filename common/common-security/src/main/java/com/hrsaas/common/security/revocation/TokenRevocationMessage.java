@@ -0,0 +1,11 @@
+package com.hrsaas.common.security.revocation;
+
+/**
+ * Pub/sub message announcing a revoked access token to every node.
+ *
+ * @param digest    SHA-256 digest of the token (raw tokens never leave auth-service)
+ * @param expiresAt token expiry (epoch millis); the entry is dropped locally after this
+ * @param revokedAt revocation time (epoch millis) on the publisher, used for the lag metric
+ */
+public record TokenRevocationMessage(String digest, long expiresAt, long revokedAt) {
+}
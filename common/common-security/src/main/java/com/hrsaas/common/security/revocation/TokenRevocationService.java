@@ -0,0 +1,219 @@
+package com.hrsaas.common.security.revocation;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local view of revoked access tokens so SecurityFilter can reject them without a Redis call.
+ *
+ * auth-service appends each revocation to a Redis sorted set (score = revocation time) and announces
+ * it on a pub/sub channel. Every node applies announcements as they arrive and also re-reads the
+ * sorted set from its last watermark on a fixed delay, so a lost message is picked up within one
+ * sync interval as long as Redis is reachable. The sync runs on the service's own daemon thread
+ * rather than {@code @Scheduled}, so it does not depend on the host service enabling scheduling.
+ * <ul>
+ *   <li>{@code security.token.revocation.lag} — revocation to local apply, tagged source=pubsub|sync</li>
+ *   <li>{@code security.token.revocation.staleness} — seconds since the last successful sync</li>
+ *   <li>{@code security.token.revocation.size} — revoked tokens held locally</li>
+ * </ul>
+ * Refresh tokens are not tracked here; auth-service checks them against Redis on refresh.
+ */
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+    public static final String CHANNEL = "hr:token:revocation";
+    public static final String LOG_KEY = "token:revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Clock clock;
+    private final long syncOverlapMillis;
+    private final TokenRevocationList revocations = new TokenRevocationList();
+    private final Timer pubSubLag;
+    private final Timer syncLag;
+
+    /** highest revocation time read from the sorted set; 0 until the first sync */
+    private volatile long watermark;
+    private volatile long lastSyncedAt = -1;
+    private ScheduledExecutorService syncExecutor;
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  JwtTokenProvider jwtTokenProvider,
+                                  MeterRegistry meterRegistry,
+                                  Clock clock,
+                                  long syncOverlapMillis) {
+        this.redisTemplate = redisTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.clock = clock;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.pubSubLag = lagTimer(meterRegistry, "pubsub");
+        this.syncLag = lagTimer(meterRegistry, "sync");
+        Gauge.builder("security.token.revocation.staleness", this, TokenRevocationService::stalenessSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("security.token.revocation.size", revocations, TokenRevocationList::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Loads every retained revocation before the node serves requests, then re-syncs on a fixed delay.
+     * A failed initial load is retried by the next scheduled run.
+     */
+    public synchronized void start(long syncIntervalMillis) {
+        if (syncExecutor != null) {
+            return;
+        }
+        sync();
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncExecutor.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+            syncExecutor = null;
+        }
+    }
+
+    /**
+     * O(1) local check; hashes the token only when at least one revocation is held.
+     */
+    public boolean isRevoked(String token) {
+        if (revocations.isEmpty()) {
+            return false;
+        }
+        return revocations.contains(TokenRevocationList.digest(token), clock.millis());
+    }
+
+    /**
+     * Records the revocation in Redis and announces it to every node.
+     * Tokens that are already invalid or are refresh tokens are ignored.
+     */
+    public void revoke(String token) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.validateToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if ("refresh".equals(claims.get("token_type", String.class)) || claims.getExpiration() == null) {
+            return;
+        }
+
+        long now = clock.millis();
+        long expiresAt = claims.getExpiration().getTime();
+        String digest = TokenRevocationList.digest(token);
+        revocations.add(digest, expiresAt, now);
+
+        // Revocations older than the access token lifetime refer to tokens that have expired
+        redisTemplate.opsForZSet().add(LOG_KEY, digest + ":" + expiresAt, now);
+        redisTemplate.opsForZSet().removeRangeByScore(LOG_KEY, 0,
+            now - TimeUnit.SECONDS.toMillis(jwtTokenProvider.getAccessTokenExpiry()));
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, JsonUtils.toJson(new TokenRevocationMessage(digest, expiresAt, now)));
+        } catch (Exception e) {
+            // The next sync on each node reads the sorted set entry written above
+            log.warn("Failed to publish token revocation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            TokenRevocationMessage revocation = JsonUtils.fromJson(
+                new String(message.getBody(), StandardCharsets.UTF_8), TokenRevocationMessage.class);
+            if (revocation != null) {
+                apply(revocation.digest(), revocation.expiresAt(), revocation.revokedAt(), pubSubLag);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to handle token revocation message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads revocations from the watermark minus an overlap that absorbs clock skew between publishers,
+     * then drops expired entries. The first run loads every retained revocation without recording lag.
+     */
+    public void sync() {
+        long now = clock.millis();
+        long from = watermark == 0 ? 0 : watermark - syncOverlapMillis;
+        Timer lag = lastSyncedAt < 0 ? null : syncLag;
+        try {
+            Set<TypedTuple<String>> entries =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(LOG_KEY, from, Double.POSITIVE_INFINITY);
+            long highest = watermark;
+            if (entries != null) {
+                for (TypedTuple<String> entry : entries) {
+                    String member = entry.getValue();
+                    int separator = member != null ? member.lastIndexOf(':') : -1;
+                    if (separator < 0 || entry.getScore() == null) {
+                        continue;
+                    }
+                    long revokedAt = entry.getScore().longValue();
+                    apply(member.substring(0, separator), Long.parseLong(member.substring(separator + 1)),
+                        revokedAt, lag);
+                    highest = Math.max(highest, revokedAt);
+                }
+            }
+            watermark = highest;
+            lastSyncedAt = now;
+        } catch (Exception e) {
+            log.warn("Failed to sync token revocations: {}", e.getMessage());
+        }
+        revocations.purgeExpired(now);
+    }
+
+    private void syncQuietly() {
+        // An exception escaping a fixed-delay task would cancel every later run
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Token revocation sync failed: {}", e.getMessage());
+        }
+    }
+
+    int localSize() {
+        return revocations.size();
+    }
+
+    private void apply(String digest, long expiresAt, long revokedAt, Timer lag) {
+        long now = clock.millis();
+        if (revocations.add(digest, expiresAt, now) && lag != null) {
+            lag.record(Math.max(0, now - revokedAt), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private double stalenessSeconds() {
+        long synced = lastSyncedAt;
+        return synced < 0 ? Double.NaN : (clock.millis() - synced) / 1000.0;
+    }
+
+    private static Timer lagTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("security.token.revocation.lag")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hrsaas.common.security.scope;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pub/sub payload announcing employees whose cached affiliation must be dropped.
+ *
+ * @param origin      node that published the message
+ * @param tenantId    tenant of the employees
+ * @param employeeIds employees whose department or team changed
+ */
+public record AffiliationInvalidationMessage(String origin, UUID tenantId, List<UUID> employeeIds) {
+}
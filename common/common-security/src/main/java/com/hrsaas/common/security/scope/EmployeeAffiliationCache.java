@@ -0,0 +1,129 @@
+package com.hrsaas.common.security.scope;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Node-local, short-TTL cache of employee affiliations used for department/team scope checks.
+ *
+ * employee-service calls {@link #evict} when an employee's department changes; after the transaction
+ * commits the entries are dropped locally and the change is announced on a Redis channel so every other
+ * node drops them too. The TTL bounds staleness when a message is lost or a load races the change.
+ * Only found employees are cached, so a newly hired employee is visible on the next lookup.
+ * Without a {@link StringRedisTemplate} the cache is purely node-local.
+ */
+@Slf4j
+public class EmployeeAffiliationCache implements MessageListener {
+
+    public static final String CHANNEL = "hr:employee:affiliation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Key, EmployeeAffiliationDto> cache;
+
+    public EmployeeAffiliationCache(StringRedisTemplate redisTemplate, long ttlMillis, long maximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * Cached affiliations of the given employees; employees without an entry are omitted.
+     */
+    public Map<UUID, EmployeeAffiliationDto> getAllPresent(UUID tenantId, Collection<UUID> employeeIds) {
+        Map<UUID, EmployeeAffiliationDto> present = new HashMap<>();
+        for (UUID employeeId : employeeIds) {
+            EmployeeAffiliationDto affiliation = cache.getIfPresent(new Key(tenantId, employeeId));
+            if (affiliation != null) {
+                present.put(employeeId, affiliation);
+            }
+        }
+        return present;
+    }
+
+    public void putAll(UUID tenantId, Map<UUID, EmployeeAffiliationDto> affiliations) {
+        affiliations.forEach((employeeId, affiliation) -> cache.put(new Key(tenantId, employeeId), affiliation));
+    }
+
+    /**
+     * Drops the employees on every node once the surrounding transaction commits.
+     */
+    public void evict(UUID tenantId, Collection<UUID> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(employeeIds);
+        runAfterCommit(() -> {
+            invalidate(tenantId, ids);
+            if (redisTemplate == null) {
+                return;
+            }
+            try {
+                redisTemplate.convertAndSend(CHANNEL,
+                    JsonUtils.toJson(new AffiliationInvalidationMessage(nodeId, tenantId, ids)));
+            } catch (Exception e) {
+                // The TTL bounds staleness on other nodes if the message is lost
+                log.warn("Failed to publish affiliation invalidation: tenantId={}, error={}", tenantId, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            AffiliationInvalidationMessage invalidation = JsonUtils.fromJson(
+                new String(message.getBody(), StandardCharsets.UTF_8), AffiliationInvalidationMessage.class);
+            if (invalidation == null || nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            invalidate(invalidation.tenantId(), invalidation.employeeIds());
+        } catch (Exception e) {
+            log.warn("Failed to handle affiliation invalidation message: {}", e.getMessage());
+        }
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void invalidate(UUID tenantId, Collection<UUID> employeeIds) {
+        for (UUID employeeId : employeeIds) {
+            cache.invalidate(new Key(tenantId, employeeId));
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Key(UUID tenantId, UUID employeeId) {
+    }
+}
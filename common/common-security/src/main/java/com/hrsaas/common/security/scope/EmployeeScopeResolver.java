@@ -0,0 +1,179 @@
+package com.hrsaas.common.security.scope;
+
+import com.hrsaas.common.security.SecurityContextHolder;
+import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.security.client.EmployeeServiceClient;
+import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
+import com.hrsaas.common.security.permission.CompiledPermissions;
+import com.hrsaas.common.security.service.PermissionMappingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Resolves department/team scoped access for many employees at once.
+ *
+ * Affiliations are looked up through a per-request memo, then the shared {@link EmployeeAffiliationCache},
+ * and whatever is still missing is fetched with a single bulk {@link EmployeeServiceClient#getAffiliations}
+ * call, so list endpoints can filter a page of employees without one remote call per row.
+ */
+@Slf4j
+@Component
+public class EmployeeScopeResolver {
+
+    static final String MEMO_ATTRIBUTE = EmployeeScopeResolver.class.getName() + ".affiliations";
+
+    /** Memo marker for employees already looked up in this request but not found */
+    private static final EmployeeAffiliationDto NOT_FOUND = new EmployeeAffiliationDto(null, null);
+
+    private final PermissionMappingService permissionMappingService;
+    private final Optional<EmployeeServiceClient> employeeServiceClient;
+    private final EmployeeAffiliationCache affiliationCache;
+
+    @Autowired
+    public EmployeeScopeResolver(
+            PermissionMappingService permissionMappingService,
+            @Autowired(required = false) EmployeeServiceClient employeeServiceClient,
+            EmployeeAffiliationCache affiliationCache) {
+        this.permissionMappingService = permissionMappingService;
+        this.employeeServiceClient = Optional.ofNullable(employeeServiceClient);
+        this.affiliationCache = affiliationCache;
+    }
+
+    /**
+     * Returns the employees the current user may access under {@code permission} (e.g. {@code employee:read}),
+     * in input order. The unscoped permission grants all; otherwise the first held scope in
+     * department, team, self order decides, as in {@code PermissionChecker.canAccessEmployee}.
+     */
+    public Set<UUID> filterAccessible(String permission, Collection<UUID> employeeIds) {
+        Set<UUID> ids = new LinkedHashSet<>(employeeIds);
+        ids.remove(null);
+        UserContext context = SecurityContextHolder.getContext();
+        if (ids.isEmpty() || context == null) {
+            ids.clear();
+            return ids;
+        }
+
+        CompiledPermissions permissions = permissionMappingService.compile(context.getPermissions());
+        if (permissions.matches(permission)) {
+            return ids;
+        }
+        if (permissions.matches(permission + ":department")) {
+            return retainAffiliated(ids, context.getDepartmentId(), EmployeeAffiliationDto::departmentId);
+        }
+        if (permissions.matches(permission + ":team")) {
+            return retainAffiliated(ids, context.getTeamId(), EmployeeAffiliationDto::teamId);
+        }
+        if (permissions.matches(permission + ":self")) {
+            ids.removeIf(id -> !id.equals(context.getEmployeeId()));
+            return ids;
+        }
+
+        ids.clear();
+        return ids;
+    }
+
+    /**
+     * Single-employee lookup sharing the request memo and cache; null when the employee is not found.
+     */
+    public EmployeeAffiliationDto getAffiliation(UUID employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        return getAffiliations(List.of(employeeId)).get(employeeId);
+    }
+
+    /**
+     * Affiliations of the given employees; employees that are not found (or cannot be looked up) are omitted.
+     */
+    public Map<UUID, EmployeeAffiliationDto> getAffiliations(Collection<UUID> employeeIds) {
+        Map<UUID, EmployeeAffiliationDto> memo = requestMemo();
+        Map<UUID, EmployeeAffiliationDto> affiliations = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (UUID employeeId : employeeIds) {
+            EmployeeAffiliationDto memoized = memo.get(employeeId);
+            if (memoized == null) {
+                missing.add(employeeId);
+            } else if (memoized != NOT_FOUND) {
+                affiliations.put(employeeId, memoized);
+            }
+        }
+        if (missing.isEmpty()) {
+            return affiliations;
+        }
+
+        UUID tenantId = SecurityContextHolder.getCurrentTenantId();
+        Map<UUID, EmployeeAffiliationDto> cached = affiliationCache.getAllPresent(tenantId, missing);
+        affiliations.putAll(cached);
+        memo.putAll(cached);
+        missing.removeAll(cached.keySet());
+        if (missing.isEmpty()) {
+            return affiliations;
+        }
+
+        Map<UUID, EmployeeAffiliationDto> loaded = load(missing);
+        affiliationCache.putAll(tenantId, loaded);
+        affiliations.putAll(loaded);
+        memo.putAll(loaded);
+        for (UUID employeeId : missing) {
+            memo.putIfAbsent(employeeId, NOT_FOUND);
+        }
+        return affiliations;
+    }
+
+    private Set<UUID> retainAffiliated(Set<UUID> ids, UUID expected, Function<EmployeeAffiliationDto, UUID> attribute) {
+        if (expected == null) {
+            ids.clear();
+            return ids;
+        }
+        Map<UUID, EmployeeAffiliationDto> affiliations = getAffiliations(ids);
+        ids.removeIf(id -> {
+            EmployeeAffiliationDto affiliation = affiliations.get(id);
+            return affiliation == null || !expected.equals(attribute.apply(affiliation));
+        });
+        return ids;
+    }
+
+    private Map<UUID, EmployeeAffiliationDto> load(Set<UUID> employeeIds) {
+        if (employeeServiceClient.isEmpty()) {
+            log.warn("EmployeeServiceClient not available - cannot check affiliation for {} employees", employeeIds.size());
+            return Map.of();
+        }
+
+        try {
+            Map<UUID, EmployeeAffiliationDto> loaded = employeeServiceClient.get().getAffiliations(employeeIds);
+            return loaded != null ? loaded : Map.of();
+        } catch (Exception e) {
+            log.warn("Failed to fetch employee affiliations for {} employees", employeeIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, EmployeeAffiliationDto> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+        Map<UUID, EmployeeAffiliationDto> memo =
+            (Map<UUID, EmployeeAffiliationDto>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -1,5 +1,7 @@
 package com.hrsaas.common.security.service;
 
+import com.hrsaas.common.security.permission.CompiledPermissions;
+import com.hrsaas.common.security.permission.PermissionMatcher;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
@@ -16,7 +18,10 @@ import java.util.Set;
  * - employee:read - read access to all employees
  * - employee:read:department - read access to department employees only
  * - employee:read:self - read access to own data only
- * - *:* - superadmin wildcard access
+ * - *:* (or *) - superadmin wildcard access
+ *
+ * Matching is delegated to a shared {@link PermissionMatcher}, which compiles each token's permission
+ * set once instead of splitting and concatenating strings on every check.
  */
 @Service
 public class PermissionMappingService {
@@ -103,6 +108,8 @@ public class PermissionMappingService {
         ))
     );
 
+    private final PermissionMatcher permissionMatcher = new PermissionMatcher();
+
     /**
      * Get all permissions for the given roles, considering role hierarchy.
      *
@@ -133,40 +140,7 @@ public class PermissionMappingService {
      * @return true if permission is granted
      */
     public boolean hasPermission(Set<String> userPermissions, String requiredPermission) {
-        if (userPermissions == null || userPermissions.isEmpty()) {
-            return false;
-        }
-
-        // Superadmin wildcard
-        if (userPermissions.contains("*:*")) {
-            return true;
-        }
-
-        // Direct match
-        if (userPermissions.contains(requiredPermission)) {
-            return true;
-        }
-
-        // Wildcard matching: employee:* matches employee:read
-        String[] parts = requiredPermission.split(":");
-        if (parts.length >= 2) {
-            // Check resource:* wildcard
-            String resourceWildcard = parts[0] + ":*";
-            if (userPermissions.contains(resourceWildcard)) {
-                return true;
-            }
-
-            // Check broader scope: employee:read matches employee:read:self requirement
-            // If user has employee:read, they can access employee:read:department or employee:read:self
-            if (parts.length == 3) {
-                String broaderPermission = parts[0] + ":" + parts[1];
-                if (userPermissions.contains(broaderPermission)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return permissionMatcher.compile(userPermissions).matches(requiredPermission);
     }
 
     /**
@@ -177,12 +151,7 @@ public class PermissionMappingService {
      * @return true if any permission is granted
      */
     public boolean hasAnyPermission(Set<String> userPermissions, String... requiredPermissions) {
-        for (String permission : requiredPermissions) {
-            if (hasPermission(userPermissions, permission)) {
-                return true;
-            }
-        }
-        return false;
+        return permissionMatcher.compile(userPermissions).matchesAny(requiredPermissions);
     }
 
     /**
@@ -193,12 +162,18 @@ public class PermissionMappingService {
      * @return true if all permissions are granted
      */
     public boolean hasAllPermissions(Set<String> userPermissions, String... requiredPermissions) {
-        for (String permission : requiredPermissions) {
-            if (!hasPermission(userPermissions, permission)) {
-                return false;
-            }
-        }
-        return true;
+        return permissionMatcher.compile(userPermissions).matchesAll(requiredPermissions);
+    }
+
+    /**
+     * Compile user permissions once for callers that evaluate many requirements against the same set,
+     * such as menu filtering.
+     *
+     * @param userPermissions Set of user's permissions
+     * @return compiled permissions (cached per immutable set instance)
+     */
+    public CompiledPermissions compile(Set<String> userPermissions) {
+        return permissionMatcher.compile(userPermissions);
     }
 
     /**
@@ -208,8 +183,8 @@ public class PermissionMappingService {
      * @return Scope string or null if not scoped
      */
     public String getPermissionScope(String permission) {
-        String[] parts = permission.split(":");
-        return parts.length >= 3 ? parts[2] : null;
+        int start = scopeStart(permission);
+        return start < 0 ? null : permission.substring(start, scopeEnd(permission, start));
     }
 
     /**
@@ -220,6 +195,32 @@ public class PermissionMappingService {
      * @return true if permission has the specified scope
      */
     public boolean hasScope(String permission, String scope) {
-        return scope.equals(getPermissionScope(permission));
+        int start = scopeStart(permission);
+        return start >= 0
+            && scopeEnd(permission, start) - start == scope.length()
+            && permission.startsWith(scope, start);
+    }
+
+    /**
+     * Start index of the third segment, or -1 when the permission is not scoped.
+     * Mirrors {@code split(":")}, which drops trailing empty segments.
+     */
+    private static int scopeStart(String permission) {
+        int first = permission.indexOf(':');
+        int second = first < 0 ? -1 : permission.indexOf(':', first + 1);
+        if (second < 0) {
+            return -1;
+        }
+        for (int i = second + 1; i < permission.length(); i++) {
+            if (permission.charAt(i) != ':') {
+                return second + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int scopeEnd(String permission, int start) {
+        int end = permission.indexOf(':', start);
+        return end < 0 ? permission.length() : end;
     }
 }
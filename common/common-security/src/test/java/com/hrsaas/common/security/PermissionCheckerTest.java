@@ -1,6 +1,8 @@
 package com.hrsaas.common.security;
 
 import com.hrsaas.common.core.exception.ForbiddenException;
+import com.hrsaas.common.security.scope.EmployeeAffiliationCache;
+import com.hrsaas.common.security.scope.EmployeeScopeResolver;
 import com.hrsaas.common.security.service.PermissionMappingService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +25,8 @@ class PermissionCheckerTest {
     @BeforeEach
     void setUp() {
         permissionMappingService = new PermissionMappingService();
-        permissionChecker = new PermissionChecker(permissionMappingService, null);
+        permissionChecker = new PermissionChecker(permissionMappingService, new EmployeeScopeResolver(
+            permissionMappingService, null, new EmployeeAffiliationCache(null, 60_000, 1_000)));
     }
 
     @AfterEach
@@ -1,9 +1,14 @@
 package com.hrsaas.common.security.jwt;
 
+import com.hrsaas.common.security.UserContext;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.WeakKeyException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -15,7 +20,7 @@ class JwtTokenProviderTest {
     @Test
     @DisplayName("Constructor initializes with valid secret")
     void constructor_withValidSecret_success() {
-        JwtTokenProvider provider = new JwtTokenProvider(VALID_SECRET, 1800, 604800);
+        JwtTokenProvider provider = new JwtTokenProvider(VALID_SECRET, 1800, 604800, 100);
         assertThat(provider).isNotNull();
         assertThat(provider.getAccessTokenExpiry()).isEqualTo(1800);
         assertThat(provider.getRefreshTokenExpiry()).isEqualTo(604800);
@@ -26,26 +31,80 @@ class JwtTokenProviderTest {
     void constructor_withShortSecret_throwsException() {
         // JJWT hmacShaKeyFor throws WeakKeyException if key is not strong enough for HS256 (32 bytes = 256 bits)
         // "short-secret" is 12 bytes = 96 bits
-        assertThatThrownBy(() -> new JwtTokenProvider(SHORT_SECRET, 1800, 604800))
+        assertThatThrownBy(() -> new JwtTokenProvider(SHORT_SECRET, 1800, 604800, 100))
                 .isInstanceOf(WeakKeyException.class);
     }
 
     @Test
     @DisplayName("Constructor fails with null secret")
     void constructor_withNullSecret_throwsException() {
-        assertThatThrownBy(() -> new JwtTokenProvider(null, 1800, 604800))
+        assertThatThrownBy(() -> new JwtTokenProvider(null, 1800, 604800, 100))
                 .isInstanceOf(NullPointerException.class);
     }
 
     @Test
     @DisplayName("Constructor fails with non-positive expiry")
     void constructor_withInvalidExpiry_throwsException() {
-        assertThatThrownBy(() -> new JwtTokenProvider(VALID_SECRET, 0, 604800))
+        assertThatThrownBy(() -> new JwtTokenProvider(VALID_SECRET, 0, 604800, 100))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Access token expiry must be positive");
 
-        assertThatThrownBy(() -> new JwtTokenProvider(VALID_SECRET, 1800, -1))
+        assertThatThrownBy(() -> new JwtTokenProvider(VALID_SECRET, 1800, -1, 100))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Refresh token expiry must be positive");
     }
+
+    @Test
+    @DisplayName("verify serves a repeated token from cache with a separate context per call")
+    void verify_repeatedToken_servedFromCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(VALID_SECRET, 1800, 604800, 100);
+        UUID tenantId = UUID.randomUUID();
+        String token = provider.generateAccessToken(UserContext.builder()
+                .userId(UUID.randomUUID())
+                .tenantId(tenantId)
+                .roles(Set.of("HR_MANAGER"))
+                .permissions(Set.of("employee:read"))
+                .build());
+
+        VerifiedToken first = provider.verify(token);
+        VerifiedToken second = provider.verify(token);
+
+        assertThat(second.context()).isNotSameAs(first.context()).isEqualTo(first.context());
+        assertThat(second.authorities()).isSameAs(first.authorities());
+        assertThat(first.context().getTenantId()).isEqualTo(tenantId);
+        assertThat(first.authorities()).extracting(Object::toString).containsExactly("ROLE_HR_MANAGER");
+        assertThat(first.expiresAt()).isGreaterThan(System.currentTimeMillis());
+        assertThatThrownBy(() -> first.context().getRoles().add("SUPER_ADMIN"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("verify does not leak a caller's changes to the context into later requests")
+    void verify_mutatedContext_notShared() {
+        JwtTokenProvider provider = new JwtTokenProvider(VALID_SECRET, 1800, 604800, 100);
+        UUID tenantId = UUID.randomUUID();
+        String token = provider.generateAccessToken(UserContext.builder()
+                .userId(UUID.randomUUID())
+                .tenantId(tenantId)
+                .build());
+
+        provider.verify(token).context().setTenantId(UUID.randomUUID());
+
+        assertThat(provider.verify(token).context().getTenantId()).isEqualTo(tenantId);
+    }
+
+    @Test
+    @DisplayName("verify rejects a tampered token even when the original is cached")
+    void verify_tamperedToken_throws() {
+        JwtTokenProvider provider = new JwtTokenProvider(VALID_SECRET, 1800, 604800, 100);
+        String token = provider.generateAccessToken(UserContext.builder().userId(UUID.randomUUID()).build());
+        provider.verify(token);
+
+        int signature = token.lastIndexOf('.') + 1;
+        String tampered = token.substring(0, signature)
+                + (token.charAt(signature) == 'A' ? 'B' : 'A')
+                + token.substring(signature + 1);
+
+        assertThatThrownBy(() -> provider.verify(tampered)).isInstanceOf(JwtException.class);
+    }
 }
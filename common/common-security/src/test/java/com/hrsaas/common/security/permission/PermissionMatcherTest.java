@@ -0,0 +1,133 @@
+package com.hrsaas.common.security.permission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PermissionMatcher Tests")
+class PermissionMatcherTest {
+
+    private static final String[] RESOURCES = {"employee", "attendance", "approval", "*", ""};
+    private static final String[] ACTIONS = {"read", "write", "approve", "*", ""};
+    private static final String[] SCOPES = {"self", "team", "department", ""};
+
+    private PermissionMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new PermissionMatcher(100);
+    }
+
+    @Test
+    @DisplayName("컴파일된 권한 매칭 결과가 기존 문자열 분리 방식과 동일")
+    void matches_equivalentToSplitMatching() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Set<String> grants = new HashSet<>();
+            int grantCount = random.nextInt(6);
+            for (int j = 0; j < grantCount; j++) {
+                grants.add(randomPermission(random));
+            }
+            // "*" 는 전역 와일드카드로 별도 검증
+            grants.remove("*");
+            Set<String> immutableGrants = PermissionSet.of(grants);
+
+            for (int k = 0; k < 20; k++) {
+                String required = randomPermission(random);
+                assertThat(matcher.compile(immutableGrants).matches(required))
+                    .as("grants=%s, required=%s", grants, required)
+                    .isEqualTo(legacyHasPermission(grants, required));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("PermissionSet은 한 번만 컴파일하고 재사용")
+    void compile_permissionSet_cachedByIdentity() {
+        Set<String> grants = PermissionSet.of(Set.of("employee:read", "attendance:*"));
+
+        CompiledPermissions first = matcher.compile(grants);
+
+        assertThat(matcher.compile(grants)).isSameAs(first);
+        assertThat(matcher.compile(PermissionSet.of(new HashSet<>(grants)))).isNotSameAs(first);
+
+        Set<String> plain = Set.of("employee:read", "attendance:*");
+        assertThat(matcher.compile(plain)).isNotSameAs(matcher.compile(plain));
+    }
+
+    @Test
+    @DisplayName("가변 권한 집합은 호출마다 컴파일해 변경 사항 반영")
+    void compile_mutableSet_notCached() {
+        Set<String> grants = new HashSet<>(Set.of("employee:read"));
+        assertThat(matcher.compile(grants).matches("attendance:read")).isFalse();
+
+        grants.add("attendance:read");
+
+        assertThat(matcher.compile(grants).matches("attendance:read")).isTrue();
+    }
+
+    @Test
+    @DisplayName("전역 와일드카드(*, *:*)는 모든 권한 허용")
+    void compile_globalWildcards_grantAll() {
+        assertThat(matcher.compile(Set.of("*")).matches("employee:read:department")).isTrue();
+        assertThat(matcher.compile(Set.of("*:*")).isAll()).isTrue();
+        assertThat(matcher.compile(Set.of("employee:*")).isAll()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 문자열은 카탈로그에 한 번만 등록")
+    void catalog_internsDistinctStrings() {
+        matcher.compile(Set.of("employee:read", "employee:*")).matches("employee:read:team");
+        matcher.compile(Set.of("employee:read")).matches("employee:read:team");
+
+        // employee:read, employee:*, employee:read:team
+        assertThat(matcher.catalogSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("빈 권한이나 null 요청은 거부")
+    void matches_emptyGrantsOrNullRequired_returnsFalse() {
+        assertThat(matcher.compile(null).matches("employee:read")).isFalse();
+        assertThat(matcher.compile(Set.of()).matchesAny("employee:read")).isFalse();
+        assertThat(matcher.compile(Set.of("employee:read")).matches(null)).isFalse();
+    }
+
+    private static String randomPermission(Random random) {
+        String resource = RESOURCES[random.nextInt(RESOURCES.length)];
+        String action = ACTIONS[random.nextInt(ACTIONS.length)];
+        return switch (random.nextInt(4)) {
+            case 0 -> resource;
+            case 1 -> resource + ":" + action;
+            case 2 -> resource + ":" + action + ":" + SCOPES[random.nextInt(SCOPES.length)];
+            default -> resource + ":" + action + ":" + SCOPES[random.nextInt(SCOPES.length)] + ":x";
+        };
+    }
+
+    /**
+     * 기존 PermissionMappingService.hasPermission 방식
+     */
+    private static boolean legacyHasPermission(Set<String> userPermissions, String requiredPermission) {
+        if (userPermissions.isEmpty()) {
+            return false;
+        }
+        if (userPermissions.contains("*:*") || userPermissions.contains(requiredPermission)) {
+            return true;
+        }
+        String[] parts = requiredPermission.split(":");
+        if (parts.length >= 2) {
+            if (userPermissions.contains(parts[0] + ":*")) {
+                return true;
+            }
+            if (parts.length == 3) {
+                return userPermissions.contains(parts[0] + ":" + parts[1]);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,211 @@
+package com.hrsaas.common.security.revocation;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    private static final String SECRET = "hr-saas-secret-key-for-jwt-token-signing-minimum-256-bits-required-for-test";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private final MutableClock clock = new MutableClock(System.currentTimeMillis());
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800, 100);
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TokenRevocationService(redisTemplate, jwtTokenProvider, meterRegistry, clock, 10_000);
+    }
+
+    @Test
+    @DisplayName("revoke: 로컬 목록에 즉시 반영하고 sorted set 기록 후 pub/sub 전파")
+    void revoke_recordsAndPublishes() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        String token = accessToken();
+        String other = accessToken();
+
+        service.revoke(token);
+
+        assertThat(service.isRevoked(token)).isTrue();
+        assertThat(service.isRevoked(other)).isFalse();
+        String digest = TokenRevocationList.digest(token);
+        verify(zSetOperations).add(eq(TokenRevocationService.LOG_KEY), startsWith(digest + ":"), eq((double) clock.millis()));
+        verify(zSetOperations).removeRangeByScore(TokenRevocationService.LOG_KEY, 0, clock.millis() - 1_800_000L);
+        verify(redisTemplate).convertAndSend(eq(TokenRevocationService.CHANNEL), contains(digest));
+    }
+
+    @Test
+    @DisplayName("revoke: 리프레시 토큰과 이미 무효한 토큰은 전파하지 않음")
+    void revoke_ignoresRefreshAndInvalidTokens() {
+        service.revoke(jwtTokenProvider.generateRefreshToken(UUID.randomUUID()));
+        service.revoke("not-a-jwt");
+
+        verifyNoInteractions(redisTemplate);
+        assertThat(service.localSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("onMessage: 다른 노드의 폐기를 요청당 Redis 조회 없이 반영하고 지연을 기록")
+    void onMessage_appliesRemoteRevocation() {
+        String token = accessToken();
+        long revokedAt = clock.millis();
+        clock.advance(40);
+
+        service.onMessage(message(new TokenRevocationMessage(
+            TokenRevocationList.digest(token), clock.millis() + 60_000, revokedAt)), null);
+
+        assertThat(service.isRevoked(token)).isTrue();
+        var lag = meterRegistry.get("security.token.revocation.lag").tag("source", "pubsub").timer();
+        assertThat(lag.count()).isEqualTo(1);
+        assertThat(lag.max(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("sync: 유실된 pub/sub 메시지를 sorted set에서 보충하고 워터마크 이후만 다시 조회")
+    void sync_catchesUpFromLog() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        String token = accessToken();
+        long revokedAt = clock.millis();
+        String member = TokenRevocationList.digest(token) + ":" + (revokedAt + 600_000);
+        when(zSetOperations.rangeByScoreWithScores(TokenRevocationService.LOG_KEY, 0, Double.POSITIVE_INFINITY))
+            .thenReturn(Set.of());
+
+        service.sync();
+        assertThat(meterRegistry.get("security.token.revocation.staleness").gauge().value()).isZero();
+
+        when(zSetOperations.rangeByScoreWithScores(TokenRevocationService.LOG_KEY, 0, Double.POSITIVE_INFINITY))
+            .thenReturn(Set.of(new DefaultTypedTuple<>(member, (double) revokedAt)));
+        clock.advance(2_000);
+        service.sync();
+
+        assertThat(service.isRevoked(token)).isTrue();
+        assertThat(meterRegistry.get("security.token.revocation.lag").tag("source", "sync").timer().count())
+            .isEqualTo(1);
+
+        when(zSetOperations.rangeByScoreWithScores(
+            TokenRevocationService.LOG_KEY, revokedAt - 10_000, Double.POSITIVE_INFINITY)).thenReturn(Set.of());
+        service.sync();
+        verify(zSetOperations).rangeByScoreWithScores(
+            TokenRevocationService.LOG_KEY, revokedAt - 10_000, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("start: 요청을 받기 전에 보관된 폐기 목록을 모두 적재")
+    void start_loadsRetainedRevocations() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        String token = accessToken();
+        long revokedAt = clock.millis();
+        String member = TokenRevocationList.digest(token) + ":" + (revokedAt + 600_000);
+        when(zSetOperations.rangeByScoreWithScores(TokenRevocationService.LOG_KEY, 0, Double.POSITIVE_INFINITY))
+            .thenReturn(Set.of(new DefaultTypedTuple<>(member, (double) revokedAt)));
+
+        try {
+            service.start(60_000);
+
+            assertThat(service.isRevoked(token)).isTrue();
+            assertThat(meterRegistry.get("security.token.revocation.staleness").gauge().value()).isZero();
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("sync: 만료된 토큰은 버킷 단위로 제거")
+    void sync_purgesExpiredTokens() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of());
+        String token = accessToken();
+        service.onMessage(message(new TokenRevocationMessage(
+            TokenRevocationList.digest(token), clock.millis() + 1_000, clock.millis())), null);
+
+        clock.advance(1_000);
+        assertThat(service.isRevoked(token)).isFalse();
+
+        clock.advance(120_000);
+        service.sync();
+
+        assertThat(service.localSize()).isZero();
+    }
+
+    private String accessToken() {
+        return jwtTokenProvider.generateAccessToken(UserContext.builder()
+            .userId(UUID.randomUUID())
+            .tenantId(UUID.randomUUID())
+            .build());
+    }
+
+    private static DefaultMessage message(TokenRevocationMessage revocation) {
+        return new DefaultMessage(
+            TokenRevocationService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            JsonUtils.toJson(revocation).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.hrsaas.common.security.scope;
+
+import com.hrsaas.common.security.SecurityContextHolder;
+import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.security.client.EmployeeServiceClient;
+import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
+import com.hrsaas.common.security.service.PermissionMappingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeScopeResolver Tests")
+class EmployeeScopeResolverTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID DEPARTMENT_ID = UUID.randomUUID();
+
+    @Mock
+    private EmployeeServiceClient employeeServiceClient;
+
+    private EmployeeAffiliationCache affiliationCache;
+    private EmployeeScopeResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        PermissionMappingService permissionMappingService = new PermissionMappingService();
+        affiliationCache = new EmployeeAffiliationCache(null, 60_000, 1_000);
+        resolver = new EmployeeScopeResolver(permissionMappingService, employeeServiceClient, affiliationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("부서 스코프 - 직원 수와 관계없이 소속 조회 1회로 같은 부서 직원만 반환")
+    void filterAccessible_departmentScope_singleBulkLookup() {
+        setUpUser(UUID.randomUUID(), Set.of("employee:read:department"));
+        List<UUID> ids = new ArrayList<>();
+        Map<UUID, EmployeeAffiliationDto> affiliations = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            affiliations.put(id, new EmployeeAffiliationDto(i % 2 == 0 ? DEPARTMENT_ID : UUID.randomUUID(), null));
+        }
+        when(employeeServiceClient.getAffiliations(any())).thenReturn(affiliations);
+
+        Set<UUID> accessible = resolver.filterAccessible("employee:read", ids);
+
+        assertThat(accessible).hasSize(100)
+            .allMatch(id -> affiliations.get(id).departmentId().equals(DEPARTMENT_ID));
+        assertThat(accessible).containsSubsequence(ids.get(0), ids.get(2), ids.get(4));
+        verify(employeeServiceClient, times(1)).getAffiliations(any());
+        verify(employeeServiceClient, never()).getAffiliation(any());
+    }
+
+    @Test
+    @DisplayName("요청 메모 - 같은 요청 안에서는 조회되지 않은 직원도 다시 조회하지 않음")
+    void getAffiliations_requestMemo_avoidsRepeatLookups() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        setUpUser(UUID.randomUUID(), Set.of("employee:read:department"));
+        UUID sameDepartment = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(employeeServiceClient.getAffiliations(Set.of(sameDepartment, missing)))
+            .thenReturn(Map.of(sameDepartment, new EmployeeAffiliationDto(DEPARTMENT_ID, null)));
+
+        resolver.filterAccessible("employee:read", List.of(sameDepartment, missing));
+        Set<UUID> second = resolver.filterAccessible("employee:read", List.of(sameDepartment, missing));
+
+        assertThat(second).containsExactly(sameDepartment);
+        assertThat(resolver.getAffiliation(missing)).isNull();
+        verify(employeeServiceClient, times(1)).getAffiliations(any());
+    }
+
+    @Test
+    @DisplayName("공유 캐시 - 요청이 달라도 캐시된 소속을 재사용하고 무효화 후에는 다시 조회")
+    void getAffiliations_sharedCache_untilEvicted() {
+        setUpUser(UUID.randomUUID(), Set.of("employee:read:department"));
+        UUID employeeId = UUID.randomUUID();
+        when(employeeServiceClient.getAffiliations(Set.of(employeeId)))
+            .thenReturn(Map.of(employeeId, new EmployeeAffiliationDto(DEPARTMENT_ID, null)))
+            .thenReturn(Map.of(employeeId, new EmployeeAffiliationDto(UUID.randomUUID(), null)));
+
+        assertThat(resolver.filterAccessible("employee:read", List.of(employeeId))).containsExactly(employeeId);
+        assertThat(resolver.filterAccessible("employee:read", List.of(employeeId))).containsExactly(employeeId);
+
+        affiliationCache.evict(TENANT_ID, List.of(employeeId));
+
+        assertThat(resolver.filterAccessible("employee:read", List.of(employeeId))).isEmpty();
+        verify(employeeServiceClient, times(2)).getAffiliations(any());
+    }
+
+    @Test
+    @DisplayName("전체/본인 스코프 - 소속 조회 없이 판단")
+    void filterAccessible_unscopedAndSelf_noLookup() {
+        UUID self = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+
+        setUpUser(self, Set.of("employee:read"));
+        assertThat(resolver.filterAccessible("employee:read", List.of(self, other))).containsExactly(self, other);
+
+        setUpUser(self, Set.of("employee:read:self"));
+        assertThat(resolver.filterAccessible("employee:read", List.of(self, other))).containsExactly(self);
+
+        setUpUser(self, Set.of("attendance:read"));
+        assertThat(resolver.filterAccessible("employee:read", List.of(self, other))).isEmpty();
+
+        verifyNoInteractions(employeeServiceClient);
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 부서 스코프 직원은 모두 제외하고 캐시하지 않음")
+    void filterAccessible_lookupFailure_deniesWithoutCaching() {
+        setUpUser(UUID.randomUUID(), Set.of("employee:read:department"));
+        UUID employeeId = UUID.randomUUID();
+        when(employeeServiceClient.getAffiliations(any())).thenThrow(new IllegalStateException("down"));
+
+        assertThat(resolver.filterAccessible("employee:read", List.of(employeeId))).isEmpty();
+        assertThat(affiliationCache.size()).isZero();
+    }
+
+    private void setUpUser(UUID employeeId, Set<String> permissions) {
+        SecurityContextHolder.setContext(UserContext.builder()
+            .userId(UUID.randomUUID())
+            .tenantId(TENANT_ID)
+            .employeeId(employeeId)
+            .departmentId(DEPARTMENT_ID)
+            .roles(Set.of())
+            .permissions(permissions)
+            .build());
+    }
+}
@@ -108,6 +108,15 @@ class PermissionMappingServiceTest {
             assertThat(service.hasPermission(permissions, "any:permission")).isTrue();
         }
 
+        @Test
+        @DisplayName("전역 와일드카드(*) 권한도 모든 권한 허용")
+        void hasPermission_globalWildcard_grantsAll() {
+            Set<String> permissions = Set.of("*");
+
+            assertThat(service.hasPermission(permissions, "employee:read:department")).isTrue();
+            assertThat(service.hasAllPermissions(permissions, "employee:write", "audit:read")).isTrue();
+        }
+
         @Test
         @DisplayName("리소스 와일드카드(employee:*)는 해당 리소스 모든 액션 허용")
         void hasPermission_resourceWildcard_grantsAllActions() {
@@ -218,6 +227,13 @@ class PermissionMappingServiceTest {
         void getPermissionScope_unscopedPermission_returnsNull() {
             assertThat(service.getPermissionScope("employee:read")).isNull();
             assertThat(service.getPermissionScope("*:*")).isNull();
+            assertThat(service.getPermissionScope("employee:read:")).isNull();
+        }
+
+        @Test
+        @DisplayName("스코프 뒤에 추가 구분이 있어도 세 번째 항목만 반환")
+        void getPermissionScope_extraSegments_returnsThirdSegment() {
+            assertThat(service.getPermissionScope("employee:read:team:extra")).isEqualTo("team");
         }
     }
 
@@ -235,6 +251,7 @@ class PermissionMappingServiceTest {
         @DisplayName("권한에 다른 스코프가 있으면 false")
         void hasScope_differentScope_returnsFalse() {
             assertThat(service.hasScope("employee:read:department", "self")).isFalse();
+            assertThat(service.hasScope("employee:read:selfish", "self")).isFalse();
         }
 
         @Test
@@ -0,0 +1,25 @@
+package com.hrsaas.common.tenant.job;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local checkpoint store, used when the service does not provide a persistent one.
+ * Checkpoints survive a retried run in the same process but not a restart.
+ */
+public class InMemoryTenantJobCheckpointStore implements TenantJobCheckpointStore {
+
+    private final Map<String, Map<UUID, TenantJobCheckpoint>> runs = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<UUID, TenantJobCheckpoint> load(String jobName, String runKey) {
+        return Map.copyOf(runs.getOrDefault(jobName + ':' + runKey, Map.of()));
+    }
+
+    @Override
+    public void save(String jobName, String runKey, TenantJobCheckpoint checkpoint) {
+        runs.computeIfAbsent(jobName + ':' + runKey, k -> new ConcurrentHashMap<>())
+            .put(checkpoint.tenantId(), checkpoint);
+    }
+}
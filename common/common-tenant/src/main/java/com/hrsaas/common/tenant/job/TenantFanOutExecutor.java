@@ -0,0 +1,178 @@
+package com.hrsaas.common.tenant.job;
+
+import com.hrsaas.common.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a scheduled job for many tenants with bounded parallelism.
+ * <p>
+ * Each tenant runs on a worker thread with {@link TenantContext} bound to it and cleared afterwards.
+ * Tenants completed by an earlier attempt of the same run (job name + run key) are skipped, and
+ * a tenant that stopped midway gets its last chunk cursor back through {@link TenantJobContext}.
+ * A failing tenant is logged and recorded as FAILED without affecting the others.
+ * <p>
+ * Services persist checkpoints by declaring a {@link TenantJobCheckpointStore} bean; otherwise
+ * checkpoints are kept in memory.
+ */
+@Slf4j
+@Component
+public class TenantFanOutExecutor {
+
+    private final TenantJobCheckpointStore checkpointStore;
+    private final TenantFanOutMetrics metrics;
+    private final int parallelism;
+
+    @Autowired
+    public TenantFanOutExecutor(ObjectProvider<TenantJobCheckpointStore> checkpointStore,
+                                ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${app.tenant-jobs.parallelism:4}") int parallelism) {
+        this(checkpointStore.getIfAvailable(InMemoryTenantJobCheckpointStore::new),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+            parallelism);
+    }
+
+    public TenantFanOutExecutor(TenantJobCheckpointStore checkpointStore, MeterRegistry meterRegistry,
+                                int parallelism) {
+        this.checkpointStore = checkpointStore;
+        this.metrics = new TenantFanOutMetrics(meterRegistry);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Runs {@code job} for every tenant and blocks until all of them have finished.
+     *
+     * @param jobName   stable job identifier, used for checkpoints, metrics and thread names
+     * @param runKey    identifies one logical run (e.g. the target year); a new key starts from scratch
+     * @param tenantIds tenants to process
+     */
+    public TenantFanOutResult execute(String jobName, String runKey, Collection<UUID> tenantIds, TenantJob job) {
+        Map<UUID, TenantJobCheckpoint> previous = checkpointStore.load(jobName, runKey);
+        List<UUID> pending = new ArrayList<>(tenantIds.size());
+        for (UUID tenantId : tenantIds) {
+            TenantJobCheckpoint checkpoint = previous.get(tenantId);
+            if (checkpoint == null || !checkpoint.isCompleted()) {
+                pending.add(tenantId);
+            }
+        }
+        int skipped = tenantIds.size() - pending.size();
+        metrics.tenantsSkipped(jobName, skipped);
+        if (pending.isEmpty()) {
+            log.info("Tenant job {} [{}]: nothing to do, {} tenants already completed", jobName, runKey, skipped);
+            return new TenantFanOutResult(0, skipped, List.of(), 0);
+        }
+
+        log.info("Tenant job {} [{}] started: tenants={}, resumed={}, skipped={}, parallelism={}",
+            jobName, runKey, pending.size(), pending.stream().filter(previous::containsKey).count(),
+            skipped, parallelism);
+
+        AtomicInteger remaining = metrics.pending(jobName);
+        remaining.set(pending.size());
+        ExecutorService pool = Executors.newFixedThreadPool(
+            Math.min(parallelism, pending.size()), threadFactory(jobName));
+
+        List<Future<TenantJobContext>> futures = new ArrayList<>(pending.size());
+        for (UUID tenantId : pending) {
+            TenantJobContext context = new TenantJobContext(
+                jobName, runKey, tenantId, previous.get(tenantId), checkpointStore, metrics);
+            futures.add(pool.submit(() -> runTenant(jobName, job, context, remaining)));
+        }
+
+        int completed = 0;
+        long processed = 0;
+        List<UUID> failed = new ArrayList<>();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    TenantJobContext context = futures.get(i).get();
+                    if (context != null) {
+                        completed++;
+                        processed += context.processed();
+                    } else {
+                        failed.add(pending.get(i));
+                    }
+                } catch (ExecutionException e) {
+                    failed.add(pending.get(i));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+            log.warn("Tenant job {} [{}] interrupted; unfinished tenants resume on the next attempt", jobName, runKey);
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("Tenant job {} [{}] finished: completed={}, failed={}, skipped={}, items={}",
+            jobName, runKey, completed, failed.size(), skipped, processed);
+        return new TenantFanOutResult(completed, skipped, List.copyOf(failed), processed);
+    }
+
+    /**
+     * Tenants touched by the run that did not complete (FAILED, or left RUNNING by a crash).
+     * Passing them back to {@link #execute} retries only those tenants.
+     */
+    public List<UUID> unfinishedTenants(String jobName, String runKey) {
+        return checkpointStore.load(jobName, runKey).values().stream()
+            .filter(checkpoint -> !checkpoint.isCompleted())
+            .map(TenantJobCheckpoint::tenantId)
+            .toList();
+    }
+
+    /**
+     * @return the context when the tenant completed, {@code null} when it failed
+     */
+    private TenantJobContext runTenant(String jobName, TenantJob job, TenantJobContext context,
+                                       AtomicInteger remaining) {
+        UUID tenantId = context.tenantId();
+        long start = System.nanoTime();
+        TenantContext.setCurrentTenant(tenantId);
+        try {
+            checkpointStore.save(jobName, context.runKey(), context.snapshot(TenantJobCheckpoint.Status.RUNNING));
+            job.run(context);
+            checkpointStore.save(jobName, context.runKey(), context.snapshot(TenantJobCheckpoint.Status.COMPLETED));
+            metrics.tenantFinished(jobName, "completed", System.nanoTime() - start);
+            log.debug("Tenant job {} completed for tenant={}: items={}", jobName, tenantId, context.processed());
+            return context;
+        } catch (Exception e) {
+            log.error("Tenant job {} failed for tenant={} after {} items: {}",
+                jobName, tenantId, context.processed(), e.getMessage(), e);
+            try {
+                checkpointStore.save(jobName, context.runKey(), context.snapshot(TenantJobCheckpoint.Status.FAILED));
+            } catch (Exception saveFailure) {
+                log.warn("Failed to record failed checkpoint: job={}, tenant={}", jobName, tenantId, saveFailure);
+            }
+            metrics.tenantFinished(jobName, "failed", System.nanoTime() - start);
+            return null;
+        } finally {
+            TenantContext.clear();
+            remaining.decrementAndGet();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String jobName) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "tenant-job-" + jobName + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.hrsaas.common.tenant.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress meters of tenant fan-out jobs, tagged by job name only (tenant IDs would explode
+ * cardinality; per-tenant progress lives in the checkpoint store).
+ * <ul>
+ *   <li>{@code tenant.job.tenants} — tenants finished, tagged outcome=completed|failed|skipped</li>
+ *   <li>{@code tenant.job.tenant.duration} — time spent on one tenant, tagged outcome</li>
+ *   <li>{@code tenant.job.items} — items processed across chunks</li>
+ *   <li>{@code tenant.job.tenants.pending} — tenants not yet finished in the current run</li>
+ * </ul>
+ */
+class TenantFanOutMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+
+    TenantFanOutMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    AtomicInteger pending(String jobName) {
+        return pending.computeIfAbsent(jobName, name ->
+            registry.gauge("tenant.job.tenants.pending", Tags.of("job", name), new AtomicInteger()));
+    }
+
+    void tenantFinished(String jobName, String outcome, long elapsedNanos) {
+        tenants(jobName, outcome).increment();
+        Timer.builder("tenant.job.tenant.duration")
+            .tags("job", jobName, "outcome", outcome)
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void tenantsSkipped(String jobName, int count) {
+        if (count > 0) {
+            tenants(jobName, "skipped").increment(count);
+        }
+    }
+
+    void itemsProcessed(String jobName, int count) {
+        Counter.builder("tenant.job.items")
+            .tag("job", jobName)
+            .register(registry)
+            .increment(count);
+    }
+
+    private Counter tenants(String jobName, String outcome) {
+        return Counter.builder("tenant.job.tenants")
+            .tags("job", jobName, "outcome", outcome)
+            .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hrsaas.common.tenant.job;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one {@link TenantFanOutExecutor#execute} call.
+ *
+ * @param completed     tenants finished in this call
+ * @param skipped       tenants already completed by an earlier attempt of the same run
+ * @param failedTenants tenants whose job threw; they are retried by the next attempt
+ * @param processed     items processed in this call
+ */
+public record TenantFanOutResult(int completed, int skipped, List<UUID> failedTenants, long processed) {
+
+    public boolean hasFailures() {
+        return !failedTenants.isEmpty();
+    }
+}
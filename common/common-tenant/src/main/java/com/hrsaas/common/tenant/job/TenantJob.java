@@ -0,0 +1,11 @@
+package com.hrsaas.common.tenant.job;
+
+/**
+ * Work done for a single tenant by {@link TenantFanOutExecutor}.
+ * Runs with {@code TenantContext} already bound to {@link TenantJobContext#tenantId()}.
+ */
+@FunctionalInterface
+public interface TenantJob {
+
+    void run(TenantJobContext context) throws Exception;
+}
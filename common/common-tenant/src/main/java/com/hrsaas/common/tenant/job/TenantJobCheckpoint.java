@@ -0,0 +1,20 @@
+package com.hrsaas.common.tenant.job;
+
+import java.util.UUID;
+
+/**
+ * Progress of one tenant within one run of a tenant fan-out job.
+ *
+ * @param tenantId  tenant
+ * @param status    RUNNING, COMPLETED or FAILED
+ * @param cursor    job-defined resume position (e.g. last processed employee ID), null before the first chunk
+ * @param processed items processed so far in this run
+ */
+public record TenantJobCheckpoint(UUID tenantId, Status status, String cursor, long processed) {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+}
@@ -0,0 +1,18 @@
+package com.hrsaas.common.tenant.job;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists per-tenant checkpoints of fan-out jobs so that a crashed or redeployed run
+ * resumes where it stopped. A run is identified by job name + run key (e.g. "leave-accrual-yearly", "2026").
+ */
+public interface TenantJobCheckpointStore {
+
+    /**
+     * Checkpoints of every tenant already touched by the run, keyed by tenant ID.
+     */
+    Map<UUID, TenantJobCheckpoint> load(String jobName, String runKey);
+
+    void save(String jobName, String runKey, TenantJobCheckpoint checkpoint);
+}
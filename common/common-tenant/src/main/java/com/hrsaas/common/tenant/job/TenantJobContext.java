@@ -0,0 +1,65 @@
+package com.hrsaas.common.tenant.job;
+
+import java.util.UUID;
+
+/**
+ * Per-tenant handle passed to a {@link TenantJob}: exposes the resume cursor of a previous
+ * attempt and records chunk progress.
+ */
+public final class TenantJobContext {
+
+    private final String jobName;
+    private final String runKey;
+    private final UUID tenantId;
+    private final TenantJobCheckpointStore store;
+    private final TenantFanOutMetrics metrics;
+    private String cursor;
+    private long processed;
+
+    TenantJobContext(String jobName, String runKey, UUID tenantId, TenantJobCheckpoint previous,
+                     TenantJobCheckpointStore store, TenantFanOutMetrics metrics) {
+        this.jobName = jobName;
+        this.runKey = runKey;
+        this.tenantId = tenantId;
+        this.store = store;
+        this.metrics = metrics;
+        this.cursor = previous != null ? previous.cursor() : null;
+        this.processed = previous != null ? previous.processed() : 0;
+    }
+
+    public UUID tenantId() {
+        return tenantId;
+    }
+
+    public String runKey() {
+        return runKey;
+    }
+
+    /**
+     * Cursor saved by the last completed chunk of an earlier attempt, or null to start from the beginning.
+     */
+    public String resumeCursor() {
+        return cursor;
+    }
+
+    public long processed() {
+        return processed;
+    }
+
+    /**
+     * Records a finished chunk. Call after the chunk's transaction has committed.
+     *
+     * @param newCursor     position to resume after if the run stops now
+     * @param chunkItems    items processed by the chunk
+     */
+    public void checkpoint(String newCursor, int chunkItems) {
+        this.cursor = newCursor;
+        this.processed += chunkItems;
+        store.save(jobName, runKey, snapshot(TenantJobCheckpoint.Status.RUNNING));
+        metrics.itemsProcessed(jobName, chunkItems);
+    }
+
+    TenantJobCheckpoint snapshot(TenantJobCheckpoint.Status status) {
+        return new TenantJobCheckpoint(tenantId, status, cursor, processed);
+    }
+}
@@ -0,0 +1,114 @@
+package com.hrsaas.common.tenant.job;
+
+import com.hrsaas.common.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TenantFanOutExecutor Tests")
+class TenantFanOutExecutorTest {
+
+    private InMemoryTenantJobCheckpointStore store;
+    private SimpleMeterRegistry registry;
+    private TenantFanOutExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryTenantJobCheckpointStore();
+        registry = new SimpleMeterRegistry();
+        executor = new TenantFanOutExecutor(store, registry, 4);
+    }
+
+    @Test
+    @DisplayName("execute: 각 작업 스레드에 해당 테넌트 컨텍스트를 바인딩")
+    void execute_bindsTenantContextPerWorker() {
+        List<UUID> tenants = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Map<UUID, UUID> seen = new ConcurrentHashMap<>();
+
+        TenantFanOutResult result = executor.execute("test-job", "2026", tenants,
+            context -> seen.put(context.tenantId(), TenantContext.getCurrentTenant()));
+
+        assertThat(result.completed()).isEqualTo(3);
+        assertThat(seen).hasSize(3);
+        seen.forEach((tenantId, bound) -> assertThat(bound).isEqualTo(tenantId));
+        assertThat(TenantContext.getCurrentTenant()).isNull();
+    }
+
+    @Test
+    @DisplayName("execute: 테넌트를 병렬로 처리")
+    void execute_runsTenantsConcurrently() {
+        List<UUID> tenants = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        CountDownLatch allStarted = new CountDownLatch(tenants.size());
+
+        TenantFanOutResult result = executor.execute("test-job", "2026", tenants, context -> {
+            allStarted.countDown();
+            // Completes only if all four tenants are in flight at the same time
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        });
+
+        assertThat(result.completed()).isEqualTo(4);
+        assertThat(result.hasFailures()).isFalse();
+    }
+
+    @Test
+    @DisplayName("execute: 한 테넌트 실패가 다른 테넌트 처리에 영향 없음")
+    void execute_failingTenant_isIsolatedAndRecorded() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+
+        TenantFanOutResult result = executor.execute("test-job", "2026", List.of(failing, healthy), context -> {
+            if (context.tenantId().equals(failing)) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertThat(result.completed()).isEqualTo(1);
+        assertThat(result.failedTenants()).containsExactly(failing);
+        assertThat(store.load("test-job", "2026").get(failing).status())
+            .isEqualTo(TenantJobCheckpoint.Status.FAILED);
+        assertThat(registry.get("tenant.job.tenants").tag("outcome", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("execute: 재실행 시 완료된 테넌트는 건너뛰고 중단된 테넌트는 커서부터 재개")
+    void execute_rerun_skipsCompletedAndResumesFromCursor() {
+        UUID done = UUID.randomUUID();
+        UUID crashed = UUID.randomUUID();
+        AtomicInteger attempt = new AtomicInteger();
+
+        executor.execute("test-job", "2026", List.of(done, crashed), context -> {
+            if (context.tenantId().equals(crashed)) {
+                context.checkpoint("chunk-1", 100);
+                if (attempt.incrementAndGet() == 1) {
+                    throw new IllegalStateException("crash after first chunk");
+                }
+            }
+        });
+
+        Set<UUID> rerun = ConcurrentHashMap.newKeySet();
+        Map<UUID, String> cursors = new ConcurrentHashMap<>();
+        TenantFanOutResult result = executor.execute("test-job", "2026", List.of(done, crashed), context -> {
+            rerun.add(context.tenantId());
+            cursors.put(context.tenantId(), context.resumeCursor());
+            context.checkpoint("chunk-2", 50);
+        });
+
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(rerun).containsExactly(crashed);
+        assertThat(cursors.get(crashed)).isEqualTo("chunk-1");
+        assertThat(store.load("test-job", "2026").get(crashed).processed()).isEqualTo(150);
+        assertThat(store.load("test-job", "2026").get(crashed).isCompleted()).isTrue();
+    }
+}
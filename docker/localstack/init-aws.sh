@@ -6,9 +6,15 @@ export AWS_DEFAULT_REGION=ap-northeast-2
 # SNS Topics
 awslocal sns create-topic --name approval-completed
 awslocal sns create-topic --name approval-submitted
+awslocal sns create-topic --name approval-escalated
 awslocal sns create-topic --name appointment-executed
 awslocal sns create-topic --name employee-affiliation-changed
 awslocal sns create-topic --name employee-created
+awslocal sns create-topic --name employee-updated
+awslocal sns create-topic --name department-created
+awslocal sns create-topic --name department-updated
+awslocal sns create-topic --name department-merged
+awslocal sns create-topic --name department-split
 awslocal sns create-topic --name leave-requested
 awslocal sns create-topic --name notification-send
 awslocal sns create-topic --name hr-saas-recruitment-interview-reminder
@@ -17,8 +23,10 @@ awslocal sns create-topic --name hr-saas-recruitment-interview-reminder
 awslocal sqs create-queue --queue-name attendance-service-queue
 awslocal sqs create-queue --queue-name appointment-service-queue
 awslocal sqs create-queue --queue-name employee-service-queue
+awslocal sqs create-queue --queue-name employee-service-department-queue
 awslocal sqs create-queue --queue-name organization-service-queue
 awslocal sqs create-queue --queue-name notification-service-queue
+awslocal sqs create-queue --queue-name approval-service-queue
 
 # Dead Letter Queues
 awslocal sqs create-queue --queue-name attendance-service-dlq
@@ -26,6 +34,7 @@ awslocal sqs create-queue --queue-name appointment-service-dlq
 awslocal sqs create-queue --queue-name employee-service-dlq
 awslocal sqs create-queue --queue-name organization-service-dlq
 awslocal sqs create-queue --queue-name notification-service-dlq
+awslocal sqs create-queue --queue-name approval-service-dlq
 
 # SNS → SQS Subscriptions
 REGION=ap-northeast-2
@@ -43,13 +52,33 @@ awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:approval-com
 awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:appointment-executed \
   --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:employee-service-queue
 
+# department changes → employee-service (organization name cache invalidation, fanned out over Redis)
+for TOPIC in department-updated department-merged department-split; do
+  awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:${TOPIC} \
+    --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:employee-service-department-queue
+done
+
 # employee-affiliation-changed → organization-service
 awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:employee-affiliation-changed \
   --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:organization-service-queue
 
+# employee/department changes → organization-service (org chart summary refresh)
+for TOPIC in employee-created employee-updated department-created department-updated department-merged department-split; do
+  awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:${TOPIC} \
+    --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:organization-service-queue
+done
+
+# approver changes → approval-service (approver lookup cache invalidation)
+for TOPIC in employee-affiliation-changed department-updated; do
+  awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:${TOPIC} \
+    --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:approval-service-queue
+done
+
 # Notification subscriptions (multiple topics → notification queue)
 awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:approval-submitted \
   --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:notification-service-queue
+awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:approval-escalated \
+  --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:notification-service-queue
 awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:leave-requested \
   --protocol sqs --notification-endpoint arn:aws:sqs:${REGION}:${ACCOUNT}:notification-service-queue
 awslocal sns subscribe --topic-arn arn:aws:sns:${REGION}:${ACCOUNT}:employee-created \
@@ -0,0 +1,97 @@
+package com.hrsaas.approval.benchmark;
+
+import com.hrsaas.approval.config.ApprovalStateMachineConfig;
+import com.hrsaas.approval.config.ApprovalStateMachineFactory;
+import com.hrsaas.approval.domain.entity.ApprovalDocument;
+import com.hrsaas.approval.domain.entity.ApprovalLine;
+import com.hrsaas.approval.domain.entity.ApprovalLineStatus;
+import com.hrsaas.approval.domain.entity.ApprovalStatus;
+import com.hrsaas.approval.statemachine.ApprovalAction;
+import com.hrsaas.approval.statemachine.ApprovalEvent;
+import com.hrsaas.approval.statemachine.ApprovalGuard;
+import com.hrsaas.approval.statemachine.ApprovalTransitionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.statemachine.StateMachine;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one line approval (APPROVE_LINE on an IN_PROGRESS document with three lines):
+ * per-call Spring StateMachine via {@link ApprovalStateMachineFactory} versus the precompiled
+ * {@link ApprovalTransitionTable}. Both paths build the same fresh document per operation.
+ *
+ * Run: ./gradlew :services:approval-service:jmh -Pjmh.includes=ApprovalTransitionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class ApprovalTransitionBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private ApprovalStateMachineFactory stateMachineFactory;
+    private ApprovalTransitionTable transitionTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+            ApprovalStateMachineConfig.class, ApprovalGuard.class, ApprovalAction.class,
+            ApprovalStateMachineFactory.class, ApprovalTransitionTable.class);
+        stateMachineFactory = context.getBean(ApprovalStateMachineFactory.class);
+        transitionTable = context.getBean(ApprovalTransitionTable.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ApprovalStatus stateMachineFactory() {
+        ApprovalDocument document = inProgressDocument();
+        ApprovalLine completedLine = document.getApprovalLines().get(0);
+
+        StateMachine<ApprovalStatus, ApprovalEvent> sm = stateMachineFactory.create(document);
+        sm.getExtendedState().getVariables().put("completedLine", completedLine);
+        stateMachineFactory.sendEvent(sm, ApprovalEvent.APPROVE_LINE);
+        document.setStatus(sm.getState().getId());
+        return document.getStatus();
+    }
+
+    @Benchmark
+    public ApprovalStatus transitionTable() {
+        ApprovalDocument document = inProgressDocument();
+        ApprovalLine completedLine = document.getApprovalLines().get(0);
+
+        transitionTable.fire(document, completedLine, ApprovalEvent.APPROVE_LINE);
+        return document.getStatus();
+    }
+
+    private static ApprovalDocument inProgressDocument() {
+        ApprovalDocument document = ApprovalDocument.builder()
+            .id(UUID.randomUUID())
+            .title("benchmark")
+            .documentType("LEAVE_REQUEST")
+            .status(ApprovalStatus.IN_PROGRESS)
+            .build();
+        for (int i = 0; i < 3; i++) {
+            document.addApprovalLine(ApprovalLine.builder()
+                .approverId(UUID.randomUUID())
+                .approverName("approver-" + i)
+                .build());
+        }
+        document.getApprovalLines().get(0).setStatus(ApprovalLineStatus.APPROVED);
+        return document;
+    }
+}
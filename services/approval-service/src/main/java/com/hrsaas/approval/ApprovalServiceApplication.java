@@ -4,12 +4,14 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {
     "com.hrsaas.approval",
     "com.hrsaas.common"
 })
 @EnableCaching
+@EnableScheduling
 @EnableFeignClients(basePackages = "com.hrsaas.approval.client")
 public class ApprovalServiceApplication {
 
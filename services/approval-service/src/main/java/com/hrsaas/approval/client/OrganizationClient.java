@@ -1,26 +1,65 @@
 package com.hrsaas.approval.client;
 
+import com.hrsaas.common.response.ApiResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @FeignClient(name = "organization-service", url = "${feign.client.organization-service.url:http://localhost:8083}")
 public interface OrganizationClient {
 
-    @GetMapping("/api/v1/departments/{departmentId}/head")
-    DepartmentHeadResponse getDepartmentHead(@PathVariable UUID departmentId);
+    /**
+     * 결재선 템플릿 한 건에 필요한 부서장/직책자를 한 번에 조회합니다.
+     * 찾지 못한 부서/직책은 응답에 포함되지 않습니다.
+     */
+    @PostMapping("/api/v1/departments/approvers/lookup")
+    ApiResponse<ApproverLookupResponse> lookupApprovers(@RequestBody ApproverLookupRequest request);
 
-    @GetMapping("/api/v1/departments/position-holder")
-    DepartmentHeadResponse getPositionHolder(
-        @RequestParam String positionCode,
-        @RequestParam UUID departmentId);
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class ApproverLookupRequest {
+        private Set<UUID> headDepartmentIds;
+        private List<PositionHolderKey> positionHolders;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class PositionHolderKey {
+        private String positionCode;
+        private UUID departmentId;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class ApproverLookupResponse {
+        private Map<UUID, DepartmentHeadResponse> departmentHeads;
+        private List<PositionHolderResponse> positionHolders;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class PositionHolderResponse {
+        private String positionCode;
+        private UUID departmentId;
+        private DepartmentHeadResponse holder;
+    }
 
     @Data
     @Builder
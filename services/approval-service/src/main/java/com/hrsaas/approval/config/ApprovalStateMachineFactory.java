@@ -12,6 +12,11 @@ import org.springframework.statemachine.config.StateMachineFactory;
 import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.stereotype.Component;
 
+/**
+ * 문서별 Spring StateMachine 생성기.
+ * 결재 처리 경로는 {@link com.hrsaas.approval.statemachine.ApprovalTransitionTable}을 사용하며,
+ * 이 클래스는 전이 테이블과 설정 간 일치 검증 및 벤치마크 기준으로 남겨둡니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
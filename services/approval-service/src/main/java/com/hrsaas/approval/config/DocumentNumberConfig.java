@@ -0,0 +1,25 @@
+package com.hrsaas.approval.config;
+
+import com.hrsaas.common.database.sequence.BusinessNumberAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 결재 문서번호 발급기 설정.
+ * 노드마다 block-size 만큼 번호를 미리 예약하므로 문서번호는 유일하지만 노드 간 순서/연속성은 보장하지 않습니다.
+ */
+@Configuration
+public class DocumentNumberConfig {
+
+    @Bean
+    public BusinessNumberAllocator documentNumberAllocator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.document-number.block-size:10}") int blockSize) {
+        return new BusinessNumberAllocator(jdbcTemplate, transactionManager,
+            "hr_approval.business_number_counter", blockSize);
+    }
+}
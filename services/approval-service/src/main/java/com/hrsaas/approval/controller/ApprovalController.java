@@ -1,5 +1,6 @@
 package com.hrsaas.approval.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hrsaas.approval.domain.dto.request.BatchApprovalRequest;
 import com.hrsaas.approval.domain.dto.request.CreateApprovalRequest;
 import com.hrsaas.approval.domain.dto.request.DelegateStepRequest;
@@ -20,6 +21,7 @@ import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.common.security.SecurityContextHolder;
 import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.tenant.TenantContext;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -27,9 +29,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.HashSet;
@@ -41,8 +48,11 @@ import java.util.UUID;
 @Tag(name = "Approval", description = "결재 문서 관리 API")
 public class ApprovalController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ApprovalService approvalService;
     private final ApprovalDocumentRepository approvalDocumentRepository;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -336,6 +346,37 @@ public class ApprovalController {
         return ApiResponse.success(approvalService.batchProcess(userId, request));
     }
 
+    @PostMapping(value = "/batch/stream", produces = NDJSON)
+    @Operation(summary = "일괄 결재 처리 (처리 결과를 완료 순서대로 NDJSON 스트리밍)")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> batchProcessStream(
+            @Valid @RequestBody BatchApprovalRequest request) {
+        // 스트리밍은 별도 스레드에서 실행되므로 요청 스레드의 컨텍스트를 넘겨서 바인딩
+        UserContext currentUser = SecurityContextHolder.getCurrentUser();
+        UUID tenantId = TenantContext.getCurrentTenant();
+        StreamingResponseBody body = out -> {
+            TenantContext.setCurrentTenant(tenantId);
+            SecurityContextHolder.setContext(currentUser);
+            try {
+                approvalService.batchProcess(currentUser.getUserId(), request, result -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(result));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                SecurityContextHolder.clear();
+                TenantContext.clear();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(body);
+    }
+
     @PostMapping("/{id}/return")
     @Operation(summary = "결재 반송 (수정요청)")
     @PreAuthorize("isAuthenticated()")
@@ -15,6 +15,7 @@ import lombok.NoArgsConstructor;
 public class ApprovalSummaryResponse {
 
     private long pending;
+    private long processed;
     private long approved;
     private long rejected;
     private long draft;
@@ -7,6 +7,7 @@ import com.hrsaas.common.event.EventTopics;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -37,6 +38,11 @@ public class ApprovalCompletedEvent extends DomainEvent {
             .build();
     }
 
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(documentId, null);
+    }
+
     @Override
     public String getTopic() {
         return EventTopics.APPROVAL_COMPLETED;
@@ -0,0 +1,37 @@
+package com.hrsaas.approval.domain.event;
+
+import com.hrsaas.common.event.DomainEvent;
+import com.hrsaas.common.event.EventTopics;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 결재 마감일 초과로 에스컬레이션된 문서. 활성 결재선 하나당 한 건 발행됩니다.
+ */
+@Getter
+@SuperBuilder
+public class ApprovalEscalatedEvent extends DomainEvent {
+
+    private final UUID documentId;
+    private final String documentNumber;
+    private final String title;
+    private final String documentType;
+    private final UUID drafterId;
+    private final Instant deadlineAt;
+    private final UUID currentApproverId;
+    private final String currentApproverName;
+
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(documentId, null);
+    }
+
+    @Override
+    public String getTopic() {
+        return EventTopics.APPROVAL_ESCALATED;
+    }
+}
@@ -6,6 +6,7 @@ import com.hrsaas.common.event.EventTopics;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -39,6 +40,11 @@ public class ApprovalSubmittedEvent extends DomainEvent {
             .build();
     }
 
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(documentId, null);
+    }
+
     @Override
     public String getTopic() {
         return EventTopics.APPROVAL_SUBMITTED;
@@ -0,0 +1,65 @@
+package com.hrsaas.approval.listener;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.hrsaas.approval.service.ApprovalLineResolver;
+import com.hrsaas.common.core.util.JsonUtils;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * SQS listener for events that change who resolves as an approver.
+ * Employee affiliation changes and department updates evict cached department heads,
+ * position holders and managers from {@link ApprovalLineResolver}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApproverChangedListener {
+
+    private final ApprovalLineResolver approvalLineResolver;
+
+    @SqsListener("approval-service-queue")
+    public void handleMessage(String rawMessage) {
+        try {
+            JsonNode envelope = JsonUtils.toJsonNode(rawMessage);
+            String message = envelope.has("Message") ? envelope.get("Message").asText() : rawMessage;
+            JsonNode event = JsonUtils.toJsonNode(message);
+
+            String eventType = event.has("eventType") ? event.get("eventType").asText() : "";
+
+            switch (eventType) {
+                case "EmployeeAffiliationChangedEvent" -> handleAffiliationChanged(event);
+                case "DepartmentUpdatedEvent" -> {
+                    UUID departmentId = getUuid(event, "departmentId");
+                    if (departmentId != null) {
+                        approvalLineResolver.evictDepartment(departmentId);
+                    }
+                }
+                default -> log.debug("Ignoring event type: {}", eventType);
+            }
+        } catch (Exception e) {
+            log.error("Failed to process SQS message", e);
+            throw e;
+        }
+    }
+
+    private void handleAffiliationChanged(JsonNode event) {
+        UUID employeeId = getUuid(event, "employeeId");
+        if (employeeId == null) {
+            log.warn("Missing employeeId in affiliation change event");
+            return;
+        }
+        approvalLineResolver.evictAffiliation(employeeId, getUuid(event, "departmentId"));
+    }
+
+    private UUID getUuid(JsonNode node, String field) {
+        if (node.has(field) && !node.get(field).isNull()) {
+            return UUID.fromString(node.get(field).asText());
+        }
+        return null;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,13 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
     @Query("SELECT d FROM ApprovalDocument d WHERE d.id = :id")
     Optional<ApprovalDocument> findByIdWithLinesAndHistories(@Param("id") UUID id);
 
+    /**
+     * 일괄 결재용: 문서와 결재선을 한 번의 조회로 로딩
+     */
+    @Query("SELECT DISTINCT d FROM ApprovalDocument d LEFT JOIN FETCH d.approvalLines " +
+           "WHERE d.tenantId = :tenantId AND d.id IN :ids")
+    List<ApprovalDocument> findAllWithLinesByIdIn(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
+
     @EntityGraph(value = "ApprovalDocument.withLines", type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT d FROM ApprovalDocument d WHERE d.tenantId = :tenantId AND d.drafterId = :drafterId ORDER BY d.createdAt DESC")
     Page<ApprovalDocument> findByDrafterIdWithLines(@Param("tenantId") UUID tenantId, @Param("drafterId") UUID drafterId, Pageable pageable);
@@ -34,22 +42,12 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
     @Query("SELECT d FROM ApprovalDocument d WHERE d.tenantId = :tenantId AND d.status = :status ORDER BY d.createdAt DESC")
     Page<ApprovalDocument> findByStatus(@Param("tenantId") UUID tenantId, @Param("status") ApprovalStatus status, Pageable pageable);
 
-    @EntityGraph(value = "ApprovalDocument.withLines", type = EntityGraph.EntityGraphType.LOAD)
-    @Query("SELECT d FROM ApprovalDocument d JOIN d.approvalLines l " +
-           "WHERE d.tenantId = :tenantId AND l.approverId = :approverId AND l.status = 'ACTIVE' " +
-           "ORDER BY l.activatedAt ASC")
-    Page<ApprovalDocument> findPendingByApproverId(@Param("tenantId") UUID tenantId, @Param("approverId") UUID approverId, Pageable pageable);
-
     @EntityGraph(value = "ApprovalDocument.withLines", type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT d FROM ApprovalDocument d JOIN d.approvalLines l " +
            "WHERE d.tenantId = :tenantId AND l.approverId = :approverId AND l.status IN ('APPROVED', 'REJECTED') " +
            "ORDER BY l.completedAt DESC")
     Page<ApprovalDocument> findProcessedByApproverId(@Param("tenantId") UUID tenantId, @Param("approverId") UUID approverId, Pageable pageable);
 
-    @Query("SELECT COUNT(d) FROM ApprovalDocument d JOIN d.approvalLines l " +
-           "WHERE d.tenantId = :tenantId AND l.approverId = :approverId AND l.status = 'ACTIVE'")
-    long countPendingByApproverId(@Param("tenantId") UUID tenantId, @Param("approverId") UUID approverId);
-
     @Query("SELECT MAX(d.documentNumber) FROM ApprovalDocument d WHERE d.tenantId = :tenantId AND d.documentNumber LIKE :prefix%")
     Optional<String> findMaxDocumentNumberByPrefix(@Param("tenantId") UUID tenantId, @Param("prefix") String prefix);
 
@@ -66,12 +64,6 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
         @Param("requesterId") UUID requesterId,
         Pageable pageable);
 
-    @Query("SELECT COUNT(d) FROM ApprovalDocument d WHERE d.tenantId = :tenantId AND d.status = :status")
-    long countByStatus(@Param("tenantId") UUID tenantId, @Param("status") ApprovalStatus status);
-
-    @Query("SELECT COUNT(d) FROM ApprovalDocument d WHERE d.tenantId = :tenantId AND d.drafterId = :drafterId AND d.status = :status")
-    long countByDrafterIdAndStatus(@Param("tenantId") UUID tenantId, @Param("drafterId") UUID drafterId, @Param("status") ApprovalStatus status);
-
     @Query("SELECT d FROM ApprovalDocument d WHERE d.tenantId = :tenantId " +
            "AND d.status IN ('APPROVED', 'REJECTED') " +
            "AND d.completedAt >= :startInstant AND d.completedAt < :endInstant")
@@ -79,10 +71,6 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
                                                  @Param("startInstant") java.time.Instant startInstant,
                                                  @Param("endInstant") java.time.Instant endInstant);
 
-    @Query("SELECT d FROM ApprovalDocument d WHERE d.status = 'IN_PROGRESS' " +
-           "AND d.deadlineAt IS NOT NULL AND d.deadlineAt < :now AND d.escalated = false")
-    List<ApprovalDocument> findOverdueDocuments(@Param("now") java.time.Instant now);
-
     @Query("SELECT d.drafterDepartmentId, COUNT(d) FROM ApprovalDocument d " +
            "WHERE d.tenantId = :tenantId " +
            "AND d.drafterDepartmentId IN :departmentIds " +
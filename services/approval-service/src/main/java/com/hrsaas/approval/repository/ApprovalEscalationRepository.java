@@ -0,0 +1,84 @@
+package com.hrsaas.approval.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결재 마감일 에스컬레이션용 set 기반 조회/갱신.
+ * 후보 조회는 ID keyset 페이지로, 선점은 escalated = false 조건부 UPDATE로 수행하므로
+ * 여러 인스턴스가 동시에 실행해도 문서 한 건은 한 번만 에스컬레이션됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalEscalationRepository {
+
+    private static final String OVERDUE_SQL =
+        "SELECT id FROM hr_approval.approval_document " +
+        "WHERE status = 'IN_PROGRESS' AND escalated = false AND deadline_at IS NOT NULL AND deadline_at < ? ";
+
+    private static final String CLAIM_SQL =
+        "WITH claimed AS (" +
+        "  UPDATE hr_approval.approval_document " +
+        "  SET escalated = true, version = version + 1, updated_at = now() " +
+        "  WHERE id = ANY(?) AND status = 'IN_PROGRESS' AND escalated = false " +
+        "  RETURNING id, tenant_id, document_number, title, document_type, drafter_id, deadline_at" +
+        ") " +
+        "SELECT c.id, c.tenant_id, c.document_number, c.title, c.document_type, c.drafter_id, c.deadline_at, " +
+        "       l.approver_id, l.approver_name " +
+        "FROM claimed c " +
+        "LEFT JOIN hr_approval.approval_line l ON l.document_id = c.id AND l.status = 'ACTIVE' " +
+        "ORDER BY c.id, l.sequence";
+
+    private static final RowMapper<EscalatedLine> ESCALATED_LINE_MAPPER = (rs, rowNum) -> new EscalatedLine(
+        rs.getObject("id", UUID.class),
+        rs.getObject("tenant_id", UUID.class),
+        rs.getString("document_number"),
+        rs.getString("title"),
+        rs.getString("document_type"),
+        rs.getObject("drafter_id", UUID.class),
+        rs.getTimestamp("deadline_at").toInstant(),
+        rs.getObject("approver_id", UUID.class),
+        rs.getString("approver_name"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 선점된 문서와 현재 활성 결재선 (활성 결재선이 없으면 approverId가 null인 한 행)
+     */
+    public record EscalatedLine(UUID documentId, UUID tenantId, String documentNumber, String title,
+                                String documentType, UUID drafterId, Instant deadlineAt,
+                                UUID approverId, String approverName) {
+    }
+
+    /**
+     * 마감일이 지난 미에스컬레이션 문서 ID (ID 오름차순, after 이후)
+     */
+    public List<UUID> findOverdueIds(Instant now, UUID after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.queryForList(OVERDUE_SQL + "ORDER BY id LIMIT ?",
+                UUID.class, Timestamp.from(now), limit);
+        }
+        return jdbcTemplate.queryForList(OVERDUE_SQL + "AND id > ? ORDER BY id LIMIT ?",
+            UUID.class, Timestamp.from(now), after, limit);
+    }
+
+    /**
+     * 아직 에스컬레이션되지 않은 문서만 escalated = true로 선점하고, 선점한 문서의 활성 결재선을 함께 반환합니다.
+     * 다른 인스턴스가 먼저 선점했거나 그사이 완료된 문서는 결과에 포함되지 않습니다.
+     */
+    public List<EscalatedLine> claim(Collection<UUID> documentIds) {
+        return jdbcTemplate.query(CLAIM_SQL, ps -> {
+            Array ids = ps.getConnection().createArrayOf("uuid", documentIds.toArray());
+            ps.setArray(1, ids);
+        }, ESCALATED_LINE_MAPPER);
+    }
+}
@@ -0,0 +1,80 @@
+package com.hrsaas.approval.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결재함 프로젝션 조회 (hr_approval.approver_inbox, approver_inbox_count, approval_status_count).
+ * 프로젝션은 approval_line/approval_document 트리거(V5)가 같은 트랜잭션에서 갱신하므로 읽기 전용입니다.
+ * 건수는 트리거가 추가만 하는 delta 행(V8)을 기준 건수에 더해 읽고, {@link #compactCountDeltas()}가 주기적으로 합산합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApproverInboxRepository {
+
+    private static final String USER_COUNTS =
+        "SELECT pending, processed, draft FROM hr_approval.approver_inbox_count " +
+        "WHERE tenant_id = ? AND user_id = ? " +
+        "UNION ALL " +
+        "SELECT pending, processed, draft FROM hr_approval.approver_inbox_count_delta " +
+        "WHERE tenant_id = ? AND user_id = ?";
+
+    private static final String SUMMARY_SQL =
+        "WITH u AS (" + USER_COUNTS + "), " +
+        "s AS (" +
+        "SELECT status, document_count FROM hr_approval.approval_status_count " +
+        "WHERE tenant_id = ? AND status IN ('APPROVED', 'REJECTED') " +
+        "UNION ALL " +
+        "SELECT status, delta FROM hr_approval.approval_status_count_delta " +
+        "WHERE tenant_id = ? AND status IN ('APPROVED', 'REJECTED')) " +
+        "SELECT " +
+        "(SELECT COALESCE(SUM(pending), 0) FROM u), " +
+        "(SELECT COALESCE(SUM(processed), 0) FROM u), " +
+        "(SELECT COALESCE(SUM(draft), 0) FROM u), " +
+        "(SELECT COALESCE(SUM(document_count) FILTER (WHERE status = 'APPROVED'), 0) FROM s), " +
+        "(SELECT COALESCE(SUM(document_count) FILTER (WHERE status = 'REJECTED'), 0) FROM s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 기준 대기/처리/임시저장 건수와 테넌트 전체 승인/반려 건수
+     */
+    public record InboxSummary(long pending, long processed, long draft, long approved, long rejected) {
+    }
+
+    public InboxSummary summary(UUID tenantId, UUID userId) {
+        return jdbcTemplate.queryForObject(SUMMARY_SQL,
+            (rs, rowNum) -> new InboxSummary(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)),
+            tenantId, userId, tenantId, userId, tenantId, tenantId);
+    }
+
+    public long countPending(UUID tenantId, UUID approverId) {
+        Long pending = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(pending), 0) FROM (" + USER_COUNTS + ") u",
+            Long.class, tenantId, approverId, tenantId, approverId);
+        return pending != null ? pending : 0L;
+    }
+
+    /**
+     * 누적된 delta 행을 기준 건수에 합산하고 합산한 행 수를 반환합니다 (다른 인스턴스가 실행 중이면 0).
+     */
+    public int compactCountDeltas() {
+        Integer folded = jdbcTemplate.queryForObject("SELECT hr_approval.compact_count_deltas()", Integer.class);
+        return folded != null ? folded : 0;
+    }
+
+    /**
+     * 결재 대기 문서 ID (결재선 활성화 순)
+     */
+    public List<UUID> findPendingDocumentIds(UUID tenantId, UUID approverId, long offset, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT document_id FROM hr_approval.approver_inbox " +
+            "WHERE tenant_id = ? AND approver_id = ? " +
+            "ORDER BY activated_at, line_id OFFSET ? LIMIT ?",
+            UUID.class, tenantId, approverId, offset, limit);
+    }
+}
@@ -0,0 +1,32 @@
+package com.hrsaas.approval.scheduler;
+
+import com.hrsaas.approval.repository.ApproverInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결재함 건수 delta 합산 스케줄러
+ * 트리거는 공유 건수 행을 잠그지 않도록 delta 행만 추가하므로, 조회 비용이 늘지 않게 주기적으로 기준 건수에 합산합니다.
+ * 합산은 advisory lock으로 한 인스턴스만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalCountCompactionScheduler {
+
+    private final ApproverInboxRepository approverInboxRepository;
+
+    @Scheduled(fixedDelayString = "${app.approval.count-compaction.interval-ms:10000}")
+    public void compact() {
+        try {
+            int folded = approverInboxRepository.compactCountDeltas();
+            if (folded > 0) {
+                log.debug("Compacted {} approval count deltas", folded);
+            }
+        } catch (Exception e) {
+            log.error("Failed to compact approval count deltas", e);
+        }
+    }
+}
@@ -1,66 +1,120 @@
 package com.hrsaas.approval.scheduler;
 
-import com.hrsaas.approval.domain.entity.ApprovalDocument;
-import com.hrsaas.approval.domain.entity.ApprovalLine;
-import com.hrsaas.approval.domain.entity.ApprovalLineStatus;
-import com.hrsaas.approval.repository.ApprovalDocumentRepository;
+import com.hrsaas.approval.domain.event.ApprovalEscalatedEvent;
+import com.hrsaas.approval.repository.ApprovalEscalationRepository;
+import com.hrsaas.approval.repository.ApprovalEscalationRepository.EscalatedLine;
 import com.hrsaas.common.event.EventPublisher;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * APR-G10: 결재 마감일 자동 에스컬레이션 스케줄러
- * 마감일이 지난 결재 문서를 감지하고 에스컬레이션 처리
+ * 마감일이 지난 결재 문서를 ID keyset 페이지 단위로 선점(escalated = true)하고,
+ * 선점한 문서의 활성 결재자에게 보낼 에스컬레이션 이벤트를 페이지 단위로 일괄 발행합니다.
+ * 선점은 조건부 UPDATE로 이루어지므로 여러 인스턴스가 동시에 실행해도 중복 알림이 없습니다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ApprovalDeadlineScheduler {
 
-    private final ApprovalDocumentRepository documentRepository;
+    private final ApprovalEscalationRepository escalationRepository;
     private final EventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public ApprovalDeadlineScheduler(ApprovalEscalationRepository escalationRepository,
+                                     EventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.approval.escalation.chunk-size:200}") int chunkSize) {
+        this.escalationRepository = escalationRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
 
     /**
      * 매시간 마감일 초과 결재 문서 확인
      */
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
     public void checkOverdueApprovals() {
-        List<ApprovalDocument> overdueDocuments = documentRepository.findOverdueDocuments(Instant.now());
-
-        if (overdueDocuments.isEmpty()) {
-            return;
-        }
+        Instant now = Instant.now();
+        UUID cursor = null;
+        int escalated = 0;
+        int failedChunks = 0;
 
-        log.info("Found {} overdue approval documents", overdueDocuments.size());
+        while (true) {
+            List<UUID> candidates = escalationRepository.findOverdueIds(now, cursor, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            cursor = candidates.get(candidates.size() - 1);
 
-        for (ApprovalDocument document : overdueDocuments) {
             try {
-                escalateDocument(document);
+                Integer claimed = chunkTransaction.execute(status -> escalateChunk(candidates));
+                escalated += claimed != null ? claimed : 0;
             } catch (Exception e) {
-                log.error("Failed to escalate document: id={}", document.getId(), e);
+                failedChunks++;
+                log.error("Failed to escalate overdue approval chunk: firstId={}, size={}",
+                    candidates.get(0), candidates.size(), e);
+            }
+
+            if (candidates.size() < chunkSize) {
+                break;
             }
         }
+
+        if (escalated > 0 || failedChunks > 0) {
+            log.info("Escalated {} overdue approval documents ({} failed chunks)", escalated, failedChunks);
+        }
     }
 
-    private void escalateDocument(ApprovalDocument document) {
-        document.setEscalated(true);
+    /**
+     * 한 페이지를 선점하고 이벤트를 같은 트랜잭션에서 아웃박스에 일괄 기록합니다. 선점한 문서 수를 반환합니다.
+     * 이벤트 기록이 실패하면 선점도 롤백되어 다음 실행에서 다시 처리됩니다.
+     */
+    private int escalateChunk(List<UUID> candidates) {
+        List<EscalatedLine> lines = escalationRepository.claim(candidates);
+        if (lines.isEmpty()) {
+            return 0;
+        }
 
-        // Find current active approver for notification
-        document.getApprovalLines().stream()
-            .filter(l -> l.getStatus() == ApprovalLineStatus.ACTIVE)
-            .findFirst()
-            .ifPresent(activeLine -> {
-                log.info("Escalating overdue approval: documentId={}, approver={}, deadline={}",
-                    document.getId(), activeLine.getApproverName(), document.getDeadlineAt());
-            });
+        Set<UUID> documentIds = new HashSet<>();
+        List<ApprovalEscalatedEvent> events = new ArrayList<>(lines.size());
+        for (EscalatedLine line : lines) {
+            documentIds.add(line.documentId());
+            if (line.approverId() == null) {
+                log.warn("Escalated document has no active approval line: documentId={}", line.documentId());
+                continue;
+            }
+            log.info("Escalating overdue approval: documentId={}, approver={}, deadline={}",
+                line.documentId(), line.approverName(), line.deadlineAt());
+            events.add(ApprovalEscalatedEvent.builder()
+                .tenantId(line.tenantId())
+                .documentId(line.documentId())
+                .documentNumber(line.documentNumber())
+                .title(line.title())
+                .documentType(line.documentType())
+                .drafterId(line.drafterId())
+                .deadlineAt(line.deadlineAt())
+                .currentApproverId(line.approverId())
+                .currentApproverName(line.approverName())
+                .build());
+        }
 
-        documentRepository.save(document);
+        if (!events.isEmpty()) {
+            eventPublisher.publishAll(events);
+        }
+        return documentIds.size();
     }
 }
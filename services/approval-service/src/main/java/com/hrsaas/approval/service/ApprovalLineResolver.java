@@ -1,117 +1,294 @@
 package com.hrsaas.approval.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hrsaas.approval.client.EmployeeClient;
 import com.hrsaas.approval.client.OrganizationClient;
+import com.hrsaas.approval.client.OrganizationClient.ApproverLookupRequest;
+import com.hrsaas.approval.client.OrganizationClient.ApproverLookupResponse;
+import com.hrsaas.approval.client.OrganizationClient.DepartmentHeadResponse;
+import com.hrsaas.approval.client.OrganizationClient.PositionHolderKey;
 import com.hrsaas.approval.domain.entity.ApprovalLine;
-import com.hrsaas.approval.domain.entity.ApprovalLineType;
 import com.hrsaas.approval.domain.entity.ApprovalTemplate;
 import com.hrsaas.approval.domain.entity.ApprovalTemplateLine;
-import lombok.RequiredArgsConstructor;
+import com.hrsaas.common.core.exception.ExternalServiceException;
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 템플릿 결재선 해석기.
+ * <p>
+ * 템플릿 한 건에 필요한 부서장/직책자/기안자 상급자 조회를 먼저 모두 모은 뒤,
+ * organization-service 일괄 조회와 employee-service 상급자 조회를 병렬로 한 번씩만 호출합니다.
+ * 같은 부서가 여러 단계에 등장해도 요청 내에서는 한 번만 조회하며,
+ * 조회 결과는 짧은 TTL의 로컬 캐시에 보관하고 소속 변경 이벤트 수신 시 제거합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ApprovalLineResolver {
 
+    enum LookupKind { DEPARTMENT_HEAD, POSITION_HOLDER, DRAFTER_MANAGER }
+
+    /**
+     * 결재자 조회 키. subjectId는 부서 ID(부서장/직책자) 또는 기안자 ID(상급자)
+     */
+    record LookupKey(UUID tenantId, LookupKind kind, UUID subjectId, String positionCode) {
+    }
+
+    record Approver(UUID employeeId, String name, String positionName, String departmentName) {
+    }
+
     private final OrganizationClient organizationClient;
     private final EmployeeClient employeeClient;
+    private final Cache<LookupKey, Approver> approvers;
+    private final ExecutorService lookupExecutor;
+
+    public ApprovalLineResolver(
+            OrganizationClient organizationClient,
+            EmployeeClient employeeClient,
+            @Value("${app.approval.approver-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.approval.approver-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.approval.approver-lookup.threads:4}") int lookupThreads) {
+        this.organizationClient = organizationClient;
+        this.employeeClient = employeeClient;
+        this.approvers = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.lookupExecutor = Executors.newFixedThreadPool(Math.max(1, lookupThreads), runnable -> {
+            Thread thread = new Thread(runnable, "approver-lookup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lookupExecutor.shutdown();
+    }
 
     /**
      * 템플릿 기반으로 실제 결재선 생성
      */
     public List<ApprovalLine> resolveTemplateLines(ApprovalTemplate template, UUID drafterId, UUID drafterDepartmentId) {
-        List<ApprovalLine> resolvedLines = new ArrayList<>();
+        UUID tenantId = TenantContext.getCurrentTenant();
+        List<ApprovalTemplateLine> templateLines = template.getTemplateLines();
+
+        List<LookupKey> keys = new ArrayList<>(templateLines.size());
+        for (ApprovalTemplateLine templateLine : templateLines) {
+            keys.add(lookupKey(tenantId, templateLine, drafterId, drafterDepartmentId));
+        }
+        Set<LookupKey> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.remove(null);
+        Map<LookupKey, Approver> resolved = distinctKeys.isEmpty() ? Map.of() : lookup(tenantId, distinctKeys);
 
-        for (ApprovalTemplateLine templateLine : template.getTemplateLines()) {
-            ApprovalLine line = resolveTemplateLine(templateLine, drafterId, drafterDepartmentId);
-            if (line != null) {
-                resolvedLines.add(line);
+        List<ApprovalLine> resolvedLines = new ArrayList<>();
+        for (int i = 0; i < templateLines.size(); i++) {
+            ApprovalTemplateLine templateLine = templateLines.get(i);
+            LookupKey key = keys.get(i);
+            if ("SPECIFIC_USER".equals(templateLine.getApproverType())) {
+                resolvedLines.add(ApprovalLine.builder()
+                    .sequence(templateLine.getSequence())
+                    .lineType(templateLine.getLineType())
+                    .approverId(templateLine.getApproverId())
+                    .approverName(templateLine.getApproverName())
+                    .build());
+            } else if (key == null) {
+                log.warn("Unknown approver type: {}", templateLine.getApproverType());
+            } else {
+                Approver approver = resolved.get(key);
+                if (approver == null) {
+                    log.warn("Failed to resolve {}: subjectId={}, positionCode={}",
+                        key.kind(), key.subjectId(), key.positionCode());
+                    continue;
+                }
+                resolvedLines.add(ApprovalLine.builder()
+                    .sequence(templateLine.getSequence())
+                    .lineType(templateLine.getLineType())
+                    .approverId(approver.employeeId())
+                    .approverName(approver.name())
+                    .approverPosition(approver.positionName())
+                    .approverDepartmentName(approver.departmentName())
+                    .build());
             }
         }
 
         return resolvedLines;
     }
 
-    private ApprovalLine resolveTemplateLine(ApprovalTemplateLine templateLine, UUID drafterId, UUID drafterDepartmentId) {
+    /**
+     * 직원 소속 변경 시 해당 부서의 부서장/직책자, 해당 직원의 상급자,
+     * 그리고 해당 직원이 결재자로 캐시된 항목을 제거합니다.
+     * 이벤트는 tenantId를 싣지 않을 수 있으므로 (UUID가 전역 유일한 점을 이용해) 전 테넌트에서 제거합니다.
+     */
+    public void evictAffiliation(UUID employeeId, UUID departmentId) {
+        approvers.asMap().entrySet().removeIf(entry -> {
+            LookupKey key = entry.getKey();
+            return employeeId.equals(entry.getValue().employeeId())
+                || (key.kind() == LookupKind.DRAFTER_MANAGER && employeeId.equals(key.subjectId()))
+                || (key.kind() != LookupKind.DRAFTER_MANAGER && departmentId != null
+                    && departmentId.equals(key.subjectId()));
+        });
+        log.debug("Evicted cached approvers: employeeId={}, departmentId={}", employeeId, departmentId);
+    }
+
+    /**
+     * 부서 정보(부서장 포함) 변경 시 해당 부서의 부서장/직책자 항목을 제거합니다.
+     */
+    public void evictDepartment(UUID departmentId) {
+        approvers.asMap().keySet().removeIf(key ->
+            key.kind() != LookupKind.DRAFTER_MANAGER && departmentId.equals(key.subjectId()));
+    }
+
+    private LookupKey lookupKey(UUID tenantId, ApprovalTemplateLine templateLine, UUID drafterId, UUID drafterDepartmentId) {
+        UUID departmentId = templateLine.getDepartmentId() != null ? templateLine.getDepartmentId() : drafterDepartmentId;
         return switch (templateLine.getApproverType()) {
-            case "SPECIFIC_USER" -> ApprovalLine.builder()
-                .sequence(templateLine.getSequence())
-                .lineType(templateLine.getLineType())
-                .approverId(templateLine.getApproverId())
-                .approverName(templateLine.getApproverName())
-                .build();
-
-            case "DEPARTMENT_HEAD" -> {
-                UUID departmentId = templateLine.getDepartmentId() != null ?
-                    templateLine.getDepartmentId() : drafterDepartmentId;
-                try {
-                    var head = organizationClient.getDepartmentHead(departmentId);
-                    if (head != null) {
-                        yield ApprovalLine.builder()
-                            .sequence(templateLine.getSequence())
-                            .lineType(templateLine.getLineType())
-                            .approverId(head.getEmployeeId())
-                            .approverName(head.getEmployeeName())
-                            .approverPosition(head.getPositionName())
-                            .approverDepartmentName(head.getDepartmentName())
-                            .build();
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to resolve DEPARTMENT_HEAD: departmentId={}", departmentId, e);
-                }
-                yield null;
+            case "DEPARTMENT_HEAD" -> new LookupKey(tenantId, LookupKind.DEPARTMENT_HEAD, departmentId, null);
+            case "POSITION_HOLDER" -> new LookupKey(tenantId, LookupKind.POSITION_HOLDER, departmentId,
+                templateLine.getPositionCode());
+            case "DRAFTER_MANAGER" -> new LookupKey(tenantId, LookupKind.DRAFTER_MANAGER, drafterId, null);
+            default -> null;
+        };
+    }
+
+    /**
+     * 캐시에 없는 키만 조회합니다. organization-service 일괄 조회는 별도 스레드에서,
+     * employee-service 상급자 조회는 호출자 스레드에서 동시에 수행합니다.
+     * organization-service 조회 실패는 호출자에게 그대로 전달됩니다.
+     */
+    private Map<LookupKey, Approver> lookup(UUID tenantId, Set<LookupKey> keys) {
+        Map<LookupKey, Approver> resolved = new HashMap<>(approvers.getAllPresent(keys));
+        if (resolved.size() == keys.size()) {
+            return resolved;
+        }
+
+        Set<LookupKey> organizationKeys = new LinkedHashSet<>();
+        Set<LookupKey> managerKeys = new LinkedHashSet<>();
+        for (LookupKey key : keys) {
+            if (resolved.containsKey(key)) {
+                continue;
+            }
+            if (key.kind() == LookupKind.DRAFTER_MANAGER) {
+                managerKeys.add(key);
+            } else {
+                organizationKeys.add(key);
             }
+        }
 
-            case "DRAFTER_MANAGER" -> {
+        CompletableFuture<Map<LookupKey, Approver>> organization = organizationKeys.isEmpty()
+            ? CompletableFuture.completedFuture(Map.of())
+            : CompletableFuture.supplyAsync(() -> {
+                TenantContext.setCurrentTenant(tenantId);
                 try {
-                    var manager = employeeClient.getManager(drafterId);
-                    if (manager != null) {
-                        yield ApprovalLine.builder()
-                            .sequence(templateLine.getSequence())
-                            .lineType(templateLine.getLineType())
-                            .approverId(manager.getId())
-                            .approverName(manager.getName())
-                            .approverPosition(manager.getPositionCode())
-                            .approverDepartmentName(manager.getDepartmentName())
-                            .build();
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to resolve DRAFTER_MANAGER: drafterId={}", drafterId, e);
+                    return fetchOrganizationApprovers(organizationKeys);
+                } finally {
+                    TenantContext.clear();
                 }
-                yield null;
+            }, lookupExecutor);
+
+        Map<LookupKey, Approver> fetched = new HashMap<>(fetchManagers(managerKeys));
+        try {
+            fetched.putAll(organization.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
 
-            case "POSITION_HOLDER" -> {
-                try {
-                    var holder = organizationClient.getPositionHolder(
-                        templateLine.getPositionCode(),
-                        templateLine.getDepartmentId() != null ? templateLine.getDepartmentId() : drafterDepartmentId);
-                    if (holder != null) {
-                        yield ApprovalLine.builder()
-                            .sequence(templateLine.getSequence())
-                            .lineType(templateLine.getLineType())
-                            .approverId(holder.getEmployeeId())
-                            .approverName(holder.getEmployeeName())
-                            .approverPosition(holder.getPositionName())
-                            .approverDepartmentName(holder.getDepartmentName())
-                            .build();
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to resolve POSITION_HOLDER: positionCode={}", templateLine.getPositionCode(), e);
-                }
-                yield null;
+        approvers.putAll(fetched);
+        resolved.putAll(fetched);
+        return resolved;
+    }
+
+    private Map<LookupKey, Approver> fetchOrganizationApprovers(Set<LookupKey> keys) {
+        Set<UUID> headDepartmentIds = new LinkedHashSet<>();
+        List<PositionHolderKey> positionHolders = new ArrayList<>();
+        for (LookupKey key : keys) {
+            if (key.kind() == LookupKind.DEPARTMENT_HEAD) {
+                headDepartmentIds.add(key.subjectId());
+            } else {
+                positionHolders.add(PositionHolderKey.builder()
+                    .positionCode(key.positionCode())
+                    .departmentId(key.subjectId())
+                    .build());
             }
+        }
 
-            default -> {
-                log.warn("Unknown approver type: {}", templateLine.getApproverType());
-                yield null;
+        // 조회 실패는 캐시하지 않고 그대로 실패시킴 — 부서장/직책자 단계가 빠진 결재선이 만들어지지 않도록 함
+        ApiResponse<ApproverLookupResponse> result;
+        try {
+            result = organizationClient.lookupApprovers(ApproverLookupRequest.builder()
+                .headDepartmentIds(headDepartmentIds)
+                .positionHolders(positionHolders)
+                .build());
+        } catch (Exception e) {
+            log.error("Failed to look up approvers: departments={}, positionHolders={}",
+                headDepartmentIds, positionHolders.size(), e);
+            throw new ExternalServiceException("organization-service", "결재자(부서장/직책자)를 조회할 수 없습니다", e);
+        }
+        if (result == null || result.getData() == null) {
+            throw new ExternalServiceException("organization-service", "결재자(부서장/직책자) 조회 응답이 없습니다");
+        }
+        ApproverLookupResponse response = result.getData();
+
+        Map<LookupKey, Approver> fetched = new HashMap<>();
+        UUID tenantId = keys.iterator().next().tenantId();
+        if (response.getDepartmentHeads() != null) {
+            response.getDepartmentHeads().forEach((departmentId, head) -> {
+                if (head != null && head.getEmployeeId() != null) {
+                    fetched.put(new LookupKey(tenantId, LookupKind.DEPARTMENT_HEAD, departmentId, null), approverOf(head));
+                }
+            });
+        }
+        if (response.getPositionHolders() != null) {
+            response.getPositionHolders().forEach(holder -> {
+                if (holder.getHolder() != null && holder.getHolder().getEmployeeId() != null) {
+                    fetched.put(new LookupKey(tenantId, LookupKind.POSITION_HOLDER, holder.getDepartmentId(),
+                        holder.getPositionCode()), approverOf(holder.getHolder()));
+                }
+            });
+        }
+        return fetched;
+    }
+
+    private Map<LookupKey, Approver> fetchManagers(Set<LookupKey> keys) {
+        Map<LookupKey, Approver> fetched = new HashMap<>();
+        for (LookupKey key : keys) {
+            try {
+                var manager = employeeClient.getManager(key.subjectId());
+                if (manager != null && manager.getId() != null) {
+                    fetched.put(key, new Approver(manager.getId(), manager.getName(),
+                        manager.getPositionCode(), manager.getDepartmentName()));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to resolve DRAFTER_MANAGER: drafterId={}", key.subjectId(), e);
             }
-        };
+        }
+        return fetched;
+    }
+
+    private static Approver approverOf(DepartmentHeadResponse head) {
+        return new Approver(head.getEmployeeId(), head.getEmployeeName(), head.getPositionName(), head.getDepartmentName());
     }
 }
@@ -13,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ApprovalService {
 
@@ -62,6 +63,12 @@ public interface ApprovalService {
      */
     BatchApprovalResponse batchProcess(UUID approverId, BatchApprovalRequest request);
 
+    /**
+     * 일괄 결재 처리 - 문서별 처리 결과를 완료되는 순서대로 onResult로 전달
+     */
+    BatchApprovalResponse batchProcess(UUID approverId, BatchApprovalRequest request,
+                                       Consumer<BatchApprovalResponse.BatchItemResult> onResult);
+
     /**
      * 결재 처리 시간 통계 (대시보드 Statistics 위젯용)
      * 이번 달 vs 지난 달 평균 결재 처리 시간 비교
@@ -0,0 +1,273 @@
+package com.hrsaas.approval.service;
+
+import com.hrsaas.approval.domain.dto.request.BatchApprovalRequest;
+import com.hrsaas.approval.domain.dto.response.BatchApprovalResponse;
+import com.hrsaas.approval.domain.dto.response.BatchApprovalResponse.BatchItemResult;
+import com.hrsaas.approval.domain.entity.*;
+import com.hrsaas.approval.domain.event.ApprovalCompletedEvent;
+import com.hrsaas.approval.repository.ApprovalDocumentRepository;
+import com.hrsaas.approval.statemachine.ApprovalEvent;
+import com.hrsaas.approval.statemachine.ApprovalTransitionTable;
+import com.hrsaas.common.core.exception.BusinessException;
+import com.hrsaas.common.core.exception.ForbiddenException;
+import com.hrsaas.common.core.exception.NotFoundException;
+import com.hrsaas.common.event.EventPublisher;
+import com.hrsaas.common.security.SecurityContextHolder;
+import com.hrsaas.common.security.UserContext;
+import com.hrsaas.common.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 결재 처리 엔진 (APR-G14)
+ * <p>
+ * 요청된 문서와 결재선을 한 번의 fetch join 조회로 로딩한 뒤, 문서별 결재 처리와 상태 전이를
+ * {@link ApprovalTransitionTable}로 적용하고 제한된 워커 풀에서 문서마다 짧은 트랜잭션으로 커밋합니다.
+ * 한 문서의 실패(권한 없음, 동시 수정 등)는 다른 문서에 영향을 주지 않으며,
+ * 처리 결과는 완료되는 순서대로 호출자에게 전달됩니다.
+ * 완료(승인/반려)된 문서의 {@link ApprovalCompletedEvent}는 해당 문서의 트랜잭션 안에서 발행(outbox 기록)되어
+ * 상태 변경과 함께 커밋됩니다.
+ */
+@Slf4j
+@Component
+public class BulkApprovalEngine {
+
+    private static final String CONCURRENT_MODIFICATION_MESSAGE = "다른 사용자가 문서를 수정했습니다. 다시 시도해주세요.";
+
+    private final ApprovalDocumentRepository documentRepository;
+    private final EventPublisher eventPublisher;
+    private final ApprovalTransitionTable transitionTable;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate documentTransaction;
+    private final ExecutorService workers;
+
+    private record Outcome(BatchItemResult result, boolean completed) {
+    }
+
+    public BulkApprovalEngine(ApprovalDocumentRepository documentRepository,
+                              EventPublisher eventPublisher,
+                              ApprovalTransitionTable transitionTable,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.approval.batch.parallelism:4}") int parallelism) {
+        this.documentRepository = documentRepository;
+        this.eventPublisher = eventPublisher;
+        this.transitionTable = transitionTable;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.documentTransaction = new TransactionTemplate(transactionManager);
+        this.documentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "bulk-approval-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 일괄 처리 후 요청 순서대로 정렬된 결과를 반환합니다.
+     *
+     * @param onResult 문서 하나의 처리가 끝날 때마다 호출자 스레드에서 호출 (완료 순서)
+     */
+    public BatchApprovalResponse run(UUID approverId, BatchApprovalRequest request, Consumer<BatchItemResult> onResult) {
+        UUID tenantId = TenantContext.getCurrentTenant();
+        UserContext user = SecurityContextHolder.getContext();
+        List<UUID> documentIds = List.copyOf(new LinkedHashSet<>(request.getDocumentIds()));
+
+        // 1. 문서 + 결재선 일괄 로딩 (단일 조회, 트랜잭션 종료 후 detached 상태로 처리)
+        Map<UUID, ApprovalDocument> documents = readTransaction.execute(status ->
+                documentRepository.findAllWithLinesByIdIn(tenantId, documentIds)).stream()
+            .collect(Collectors.toMap(ApprovalDocument::getId, Function.identity()));
+
+        // 2. 문서별 처리를 워커 풀에 분배
+        CompletionService<Outcome> completion = new ExecutorCompletionService<>(workers);
+        for (UUID documentId : documentIds) {
+            ApprovalDocument document = documents.get(documentId);
+            completion.submit(withContext(tenantId, user,
+                () -> processOne(documentId, document, approverId, request)));
+        }
+
+        // 3. 완료 순서대로 결과 전달
+        Map<UUID, BatchItemResult> results = new HashMap<>();
+        int completedCount = 0;
+        Consumer<BatchItemResult> listener = onResult;
+        for (int i = 0; i < documentIds.size(); i++) {
+            Outcome outcome = take(completion);
+            results.put(outcome.result().getDocumentId(), outcome.result());
+            if (outcome.completed()) {
+                completedCount++;
+            }
+            if (listener != null) {
+                try {
+                    listener.accept(outcome.result());
+                } catch (RuntimeException e) {
+                    // 스트림 수신 측이 끊겨도 남은 문서 처리는 계속
+                    log.warn("Batch approval result listener failed, remaining results are not streamed: {}",
+                        e.getMessage());
+                    listener = null;
+                }
+            }
+        }
+
+        List<BatchItemResult> ordered = documentIds.stream().map(results::get).toList();
+        long successCount = ordered.stream().filter(BatchItemResult::isSuccess).count();
+        log.info("Batch approval processed: action={}, total={}, success={}, completed={}",
+            request.getActionType(), documentIds.size(), successCount, completedCount);
+
+        return BatchApprovalResponse.builder()
+            .totalRequested(documentIds.size())
+            .successCount((int) successCount)
+            .failureCount(documentIds.size() - (int) successCount)
+            .results(ordered)
+            .build();
+    }
+
+    private Outcome processOne(UUID documentId, ApprovalDocument document, UUID approverId,
+                               BatchApprovalRequest request) {
+        try {
+            if (document == null) {
+                throw new NotFoundException("APV_001", "결재 문서를 찾을 수 없습니다: " + documentId);
+            }
+            ApprovalHistory history = applyAction(document, approverId, request.getActionType(), request.getComment());
+
+            // 문서 단위 트랜잭션: merge 시 버전 검사, 이력은 merge된 엔티티에 추가,
+            // 완료 이벤트는 같은 트랜잭션에서 outbox에 기록
+            Boolean completed = documentTransaction.execute(status -> {
+                ApprovalDocument merged = documentRepository.save(document);
+                merged.addHistory(history);
+                documentRepository.flush();
+                if (merged.getStatus() != ApprovalStatus.APPROVED && merged.getStatus() != ApprovalStatus.REJECTED) {
+                    return false;
+                }
+                eventPublisher.publish(ApprovalCompletedEvent.of(merged));
+                return true;
+            });
+
+            return new Outcome(BatchItemResult.builder()
+                .documentId(documentId)
+                .success(true)
+                .build(), Boolean.TRUE.equals(completed));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Batch approval conflict for document: {}", documentId);
+            return failure(documentId, CONCURRENT_MODIFICATION_MESSAGE);
+        } catch (Exception e) {
+            log.warn("Batch approval failed for document: {}", documentId, e);
+            return failure(documentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 결재선 처리 + 문서 상태 전이 (ApprovalServiceImpl.process와 동일한 규칙)
+     */
+    private ApprovalHistory applyAction(ApprovalDocument document, UUID approverId,
+                                        ApprovalActionType actionType, String comment) {
+        ApprovalLine currentLine = document.getApprovalLines().stream()
+            .filter(l -> l.getStatus() == ApprovalLineStatus.ACTIVE)
+            .filter(l -> l.getApproverId().equals(approverId) ||
+                        (l.getDelegateId() != null && l.getDelegateId().equals(approverId)))
+            .findFirst()
+            .orElseThrow(() -> new ForbiddenException("APV_002", "결재 권한이 없습니다"));
+
+        ApprovalStatus fromStatus = document.getStatus();
+
+        switch (actionType) {
+            case APPROVE -> {
+                if (currentLine.getLineType() == ApprovalLineType.ARBITRARY) {
+                    currentLine.approveAsArbitrary(comment);
+                } else {
+                    currentLine.approve(comment);
+                }
+            }
+            case REJECT -> currentLine.reject(comment);
+            case AGREE -> currentLine.agree(comment);
+            case RETURN -> {
+                if (!transitionTable.fire(document, currentLine, ApprovalEvent.RETURN_LINE)) {
+                    throw new IllegalStateException("Cannot return document in current state: " + document.getStatus());
+                }
+            }
+            case DIRECT_APPROVE -> {
+                currentLine.approveAsArbitrary(comment);
+                document.getApprovalLines().stream()
+                    .filter(l -> l.getStatus() == ApprovalLineStatus.WAITING)
+                    .forEach(ApprovalLine::skip);
+            }
+            default -> throw new BusinessException("APV_006", "일괄 처리할 수 없는 처리 유형입니다: " + actionType);
+        }
+
+        if (actionType != ApprovalActionType.RETURN && currentLine.isCompleted()) {
+            ApprovalEvent event = ApprovalTransitionTable.eventFor(actionType, currentLine);
+            transitionTable.fire(document, currentLine, event);
+            if (event == ApprovalEvent.APPROVE_LINE && ApprovalTransitionTable.allLinesDone(document)) {
+                transitionTable.fire(document, currentLine, ApprovalEvent.COMPLETE);
+            }
+        }
+
+        return ApprovalHistory.builder()
+            .actorId(approverId)
+            .actorName(currentLine.getApproverName())
+            .actionType(actionType)
+            .fromStatus(fromStatus)
+            .toStatus(document.getStatus())
+            .comment(comment)
+            .build();
+    }
+
+    private Outcome failure(UUID documentId, String message) {
+        return new Outcome(BatchItemResult.builder()
+            .documentId(documentId)
+            .success(false)
+            .errorMessage(message)
+            .build(), false);
+    }
+
+    private Outcome take(CompletionService<Outcome> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch approval interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch approval worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * 워커 스레드에 호출자의 테넌트/사용자 컨텍스트를 바인딩 (RLS 및 감사 필드용)
+     */
+    private static Callable<Outcome> withContext(UUID tenantId, UserContext user, Callable<Outcome> task) {
+        return () -> {
+            TenantContext.setCurrentTenant(tenantId);
+            SecurityContextHolder.setContext(user);
+            try {
+                return task.call();
+            } finally {
+                SecurityContextHolder.clear();
+                TenantContext.clear();
+            }
+        };
+    }
+}
@@ -1,6 +1,5 @@
 package com.hrsaas.approval.service.impl;
 
-import com.hrsaas.approval.config.ApprovalStateMachineFactory;
 import com.hrsaas.approval.domain.dto.request.BatchApprovalRequest;
 import com.hrsaas.approval.domain.dto.request.CreateApprovalRequest;
 import com.hrsaas.approval.domain.dto.request.ProcessApprovalRequest;
@@ -13,11 +12,15 @@ import com.hrsaas.approval.domain.entity.*;
 import com.hrsaas.approval.domain.event.ApprovalCompletedEvent;
 import com.hrsaas.approval.domain.event.ApprovalSubmittedEvent;
 import com.hrsaas.approval.repository.ApprovalDocumentRepository;
+import com.hrsaas.approval.repository.ApproverInboxRepository;
 import com.hrsaas.approval.service.ApprovalService;
+import com.hrsaas.approval.service.BulkApprovalEngine;
 import com.hrsaas.approval.statemachine.ApprovalEvent;
+import com.hrsaas.approval.statemachine.ApprovalTransitionTable;
 import com.hrsaas.common.core.exception.BusinessException;
 import com.hrsaas.common.core.exception.ForbiddenException;
 import com.hrsaas.common.core.exception.NotFoundException;
+import com.hrsaas.common.database.sequence.BusinessNumberAllocator;
 import com.hrsaas.common.event.EventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import com.hrsaas.common.response.PageResponse;
@@ -25,9 +28,10 @@ import com.hrsaas.common.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -38,9 +42,13 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -49,8 +57,11 @@ import java.util.UUID;
 public class ApprovalServiceImpl implements ApprovalService {
 
     private final ApprovalDocumentRepository documentRepository;
+    private final ApproverInboxRepository inboxRepository;
     private final EventPublisher eventPublisher;
-    private final ApprovalStateMachineFactory approvalStateMachineFactory;
+    private final ApprovalTransitionTable approvalTransitionTable;
+    private final BusinessNumberAllocator documentNumberAllocator;
+    private final BulkApprovalEngine bulkApprovalEngine;
 
     @Override
     @Transactional
@@ -89,10 +100,8 @@ public class ApprovalServiceImpl implements ApprovalService {
         ApprovalDocument saved = documentRepository.save(document);
 
         if (request.isSubmitImmediately()) {
-            // Use StateMachine for immediate submission
-            StateMachine<ApprovalStatus, ApprovalEvent> sm = approvalStateMachineFactory.create(saved);
-            approvalStateMachineFactory.sendEvent(sm, ApprovalEvent.SUBMIT);
-            saved.setStatus(sm.getState().getId());
+            // Immediate submission: DRAFT -> IN_PROGRESS
+            approvalTransitionTable.fire(saved, null, ApprovalEvent.SUBMIT);
             saved = documentRepository.save(saved);
             eventPublisher.publish(ApprovalSubmittedEvent.of(saved));
         }
@@ -126,10 +135,22 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public PageResponse<ApprovalDocumentResponse> getPendingApprovals(UUID approverId, Pageable pageable) {
         UUID tenantId = TenantContext.getCurrentTenant();
-        Page<ApprovalDocument> page = documentRepository.findPendingByApproverId(tenantId, approverId, pageable);
-        return PageResponse.from(page, page.getContent().stream()
+
+        // 결재함 프로젝션에서 활성화 순 문서 ID 페이지 + 건수, 문서/결재선은 한 번에 로딩
+        long total = inboxRepository.countPending(tenantId, approverId);
+        List<UUID> documentIds = total == 0 ? List.of() : inboxRepository.findPendingDocumentIds(tenantId, approverId,
+            pageable.isPaged() ? pageable.getOffset() : 0,
+            pageable.isPaged() ? pageable.getPageSize() : (int) total);
+        Map<UUID, ApprovalDocument> documents = documentIds.isEmpty() ? Map.of() :
+            documentRepository.findAllWithLinesByIdIn(tenantId, documentIds).stream()
+                .collect(Collectors.toMap(ApprovalDocument::getId, Function.identity()));
+
+        List<ApprovalDocumentResponse> content = documentIds.stream()
+            .map(documents::get)
+            .filter(Objects::nonNull)
             .map(ApprovalDocumentResponse::from)
-            .toList());
+            .toList();
+        return PageResponse.from(new PageImpl<>(content, pageable, total), content);
     }
 
     @Override
@@ -144,7 +165,7 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public long countPendingApprovals(UUID approverId) {
         UUID tenantId = TenantContext.getCurrentTenant();
-        return documentRepository.countPendingByApproverId(tenantId, approverId);
+        return inboxRepository.countPending(tenantId, approverId);
     }
 
     @Override
@@ -162,16 +183,14 @@ public class ApprovalServiceImpl implements ApprovalService {
     public ApprovalSummaryResponse getSummary(UUID userId) {
         UUID tenantId = TenantContext.getCurrentTenant();
 
-        long pending = documentRepository.countPendingByApproverId(tenantId, userId);
-        long approved = documentRepository.countByStatus(tenantId, ApprovalStatus.APPROVED);
-        long rejected = documentRepository.countByStatus(tenantId, ApprovalStatus.REJECTED);
-        long draft = documentRepository.countByDrafterIdAndStatus(tenantId, userId, ApprovalStatus.DRAFT);
+        ApproverInboxRepository.InboxSummary summary = inboxRepository.summary(tenantId, userId);
 
         return ApprovalSummaryResponse.builder()
-            .pending(pending)
-            .approved(approved)
-            .rejected(rejected)
-            .draft(draft)
+            .pending(summary.pending())
+            .processed(summary.processed())
+            .approved(summary.approved())
+            .rejected(summary.rejected())
+            .draft(summary.draft())
             .build();
     }
 
@@ -216,21 +235,18 @@ public class ApprovalServiceImpl implements ApprovalService {
     public ApprovalDocumentResponse submit(UUID documentId) {
         ApprovalDocument document = findById(documentId);
 
-        // Use StateMachine to handle DRAFT -> IN_PROGRESS transition
-        StateMachine<ApprovalStatus, ApprovalEvent> sm = approvalStateMachineFactory.create(document);
-        boolean accepted = approvalStateMachineFactory.sendEvent(sm, ApprovalEvent.SUBMIT);
+        // DRAFT -> IN_PROGRESS transition
+        boolean accepted = approvalTransitionTable.fire(document, null, ApprovalEvent.SUBMIT);
 
         if (!accepted) {
             throw new IllegalStateException("Cannot submit document in current state: " + document.getStatus());
         }
 
-        // Sync SM state back to entity
-        document.setStatus(sm.getState().getId());
         ApprovalDocument saved = documentRepository.save(document);
 
         eventPublisher.publish(ApprovalSubmittedEvent.of(saved));
 
-        log.info("Approval document submitted via StateMachine: id={}, newStatus={}", documentId, saved.getStatus());
+        log.info("Approval document submitted: id={}, newStatus={}", documentId, saved.getStatus());
         return ApprovalDocumentResponse.from(saved);
     }
 
@@ -272,12 +288,10 @@ public class ApprovalServiceImpl implements ApprovalService {
             case DELEGATE -> currentLine.delegate(request.getDelegateId(), request.getDelegateName());
             case RETURN -> {
                 // APR-G03: 반송 — DRAFT로 복원, 결재선 초기화
-                StateMachine<ApprovalStatus, ApprovalEvent> returnSm = approvalStateMachineFactory.create(document);
-                boolean returnAccepted = approvalStateMachineFactory.sendEvent(returnSm, ApprovalEvent.RETURN_LINE);
+                boolean returnAccepted = approvalTransitionTable.fire(document, currentLine, ApprovalEvent.RETURN_LINE);
                 if (!returnAccepted) {
                     throw new IllegalStateException("Cannot return document in current state: " + document.getStatus());
                 }
-                document.setStatus(returnSm.getState().getId());
 
                 ApprovalHistory returnHistory = ApprovalHistory.builder()
                     .actorId(approverId)
@@ -303,26 +317,15 @@ public class ApprovalServiceImpl implements ApprovalService {
             default -> throw new IllegalArgumentException("Unsupported action type: " + request.getActionType());
         }
 
-        // Use StateMachine to handle state transitions when line is completed
+        // Apply document state transitions when line is completed
         if (currentLine.isCompleted()) {
-            StateMachine<ApprovalStatus, ApprovalEvent> sm = approvalStateMachineFactory.create(document);
-            sm.getExtendedState().getVariables().put("completedLine", currentLine);
-
-            ApprovalEvent smEvent = mapActionToEvent(request.getActionType(), currentLine);
-            approvalStateMachineFactory.sendEvent(sm, smEvent);
-
-            // If line was approved and all lines are done, send COMPLETE event
-            if (smEvent == ApprovalEvent.APPROVE_LINE) {
-                boolean allDone = document.getApprovalLines().stream()
-                    .noneMatch(l -> l.getStatus() == ApprovalLineStatus.WAITING ||
-                                   l.getStatus() == ApprovalLineStatus.ACTIVE);
-                if (allDone) {
-                    approvalStateMachineFactory.sendEvent(sm, ApprovalEvent.COMPLETE);
-                }
-            }
+            ApprovalEvent event = ApprovalTransitionTable.eventFor(request.getActionType(), currentLine);
+            approvalTransitionTable.fire(document, currentLine, event);
 
-            // Sync SM state back to entity
-            document.setStatus(sm.getState().getId());
+            // If line was approved and all lines are done, complete the document
+            if (event == ApprovalEvent.APPROVE_LINE && ApprovalTransitionTable.allLinesDone(document)) {
+                approvalTransitionTable.fire(document, currentLine, ApprovalEvent.COMPLETE);
+            }
         }
 
         ApprovalHistory history = ApprovalHistory.builder()
@@ -341,30 +344,11 @@ public class ApprovalServiceImpl implements ApprovalService {
             eventPublisher.publish(ApprovalCompletedEvent.of(saved));
         }
 
-        log.info("Approval processed via StateMachine: documentId={}, action={}, newStatus={}",
+        log.info("Approval processed: documentId={}, action={}, newStatus={}",
             documentId, request.getActionType(), saved.getStatus());
         return ApprovalDocumentResponse.from(saved);
     }
 
-    /**
-     * Maps an approval action type to the corresponding StateMachine event
-     */
-    private ApprovalEvent mapActionToEvent(ApprovalActionType actionType, ApprovalLine line) {
-        return switch (actionType) {
-            case APPROVE -> {
-                if (line.getLineType() == ApprovalLineType.ARBITRARY) {
-                    yield ApprovalEvent.ARBITRARY_APPROVE;
-                }
-                yield ApprovalEvent.APPROVE_LINE;
-            }
-            case REJECT -> ApprovalEvent.REJECT_LINE;
-            case AGREE -> ApprovalEvent.AGREE_LINE;
-            case RETURN -> ApprovalEvent.RETURN_LINE;
-            case DIRECT_APPROVE -> ApprovalEvent.ARBITRARY_APPROVE;
-            default -> throw new IllegalArgumentException("Cannot map action to SM event: " + actionType);
-        };
-    }
-
     @Override
     @Transactional
     public ApprovalDocumentResponse recall(UUID documentId, UUID drafterId) {
@@ -374,18 +358,15 @@ public class ApprovalServiceImpl implements ApprovalService {
             throw new ForbiddenException("APV_003", "본인이 기안한 문서만 회수할 수 있습니다");
         }
 
-        // Use StateMachine for RECALL transition
-        StateMachine<ApprovalStatus, ApprovalEvent> sm = approvalStateMachineFactory.create(document);
-        boolean accepted = approvalStateMachineFactory.sendEvent(sm, ApprovalEvent.RECALL);
+        boolean accepted = approvalTransitionTable.fire(document, null, ApprovalEvent.RECALL);
 
         if (!accepted) {
             throw new IllegalStateException("Cannot recall document in current state: " + document.getStatus());
         }
 
-        document.setStatus(sm.getState().getId());
         ApprovalDocument saved = documentRepository.save(document);
 
-        log.info("Approval document recalled via StateMachine: id={}", documentId);
+        log.info("Approval document recalled: id={}", documentId);
         return ApprovalDocumentResponse.from(saved);
     }
 
@@ -398,18 +379,15 @@ public class ApprovalServiceImpl implements ApprovalService {
             throw new ForbiddenException("APV_003", "본인이 기안한 문서만 취소할 수 있습니다");
         }
 
-        // Use StateMachine for CANCEL transition
-        StateMachine<ApprovalStatus, ApprovalEvent> sm = approvalStateMachineFactory.create(document);
-        boolean accepted = approvalStateMachineFactory.sendEvent(sm, ApprovalEvent.CANCEL);
+        boolean accepted = approvalTransitionTable.fire(document, null, ApprovalEvent.CANCEL);
 
         if (!accepted) {
             throw new IllegalStateException("Cannot cancel document in current state: " + document.getStatus());
         }
 
-        document.setStatus(sm.getState().getId());
         ApprovalDocument saved = documentRepository.save(document);
 
-        log.info("Approval document canceled via StateMachine: id={}", documentId);
+        log.info("Approval document canceled: id={}", documentId);
         return ApprovalDocumentResponse.from(saved);
     }
 
@@ -498,42 +476,19 @@ public class ApprovalServiceImpl implements ApprovalService {
 
     /**
      * APR-G14: 일괄 결재 처리
+     * 문서별로 짧은 트랜잭션에서 커밋하므로 호출 트랜잭션에 참여하지 않습니다.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BatchApprovalResponse batchProcess(UUID approverId, BatchApprovalRequest request) {
-        List<BatchApprovalResponse.BatchItemResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (UUID documentId : request.getDocumentIds()) {
-            try {
-                ProcessApprovalRequest processRequest = new ProcessApprovalRequest();
-                processRequest.setActionType(request.getActionType());
-                processRequest.setComment(request.getComment());
-                process(documentId, approverId, processRequest);
-                results.add(BatchApprovalResponse.BatchItemResult.builder()
-                    .documentId(documentId)
-                    .success(true)
-                    .build());
-                successCount++;
-            } catch (Exception e) {
-                log.warn("Batch approval failed for document: {}", documentId, e);
-                results.add(BatchApprovalResponse.BatchItemResult.builder()
-                    .documentId(documentId)
-                    .success(false)
-                    .errorMessage(e.getMessage())
-                    .build());
-                failureCount++;
-            }
-        }
+        return bulkApprovalEngine.run(approverId, request, null);
+    }
 
-        return BatchApprovalResponse.builder()
-            .totalRequested(request.getDocumentIds().size())
-            .successCount(successCount)
-            .failureCount(failureCount)
-            .results(results)
-            .build();
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchApprovalResponse batchProcess(UUID approverId, BatchApprovalRequest request,
+                                              Consumer<BatchApprovalResponse.BatchItemResult> onResult) {
+        return bulkApprovalEngine.run(approverId, request, onResult);
     }
 
     /**
@@ -549,8 +504,11 @@ public class ApprovalServiceImpl implements ApprovalService {
 
     private String generateDocumentNumber(UUID tenantId, String documentType) {
         String prefix = documentType.toUpperCase() + "-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
-        String maxNumber = documentRepository.findMaxDocumentNumberByPrefix(tenantId, prefix).orElse(prefix + "0000");
-        int nextNumber = Integer.parseInt(maxNumber.substring(maxNumber.length() - 4)) + 1;
+        // 카운터 행이 없을 때만(해당 일자 첫 발급) 기존 최대 번호 다음부터 시작
+        long nextNumber = documentNumberAllocator.next(tenantId, prefix, () ->
+            documentRepository.findMaxDocumentNumberByPrefix(tenantId, prefix)
+                .map(max -> Long.parseLong(max.substring(prefix.length())) + 1)
+                .orElse(1L));
         return prefix + String.format("%04d", nextNumber);
     }
 
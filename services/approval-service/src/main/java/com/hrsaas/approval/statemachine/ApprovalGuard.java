@@ -17,24 +17,24 @@ public class ApprovalGuard {
      * Guard: 병렬 결재 그룹 완료 여부 체크
      */
     public Guard<ApprovalStatus, ApprovalEvent> parallelGroupCompleted() {
-        return context -> {
-            ApprovalDocument document = getDocument(context);
-            ApprovalLine completedLine = getCompletedLine(context);
-            if (completedLine == null || document == null) return true;
+        return context -> parallelGroupCompleted(getDocument(context), getCompletedLine(context));
+    }
 
-            if (completedLine.getLineType() != ApprovalLineType.PARALLEL) {
-                return true;
-            }
+    public boolean parallelGroupCompleted(ApprovalDocument document, ApprovalLine completedLine) {
+        if (completedLine == null || document == null) return true;
 
-            int sequence = completedLine.getSequence();
-            boolean allCompleted = document.getApprovalLines().stream()
-                .filter(l -> l.getSequence() == sequence)
-                .filter(l -> l.getLineType() == ApprovalLineType.PARALLEL)
-                .allMatch(ApprovalLine::isCompleted);
+        if (completedLine.getLineType() != ApprovalLineType.PARALLEL) {
+            return true;
+        }
 
-            log.debug("Parallel group completed check: sequence={}, result={}", sequence, allCompleted);
-            return allCompleted;
-        };
+        int sequence = completedLine.getSequence();
+        boolean allCompleted = document.getApprovalLines().stream()
+            .filter(l -> l.getSequence() == sequence)
+            .filter(l -> l.getLineType() == ApprovalLineType.PARALLEL)
+            .allMatch(ApprovalLine::isCompleted);
+
+        log.debug("Parallel group completed check: sequence={}, result={}", sequence, allCompleted);
+        return allCompleted;
     }
 
     /**
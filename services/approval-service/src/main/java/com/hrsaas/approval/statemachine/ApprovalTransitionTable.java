@@ -0,0 +1,126 @@
+package com.hrsaas.approval.statemachine;
+
+import com.hrsaas.approval.domain.entity.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * 결재 문서 상태 전이 테이블
+ * <p>
+ * {@code ApprovalStateMachineConfig}와 동일한 전이를 (상태, 이벤트) 키의 불변 EnumMap으로 미리 구성하고,
+ * {@link ApprovalGuard}/{@link ApprovalAction}의 가드와 액션을 문서에 직접 적용합니다.
+ * 호출마다 StateMachine 인스턴스를 생성/리셋하지 않으므로 할당과 블로킹이 없고, 스레드 간 공유해도 안전합니다.
+ * <p>
+ * 전이 규칙을 바꿀 때는 {@code ApprovalStateMachineConfig}도 함께 수정해야 합니다 (ApprovalTransitionTableTest에서 일치 여부 검증).
+ */
+@Slf4j
+@Component
+public class ApprovalTransitionTable {
+
+    /**
+     * @param target 내부 전이(상태 변화 없음)이면 null
+     */
+    private record Transition(ApprovalStatus target,
+                              BiPredicate<ApprovalDocument, ApprovalLine> guard,
+                              BiConsumer<ApprovalDocument, ApprovalLine> action) {
+    }
+
+    private static final BiPredicate<ApprovalDocument, ApprovalLine> ALWAYS = (document, line) -> true;
+    private static final BiConsumer<ApprovalDocument, ApprovalLine> NO_ACTION = (document, line) -> { };
+
+    private final Map<ApprovalStatus, Map<ApprovalEvent, Transition>> transitions;
+
+    public ApprovalTransitionTable(ApprovalGuard approvalGuard, ApprovalAction approvalAction) {
+        Map<ApprovalStatus, Map<ApprovalEvent, Transition>> table = new EnumMap<>(ApprovalStatus.class);
+
+        // DRAFT -> IN_PROGRESS (submit), DRAFT -> CANCELED
+        put(table, ApprovalStatus.DRAFT, ApprovalEvent.SUBMIT,
+            ApprovalStatus.IN_PROGRESS, ALWAYS, approvalAction::activateFirstLine);
+        put(table, ApprovalStatus.DRAFT, ApprovalEvent.CANCEL, ApprovalStatus.CANCELED, ALWAYS, NO_ACTION);
+
+        // IN_PROGRESS -> REJECTED / APPROVED / DRAFT(반송) / RECALLED
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.REJECT_LINE,
+            ApprovalStatus.REJECTED, ALWAYS, approvalAction::rejectDocument);
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.COMPLETE,
+            ApprovalStatus.APPROVED, ALWAYS, approvalAction::completeApproval);
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.ARBITRARY_APPROVE,
+            ApprovalStatus.APPROVED, ALWAYS, approvalAction::processArbitraryApproval);
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.RETURN_LINE,
+            ApprovalStatus.DRAFT, ALWAYS, approvalAction::returnToDraft);
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.RECALL, ApprovalStatus.RECALLED, ALWAYS, NO_ACTION);
+
+        // IN_PROGRESS 내부 전이 (결재선 승인/합의)
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.APPROVE_LINE,
+            null, approvalGuard::parallelGroupCompleted, approvalAction::activateNextLine);
+        put(table, ApprovalStatus.IN_PROGRESS, ApprovalEvent.AGREE_LINE, null, ALWAYS, NO_ACTION);
+
+        // PENDING -> RECALLED / CANCELED
+        put(table, ApprovalStatus.PENDING, ApprovalEvent.RECALL, ApprovalStatus.RECALLED, ALWAYS, NO_ACTION);
+        put(table, ApprovalStatus.PENDING, ApprovalEvent.CANCEL, ApprovalStatus.CANCELED, ALWAYS, NO_ACTION);
+
+        table.replaceAll((status, events) -> Collections.unmodifiableMap(events));
+        this.transitions = Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * 현재 문서 상태에서 이벤트를 적용합니다. 액션 실행 후 대상 상태로 변경합니다.
+     *
+     * @param completedLine 방금 처리된 결재선 (결재선과 무관한 이벤트는 null)
+     * @return 전이가 허용되었는지 (정의되지 않은 전이이거나 가드 불충족이면 false, 문서는 변경되지 않음)
+     */
+    public boolean fire(ApprovalDocument document, ApprovalLine completedLine, ApprovalEvent event) {
+        ApprovalStatus source = document.getStatus();
+        Map<ApprovalEvent, Transition> events = transitions.get(source);
+        Transition transition = events != null ? events.get(event) : null;
+        if (transition == null || !transition.guard().test(document, completedLine)) {
+            log.debug("Event not accepted: event={}, state={}", event, source);
+            return false;
+        }
+
+        transition.action().accept(document, completedLine);
+        if (transition.target() != null) {
+            document.setStatus(transition.target());
+        }
+        log.debug("Event accepted: event={}, {} -> {}", event, source, document.getStatus());
+        return true;
+    }
+
+    /**
+     * 결재 처리 유형에 대응하는 이벤트
+     */
+    public static ApprovalEvent eventFor(ApprovalActionType actionType, ApprovalLine line) {
+        return switch (actionType) {
+            case APPROVE -> line.getLineType() == ApprovalLineType.ARBITRARY
+                ? ApprovalEvent.ARBITRARY_APPROVE
+                : ApprovalEvent.APPROVE_LINE;
+            case REJECT -> ApprovalEvent.REJECT_LINE;
+            case AGREE -> ApprovalEvent.AGREE_LINE;
+            case RETURN -> ApprovalEvent.RETURN_LINE;
+            case DIRECT_APPROVE -> ApprovalEvent.ARBITRARY_APPROVE;
+            default -> throw new IllegalArgumentException("Cannot map action to SM event: " + actionType);
+        };
+    }
+
+    /**
+     * 대기/진행 중인 결재선이 남아있지 않은지
+     */
+    public static boolean allLinesDone(ApprovalDocument document) {
+        return document.getApprovalLines().stream()
+            .noneMatch(l -> l.getStatus() == ApprovalLineStatus.WAITING ||
+                           l.getStatus() == ApprovalLineStatus.ACTIVE);
+    }
+
+    private static void put(Map<ApprovalStatus, Map<ApprovalEvent, Transition>> table,
+                            ApprovalStatus source, ApprovalEvent event, ApprovalStatus target,
+                            BiPredicate<ApprovalDocument, ApprovalLine> guard,
+                            BiConsumer<ApprovalDocument, ApprovalLine> action) {
+        table.computeIfAbsent(source, s -> new EnumMap<>(ApprovalEvent.class))
+            .put(event, new Transition(target, guard, action));
+    }
+}
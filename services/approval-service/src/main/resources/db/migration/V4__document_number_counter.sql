@@ -0,0 +1,22 @@
+-- Document number counters for BusinessNumberAllocator (per tenant / document type / day)
+-- counter_key: '<DOCUMENT_TYPE>-<yyyyMMdd>-', next_value: first value not yet reserved by any node
+CREATE TABLE IF NOT EXISTS hr_approval.business_number_counter (
+    tenant_id   UUID NOT NULL,
+    counter_key VARCHAR(100) NOT NULL,
+    next_value  BIGINT NOT NULL,
+    updated_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT pk_business_number_counter PRIMARY KEY (tenant_id, counter_key)
+);
+
+ALTER TABLE hr_approval.business_number_counter ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_approval.business_number_counter FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY business_number_counter_tenant_isolation ON hr_approval.business_number_counter
+    FOR ALL
+    USING (tenant_id = hr_approval.get_current_tenant_safe())
+    WITH CHECK (tenant_id = hr_approval.get_current_tenant_safe());
+
+-- Counters are per tenant, so document numbers are unique per tenant rather than globally
+ALTER TABLE hr_approval.approval_document DROP CONSTRAINT IF EXISTS approval_document_document_number_key;
+ALTER TABLE hr_approval.approval_document
+    ADD CONSTRAINT uk_approval_document_tenant_number UNIQUE (tenant_id, document_number);
@@ -0,0 +1,245 @@
+-- Approver inbox projection
+-- approver_inbox:        one row per ACTIVE approval line, ordered by activated_at per approver
+-- approver_inbox_count:  pending / processed (APPROVED, REJECTED lines) / draft counts per user
+-- approval_status_count: document count per tenant and status
+-- Maintained by triggers on approval_line / approval_document, so every write path
+-- (service, bulk approval, schedulers) keeps the projection in the same transaction.
+
+SET search_path TO hr_approval, public;
+
+CREATE TABLE IF NOT EXISTS hr_approval.approver_inbox (
+    line_id      UUID        NOT NULL REFERENCES hr_approval.approval_line (id) ON DELETE CASCADE,
+    tenant_id    UUID        NOT NULL,
+    approver_id  UUID        NOT NULL,
+    document_id  UUID        NOT NULL REFERENCES hr_approval.approval_document (id) ON DELETE CASCADE,
+    activated_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT pk_approver_inbox PRIMARY KEY (line_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_approver_inbox_pending
+    ON hr_approval.approver_inbox (tenant_id, approver_id, activated_at, line_id);
+
+CREATE TABLE IF NOT EXISTS hr_approval.approver_inbox_count (
+    tenant_id UUID   NOT NULL,
+    user_id   UUID   NOT NULL,
+    pending   BIGINT NOT NULL DEFAULT 0,
+    processed BIGINT NOT NULL DEFAULT 0,
+    draft     BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_approver_inbox_count PRIMARY KEY (tenant_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS hr_approval.approval_status_count (
+    tenant_id      UUID        NOT NULL,
+    status         VARCHAR(20) NOT NULL,
+    document_count BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_approval_status_count PRIMARY KEY (tenant_id, status)
+);
+
+-- ============================================================
+-- Counter helpers
+-- ============================================================
+CREATE OR REPLACE FUNCTION hr_approval.bump_inbox_count(p_tenant_id UUID, p_user_id UUID,
+                                                        p_pending INT, p_processed INT, p_draft INT)
+RETURNS VOID AS $$
+BEGIN
+    IF p_pending = 0 AND p_processed = 0 AND p_draft = 0 THEN
+        RETURN;
+    END IF;
+    INSERT INTO hr_approval.approver_inbox_count AS c (tenant_id, user_id, pending, processed, draft)
+    VALUES (p_tenant_id, p_user_id, p_pending, p_processed, p_draft)
+    ON CONFLICT (tenant_id, user_id) DO UPDATE
+        SET pending = c.pending + EXCLUDED.pending,
+            processed = c.processed + EXCLUDED.processed,
+            draft = c.draft + EXCLUDED.draft;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION hr_approval.bump_status_count(p_tenant_id UUID, p_status VARCHAR, p_delta INT)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO hr_approval.approval_status_count AS c (tenant_id, status, document_count)
+    VALUES (p_tenant_id, p_status, p_delta)
+    ON CONFLICT (tenant_id, status) DO UPDATE
+        SET document_count = c.document_count + EXCLUDED.document_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================
+-- approval_line -> approver_inbox, pending / processed counts
+-- ============================================================
+CREATE OR REPLACE FUNCTION hr_approval.sync_approver_inbox()
+RETURNS TRIGGER AS $$
+DECLARE
+    v_document_id   UUID;
+    v_tenant_id     UUID;
+    v_old_pending   INT := 0;
+    v_old_processed INT := 0;
+    v_new_pending   INT := 0;
+    v_new_processed INT := 0;
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        v_document_id := OLD.document_id;
+        v_old_pending := CASE WHEN OLD.status = 'ACTIVE' THEN 1 ELSE 0 END;
+        v_old_processed := CASE WHEN OLD.status IN ('APPROVED', 'REJECTED') THEN 1 ELSE 0 END;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        v_document_id := NEW.document_id;
+        v_new_pending := CASE WHEN NEW.status = 'ACTIVE' THEN 1 ELSE 0 END;
+        v_new_processed := CASE WHEN NEW.status IN ('APPROVED', 'REJECTED') THEN 1 ELSE 0 END;
+    END IF;
+
+    SELECT d.tenant_id INTO v_tenant_id FROM hr_approval.approval_document d WHERE d.id = v_document_id;
+    IF v_tenant_id IS NULL THEN
+        -- Cascade from a document delete: counts were already adjusted by trg_approval_document_inbox_delete
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND OLD.approver_id = NEW.approver_id THEN
+        PERFORM hr_approval.bump_inbox_count(v_tenant_id, NEW.approver_id,
+            v_new_pending - v_old_pending, v_new_processed - v_old_processed, 0);
+    ELSE
+        IF TG_OP <> 'INSERT' THEN
+            PERFORM hr_approval.bump_inbox_count(v_tenant_id, OLD.approver_id, -v_old_pending, -v_old_processed, 0);
+        END IF;
+        IF TG_OP <> 'DELETE' THEN
+            PERFORM hr_approval.bump_inbox_count(v_tenant_id, NEW.approver_id, v_new_pending, v_new_processed, 0);
+        END IF;
+    END IF;
+
+    IF v_old_pending = 1 AND v_new_pending = 0 THEN
+        DELETE FROM hr_approval.approver_inbox WHERE line_id = OLD.id;
+    ELSIF v_new_pending = 1 THEN
+        INSERT INTO hr_approval.approver_inbox (line_id, tenant_id, approver_id, document_id, activated_at)
+        VALUES (NEW.id, v_tenant_id, NEW.approver_id, NEW.document_id, COALESCE(NEW.activated_at, now()))
+        ON CONFLICT (line_id) DO UPDATE
+            SET approver_id = EXCLUDED.approver_id,
+                activated_at = EXCLUDED.activated_at;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================
+-- approval_document -> status counts, draft counts
+-- ============================================================
+CREATE OR REPLACE FUNCTION hr_approval.sync_approval_document_counts()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.drafter_id = NEW.drafter_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM hr_approval.bump_status_count(OLD.tenant_id, OLD.status, -1);
+        IF OLD.status = 'DRAFT' THEN
+            PERFORM hr_approval.bump_inbox_count(OLD.tenant_id, OLD.drafter_id, 0, 0, -1);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM hr_approval.bump_status_count(NEW.tenant_id, NEW.status, 1);
+        IF NEW.status = 'DRAFT' THEN
+            PERFORM hr_approval.bump_inbox_count(NEW.tenant_id, NEW.drafter_id, 0, 0, 1);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Lines are deleted by FK cascade after their document, when the line trigger can no longer
+-- resolve the tenant, so their counts are released here while the lines are still visible
+CREATE OR REPLACE FUNCTION hr_approval.release_document_line_counts()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM hr_approval.bump_inbox_count(OLD.tenant_id, l.approver_id, -l.pending, -l.processed, 0)
+    FROM (
+        SELECT approver_id,
+               COUNT(*) FILTER (WHERE status = 'ACTIVE')::INT AS pending,
+               COUNT(*) FILTER (WHERE status IN ('APPROVED', 'REJECTED'))::INT AS processed
+        FROM hr_approval.approval_line
+        WHERE document_id = OLD.id
+        GROUP BY approver_id
+    ) l;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_approval_line_inbox
+    AFTER INSERT OR DELETE OR UPDATE OF status, approver_id, activated_at ON hr_approval.approval_line
+    FOR EACH ROW
+    EXECUTE FUNCTION hr_approval.sync_approver_inbox();
+
+CREATE TRIGGER trg_approval_document_counts
+    AFTER INSERT OR DELETE OR UPDATE OF status, drafter_id ON hr_approval.approval_document
+    FOR EACH ROW
+    EXECUTE FUNCTION hr_approval.sync_approval_document_counts();
+
+CREATE TRIGGER trg_approval_document_inbox_delete
+    BEFORE DELETE ON hr_approval.approval_document
+    FOR EACH ROW
+    EXECUTE FUNCTION hr_approval.release_document_line_counts();
+
+-- ============================================================
+-- Backfill from existing documents (RLS lifted for the owner while reading all tenants)
+-- ============================================================
+ALTER TABLE hr_approval.approval_document NO FORCE ROW LEVEL SECURITY;
+
+INSERT INTO hr_approval.approver_inbox (line_id, tenant_id, approver_id, document_id, activated_at)
+SELECT l.id, d.tenant_id, l.approver_id, l.document_id, COALESCE(l.activated_at, l.updated_at)
+FROM hr_approval.approval_line l
+JOIN hr_approval.approval_document d ON d.id = l.document_id
+WHERE l.status = 'ACTIVE'
+ON CONFLICT (line_id) DO NOTHING;
+
+INSERT INTO hr_approval.approver_inbox_count (tenant_id, user_id, pending, processed, draft)
+SELECT tenant_id, user_id, SUM(pending), SUM(processed), SUM(draft)
+FROM (
+    SELECT d.tenant_id, l.approver_id AS user_id,
+           COUNT(*) FILTER (WHERE l.status = 'ACTIVE') AS pending,
+           COUNT(*) FILTER (WHERE l.status IN ('APPROVED', 'REJECTED')) AS processed,
+           0 AS draft
+    FROM hr_approval.approval_line l
+    JOIN hr_approval.approval_document d ON d.id = l.document_id
+    GROUP BY d.tenant_id, l.approver_id
+    UNION ALL
+    SELECT d.tenant_id, d.drafter_id, 0, 0, COUNT(*)
+    FROM hr_approval.approval_document d
+    WHERE d.status = 'DRAFT'
+    GROUP BY d.tenant_id, d.drafter_id
+) c
+GROUP BY tenant_id, user_id
+ON CONFLICT (tenant_id, user_id) DO NOTHING;
+
+INSERT INTO hr_approval.approval_status_count (tenant_id, status, document_count)
+SELECT tenant_id, status, COUNT(*)
+FROM hr_approval.approval_document
+GROUP BY tenant_id, status
+ON CONFLICT (tenant_id, status) DO NOTHING;
+
+ALTER TABLE hr_approval.approval_document FORCE ROW LEVEL SECURITY;
+
+-- ============================================================
+-- RLS
+-- ============================================================
+ALTER TABLE hr_approval.approver_inbox ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_approval.approver_inbox FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY approver_inbox_tenant_isolation ON hr_approval.approver_inbox
+    FOR ALL
+    USING (tenant_id = hr_approval.get_current_tenant_safe())
+    WITH CHECK (tenant_id = hr_approval.get_current_tenant_safe());
+
+ALTER TABLE hr_approval.approver_inbox_count ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_approval.approver_inbox_count FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY approver_inbox_count_tenant_isolation ON hr_approval.approver_inbox_count
+    FOR ALL
+    USING (tenant_id = hr_approval.get_current_tenant_safe())
+    WITH CHECK (tenant_id = hr_approval.get_current_tenant_safe());
+
+ALTER TABLE hr_approval.approval_status_count ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_approval.approval_status_count FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY approval_status_count_tenant_isolation ON hr_approval.approval_status_count
+    FOR ALL
+    USING (tenant_id = hr_approval.get_current_tenant_safe())
+    WITH CHECK (tenant_id = hr_approval.get_current_tenant_safe());
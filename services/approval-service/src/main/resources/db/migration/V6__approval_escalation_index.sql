@@ -0,0 +1,7 @@
+-- ============================================================
+-- Deadline escalation: keyset scan over overdue, not-yet-escalated documents
+-- (ApprovalEscalationRepository.findOverdueIds orders by id and filters on deadline_at)
+-- ============================================================
+CREATE INDEX IF NOT EXISTS idx_approval_document_escalation_pending
+    ON hr_approval.approval_document (id, deadline_at)
+    WHERE status = 'IN_PROGRESS' AND escalated = false AND deadline_at IS NOT NULL;
@@ -0,0 +1,125 @@
+-- Append-only deltas for the approver inbox counters (V5)
+-- The V5 triggers upserted approver_inbox_count / approval_status_count rows in the order the
+-- transition touched them (old status before new status, old approver before new approver), so
+-- concurrent approvals - especially parallel bulk approval chunks - locked the same shared rows
+-- in opposite orders and deadlocked. Triggers now only append delta rows, which takes no lock
+-- on shared rows; readers add the deltas to the base counts and a single compactor folds them
+-- into the base tables in key order.
+
+SET search_path TO hr_approval, public;
+
+CREATE TABLE IF NOT EXISTS hr_approval.approver_inbox_count_delta (
+    id        BIGSERIAL NOT NULL,
+    tenant_id UUID      NOT NULL,
+    user_id   UUID      NOT NULL,
+    pending   INT       NOT NULL DEFAULT 0,
+    processed INT       NOT NULL DEFAULT 0,
+    draft     INT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_approver_inbox_count_delta PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_approver_inbox_count_delta_user
+    ON hr_approval.approver_inbox_count_delta (tenant_id, user_id);
+
+CREATE TABLE IF NOT EXISTS hr_approval.approval_status_count_delta (
+    id        BIGSERIAL   NOT NULL,
+    tenant_id UUID        NOT NULL,
+    status    VARCHAR(20) NOT NULL,
+    delta     INT         NOT NULL,
+    CONSTRAINT pk_approval_status_count_delta PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_approval_status_count_delta_status
+    ON hr_approval.approval_status_count_delta (tenant_id, status);
+
+-- ============================================================
+-- Counter helpers: append instead of upsert
+-- ============================================================
+CREATE OR REPLACE FUNCTION hr_approval.bump_inbox_count(p_tenant_id UUID, p_user_id UUID,
+                                                        p_pending INT, p_processed INT, p_draft INT)
+RETURNS VOID AS $$
+BEGIN
+    IF p_pending = 0 AND p_processed = 0 AND p_draft = 0 THEN
+        RETURN;
+    END IF;
+    INSERT INTO hr_approval.approver_inbox_count_delta (tenant_id, user_id, pending, processed, draft)
+    VALUES (p_tenant_id, p_user_id, p_pending, p_processed, p_draft);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION hr_approval.bump_status_count(p_tenant_id UUID, p_status VARCHAR, p_delta INT)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO hr_approval.approval_status_count_delta (tenant_id, status, delta)
+    VALUES (p_tenant_id, p_status, p_delta);
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================
+-- Compaction: moves committed deltas into the base counters in one transaction, so a reader sees
+-- each delta either in the delta table or in the base row. Only one compactor runs at a time and
+-- it upserts base rows sorted by key, so it cannot deadlock with another compactor.
+-- Returns the number of delta rows folded.
+-- ============================================================
+CREATE OR REPLACE FUNCTION hr_approval.compact_count_deltas()
+RETURNS INT AS $$
+DECLARE
+    v_inbox  INT;
+    v_status INT;
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(hashtext('hr_approval.compact_count_deltas')) THEN
+        RETURN 0;
+    END IF;
+
+    WITH moved AS (
+        DELETE FROM hr_approval.approver_inbox_count_delta
+        RETURNING tenant_id, user_id, pending, processed, draft
+    ), folded AS (
+        INSERT INTO hr_approval.approver_inbox_count AS c (tenant_id, user_id, pending, processed, draft)
+        SELECT tenant_id, user_id, SUM(pending), SUM(processed), SUM(draft)
+        FROM moved
+        GROUP BY tenant_id, user_id
+        ORDER BY tenant_id, user_id
+        ON CONFLICT (tenant_id, user_id) DO UPDATE
+            SET pending = c.pending + EXCLUDED.pending,
+                processed = c.processed + EXCLUDED.processed,
+                draft = c.draft + EXCLUDED.draft
+    )
+    SELECT COUNT(*) INTO v_inbox FROM moved;
+
+    WITH moved AS (
+        DELETE FROM hr_approval.approval_status_count_delta
+        RETURNING tenant_id, status, delta
+    ), folded AS (
+        INSERT INTO hr_approval.approval_status_count AS c (tenant_id, status, document_count)
+        SELECT tenant_id, status, SUM(delta)
+        FROM moved
+        GROUP BY tenant_id, status
+        ORDER BY tenant_id, status
+        ON CONFLICT (tenant_id, status) DO UPDATE
+            SET document_count = c.document_count + EXCLUDED.document_count
+    )
+    SELECT COUNT(*) INTO v_status FROM moved;
+
+    RETURN v_inbox + v_status;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================
+-- RLS
+-- ============================================================
+ALTER TABLE hr_approval.approver_inbox_count_delta ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_approval.approver_inbox_count_delta FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY approver_inbox_count_delta_tenant_isolation ON hr_approval.approver_inbox_count_delta
+    FOR ALL
+    USING (tenant_id = hr_approval.get_current_tenant_safe())
+    WITH CHECK (tenant_id = hr_approval.get_current_tenant_safe());
+
+ALTER TABLE hr_approval.approval_status_count_delta ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_approval.approval_status_count_delta FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY approval_status_count_delta_tenant_isolation ON hr_approval.approval_status_count_delta
+    FOR ALL
+    USING (tenant_id = hr_approval.get_current_tenant_safe())
+    WITH CHECK (tenant_id = hr_approval.get_current_tenant_safe());
@@ -0,0 +1,81 @@
+-- Count delta compaction without a tenant (V8)
+-- The compaction scheduler calls compact_count_deltas() with no tenant bound. Under FORCE ROW LEVEL
+-- SECURITY the delta tables then show no rows to any role without BYPASSRLS, so the function folded
+-- nothing and the deltas grew without bound. The function now runs as a dedicated NOLOGIN role that
+-- bypasses RLS and may only touch the count tables.
+-- Creating a BYPASSRLS role needs a superuser (rds_superuser on RDS); where the migration user cannot,
+-- create hr_approval_compactor beforehand and this migration only grants and re-owns.
+
+SET search_path TO hr_approval, public;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_roles WHERE rolname = 'hr_approval_compactor') THEN
+        CREATE ROLE hr_approval_compactor NOLOGIN BYPASSRLS;
+    END IF;
+END
+$$;
+
+-- CREATE is required of a function's owner
+GRANT USAGE, CREATE ON SCHEMA hr_approval TO hr_approval_compactor;
+GRANT SELECT, DELETE ON hr_approval.approver_inbox_count_delta, hr_approval.approval_status_count_delta
+    TO hr_approval_compactor;
+GRANT SELECT, INSERT, UPDATE ON hr_approval.approver_inbox_count, hr_approval.approval_status_count
+    TO hr_approval_compactor;
+
+-- ============================================================
+-- Compaction: unchanged body, now SECURITY DEFINER with a pinned search_path (every object it uses is
+-- schema-qualified, so callers cannot shadow them)
+-- ============================================================
+CREATE OR REPLACE FUNCTION hr_approval.compact_count_deltas()
+RETURNS INT AS $$
+DECLARE
+    v_inbox  INT;
+    v_status INT;
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(hashtext('hr_approval.compact_count_deltas')) THEN
+        RETURN 0;
+    END IF;
+
+    WITH moved AS (
+        DELETE FROM hr_approval.approver_inbox_count_delta
+        RETURNING tenant_id, user_id, pending, processed, draft
+    ), folded AS (
+        INSERT INTO hr_approval.approver_inbox_count AS c (tenant_id, user_id, pending, processed, draft)
+        SELECT tenant_id, user_id, SUM(pending), SUM(processed), SUM(draft)
+        FROM moved
+        GROUP BY tenant_id, user_id
+        ORDER BY tenant_id, user_id
+        ON CONFLICT (tenant_id, user_id) DO UPDATE
+            SET pending = c.pending + EXCLUDED.pending,
+                processed = c.processed + EXCLUDED.processed,
+                draft = c.draft + EXCLUDED.draft
+    )
+    SELECT COUNT(*) INTO v_inbox FROM moved;
+
+    WITH moved AS (
+        DELETE FROM hr_approval.approval_status_count_delta
+        RETURNING tenant_id, status, delta
+    ), folded AS (
+        INSERT INTO hr_approval.approval_status_count AS c (tenant_id, status, document_count)
+        SELECT tenant_id, status, SUM(delta)
+        FROM moved
+        GROUP BY tenant_id, status
+        ORDER BY tenant_id, status
+        ON CONFLICT (tenant_id, status) DO UPDATE
+            SET document_count = c.document_count + EXCLUDED.document_count
+    )
+    SELECT COUNT(*) INTO v_status FROM moved;
+
+    RETURN v_inbox + v_status;
+END;
+$$ LANGUAGE plpgsql SECURITY DEFINER SET search_path = pg_catalog, pg_temp;
+
+-- Re-owning needs membership in the new owner role; it is revoked again so the application role
+-- cannot SET ROLE to bypass RLS itself.
+GRANT hr_approval_compactor TO CURRENT_USER;
+ALTER FUNCTION hr_approval.compact_count_deltas() OWNER TO hr_approval_compactor;
+REVOKE hr_approval_compactor FROM CURRENT_USER;
+
+REVOKE EXECUTE ON FUNCTION hr_approval.compact_count_deltas() FROM PUBLIC;
+GRANT EXECUTE ON FUNCTION hr_approval.compact_count_deltas() TO CURRENT_USER;
@@ -0,0 +1,107 @@
+package com.hrsaas.approval.listener;
+
+import com.hrsaas.approval.service.ApprovalLineResolver;
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.event.DomainEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApproverChangedListener Tests")
+class ApproverChangedListenerTest {
+
+    @Mock
+    private ApprovalLineResolver approvalLineResolver;
+
+    @InjectMocks
+    private ApproverChangedListener listener;
+
+    @Test
+    @DisplayName("handleMessage: SNS-wrapped affiliation change evicts the employee and department")
+    void handleMessage_affiliationChanged_evicts() {
+        UUID employeeId = UUID.randomUUID();
+        UUID departmentId = UUID.randomUUID();
+        String event = JsonUtils.toJson(new EmployeeAffiliationChangedEvent(UUID.randomUUID(), employeeId, departmentId));
+
+        listener.handleMessage(JsonUtils.toJson(Map.of("Type", "Notification", "Message", event)));
+
+        verify(approvalLineResolver).evictAffiliation(employeeId, departmentId);
+    }
+
+    @Test
+    @DisplayName("handleMessage: department update evicts the department's heads and holders")
+    void handleMessage_departmentUpdated_evictsDepartment() {
+        UUID departmentId = UUID.randomUUID();
+
+        listener.handleMessage(JsonUtils.toJson(new DepartmentUpdatedEvent(UUID.randomUUID(), departmentId)));
+
+        verify(approvalLineResolver).evictDepartment(departmentId);
+    }
+
+    @Test
+    @DisplayName("handleMessage: unrelated events are ignored")
+    void handleMessage_unknownEvent_ignored() {
+        listener.handleMessage("{\"eventType\":\"EmployeeCreatedEvent\"}");
+
+        verifyNoInteractions(approvalLineResolver);
+    }
+
+    /**
+     * Same class name and payload fields as employee-service's event, serialized through DomainEvent.
+     */
+    static class EmployeeAffiliationChangedEvent extends DomainEvent {
+
+        private final UUID employeeId;
+        private final UUID departmentId;
+
+        EmployeeAffiliationChangedEvent(UUID tenantId, UUID employeeId, UUID departmentId) {
+            super(tenantId, null);
+            this.employeeId = employeeId;
+            this.departmentId = departmentId;
+        }
+
+        public UUID getEmployeeId() {
+            return employeeId;
+        }
+
+        public UUID getDepartmentId() {
+            return departmentId;
+        }
+
+        @Override
+        public String getTopic() {
+            return "employee-affiliation-changed";
+        }
+    }
+
+    /**
+     * Same class name and payload fields as organization-service's event, serialized through DomainEvent.
+     */
+    static class DepartmentUpdatedEvent extends DomainEvent {
+
+        private final UUID departmentId;
+
+        DepartmentUpdatedEvent(UUID tenantId, UUID departmentId) {
+            super(tenantId, null);
+            this.departmentId = departmentId;
+        }
+
+        public UUID getDepartmentId() {
+            return departmentId;
+        }
+
+        @Override
+        public String getTopic() {
+            return "department-updated";
+        }
+    }
+}
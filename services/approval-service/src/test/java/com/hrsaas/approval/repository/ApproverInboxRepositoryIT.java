@@ -0,0 +1,173 @@
+package com.hrsaas.approval.repository;
+
+import com.hrsaas.common.database.test.AbstractRepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the approver inbox projection (V5 triggers, V8 count deltas, V9 compaction role) with Testcontainers.
+ */
+@ActiveProfiles("test")
+@Import(ApproverInboxRepository.class)
+class ApproverInboxRepositoryIT extends AbstractRepositoryTest {
+
+    @Autowired
+    private ApproverInboxRepository inboxRepository;
+
+    private final UUID drafterId = UUID.randomUUID();
+    private final UUID firstApprover = UUID.randomUUID();
+    private final UUID secondApprover = UUID.randomUUID();
+
+    @Test
+    @DisplayName("결재함 프로젝션 - 결재선 상태 변경에 따라 대기/처리/임시저장 건수 갱신")
+    void summary_followsLineStatusChanges() {
+        UUID documentId = insertDocument("DRAFT");
+        UUID firstLine = insertLine(documentId, 1, firstApprover);
+        insertLine(documentId, 2, secondApprover);
+
+        assertThat(inboxRepository.summary(TENANT_A, drafterId).draft()).isEqualTo(1);
+        assertThat(inboxRepository.countPending(TENANT_A, firstApprover)).isZero();
+
+        // 상신: 첫 결재선 활성화
+        updateDocument(documentId, "IN_PROGRESS");
+        activate(firstLine, Instant.now());
+        assertThat(inboxRepository.summary(TENANT_A, drafterId).draft()).isZero();
+        assertThat(inboxRepository.countPending(TENANT_A, firstApprover)).isEqualTo(1);
+        assertThat(inboxRepository.findPendingDocumentIds(TENANT_A, firstApprover, 0, 10)).containsExactly(documentId);
+
+        // 첫 결재자 승인: 대기 -> 처리, 두 번째 결재자 대기
+        jdbcTemplate.update("UPDATE hr_approval.approval_line SET status = 'APPROVED' WHERE id = ?", firstLine);
+        jdbcTemplate.update("UPDATE hr_approval.approval_line SET status = 'ACTIVE', activated_at = now() " +
+            "WHERE document_id = ? AND sequence = 2", documentId);
+
+        ApproverInboxRepository.InboxSummary first = inboxRepository.summary(TENANT_A, firstApprover);
+        assertThat(first.pending()).isZero();
+        assertThat(first.processed()).isEqualTo(1);
+        assertThat(inboxRepository.findPendingDocumentIds(TENANT_A, firstApprover, 0, 10)).isEmpty();
+        assertThat(inboxRepository.countPending(TENANT_A, secondApprover)).isEqualTo(1);
+
+        // 문서 승인 완료: 테넌트 상태별 건수
+        updateDocument(documentId, "APPROVED");
+        assertThat(inboxRepository.summary(TENANT_A, drafterId).approved()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결재함 프로젝션 - 대기 목록은 결재선 활성화 순으로 정렬")
+    void findPendingDocumentIds_orderedByActivatedAt() {
+        Instant now = Instant.now();
+        UUID later = insertDocument("IN_PROGRESS");
+        UUID earlier = insertDocument("IN_PROGRESS");
+        activate(insertLine(later, 1, firstApprover), now);
+        activate(insertLine(earlier, 1, firstApprover), now.minusSeconds(60));
+
+        assertThat(inboxRepository.findPendingDocumentIds(TENANT_A, firstApprover, 0, 10))
+            .containsExactly(earlier, later);
+        assertThat(inboxRepository.findPendingDocumentIds(TENANT_A, firstApprover, 1, 10))
+            .containsExactly(later);
+    }
+
+    @Test
+    @DisplayName("결재함 프로젝션 - 문서 삭제 시 결재선 건수 회수")
+    void deleteDocument_releasesLineCounts() {
+        UUID documentId = insertDocument("IN_PROGRESS");
+        activate(insertLine(documentId, 1, firstApprover), Instant.now());
+        assertThat(inboxRepository.countPending(TENANT_A, firstApprover)).isEqualTo(1);
+
+        jdbcTemplate.update("DELETE FROM hr_approval.approval_document WHERE id = ?", documentId);
+
+        assertThat(inboxRepository.countPending(TENANT_A, firstApprover)).isZero();
+        assertThat(inboxRepository.findPendingDocumentIds(TENANT_A, firstApprover, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결재함 프로젝션 - delta 합산 후에도 건수 유지, 이후 변경은 다시 delta로 누적")
+    void compactCountDeltas_preservesCounts() {
+        UUID documentId = insertDocument("IN_PROGRESS");
+        UUID line = insertLine(documentId, 1, firstApprover);
+        activate(line, Instant.now());
+
+        assertThat(inboxRepository.compactCountDeltas()).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM hr_approval.approver_inbox_count_delta", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM hr_approval.approval_status_count_delta", Long.class)).isZero();
+        assertThat(inboxRepository.countPending(TENANT_A, firstApprover)).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE hr_approval.approval_line SET status = 'APPROVED' WHERE id = ?", line);
+        updateDocument(documentId, "APPROVED");
+
+        ApproverInboxRepository.InboxSummary summary = inboxRepository.summary(TENANT_A, firstApprover);
+        assertThat(summary.pending()).isZero();
+        assertThat(summary.processed()).isEqualTo(1);
+        assertThat(summary.approved()).isEqualTo(1);
+
+        inboxRepository.compactCountDeltas();
+        assertThat(inboxRepository.summary(TENANT_A, firstApprover)).isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("결재함 프로젝션 - 테넌트 없이 RLS 적용 역할로 실행해도 전체 delta 합산")
+    void compactCountDeltas_withoutTenantAsNonSuperuser_foldsAllTenants() {
+        UUID documentId = insertDocument("IN_PROGRESS");
+        activate(insertLine(documentId, 1, firstApprover), Instant.now());
+        setTenantContext(TENANT_B);
+        insertDocument(TENANT_B, "DRAFT");
+
+        // 스케줄러와 같은 조건: 슈퍼유저/BYPASSRLS가 아닌 역할, 테넌트 미지정
+        jdbcTemplate.execute("CREATE ROLE approval_app_it NOLOGIN NOSUPERUSER NOBYPASSRLS");
+        jdbcTemplate.execute("GRANT USAGE ON SCHEMA hr_approval TO approval_app_it");
+        jdbcTemplate.execute("GRANT EXECUTE ON FUNCTION hr_approval.compact_count_deltas() TO approval_app_it");
+        jdbcTemplate.execute("SET app.current_tenant = ''");
+        jdbcTemplate.execute("SET LOCAL ROLE approval_app_it");
+        int folded = inboxRepository.compactCountDeltas();
+        jdbcTemplate.execute("RESET ROLE");
+
+        assertThat(folded).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM hr_approval.approver_inbox_count_delta", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM hr_approval.approval_status_count_delta", Long.class)).isZero();
+        assertThat(inboxRepository.countPending(TENANT_A, firstApprover)).isEqualTo(1);
+        assertThat(inboxRepository.summary(TENANT_B, drafterId).draft()).isEqualTo(1);
+    }
+
+    private UUID insertDocument(String status) {
+        return insertDocument(TENANT_A, status);
+    }
+
+    private UUID insertDocument(UUID tenantId, String status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO hr_approval.approval_document (id, tenant_id, document_number, title, document_type, status, drafter_id) " +
+            "VALUES (?, ?, ?, '휴가 신청', 'LEAVE_REQUEST', ?, ?)",
+            id, tenantId, "LEAVE_REQUEST-" + id, status, drafterId);
+        return id;
+    }
+
+    private UUID insertLine(UUID documentId, int sequence, UUID approverId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO hr_approval.approval_line (id, document_id, sequence, approver_id, approver_name) " +
+            "VALUES (?, ?, ?, ?, '결재자')",
+            id, documentId, sequence, approverId);
+        return id;
+    }
+
+    private void updateDocument(UUID documentId, String status) {
+        jdbcTemplate.update("UPDATE hr_approval.approval_document SET status = ? WHERE id = ?", status, documentId);
+    }
+
+    private void activate(UUID lineId, Instant activatedAt) {
+        jdbcTemplate.update("UPDATE hr_approval.approval_line SET status = 'ACTIVE', activated_at = ? WHERE id = ?",
+            Timestamp.from(activatedAt), lineId);
+    }
+}
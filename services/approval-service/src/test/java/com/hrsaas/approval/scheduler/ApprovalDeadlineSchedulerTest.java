@@ -1,87 +1,142 @@
 package com.hrsaas.approval.scheduler;
 
-import com.hrsaas.approval.domain.entity.ApprovalDocument;
-import com.hrsaas.approval.domain.entity.ApprovalLine;
-import com.hrsaas.approval.domain.entity.ApprovalLineStatus;
-import com.hrsaas.approval.repository.ApprovalDocumentRepository;
+import com.hrsaas.approval.domain.event.ApprovalEscalatedEvent;
+import com.hrsaas.approval.repository.ApprovalEscalationRepository;
+import com.hrsaas.approval.repository.ApprovalEscalationRepository.EscalatedLine;
 import com.hrsaas.common.event.EventPublisher;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ApprovalDeadlineSchedulerTest {
 
+    private static final int CHUNK_SIZE = 2;
+
     @Mock
-    private ApprovalDocumentRepository documentRepository;
+    private ApprovalEscalationRepository escalationRepository;
 
     @Mock
     private EventPublisher eventPublisher;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ApprovalDeadlineScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        scheduler = new ApprovalDeadlineScheduler(escalationRepository, eventPublisher, transactionManager, CHUNK_SIZE);
+    }
+
     @Test
     @DisplayName("checkOverdueApprovals - no overdue documents - does nothing")
     void checkOverdueApprovals_noOverdue_doesNothing() {
-        when(documentRepository.findOverdueDocuments(any(Instant.class)))
+        when(escalationRepository.findOverdueIds(any(Instant.class), isNull(), eq(CHUNK_SIZE)))
                 .thenReturn(Collections.emptyList());
 
         scheduler.checkOverdueApprovals();
 
-        verify(documentRepository, never()).save(any());
+        verify(escalationRepository, never()).claim(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("checkOverdueApprovals - overdue documents exist - claims chunk and publishes events in one batch")
+    @SuppressWarnings("unchecked")
+    void checkOverdueApprovals_overdueExists_claimsAndPublishesBatch() {
+        UUID doc1 = UUID.randomUUID();
+        when(escalationRepository.findOverdueIds(any(Instant.class), isNull(), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(doc1));
+        when(escalationRepository.claim(List.of(doc1)))
+                .thenReturn(List.of(line(doc1, UUID.randomUUID(), "김승인"), line(doc1, UUID.randomUUID(), "이병렬")));
+
+        scheduler.checkOverdueApprovals();
+
+        ArgumentCaptor<Collection<ApprovalEscalatedEvent>> events = ArgumentCaptor.forClass(Collection.class);
+        verify(eventPublisher).publishAll(events.capture());
+        assertThat(events.getValue())
+                .extracting(ApprovalEscalatedEvent::getCurrentApproverName)
+                .containsExactly("김승인", "이병렬");
+        assertThat(events.getValue())
+                .allSatisfy(event -> assertThat(event.getDocumentId()).isEqualTo(doc1));
+        assertThat(events.getValue())
+                .extracting(ApprovalEscalatedEvent::getEventType)
+                .containsOnly("ApprovalEscalatedEvent");
+    }
+
+    @Test
+    @DisplayName("checkOverdueApprovals - full chunk - continues from the last id (keyset)")
+    void checkOverdueApprovals_fullChunk_continuesFromCursor() {
+        UUID doc1 = UUID.randomUUID();
+        UUID doc2 = UUID.randomUUID();
+        UUID doc3 = UUID.randomUUID();
+        when(escalationRepository.findOverdueIds(any(Instant.class), isNull(), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(doc1, doc2));
+        when(escalationRepository.findOverdueIds(any(Instant.class), eq(doc2), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(doc3));
+        when(escalationRepository.claim(any())).thenReturn(List.of());
+
+        scheduler.checkOverdueApprovals();
+
+        verify(escalationRepository).claim(List.of(doc1, doc2));
+        verify(escalationRepository).claim(List.of(doc3));
+        verify(escalationRepository, times(2)).findOverdueIds(any(Instant.class), any(), anyInt());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("checkOverdueApprovals - overdue documents exist - marks escalated")
-    void checkOverdueApprovals_overdueExists_marksEscalated() {
-        ApprovalDocument document = mock(ApprovalDocument.class);
-        ApprovalLine activeLine = mock(ApprovalLine.class);
-        when(activeLine.getStatus()).thenReturn(ApprovalLineStatus.ACTIVE);
-        when(activeLine.getApproverName()).thenReturn("김승인");
-        when(document.getApprovalLines()).thenReturn(List.of(activeLine));
-        when(document.getDeadlineAt()).thenReturn(Instant.now().minusSeconds(3600));
-
-        when(documentRepository.findOverdueDocuments(any(Instant.class)))
-                .thenReturn(List.of(document));
+    @DisplayName("checkOverdueApprovals - documents claimed by another instance - no events")
+    void checkOverdueApprovals_claimedElsewhere_noEvents() {
+        UUID doc1 = UUID.randomUUID();
+        when(escalationRepository.findOverdueIds(any(Instant.class), isNull(), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(doc1));
+        when(escalationRepository.claim(List.of(doc1))).thenReturn(List.of());
 
         scheduler.checkOverdueApprovals();
 
-        verify(document).setEscalated(true);
-        verify(documentRepository).save(document);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("checkOverdueApprovals - escalation fails for one document - continues processing others")
+    @DisplayName("checkOverdueApprovals - escalation fails for one chunk - continues processing others")
     void checkOverdueApprovals_partialFailure_continuesProcessing() {
-        ApprovalDocument doc1 = mock(ApprovalDocument.class);
-        ApprovalDocument doc2 = mock(ApprovalDocument.class);
-        when(doc1.getApprovalLines()).thenThrow(new RuntimeException("Test error"));
-        ApprovalLine activeLine = mock(ApprovalLine.class);
-        when(activeLine.getStatus()).thenReturn(ApprovalLineStatus.ACTIVE);
-        when(activeLine.getApproverName()).thenReturn("이결재");
-        when(doc2.getApprovalLines()).thenReturn(List.of(activeLine));
-
-        when(documentRepository.findOverdueDocuments(any(Instant.class)))
+        UUID doc1 = UUID.randomUUID();
+        UUID doc2 = UUID.randomUUID();
+        UUID doc3 = UUID.randomUUID();
+        when(escalationRepository.findOverdueIds(any(Instant.class), isNull(), eq(CHUNK_SIZE)))
                 .thenReturn(List.of(doc1, doc2));
+        when(escalationRepository.findOverdueIds(any(Instant.class), eq(doc2), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(doc3));
+        when(escalationRepository.claim(List.of(doc1, doc2))).thenThrow(new RuntimeException("Test error"));
+        when(escalationRepository.claim(List.of(doc3))).thenReturn(List.of(line(doc3, UUID.randomUUID(), "이결재")));
 
         scheduler.checkOverdueApprovals();
 
-        // doc1 gets setEscalated(true) before getApprovalLines() throws
-        verify(doc1).setEscalated(true);
-        verify(documentRepository, never()).save(doc1);
-        verify(doc2).setEscalated(true);
-        verify(documentRepository).save(doc2);
+        verify(transactionManager).rollback(any());
+        verify(eventPublisher, times(1)).publishAll(any());
+    }
+
+    private EscalatedLine line(UUID documentId, UUID approverId, String approverName) {
+        return new EscalatedLine(documentId, UUID.randomUUID(), "LEAVE_REQUEST-0001", "휴가 신청", "LEAVE_REQUEST",
+                UUID.randomUUID(), Instant.now().minusSeconds(3600), approverId, approverName);
     }
 }
@@ -6,17 +6,23 @@ import com.hrsaas.approval.domain.entity.ApprovalLine;
 import com.hrsaas.approval.domain.entity.ApprovalLineType;
 import com.hrsaas.approval.domain.entity.ApprovalTemplate;
 import com.hrsaas.approval.domain.entity.ApprovalTemplateLine;
+import com.hrsaas.common.core.exception.ExternalServiceException;
+import com.hrsaas.common.response.ApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -24,7 +30,8 @@ import static org.mockito.Mockito.*;
 /**
  * Unit tests for ApprovalLineResolver.
  * Tests the resolution of approval template lines into actual approval lines
- * based on different approver types (SPECIFIC_USER, DEPARTMENT_HEAD, DRAFTER_MANAGER).
+ * based on different approver types (SPECIFIC_USER, DEPARTMENT_HEAD, DRAFTER_MANAGER),
+ * plus the batched organization lookup, per-request memoization and the approver cache.
  */
 @ExtendWith(MockitoExtension.class)
 class ApprovalLineResolverTest {
@@ -35,9 +42,18 @@ class ApprovalLineResolverTest {
     @Mock
     private EmployeeClient employeeClient;
 
-    @InjectMocks
     private ApprovalLineResolver approvalLineResolver;
 
+    @BeforeEach
+    void setUp() {
+        approvalLineResolver = new ApprovalLineResolver(organizationClient, employeeClient, 1000, 60, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        approvalLineResolver.shutdown();
+    }
+
     @Test
     @DisplayName("resolve: SPECIFIC_USER returns ApprovalLine with the specified user ID")
     void resolve_specificUser_returnsUserId() {
@@ -96,8 +112,10 @@ class ApprovalLineResolverTest {
                 .departmentName("Engineering")
                 .build();
 
-        when(organizationClient.getDepartmentHead(eq(drafterDepartmentId)))
-            .thenReturn(headResponse);
+        when(organizationClient.lookupApprovers(any()))
+            .thenReturn(ApiResponse.success(OrganizationClient.ApproverLookupResponse.builder()
+                .departmentHeads(Map.of(drafterDepartmentId, headResponse))
+                .build()));
 
         ApprovalTemplate template = mock(ApprovalTemplate.class);
         when(template.getTemplateLines()).thenReturn(List.of(templateLine));
@@ -114,7 +132,8 @@ class ApprovalLineResolverTest {
         assertThat(resolvedLine.getApproverDepartmentName()).isEqualTo("Engineering");
         assertThat(resolvedLine.getSequence()).isEqualTo(1);
 
-        verify(organizationClient).getDepartmentHead(drafterDepartmentId);
+        verify(organizationClient).lookupApprovers(argThat(request ->
+            request.getHeadDepartmentIds().equals(Set.of(drafterDepartmentId))));
         verifyNoInteractions(employeeClient);
     }
 
@@ -161,4 +180,97 @@ class ApprovalLineResolverTest {
         verify(employeeClient).getManager(drafterId);
         verifyNoInteractions(organizationClient);
     }
+
+    @Test
+    @DisplayName("resolve: repeated departments and position holders are fetched in one organization call")
+    void resolve_multipleOrganizationLines_singleBulkCall() {
+        UUID drafterId = UUID.randomUUID();
+        UUID drafterDepartmentId = UUID.randomUUID();
+        UUID headId = UUID.randomUUID();
+        UUID holderId = UUID.randomUUID();
+
+        ApprovalTemplateLine firstHead = templateLine(1, "DEPARTMENT_HEAD");
+        ApprovalTemplateLine secondHead = templateLine(2, "DEPARTMENT_HEAD");
+        ApprovalTemplateLine holder = templateLine(3, "POSITION_HOLDER");
+        holder.setPositionCode("CFO");
+
+        when(organizationClient.lookupApprovers(any()))
+            .thenReturn(ApiResponse.success(OrganizationClient.ApproverLookupResponse.builder()
+                .departmentHeads(Map.of(drafterDepartmentId, head(headId, "부서장")))
+                .positionHolders(List.of(OrganizationClient.PositionHolderResponse.builder()
+                    .positionCode("CFO")
+                    .departmentId(drafterDepartmentId)
+                    .holder(head(holderId, "재무책임자"))
+                    .build()))
+                .build()));
+
+        ApprovalTemplate template = mock(ApprovalTemplate.class);
+        when(template.getTemplateLines()).thenReturn(List.of(firstHead, secondHead, holder));
+
+        List<ApprovalLine> result = approvalLineResolver.resolveTemplateLines(template, drafterId, drafterDepartmentId);
+
+        assertThat(result).extracting(ApprovalLine::getApproverId).containsExactly(headId, headId, holderId);
+        assertThat(result).extracting(ApprovalLine::getSequence).containsExactly(1, 2, 3);
+        verify(organizationClient, times(1)).lookupApprovers(argThat(request ->
+            request.getHeadDepartmentIds().size() == 1 && request.getPositionHolders().size() == 1));
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    @DisplayName("resolve: cached approvers are reused until an affiliation change evicts them")
+    void resolve_cachedUntilAffiliationChanged() {
+        UUID drafterId = UUID.randomUUID();
+        UUID drafterDepartmentId = UUID.randomUUID();
+        UUID headId = UUID.randomUUID();
+
+        when(organizationClient.lookupApprovers(any()))
+            .thenReturn(ApiResponse.success(OrganizationClient.ApproverLookupResponse.builder()
+                .departmentHeads(Map.of(drafterDepartmentId, head(headId, "부서장")))
+                .build()));
+
+        ApprovalTemplate template = mock(ApprovalTemplate.class);
+        when(template.getTemplateLines()).thenReturn(List.of(templateLine(1, "DEPARTMENT_HEAD")));
+
+        approvalLineResolver.resolveTemplateLines(template, drafterId, drafterDepartmentId);
+        approvalLineResolver.resolveTemplateLines(template, drafterId, drafterDepartmentId);
+        verify(organizationClient, times(1)).lookupApprovers(any());
+
+        approvalLineResolver.evictAffiliation(headId, UUID.randomUUID());
+        approvalLineResolver.resolveTemplateLines(template, drafterId, drafterDepartmentId);
+        verify(organizationClient, times(2)).lookupApprovers(any());
+    }
+
+    @Test
+    @DisplayName("resolve: organization lookup failure fails the resolution and is not cached")
+    void resolve_organizationFailure_throwsAndNotCached() {
+        UUID drafterId = UUID.randomUUID();
+        UUID drafterDepartmentId = UUID.randomUUID();
+
+        when(organizationClient.lookupApprovers(any())).thenThrow(new RuntimeException("unavailable"));
+
+        ApprovalTemplate template = mock(ApprovalTemplate.class);
+        when(template.getTemplateLines()).thenReturn(List.of(templateLine(1, "DEPARTMENT_HEAD")));
+
+        assertThatThrownBy(() -> approvalLineResolver.resolveTemplateLines(template, drafterId, drafterDepartmentId))
+            .isInstanceOf(ExternalServiceException.class);
+        assertThatThrownBy(() -> approvalLineResolver.resolveTemplateLines(template, drafterId, drafterDepartmentId))
+            .isInstanceOf(ExternalServiceException.class);
+        verify(organizationClient, times(2)).lookupApprovers(any());
+    }
+
+    private ApprovalTemplateLine templateLine(int sequence, String approverType) {
+        ApprovalTemplateLine templateLine = ApprovalTemplateLine.builder()
+            .lineType(ApprovalLineType.SEQUENTIAL)
+            .approverType(approverType)
+            .build();
+        templateLine.setSequence(sequence);
+        return templateLine;
+    }
+
+    private OrganizationClient.DepartmentHeadResponse head(UUID employeeId, String name) {
+        return OrganizationClient.DepartmentHeadResponse.builder()
+            .employeeId(employeeId)
+            .employeeName(name)
+            .build();
+    }
 }
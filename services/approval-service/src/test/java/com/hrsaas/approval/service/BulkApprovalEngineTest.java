@@ -0,0 +1,217 @@
+package com.hrsaas.approval.service;
+
+import com.hrsaas.approval.domain.dto.request.BatchApprovalRequest;
+import com.hrsaas.approval.domain.dto.response.BatchApprovalResponse;
+import com.hrsaas.approval.domain.entity.*;
+import com.hrsaas.approval.domain.event.ApprovalCompletedEvent;
+import com.hrsaas.approval.repository.ApprovalDocumentRepository;
+import com.hrsaas.approval.statemachine.ApprovalAction;
+import com.hrsaas.approval.statemachine.ApprovalGuard;
+import com.hrsaas.approval.statemachine.ApprovalTransitionTable;
+import com.hrsaas.common.event.DomainEvent;
+import com.hrsaas.common.event.EventPublisher;
+import com.hrsaas.common.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkApprovalEngine.
+ * Documents are processed on the worker pool against mocked persistence;
+ * each test checks per-document isolation, transitions and in-transaction event publishing.
+ */
+class BulkApprovalEngineTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID approverId = UUID.randomUUID();
+
+    private ApprovalDocumentRepository documentRepository;
+    private EventPublisher eventPublisher;
+    private BulkApprovalEngine engine;
+    private final ThreadLocal<Boolean> inTransaction = ThreadLocal.withInitial(() -> false);
+
+    @BeforeEach
+    void setUp() {
+        documentRepository = mock(ApprovalDocumentRepository.class);
+        eventPublisher = mock(EventPublisher.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> {
+            inTransaction.set(true);
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(inv -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+        when(documentRepository.save(any(ApprovalDocument.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        engine = new BulkApprovalEngine(documentRepository, eventPublisher,
+            new ApprovalTransitionTable(new ApprovalGuard(), new ApprovalAction()), transactionManager, 4);
+        TenantContext.setCurrentTenant(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("run: loads all documents with a single fetch query and approves each")
+    void run_approve_loadsOnceAndAppliesTransitions() {
+        ApprovalDocument lastStep = inProgressDocument(approverId);
+        ApprovalDocument firstOfTwo = inProgressDocument(approverId, UUID.randomUUID());
+        givenDocuments(lastStep, firstOfTwo);
+
+        BatchApprovalResponse response = engine.run(approverId,
+            request(ApprovalActionType.APPROVE, lastStep.getId(), firstOfTwo.getId()), null);
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isZero();
+        verify(documentRepository, times(1)).findAllWithLinesByIdIn(eq(tenantId), anyCollection());
+
+        assertThat(lastStep.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(lastStep.getCompletedAt()).isNotNull();
+        assertThat(firstOfTwo.getStatus()).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(firstOfTwo.getApprovalLines().get(1).getStatus()).isEqualTo(ApprovalLineStatus.ACTIVE);
+        assertThat(firstOfTwo.getHistories()).singleElement()
+            .satisfies(h -> assertThat(h.getActionType()).isEqualTo(ApprovalActionType.APPROVE));
+    }
+
+    @Test
+    @DisplayName("run: completion events are published inside each document's transaction")
+    void run_completedDocuments_publishEventsInDocumentTransaction() {
+        ApprovalDocument approved = inProgressDocument(approverId);
+        ApprovalDocument rejected = inProgressDocument(approverId, UUID.randomUUID());
+        ApprovalDocument stillOpen = inProgressDocument(UUID.randomUUID(), approverId);
+        givenDocuments(approved, rejected, stillOpen);
+        Set<UUID> publishedInTransaction = ConcurrentHashMap.newKeySet();
+        doAnswer(inv -> {
+            ApprovalCompletedEvent event = inv.getArgument(0);
+            if (inTransaction.get()) {
+                publishedInTransaction.add(event.getDocumentId());
+            }
+            return null;
+        }).when(eventPublisher).publish(any(DomainEvent.class));
+
+        engine.run(approverId, request(ApprovalActionType.APPROVE, approved.getId()), null);
+        engine.run(approverId, request(ApprovalActionType.REJECT, rejected.getId(), stillOpen.getId()), null);
+
+        ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventPublisher, times(2)).publish(captor.capture());
+        verify(eventPublisher, never()).publishAll(anyCollection());
+        assertThat(captor.getAllValues()).extracting(e -> ((ApprovalCompletedEvent) e).getStatus())
+            .containsExactlyInAnyOrder(ApprovalStatus.APPROVED, ApprovalStatus.REJECTED);
+        assertThat(publishedInTransaction).containsExactlyInAnyOrder(approved.getId(), rejected.getId());
+    }
+
+    @Test
+    @DisplayName("run: a failing document does not affect the others")
+    void run_failures_areIsolatedPerDocument() {
+        ApprovalDocument ok = inProgressDocument(approverId);
+        ApprovalDocument notMine = inProgressDocument(UUID.randomUUID());
+        ApprovalDocument conflicting = inProgressDocument(approverId);
+        UUID missingId = UUID.randomUUID();
+        givenDocuments(ok, notMine, conflicting);
+        when(documentRepository.save(conflicting))
+            .thenThrow(new ObjectOptimisticLockingFailureException(ApprovalDocument.class, conflicting.getId()));
+
+        BatchApprovalResponse response = engine.run(approverId,
+            request(ApprovalActionType.APPROVE, ok.getId(), notMine.getId(), conflicting.getId(), missingId), null);
+
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailureCount()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BatchApprovalResponse.BatchItemResult::getDocumentId)
+            .containsExactly(ok.getId(), notMine.getId(), conflicting.getId(), missingId);
+        assertThat(response.getResults().get(1).getErrorMessage()).isEqualTo("결재 권한이 없습니다");
+        assertThat(response.getResults().get(2).getErrorMessage()).contains("다른 사용자가 문서를 수정했습니다");
+        assertThat(response.getResults().get(3).getErrorMessage()).contains("결재 문서를 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("run: streams each result and binds the caller's tenant on worker threads")
+    void run_streamsResultsWithTenantBoundOnWorkers() {
+        ApprovalDocument first = inProgressDocument(approverId);
+        ApprovalDocument second = inProgressDocument(approverId);
+        givenDocuments(first, second);
+        Map<UUID, UUID> tenantOnWorker = new ConcurrentHashMap<>();
+        when(documentRepository.save(any(ApprovalDocument.class))).thenAnswer(inv -> {
+            ApprovalDocument document = inv.getArgument(0);
+            tenantOnWorker.put(document.getId(), TenantContext.getCurrentTenant());
+            return document;
+        });
+        List<BatchApprovalResponse.BatchItemResult> streamed = new CopyOnWriteArrayList<>();
+
+        engine.run(approverId, request(ApprovalActionType.APPROVE, first.getId(), second.getId()), streamed::add);
+
+        assertThat(streamed).extracting(BatchApprovalResponse.BatchItemResult::getDocumentId)
+            .containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(tenantOnWorker).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(tenantOnWorker.values()).containsOnly(tenantId);
+    }
+
+    @Test
+    @DisplayName("run: a failing result listener does not stop processing")
+    void run_listenerFailure_continuesProcessing() {
+        ApprovalDocument first = inProgressDocument(approverId);
+        ApprovalDocument second = inProgressDocument(approverId);
+        givenDocuments(first, second);
+
+        BatchApprovalResponse response = engine.run(approverId,
+            request(ApprovalActionType.APPROVE, first.getId(), second.getId()),
+            result -> {
+                throw new IllegalStateException("client disconnected");
+            });
+
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        verify(eventPublisher, times(2)).publish(any(DomainEvent.class));
+    }
+
+    private ApprovalDocument inProgressDocument(UUID... approvers) {
+        ApprovalDocument document = ApprovalDocument.builder()
+            .id(UUID.randomUUID())
+            .title("휴가 신청")
+            .documentType("LEAVE_REQUEST")
+            .status(ApprovalStatus.IN_PROGRESS)
+            .build();
+        for (UUID approver : approvers) {
+            document.addApprovalLine(ApprovalLine.builder()
+                .approverId(approver)
+                .approverName("결재자")
+                .build());
+        }
+        document.getApprovalLines().get(0).activate();
+        return document;
+    }
+
+    private void givenDocuments(ApprovalDocument... documents) {
+        when(documentRepository.findAllWithLinesByIdIn(eq(tenantId), anyCollection()))
+            .thenAnswer(inv -> {
+                Collection<UUID> ids = inv.getArgument(1);
+                return Arrays.stream(documents).filter(d -> ids.contains(d.getId())).toList();
+            });
+    }
+
+    private BatchApprovalRequest request(ApprovalActionType actionType, UUID... documentIds) {
+        return BatchApprovalRequest.builder()
+            .actionType(actionType)
+            .documentIds(List.of(documentIds))
+            .comment("일괄 처리")
+            .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.hrsaas.approval.statemachine;
+
+import com.hrsaas.approval.config.ApprovalStateMachineConfig;
+import com.hrsaas.approval.config.ApprovalStateMachineFactory;
+import com.hrsaas.approval.domain.entity.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.statemachine.StateMachine;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ApprovalTransitionTable.
+ * Besides the individual transitions, every (status, event) pair is checked against
+ * the Spring StateMachine built from ApprovalStateMachineConfig.
+ */
+@SpringBootTest(
+    classes = {
+        ApprovalStateMachineConfig.class,
+        ApprovalStateMachineFactory.class,
+        ApprovalGuard.class,
+        ApprovalAction.class,
+        ApprovalTransitionTable.class
+    },
+    properties = {
+        "spring.main.banner-mode=off"
+    }
+)
+class ApprovalTransitionTableTest {
+
+    @Autowired
+    private ApprovalTransitionTable transitionTable;
+
+    @Autowired
+    private ApprovalStateMachineFactory stateMachineFactory;
+
+    @Test
+    @DisplayName("fire: SUBMIT moves DRAFT to IN_PROGRESS and activates the first line")
+    void fire_submit_activatesFirstLine() {
+        ApprovalDocument document = document(ApprovalStatus.DRAFT, ApprovalLineType.SEQUENTIAL, ApprovalLineType.SEQUENTIAL);
+
+        boolean accepted = transitionTable.fire(document, null, ApprovalEvent.SUBMIT);
+
+        assertThat(accepted).isTrue();
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(document.getSubmittedAt()).isNotNull();
+        assertThat(lineStatuses(document)).containsExactly(ApprovalLineStatus.ACTIVE, ApprovalLineStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("fire: APPROVE_LINE keeps IN_PROGRESS and activates the next sequence")
+    void fire_approveLine_activatesNextLine() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS, ApprovalLineType.SEQUENTIAL, ApprovalLineType.SEQUENTIAL);
+        ApprovalLine first = document.getApprovalLines().get(0);
+        first.setStatus(ApprovalLineStatus.APPROVED);
+
+        boolean accepted = transitionTable.fire(document, first, ApprovalEvent.APPROVE_LINE);
+
+        assertThat(accepted).isTrue();
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.IN_PROGRESS);
+        assertThat(document.getApprovalLines().get(1).getStatus()).isEqualTo(ApprovalLineStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("fire: APPROVE_LINE is denied while the parallel group is incomplete")
+    void fire_approveLine_parallelGroupIncomplete_isDenied() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS, ApprovalLineType.PARALLEL, ApprovalLineType.SEQUENTIAL);
+        ApprovalLine parallel = document.getApprovalLines().get(0);
+        parallel.setStatus(ApprovalLineStatus.APPROVED);
+        ApprovalLine sibling = ApprovalLine.builder()
+            .approverId(UUID.randomUUID())
+            .approverName("병렬 결재자")
+            .lineType(ApprovalLineType.PARALLEL)
+            .status(ApprovalLineStatus.ACTIVE)
+            .sequence(1)
+            .build();
+        document.getApprovalLines().add(sibling);
+
+        boolean accepted = transitionTable.fire(document, parallel, ApprovalEvent.APPROVE_LINE);
+
+        assertThat(accepted).isFalse();
+        assertThat(document.getApprovalLines().get(1).getStatus()).isEqualTo(ApprovalLineStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("fire: ARBITRARY_APPROVE approves the document and skips the remaining lines")
+    void fire_arbitraryApprove_skipsRemainingLines() {
+        ApprovalDocument document = document(ApprovalStatus.IN_PROGRESS, ApprovalLineType.ARBITRARY, ApprovalLineType.SEQUENTIAL);
+        ApprovalLine arbitrary = document.getApprovalLines().get(0);
+        arbitrary.setStatus(ApprovalLineStatus.APPROVED);
+
+        boolean accepted = transitionTable.fire(document, arbitrary, ApprovalEvent.ARBITRARY_APPROVE);
+
+        assertThat(accepted).isTrue();
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(document.getCompletedAt()).isNotNull();
+        assertThat(document.getApprovalLines().get(1).getStatus()).isEqualTo(ApprovalLineStatus.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("fire: undefined transition leaves the document unchanged")
+    void fire_undefinedTransition_returnsFalse() {
+        ApprovalDocument document = document(ApprovalStatus.APPROVED, ApprovalLineType.SEQUENTIAL);
+
+        boolean accepted = transitionTable.fire(document, null, ApprovalEvent.RECALL);
+
+        assertThat(accepted).isFalse();
+        assertThat(document.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("fire: every (status, event) pair matches the Spring StateMachine configuration")
+    void fire_matchesStateMachineConfiguration() {
+        for (ApprovalStatus status : ApprovalStatus.values()) {
+            for (ApprovalEvent event : ApprovalEvent.values()) {
+                ApprovalDocument viaTable = parityDocument(status);
+                ApprovalDocument viaStateMachine = parityDocument(status);
+
+                boolean tableAccepted = transitionTable.fire(viaTable, viaTable.getApprovalLines().get(0), event);
+
+                StateMachine<ApprovalStatus, ApprovalEvent> sm = stateMachineFactory.create(viaStateMachine);
+                sm.getExtendedState().getVariables().put("completedLine", viaStateMachine.getApprovalLines().get(0));
+                boolean smAccepted = stateMachineFactory.sendEvent(sm, event);
+                viaStateMachine.setStatus(sm.getState().getId());
+
+                String pair = status + " x " + event;
+                assertThat(tableAccepted).as(pair).isEqualTo(smAccepted);
+                assertThat(viaTable.getStatus()).as(pair).isEqualTo(viaStateMachine.getStatus());
+                assertThat(lineStatuses(viaTable)).as(pair).isEqualTo(lineStatuses(viaStateMachine));
+            }
+        }
+    }
+
+    /**
+     * DRAFT/PENDING: all lines waiting. IN_PROGRESS: first line approved, second waiting. Others: all completed.
+     */
+    private ApprovalDocument parityDocument(ApprovalStatus status) {
+        ApprovalDocument document = document(status, ApprovalLineType.SEQUENTIAL, ApprovalLineType.SEQUENTIAL);
+        List<ApprovalLine> lines = document.getApprovalLines();
+        if (status == ApprovalStatus.IN_PROGRESS) {
+            lines.get(0).setStatus(ApprovalLineStatus.APPROVED);
+        } else if (status != ApprovalStatus.DRAFT && status != ApprovalStatus.PENDING) {
+            lines.forEach(line -> line.setStatus(ApprovalLineStatus.APPROVED));
+        }
+        return document;
+    }
+
+    private ApprovalDocument document(ApprovalStatus status, ApprovalLineType... lineTypes) {
+        ApprovalDocument document = ApprovalDocument.builder()
+            .id(UUID.randomUUID())
+            .title("휴가 신청")
+            .documentType("LEAVE_REQUEST")
+            .status(status)
+            .build();
+        for (ApprovalLineType lineType : lineTypes) {
+            document.addApprovalLine(ApprovalLine.builder()
+                .approverId(UUID.randomUUID())
+                .approverName("결재자")
+                .lineType(lineType)
+                .build());
+        }
+        return document;
+    }
+
+    private List<ApprovalLineStatus> lineStatuses(ApprovalDocument document) {
+        return document.getApprovalLines().stream().map(ApprovalLine::getStatus).toList();
+    }
+}
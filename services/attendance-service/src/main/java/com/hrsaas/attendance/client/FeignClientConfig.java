@@ -1,5 +1,7 @@
 package com.hrsaas.attendance.client;
 
+import com.hrsaas.common.core.constant.HeaderConstants;
+import com.hrsaas.common.tenant.TenantContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.springframework.context.annotation.Bean;
@@ -7,9 +9,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.UUID;
+
 /**
  * Feign Client Configuration for inter-service communication.
- * Propagates JWT Authorization header to downstream services.
+ * Propagates JWT Authorization header and the current tenant to downstream services.
  */
 @Configuration
 public class FeignClientConfig {
@@ -28,6 +32,12 @@ public class FeignClientConfig {
                         template.header("Authorization", authHeader);
                     }
                 }
+
+                // Scheduler worker threads have no request but run with TenantContext bound
+                UUID tenantId = TenantContext.getCurrentTenant();
+                if (tenantId != null && !template.headers().containsKey(HeaderConstants.X_TENANT_ID)) {
+                    template.header(HeaderConstants.X_TENANT_ID, tenantId.toString());
+                }
             }
         };
     }
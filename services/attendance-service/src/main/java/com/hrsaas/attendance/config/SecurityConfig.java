@@ -12,6 +12,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.hrsaas.common.security.SecurityFilter;
 import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,11 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Bean
     public SecurityFilter securityFilter() {
-        return new SecurityFilter(jwtTokenProvider);
+        return new SecurityFilter(jwtTokenProvider, tokenRevocationService);
     }
 
     @Bean
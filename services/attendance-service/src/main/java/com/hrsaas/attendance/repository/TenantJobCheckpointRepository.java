@@ -0,0 +1,54 @@
+package com.hrsaas.attendance.repository;
+
+import com.hrsaas.common.tenant.job.TenantJobCheckpoint;
+import com.hrsaas.common.tenant.job.TenantJobCheckpointStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * hr_attendance.tenant_job_checkpoint 기반 체크포인트 저장소.
+ * 각 저장은 독립 커밋되어, 스케줄러가 중단되어도 마지막 청크까지의 진행 상황이 남습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TenantJobCheckpointRepository implements TenantJobCheckpointStore {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO hr_attendance.tenant_job_checkpoint " +
+        "(job_name, run_key, tenant_id, status, cursor_value, processed, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, now()) " +
+        "ON CONFLICT (job_name, run_key, tenant_id) DO UPDATE SET " +
+        "status = EXCLUDED.status, cursor_value = EXCLUDED.cursor_value, " +
+        "processed = EXCLUDED.processed, updated_at = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<UUID, TenantJobCheckpoint> load(String jobName, String runKey) {
+        Map<UUID, TenantJobCheckpoint> checkpoints = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT tenant_id, status, cursor_value, processed FROM hr_attendance.tenant_job_checkpoint " +
+            "WHERE job_name = ? AND run_key = ?",
+            rs -> {
+                UUID tenantId = rs.getObject("tenant_id", UUID.class);
+                checkpoints.put(tenantId, new TenantJobCheckpoint(
+                    tenantId,
+                    TenantJobCheckpoint.Status.valueOf(rs.getString("status")),
+                    rs.getString("cursor_value"),
+                    rs.getLong("processed")));
+            },
+            jobName, runKey);
+        return checkpoints;
+    }
+
+    @Override
+    public void save(String jobName, String runKey, TenantJobCheckpoint checkpoint) {
+        jdbcTemplate.update(UPSERT_SQL, jobName, runKey, checkpoint.tenantId(), checkpoint.status().name(),
+            checkpoint.cursor(), checkpoint.processed());
+    }
+}
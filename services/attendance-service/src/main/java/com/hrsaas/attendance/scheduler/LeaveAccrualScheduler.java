@@ -9,16 +9,23 @@ import com.hrsaas.attendance.service.LeaveAccrualService;
 import com.hrsaas.attendance.service.LeaveCarryOverService;
 import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.common.response.PageResponse;
-import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.common.tenant.job.TenantFanOutExecutor;
+import com.hrsaas.common.tenant.job.TenantFanOutResult;
+import com.hrsaas.common.tenant.job.TenantJob;
+import com.hrsaas.common.tenant.job.TenantJobContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,52 +33,78 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LeaveAccrualScheduler {
 
+    static final String YEARLY_JOB = "leave-accrual-yearly";
+    static final String MONTHLY_JOB = "leave-accrual-monthly";
+    static final String HIRE_DATE_JOB = "leave-accrual-hire-date";
+
     private final LeaveAccrualService accrualService;
     private final LeaveCarryOverService carryOverService;
     private final TenantServiceClient tenantServiceClient;
     private final EmployeeServiceClient employeeServiceClient;
     private final LeaveAccrualRuleRepository ruleRepository;
+    private final TenantFanOutExecutor fanOutExecutor;
+
+    /** 연차 생성 트랜잭션/체크포인트 단위 (직원 수) */
+    @Value("${app.leave-accrual.chunk-size:500}")
+    private int chunkSize = 500;
+
+    /** 입사일 기준 발생의 실패 재시도 범위 (일) */
+    @Value("${app.leave-accrual.retry-days:7}")
+    private int retryDays = 7;
 
     /**
      * 매년 1월 1일 00:10 - 연간 연차 일괄 생성 + 이월 처리
+     * <p>
+     * 테넌트는 병렬로, 테넌트 내 직원은 청크 단위로 처리합니다. 청크마다 체크포인트를 남기므로
+     * 같은 연도로 재실행하면 완료된 테넌트는 건너뛰고 중단된 테넌트는 마지막 청크 이후부터 이어서 처리합니다.
      */
     @Scheduled(cron = "0 10 0 1 1 *")
     public void generateYearlyLeave() {
         int year = LocalDate.now().getYear();
         log.info("Starting yearly leave accrual generation for year {}", year);
 
-        List<TenantBasicDto> tenants = getActiveTenants();
-        int totalGenerated = 0;
+        AtomicInteger totalGenerated = new AtomicInteger();
+        TenantFanOutResult result = fanOutExecutor.execute(YEARLY_JOB, String.valueOf(year), getActiveTenantIds(),
+            context -> totalGenerated.addAndGet(generateYearlyLeaveForTenant(context, year)));
 
-        for (TenantBasicDto tenant : tenants) {
-            try {
-                TenantContext.setCurrentTenant(tenant.getId());
-
-                // 이월 처리
-                int carriedOver = carryOverService.processCarryOver(tenant.getId(), year - 1);
-                log.info("Carry-over processed for tenant={}: count={}", tenant.getId(), carriedOver);
-
-                // 활성 직원 목록 조회
-                List<EmployeeBasicDto> employees = getActiveEmployees();
-                List<LeaveAccrualService.EmployeeLeaveInfo> employeeInfos = employees.stream()
-                    .map(e -> LeaveAccrualService.EmployeeLeaveInfo.builder()
-                        .employeeId(e.getId())
-                        .hireDate(e.getHireDate())
-                        .gender(e.getGender())
-                        .build())
-                    .collect(Collectors.toList());
+        log.info("Yearly leave accrual generation completed: total={}, tenants={}, failedTenants={}",
+            totalGenerated.get(), result.completed(), result.failedTenants());
+    }
 
-                int count = accrualService.generateAnnualLeave(tenant.getId(), year, employeeInfos);
-                totalGenerated += count;
-                log.info("Generated {} leave balances for tenant={}", count, tenant.getId());
-            } catch (Exception e) {
-                log.error("Failed to generate yearly leave for tenant={}: {}", tenant.getId(), e.getMessage(), e);
-            } finally {
-                TenantContext.clear();
-            }
+    private int generateYearlyLeaveForTenant(TenantJobContext context, int year) {
+        UUID tenantId = context.tenantId();
+
+        // 이월 처리 (재개 시에는 이미 완료됨)
+        if (context.resumeCursor() == null) {
+            int carriedOver = carryOverService.processCarryOver(tenantId, year - 1);
+            log.info("Carry-over processed for tenant={}: count={}", tenantId, carriedOver);
+        }
+
+        // 활성 직원 목록 조회 — 조회 실패는 테넌트 실패로 기록되어 다음 실행에서 재시도
+        UUID resumeAfter = context.resumeCursor() != null ? UUID.fromString(context.resumeCursor()) : null;
+        List<EmployeeBasicDto> employees = fetchActiveEmployees().stream()
+            .filter(e -> resumeAfter == null || e.getId().compareTo(resumeAfter) > 0)
+            .sorted(Comparator.comparing(EmployeeBasicDto::getId))
+            .toList();
+
+        int generated = 0;
+        for (int from = 0; from < employees.size(); from += chunkSize) {
+            List<EmployeeBasicDto> chunk = employees.subList(from, Math.min(from + chunkSize, employees.size()));
+            List<LeaveAccrualService.EmployeeLeaveInfo> employeeInfos = chunk.stream()
+                .map(e -> LeaveAccrualService.EmployeeLeaveInfo.builder()
+                    .employeeId(e.getId())
+                    .hireDate(e.getHireDate())
+                    .gender(e.getGender())
+                    .build())
+                .collect(Collectors.toList());
+
+            // 청크별 트랜잭션 커밋 후 체크포인트 기록
+            generated += accrualService.generateAnnualLeave(tenantId, year, employeeInfos);
+            context.checkpoint(chunk.get(chunk.size() - 1).getId().toString(), chunk.size());
         }
 
-        log.info("Yearly leave accrual generation completed: total={}", totalGenerated);
+        log.info("Generated {} leave balances for tenant={}", generated, tenantId);
+        return generated;
     }
 
     /**
@@ -79,39 +112,38 @@ public class LeaveAccrualScheduler {
      */
     @Scheduled(cron = "0 20 0 1 * *")
     public void generateMonthlyLeave() {
-        int year = LocalDate.now().getYear();
-        int month = LocalDate.now().getMonthValue();
-        log.info("Starting monthly leave accrual for {}-{}", year, month);
+        YearMonth month = YearMonth.now();
+        log.info("Starting monthly leave accrual for {}", month);
 
-        List<TenantBasicDto> tenants = getActiveTenants();
+        fanOutExecutor.execute(MONTHLY_JOB, month.toString(), getActiveTenantIds(),
+            context -> generateMonthlyLeaveForTenant(context, month));
 
-        for (TenantBasicDto tenant : tenants) {
-            try {
-                TenantContext.setCurrentTenant(tenant.getId());
+        log.info("Monthly leave accrual completed");
+    }
 
-                // MONTHLY 타입 규칙 조회
-                var monthlyRules = ruleRepository.findActiveByTenantIdAndAccrualType(tenant.getId(), "MONTHLY");
-                if (monthlyRules.isEmpty()) {
-                    log.debug("No monthly accrual rules for tenant={}", tenant.getId());
-                    continue;
-                }
+    private void generateMonthlyLeaveForTenant(TenantJobContext context, YearMonth month) {
+        UUID tenantId = context.tenantId();
 
-                List<EmployeeBasicDto> employees = getActiveEmployees();
-                for (EmployeeBasicDto emp : employees) {
-                    try {
-                        accrualService.generateForEmployee(emp.getId(), emp.getHireDate(), year);
-                    } catch (Exception e) {
-                        log.warn("Failed monthly accrual for employee={}: {}", emp.getId(), e.getMessage());
-                    }
-                }
+        // MONTHLY 타입 규칙 조회
+        var monthlyRules = ruleRepository.findActiveByTenantIdAndAccrualType(tenantId, "MONTHLY");
+        if (monthlyRules.isEmpty()) {
+            log.debug("No monthly accrual rules for tenant={}", tenantId);
+            return;
+        }
+
+        // 직원 조회 실패나 직원별 실패는 테넌트 실패로 기록되어 재시도 대상이 됨
+        int failed = 0;
+        for (EmployeeBasicDto emp : fetchActiveEmployees()) {
+            try {
+                accrualService.generateForEmployee(emp.getId(), emp.getHireDate(), month.getYear());
             } catch (Exception e) {
-                log.error("Failed monthly leave for tenant={}: {}", tenant.getId(), e.getMessage(), e);
-            } finally {
-                TenantContext.clear();
+                failed++;
+                log.warn("Failed monthly accrual for employee={}: {}", emp.getId(), e.getMessage());
             }
         }
-
-        log.info("Monthly leave accrual completed");
+        if (failed > 0) {
+            throw new IllegalStateException("Monthly accrual failed for " + failed + " employees");
+        }
     }
 
     /**
@@ -122,36 +154,67 @@ public class LeaveAccrualScheduler {
         LocalDate today = LocalDate.now();
         log.info("Starting hire-date based accrual check for {}", today);
 
-        List<TenantBasicDto> tenants = getActiveTenants();
+        fanOutExecutor.execute(HIRE_DATE_JOB, today.toString(), getActiveTenantIds(),
+            context -> checkHireDateBasedAccrualForTenant(context, today));
 
-        for (TenantBasicDto tenant : tenants) {
-            try {
-                TenantContext.setCurrentTenant(tenant.getId());
+        log.info("Hire-date based accrual check completed");
+    }
 
-                var hireDateRules = ruleRepository.findActiveByTenantIdAndAccrualType(tenant.getId(), "HIRE_DATE_BASED");
-                if (hireDateRules.isEmpty()) {
-                    continue;
-                }
+    private void checkHireDateBasedAccrualForTenant(TenantJobContext context, LocalDate day) {
+        UUID tenantId = context.tenantId();
+
+        var hireDateRules = ruleRepository.findActiveByTenantIdAndAccrualType(tenantId, "HIRE_DATE_BASED");
+        if (hireDateRules.isEmpty()) {
+            return;
+        }
 
-                List<EmployeeBasicDto> employees = getActiveEmployees();
-                for (EmployeeBasicDto emp : employees) {
-                    if (emp.getHireDate() != null && isHireAnniversary(emp.getHireDate(), today)) {
-                        try {
-                            accrualService.generateForEmployee(emp.getId(), emp.getHireDate(), today.getYear());
-                            log.info("Hire anniversary accrual generated: employeeId={}, hireDate={}", emp.getId(), emp.getHireDate());
-                        } catch (Exception e) {
-                            log.warn("Failed hire-date accrual for employee={}: {}", emp.getId(), e.getMessage());
-                        }
-                    }
+        // 직원 조회 실패나 직원별 실패는 테넌트 실패로 기록되어 재시도 대상이 됨
+        int failed = 0;
+        for (EmployeeBasicDto emp : fetchActiveEmployees()) {
+            if (emp.getHireDate() != null && isHireAnniversary(emp.getHireDate(), day)) {
+                try {
+                    accrualService.generateForEmployee(emp.getId(), emp.getHireDate(), day.getYear());
+                    log.info("Hire anniversary accrual generated: employeeId={}, hireDate={}", emp.getId(), emp.getHireDate());
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("Failed hire-date accrual for employee={}: {}", emp.getId(), e.getMessage());
                 }
-            } catch (Exception e) {
-                log.error("Failed hire-date check for tenant={}: {}", tenant.getId(), e.getMessage(), e);
-            } finally {
-                TenantContext.clear();
             }
         }
+        if (failed > 0) {
+            throw new IllegalStateException("Hire-date accrual failed for " + failed + " employees");
+        }
+    }
 
-        log.info("Hire-date based accrual check completed");
+    /**
+     * 매일 02:30 - 실패한 테넌트 재시도
+     * <p>
+     * 올해 연간 발생, 이번 달 월별 발생, 최근 {@code retryDays}일의 입사일 기준 발생 실행에서
+     * 완료되지 못한 테넌트만 같은 실행 키로 다시 처리합니다. 연차 생성은 잔액을 생성/갱신하므로 재처리해도 중복되지 않습니다.
+     */
+    @Scheduled(cron = "0 30 2 * * *")
+    public void retryUnfinishedAccruals() {
+        LocalDate today = LocalDate.now();
+
+        int year = today.getYear();
+        retry(YEARLY_JOB, String.valueOf(year), context -> generateYearlyLeaveForTenant(context, year));
+
+        YearMonth month = YearMonth.from(today);
+        retry(MONTHLY_JOB, month.toString(), context -> generateMonthlyLeaveForTenant(context, month));
+
+        for (int daysAgo = 0; daysAgo < retryDays; daysAgo++) {
+            LocalDate day = today.minusDays(daysAgo);
+            retry(HIRE_DATE_JOB, day.toString(), context -> checkHireDateBasedAccrualForTenant(context, day));
+        }
+    }
+
+    private void retry(String jobName, String runKey, TenantJob job) {
+        List<UUID> unfinished = fanOutExecutor.unfinishedTenants(jobName, runKey);
+        if (unfinished.isEmpty()) {
+            return;
+        }
+        log.info("Retrying {} [{}] for {} unfinished tenants", jobName, runKey, unfinished.size());
+        fanOutExecutor.execute(jobName, runKey, unfinished, job);
     }
 
     private boolean isHireAnniversary(LocalDate hireDate, LocalDate today) {
@@ -160,6 +223,10 @@ public class LeaveAccrualScheduler {
             && hireDate.getYear() < today.getYear();
     }
 
+    private List<UUID> getActiveTenantIds() {
+        return getActiveTenants().stream().map(TenantBasicDto::getId).toList();
+    }
+
     private List<TenantBasicDto> getActiveTenants() {
         try {
             ApiResponse<PageResponse<TenantBasicDto>> response = tenantServiceClient.getAllTenants();
@@ -174,14 +241,10 @@ public class LeaveAccrualScheduler {
         return Collections.emptyList();
     }
 
-    private List<EmployeeBasicDto> getActiveEmployees() {
-        try {
-            ApiResponse<List<EmployeeBasicDto>> response = employeeServiceClient.getActiveEmployees("ACTIVE");
-            if (response != null && response.getData() != null) {
-                return response.getData();
-            }
-        } catch (Exception e) {
-            log.error("Failed to fetch active employees: {}", e.getMessage(), e);
+    private List<EmployeeBasicDto> fetchActiveEmployees() {
+        ApiResponse<List<EmployeeBasicDto>> response = employeeServiceClient.getActiveEmployees("ACTIVE");
+        if (response != null && response.getData() != null) {
+            return response.getData();
         }
         return Collections.emptyList();
     }
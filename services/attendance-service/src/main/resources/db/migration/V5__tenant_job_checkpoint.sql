@@ -0,0 +1,13 @@
+-- Per-tenant checkpoints of scheduled tenant fan-out jobs (leave accrual etc.)
+-- A run (job_name + run_key) that stops midway resumes from these rows.
+-- System table written by schedulers across tenants; no RLS.
+CREATE TABLE IF NOT EXISTS hr_attendance.tenant_job_checkpoint (
+    job_name     VARCHAR(100) NOT NULL,
+    run_key      VARCHAR(100) NOT NULL,
+    tenant_id    UUID NOT NULL,
+    status       VARCHAR(20) NOT NULL,
+    cursor_value VARCHAR(255),
+    processed    BIGINT NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT pk_tenant_job_checkpoint PRIMARY KEY (job_name, run_key, tenant_id)
+);
@@ -11,20 +11,28 @@ import com.hrsaas.attendance.service.LeaveCarryOverService;
 import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.common.tenant.job.InMemoryTenantJobCheckpointStore;
+import com.hrsaas.common.tenant.job.TenantFanOutExecutor;
+import com.hrsaas.common.tenant.job.TenantJobCheckpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +55,12 @@ class LeaveAccrualSchedulerTest {
     @Mock
     private LeaveAccrualRuleRepository ruleRepository;
 
+    private final InMemoryTenantJobCheckpointStore checkpointStore = new InMemoryTenantJobCheckpointStore();
+
+    @Spy
+    private TenantFanOutExecutor fanOutExecutor =
+            new TenantFanOutExecutor(checkpointStore, new SimpleMeterRegistry(), 2);
+
     @InjectMocks
     private LeaveAccrualScheduler scheduler;
 
@@ -101,7 +115,7 @@ class LeaveAccrualSchedulerTest {
 
         // First tenant fails when fetching employees
         when(employeeServiceClient.getActiveEmployees(any()))
-                .thenReturn(ApiResponse.success(Collections.emptyList()))
+                .thenThrow(new RuntimeException("employee-service unavailable"))
                 .thenReturn(ApiResponse.success(List.of(
                         activeEmployee(UUID.randomUUID(), LocalDate.of(2024, 1, 1)))));
         when(carryOverService.processCarryOver(any(), anyInt())).thenReturn(0);
@@ -110,8 +124,68 @@ class LeaveAccrualSchedulerTest {
         // when
         scheduler.generateYearlyLeave();
 
-        // then - both tenants processed
-        verify(accrualService, times(2)).generateAnnualLeave(any(), anyInt(), anyList());
+        // then - both tenants attempted, the other tenant still generated
+        verify(carryOverService, times(2)).processCarryOver(any(), anyInt());
+        verify(accrualService, times(1)).generateAnnualLeave(any(), anyInt(), anyList());
+    }
+
+    @Test
+    @DisplayName("generateYearlyLeave: employees processed in chunks with checkpoints")
+    void generateYearlyLeave_largeTenant_processesInChunks() {
+        // given
+        UUID tenantId = UUID.randomUUID();
+        PageResponse<TenantBasicDto> pageResponse = PageResponse.<TenantBasicDto>builder()
+                .content(List.of(activeTenant(tenantId))).build();
+        when(tenantServiceClient.getAllTenants()).thenReturn(ApiResponse.success(pageResponse));
+
+        List<EmployeeBasicDto> employees = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            employees.add(activeEmployee(UUID.randomUUID(), LocalDate.of(2024, 1, 1)));
+        }
+        when(employeeServiceClient.getActiveEmployees(any())).thenReturn(ApiResponse.success(employees));
+        when(accrualService.generateAnnualLeave(any(), anyInt(), anyList())).thenReturn(1);
+
+        // when
+        scheduler.generateYearlyLeave();
+
+        // then - 500 + 500 + 200
+        verify(accrualService, times(3)).generateAnnualLeave(eq(tenantId), anyInt(), anyList());
+        TenantJobCheckpoint checkpoint = checkpointStore
+                .load(LeaveAccrualScheduler.YEARLY_JOB, String.valueOf(LocalDate.now().getYear())).get(tenantId);
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.processed()).isEqualTo(1_200);
+    }
+
+    @Test
+    @DisplayName("generateYearlyLeave: rerun resumes after last checkpoint and skips completed tenants")
+    void generateYearlyLeave_rerun_resumesFromCheckpoint() {
+        // given
+        UUID doneTenant = UUID.randomUUID();
+        UUID crashedTenant = UUID.randomUUID();
+        String runKey = String.valueOf(LocalDate.now().getYear());
+        PageResponse<TenantBasicDto> pageResponse = PageResponse.<TenantBasicDto>builder()
+                .content(List.of(activeTenant(doneTenant), activeTenant(crashedTenant))).build();
+        when(tenantServiceClient.getAllTenants()).thenReturn(ApiResponse.success(pageResponse));
+
+        UUID processed = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID remaining = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        checkpointStore.save(LeaveAccrualScheduler.YEARLY_JOB, runKey, new TenantJobCheckpoint(
+                doneTenant, TenantJobCheckpoint.Status.COMPLETED, null, 10));
+        checkpointStore.save(LeaveAccrualScheduler.YEARLY_JOB, runKey, new TenantJobCheckpoint(
+                crashedTenant, TenantJobCheckpoint.Status.RUNNING, processed.toString(), 1));
+        when(employeeServiceClient.getActiveEmployees(any())).thenReturn(ApiResponse.success(List.of(
+                activeEmployee(remaining, LocalDate.of(2024, 1, 1)),
+                activeEmployee(processed, LocalDate.of(2024, 1, 1)))));
+        when(accrualService.generateAnnualLeave(any(), anyInt(), anyList())).thenReturn(1);
+
+        // when
+        scheduler.generateYearlyLeave();
+
+        // then
+        verify(carryOverService, never()).processCarryOver(any(), anyInt());
+        verify(accrualService, never()).generateAnnualLeave(eq(doneTenant), anyInt(), anyList());
+        verify(accrualService).generateAnnualLeave(eq(crashedTenant), anyInt(),
+                argThat(list -> list.size() == 1 && list.get(0).getEmployeeId().equals(remaining)));
     }
 
     @Test
@@ -141,6 +215,84 @@ class LeaveAccrualSchedulerTest {
         verify(accrualService).generateForEmployee(eq(empId), any(), anyInt());
     }
 
+    @Test
+    @DisplayName("generateMonthlyLeave: employee lookup failure leaves the tenant FAILED, retry completes it")
+    void generateMonthlyLeave_lookupFailure_retriedUntilCompleted() {
+        // given
+        UUID failingTenant = UUID.randomUUID();
+        UUID healthyTenant = UUID.randomUUID();
+        PageResponse<TenantBasicDto> pageResponse = PageResponse.<TenantBasicDto>builder()
+                .content(List.of(activeTenant(failingTenant), activeTenant(healthyTenant))).build();
+        when(tenantServiceClient.getAllTenants()).thenReturn(ApiResponse.success(pageResponse));
+
+        LeaveAccrualRule monthlyRule = LeaveAccrualRule.builder()
+                .leaveTypeCode("ANNUAL").accrualType("MONTHLY")
+                .baseEntitlement(new BigDecimal("1.25")).build();
+        when(ruleRepository.findActiveByTenantIdAndAccrualType(any(), eq("MONTHLY")))
+                .thenReturn(List.of(monthlyRule));
+
+        UUID empId = UUID.randomUUID();
+        when(employeeServiceClient.getActiveEmployees(any())).thenAnswer(inv -> {
+            if (failingTenant.equals(TenantContext.getCurrentTenant())) {
+                throw new RuntimeException("employee-service unavailable");
+            }
+            return ApiResponse.success(List.of(activeEmployee(empId, LocalDate.of(2024, 3, 1))));
+        });
+
+        // when
+        scheduler.generateMonthlyLeave();
+
+        // then - the failing tenant is not checkpointed as completed
+        String runKey = YearMonth.now().toString();
+        assertThat(checkpointStore.load(LeaveAccrualScheduler.MONTHLY_JOB, runKey))
+                .hasEntrySatisfying(failingTenant, c -> assertThat(c.status()).isEqualTo(TenantJobCheckpoint.Status.FAILED))
+                .hasEntrySatisfying(healthyTenant, c -> assertThat(c.isCompleted()).isTrue());
+        verify(accrualService, times(1)).generateForEmployee(eq(empId), any(), anyInt());
+
+        // when - employee-service recovers and the retry pass runs
+        reset(employeeServiceClient);
+        when(employeeServiceClient.getActiveEmployees(any()))
+                .thenReturn(ApiResponse.success(List.of(activeEmployee(empId, LocalDate.of(2024, 3, 1)))));
+        scheduler.retryUnfinishedAccruals();
+
+        // then - only the failed tenant is processed again
+        verify(employeeServiceClient, times(1)).getActiveEmployees(any());
+        verify(accrualService, times(2)).generateForEmployee(eq(empId), any(), anyInt());
+        assertThat(checkpointStore.load(LeaveAccrualScheduler.MONTHLY_JOB, runKey).get(failingTenant).isCompleted())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("checkHireDateBasedAccrual: a failed employee leaves the tenant FAILED")
+    void checkHireDateBasedAccrual_employeeFailure_marksTenantFailed() {
+        // given
+        UUID tenantId = UUID.randomUUID();
+        PageResponse<TenantBasicDto> pageResponse = PageResponse.<TenantBasicDto>builder()
+                .content(List.of(activeTenant(tenantId))).build();
+        when(tenantServiceClient.getAllTenants()).thenReturn(ApiResponse.success(pageResponse));
+
+        LeaveAccrualRule rule = LeaveAccrualRule.builder()
+                .leaveTypeCode("ANNUAL").accrualType("HIRE_DATE_BASED").build();
+        when(ruleRepository.findActiveByTenantIdAndAccrualType(tenantId, "HIRE_DATE_BASED"))
+                .thenReturn(List.of(rule));
+
+        LocalDate today = LocalDate.now();
+        UUID failing = UUID.randomUUID();
+        UUID succeeding = UUID.randomUUID();
+        when(employeeServiceClient.getActiveEmployees(any())).thenReturn(ApiResponse.success(List.of(
+                activeEmployee(failing, today.minusYears(1)), activeEmployee(succeeding, today.minusYears(3)))));
+        doThrow(new RuntimeException("db down")).when(accrualService)
+                .generateForEmployee(eq(failing), any(), anyInt());
+
+        // when
+        scheduler.checkHireDateBasedAccrual();
+
+        // then - the other employee is still processed, but the tenant is left for retry
+        verify(accrualService).generateForEmployee(eq(succeeding), any(), anyInt());
+        assertThat(checkpointStore.load(LeaveAccrualScheduler.HIRE_DATE_JOB, today.toString()).get(tenantId).status())
+                .isEqualTo(TenantJobCheckpoint.Status.FAILED);
+    }
+
     @Test
     @DisplayName("generateMonthlyLeave: no rules skips")
     void generateMonthlyLeave_noRules_skips() {
@@ -4,7 +4,11 @@ import com.hrsaas.common.response.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -24,6 +28,14 @@ public interface EmployeeServiceClient {
     @GetMapping("/api/v1/employees/{employeeId}/department-id")
     ApiResponse<UUID> getDepartmentId(@PathVariable UUID employeeId);
 
+    /**
+     * Internal endpoint, reachable only by direct service calls; at most 500 employees per request.
+     */
+    @PostMapping("/internal/v1/employees/department-ids")
+    ApiResponse<Map<UUID, UUID>> getDepartmentIds(@RequestBody DepartmentIdsRequest request);
+
+    record DepartmentIdsRequest(List<UUID> employeeIds) {}
+
     record EmployeeInfo(
         UUID id,
         String employeeNumber,
@@ -1,10 +1,16 @@
 package com.hrsaas.auth.client;
 
+import com.hrsaas.auth.client.EmployeeServiceClient.DepartmentIdsRequest;
 import com.hrsaas.common.security.client.EmployeeServiceClient;
 import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -14,6 +20,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class SecurityEmployeeServiceClientAdapter implements EmployeeServiceClient {
 
+    /** employee-service department-ids request limit */
+    static final int DEPARTMENT_IDS_CHUNK_SIZE = 500;
+
     private final com.hrsaas.auth.client.EmployeeServiceClient employeeServiceClient;
 
     @Override
@@ -27,4 +36,25 @@ public class SecurityEmployeeServiceClientAdapter implements EmployeeServiceClie
 
         return new EmployeeAffiliationDto(employee.departmentId(), employee.teamId());
     }
+
+    /**
+     * One round trip per 500 employees for scope filtering. employee-service has no team assignment,
+     * so teamId is always null here, same as {@link #getAffiliation}.
+     */
+    @Override
+    public Map<UUID, EmployeeAffiliationDto> getAffiliations(Collection<UUID> employeeIds) {
+        List<UUID> ids = new ArrayList<>(employeeIds);
+        Map<UUID, EmployeeAffiliationDto> affiliations = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += DEPARTMENT_IDS_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + DEPARTMENT_IDS_CHUNK_SIZE, ids.size()));
+            var response = employeeServiceClient.getDepartmentIds(
+                new DepartmentIdsRequest(List.copyOf(chunk)));
+            Map<UUID, UUID> departmentIds = response != null ? response.getData() : null;
+            if (departmentIds != null) {
+                departmentIds.forEach((employeeId, departmentId) ->
+                    affiliations.put(employeeId, new EmployeeAffiliationDto(departmentId, null)));
+            }
+        }
+        return affiliations;
+    }
 }
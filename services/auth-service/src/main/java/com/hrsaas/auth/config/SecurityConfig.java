@@ -2,6 +2,7 @@ package com.hrsaas.auth.config;
 
 import com.hrsaas.common.security.SecurityFilter;
 import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -26,17 +27,19 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Value("${cors.allowed-origins:http://localhost:5173}")
     private String[] allowedOrigins;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, TokenRevocationService tokenRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Bean
     public SecurityFilter securityFilter() {
-        return new SecurityFilter(jwtTokenProvider);
+        return new SecurityFilter(jwtTokenProvider, tokenRevocationService);
     }
 
     @Bean
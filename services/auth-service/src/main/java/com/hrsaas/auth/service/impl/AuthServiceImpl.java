@@ -15,6 +15,7 @@ import com.hrsaas.common.core.exception.BusinessException;
 import com.hrsaas.common.security.SecurityContextHolder;
 import com.hrsaas.common.security.UserContext;
 import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,6 +40,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
     private final SessionService sessionService;
     private final LoginHistoryService loginHistoryService;
     private final Optional<AuditLogService> auditLogService;
@@ -269,6 +271,8 @@ public class AuthServiceImpl implements AuthService {
             String blacklistKey = BLACKLIST_PREFIX + token;
             redisTemplate.opsForValue().set(blacklistKey, "1",
                     jwtTokenProvider.getAccessTokenExpiry(), TimeUnit.SECONDS);
+            // Propagate to the local revocation list of every service
+            tokenRevocationService.revoke(token);
 
             // Terminate session and blacklist refresh token
             try {
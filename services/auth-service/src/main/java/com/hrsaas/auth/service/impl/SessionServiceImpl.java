@@ -5,6 +5,7 @@ import com.hrsaas.auth.domain.entity.UserSession;
 import com.hrsaas.auth.repository.UserSessionRepository;
 import com.hrsaas.auth.service.SessionService;
 import com.hrsaas.common.core.exception.BusinessException;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.CityResponse;
 import jakarta.annotation.PostConstruct;
@@ -31,6 +32,7 @@ public class SessionServiceImpl implements SessionService {
 
     private final UserSessionRepository sessionRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
 
     private static final String SESSION_PREFIX = "session:";
     private static final String BLACKLIST_PREFIX = "token:blacklist:";
@@ -226,6 +228,7 @@ public class SessionServiceImpl implements SessionService {
     private void blacklistToken(String token) {
         String blacklistKey = BLACKLIST_PREFIX + token;
         redisTemplate.opsForValue().set(blacklistKey, "1", 24, TimeUnit.HOURS);
+        tokenRevocationService.revoke(token);
     }
 
     private String resolveLocation(String ipAddress) {
@@ -4,12 +4,21 @@ import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.common.security.dto.EmployeeAffiliationDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class SecurityEmployeeServiceClientAdapterTest {
 
@@ -44,4 +53,54 @@ class SecurityEmployeeServiceClientAdapterTest {
         assertThat(affiliation.departmentId()).isEqualTo(departmentId);
         assertThat(affiliation.teamId()).isEqualTo(teamId);
     }
+
+    @Test
+    @DisplayName("getAffiliations should fetch department ids in one call")
+    void getAffiliations_singleBulkCall() {
+        EmployeeServiceClient feignClient = mock(EmployeeServiceClient.class);
+        SecurityEmployeeServiceClientAdapter adapter = new SecurityEmployeeServiceClientAdapter(feignClient);
+
+        UUID employeeId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UUID departmentId = UUID.randomUUID();
+        List<UUID> ids = List.of(employeeId, missingId);
+
+        given(feignClient.getDepartmentIds(new EmployeeServiceClient.DepartmentIdsRequest(ids)))
+                .willReturn(ApiResponse.success(Map.of(employeeId, departmentId)));
+
+        Map<UUID, EmployeeAffiliationDto> affiliations = adapter.getAffiliations(ids);
+
+        assertThat(affiliations).containsOnlyKeys(employeeId);
+        assertThat(affiliations.get(employeeId).departmentId()).isEqualTo(departmentId);
+        verify(feignClient, never()).getEmployee(any());
+    }
+
+    @Test
+    @DisplayName("getAffiliations should split requests at the employee-service limit")
+    void getAffiliations_chunksLargeRequests() {
+        EmployeeServiceClient feignClient = mock(EmployeeServiceClient.class);
+        SecurityEmployeeServiceClientAdapter adapter = new SecurityEmployeeServiceClientAdapter(feignClient);
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1_100; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        UUID departmentId = UUID.randomUUID();
+        given(feignClient.getDepartmentIds(any())).willAnswer(invocation -> {
+            EmployeeServiceClient.DepartmentIdsRequest request = invocation.getArgument(0);
+            Map<UUID, UUID> departments = new HashMap<>();
+            request.employeeIds().forEach(id -> departments.put(id, departmentId));
+            return ApiResponse.success(departments);
+        });
+
+        Map<UUID, EmployeeAffiliationDto> affiliations = adapter.getAffiliations(ids);
+
+        ArgumentCaptor<EmployeeServiceClient.DepartmentIdsRequest> captor =
+                ArgumentCaptor.forClass(EmployeeServiceClient.DepartmentIdsRequest.class);
+        verify(feignClient, times(3)).getDepartmentIds(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(request -> request.employeeIds().size())
+                .containsExactly(500, 500, 100);
+        assertThat(affiliations).hasSize(1_100);
+    }
 }
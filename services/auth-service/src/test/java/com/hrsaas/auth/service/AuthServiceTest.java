@@ -12,6 +12,7 @@ import com.hrsaas.auth.service.impl.MfaServiceImpl;
 import com.hrsaas.common.security.SecurityContextHolder;
 import com.hrsaas.common.security.UserContext;
 import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -57,6 +58,9 @@ class AuthServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @Mock
     private SessionService sessionService;
 
@@ -99,6 +103,7 @@ class AuthServiceTest {
                 jwtTokenProvider,
                 passwordEncoder,
                 redisTemplate,
+                tokenRevocationService,
                 sessionService,
                 loginHistoryService,
                 Optional.of(auditLogService),
@@ -413,6 +418,7 @@ class AuthServiceTest {
             authService.logout("Bearer test-access-token");
 
             verify(valueOperations).set(eq("token:blacklist:test-access-token"), eq("1"), eq(3600L), any());
+            verify(tokenRevocationService).revoke("test-access-token");
             verify(sessionService).terminateByAccessToken("test-access-token");
         }
 
@@ -4,6 +4,7 @@ import com.hrsaas.auth.domain.dto.response.SessionResponse;
 import com.hrsaas.auth.domain.entity.UserSession;
 import com.hrsaas.auth.repository.UserSessionRepository;
 import com.hrsaas.auth.service.impl.SessionServiceImpl;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,9 @@ class SessionServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     private static final String USER_ID = "10000000-0000-0000-0000-000000000001";
     private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
 
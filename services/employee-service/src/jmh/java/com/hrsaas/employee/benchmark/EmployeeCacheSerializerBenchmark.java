@@ -0,0 +1,101 @@
+package com.hrsaas.employee.benchmark;
+
+import com.hrsaas.common.cache.serializer.CacheCompression;
+import com.hrsaas.common.cache.serializer.CacheSerializers;
+import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.domain.entity.EmployeeStatus;
+import com.hrsaas.employee.domain.entity.EmploymentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON cache value format against the binary format on EmployeeResponse.
+ * Encoded sizes are printed during setup.
+ *
+ * Run: ./gradlew :services:employee-service:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeCacheSerializerBenchmark {
+
+    @Param({"json", "binary", "binary-lz4", "binary-zstd"})
+    public String format;
+
+    @Param({"1", "100"})
+    public int employees;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        serializer = switch (format) {
+            case "json" -> (RedisSerializer<Object>) (RedisSerializer<?>) CacheSerializers.json();
+            case "binary" -> CacheSerializers.binary(CacheCompression.NONE);
+            case "binary-lz4" -> CacheSerializers.binary(CacheCompression.LZ4);
+            case "binary-zstd" -> CacheSerializers.binary(CacheCompression.ZSTD);
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        List<EmployeeResponse> list = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            list.add(employee(i));
+        }
+        value = employees == 1 ? list.get(0) : list;
+        encoded = serializer.serialize(value);
+
+        System.out.printf("%n[size] format=%s employees=%d bytes=%d%n", format, employees, encoded.length);
+    }
+
+    private EmployeeResponse employee(int i) {
+        return EmployeeResponse.builder()
+            .id(UUID.randomUUID())
+            .employeeNumber(String.format("EMP-2026-%05d", i))
+            .name("홍길동" + i)
+            .nameEn("Hong Gildong " + i)
+            .email("employee" + i + "@example.com")
+            .phone("02-1234-5678")
+            .mobile("010-1234-5678")
+            .departmentId(UUID.randomUUID())
+            .departmentName("인사팀")
+            .positionCode("P" + (i % 10))
+            .positionName("팀원")
+            .jobTitleCode("G" + (i % 7))
+            .gradeCode("G" + (i % 7))
+            .gradeName("대리")
+            .hireDate(LocalDate.of(2020, 1, 1).plusDays(i))
+            .status(EmployeeStatus.ACTIVE)
+            .employmentType(EmploymentType.REGULAR)
+            .managerId(UUID.randomUUID())
+            .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+            .updatedAt(Instant.parse("2026-01-02T00:00:00Z"))
+            .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,143 @@
+package com.hrsaas.employee.benchmark;
+
+import com.hrsaas.employee.repository.EmployeeKeywordPatterns;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee keyword search latency against PostgreSQL at increasing tenant sizes.
+ * Compares the indexed ranked search (V5) with the previous unanchored LIKE scan.
+ * Query plans for each keyword are printed during setup.
+ *
+ * Requires Docker. Run: ./gradlew :services:employee-service:jmh -Pjmh.includes=EmployeeSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeSearchBenchmark {
+
+    private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private static final String LEGACY_SQL =
+        "SELECT e.* FROM hr_core.employee e WHERE e.tenant_id = :tenantId AND e.status = 'ACTIVE' " +
+        "AND (e.name LIKE :contains OR e.employee_number LIKE :contains) ORDER BY e.name LIMIT :limit";
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    /** prefix: family name, infix: given name, number: employee number fragment, choseong: initials */
+    @Param({"김", "민준", "00042", "ㄱㅁㅈ"})
+    public String keyword;
+
+    private PostgreSQLContainer<?> postgres;
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbc;
+    private MapSqlParameterSource indexedParams;
+    private MapSqlParameterSource legacyParams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("hr_saas_bench")
+            .withUsername("bench")
+            .withPassword("bench")
+            .withInitScript("test-init.sql");
+        postgres.start();
+
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .schemas("hr_core")
+            .table("flyway_schema_history_employee")
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+
+        dataSource = new SingleConnectionDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("SET app.current_tenant = '" + TENANT_ID + "'");
+        seed(template);
+        jdbc = new NamedParameterJdbcTemplate(template);
+
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of(keyword);
+        indexedParams = new MapSqlParameterSource()
+            .addValue("tenantId", TENANT_ID)
+            .addValue("keyword", patterns.keyword())
+            .addValue("prefix", patterns.prefix())
+            .addValue("contains", patterns.contains())
+            .addValue("choseong", patterns.choseong())
+            .addValue("choseongPrefix", patterns.choseongPrefix())
+            .addValue("limit", 20);
+        legacyParams = new MapSqlParameterSource()
+            .addValue("tenantId", TENANT_ID)
+            .addValue("contains", "%" + keyword + "%")
+            .addValue("limit", 20);
+
+        printPlan(EmployeeKeywordPatterns.SEARCH_SQL, indexedParams);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> indexedRankedSearch() {
+        return jdbc.queryForList(EmployeeKeywordPatterns.SEARCH_SQL, indexedParams);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> legacyLikeScan() {
+        return jdbc.queryForList(LEGACY_SQL, legacyParams);
+    }
+
+    /**
+     * Random three-syllable Hangul names built from common family names and given-name syllables.
+     * A second tenant with the same volume keeps tenant_id selectivity realistic.
+     */
+    private void seed(JdbcTemplate template) {
+        String insert =
+            "INSERT INTO hr_core.employee (id, tenant_id, employee_number, name, email, hire_date, status, " +
+            "employment_type, created_at, updated_at) " +
+            "SELECT gen_random_uuid(), ?::uuid, 'EMP-' || lpad(g::text, 7, '0'), " +
+            "(ARRAY['김','이','박','최','정','강','조','윤','장','임'])[1 + (random() * 9)::int] || " +
+            "(ARRAY['민','서','지','현','준','도','하','예','수','우'])[1 + (random() * 9)::int] || " +
+            "(ARRAY['준','윤','우','연','호','진','아','은','영','빈'])[1 + (random() * 9)::int], " +
+            "'user' || g || '@' || ?::text || '.example.com', DATE '2020-01-01' + (g % 2000), " +
+            "CASE WHEN g % 20 = 0 THEN 'RESIGNED' ELSE 'ACTIVE' END, 'REGULAR', now(), now() " +
+            "FROM generate_series(1, ?) g";
+        template.update(insert, TENANT_ID.toString(), "a", rows);
+        template.update(insert, UUID.randomUUID().toString(), "b", rows);
+        template.execute("ANALYZE hr_core.employee");
+    }
+
+    private void printPlan(String sql, MapSqlParameterSource params) {
+        List<String> plan = jdbc.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, params, String.class);
+        System.out.println("# rows=" + rows + " keyword=" + keyword);
+        plan.forEach(line -> System.out.println("#   " + line));
+    }
+}
@@ -3,9 +3,13 @@ package com.hrsaas.employee.client;
 import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.employee.client.dto.DepartmentClientResponse;
 import com.hrsaas.employee.client.dto.GradeClientResponse;
+import com.hrsaas.employee.client.dto.OrganizationNameLookupClientRequest;
+import com.hrsaas.employee.client.dto.OrganizationNameLookupClientResponse;
 import com.hrsaas.employee.client.dto.PositionClientResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
 import java.util.List;
@@ -47,4 +51,14 @@ public interface OrganizationServiceClient {
     ApiResponse<List<GradeClientResponse>> getGrades(
         @RequestHeader("X-Tenant-ID") String tenantId
     );
+
+    /**
+     * Resolve department/position/grade names for the given IDs and codes only
+     * @param tenantId Target tenant ID (passed via X-Tenant-ID header)
+     */
+    @PostMapping("/api/v1/organization/lookup/names")
+    ApiResponse<OrganizationNameLookupClientResponse> lookupNames(
+        @RequestHeader("X-Tenant-ID") String tenantId,
+        @RequestBody OrganizationNameLookupClientRequest request
+    );
 }
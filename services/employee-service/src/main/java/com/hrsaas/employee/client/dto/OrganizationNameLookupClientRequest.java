@@ -0,0 +1,22 @@
+package com.hrsaas.employee.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Request DTO for the Organization Service bulk name lookup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationNameLookupClientRequest {
+    private Set<UUID> departmentIds;
+    private Set<String> positionCodes;
+    private Set<String> gradeCodes;
+}
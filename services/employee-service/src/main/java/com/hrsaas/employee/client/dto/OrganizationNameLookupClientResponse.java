@@ -0,0 +1,23 @@
+package com.hrsaas.employee.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO for bulk name lookup results received from Organization Service.
+ * Unknown IDs/codes are absent from the maps.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationNameLookupClientResponse {
+    private Map<UUID, String> departments;
+    private Map<String, String> positions;
+    private Map<String, String> grades;
+}
@@ -1,20 +1,27 @@
 package com.hrsaas.employee.controller;
 
 import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.response.PageCountMode;
 import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.common.security.SecurityContextHolder;
 import com.hrsaas.employee.domain.dto.request.CreateEmployeeRequest;
 import com.hrsaas.employee.domain.dto.request.EmployeeSearchCondition;
+import com.hrsaas.employee.domain.dto.request.OrgChartSummaryRequest;
 import com.hrsaas.employee.domain.dto.request.UpdateEmployeeRequest;
 import com.hrsaas.employee.domain.dto.response.BulkImportResultResponse;
 import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.domain.dto.response.OrgChartSummaryResponse;
 import com.hrsaas.employee.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -23,6 +30,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -97,7 +105,17 @@ public class EmployeeController {
     @PreAuthorize("hasAnyRole('EMPLOYEE', 'HR_ADMIN', 'TENANT_ADMIN', 'SUPER_ADMIN')")
     public ResponseEntity<ApiResponse<PageResponse<EmployeeResponse>>> search(
             @ModelAttribute EmployeeSearchCondition condition,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "커서 페이지네이션 토큰. 빈 값이면 첫 페이지, 생략하면 오프셋 페이지네이션")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 모드의 전체 건수 계산 방식 (NONE, ESTIMATE, EXACT)")
+            @RequestParam(defaultValue = "NONE") PageCountMode count) {
+        if (cursor != null) {
+            String sort = pageable.getSort().stream().findFirst().map(Sort.Order::getProperty).orElse(null);
+            PageResponse<EmployeeResponse> response =
+                employeeService.searchByCursor(condition, cursor, pageable.getPageSize(), sort, count);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
         PageResponse<EmployeeResponse> response = employeeService.search(condition, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -148,12 +166,13 @@ public class EmployeeController {
     @GetMapping("/export")
     @Operation(summary = "직원 목록 엑셀 내보내기")
     @PreAuthorize("hasAnyRole('HR_ADMIN', 'TENANT_ADMIN', 'SUPER_ADMIN')")
-    public ResponseEntity<byte[]> exportToExcel(@ModelAttribute EmployeeSearchCondition condition) {
-        byte[] excelData = employeeService.exportToExcel(condition);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", "employees.xlsx");
-        return ResponseEntity.ok().headers(headers).body(excelData);
+    public void exportToExcel(@ModelAttribute EmployeeSearchCondition condition,
+                              HttpServletResponse response) throws IOException {
+        // Written straight to the response body so the workbook is never buffered as a byte[]
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("employees.xlsx").build().toString());
+        employeeService.exportToExcel(condition, response.getOutputStream());
     }
 
     @PostMapping("/import")
@@ -230,6 +249,15 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    @PostMapping("/org-chart-summary")
+    @Operation(summary = "조직도 요약 조회 (부서별 재직 인원 + 부서장 요약)")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<OrgChartSummaryResponse>> getOrgChartSummary(
+            @RequestBody OrgChartSummaryRequest request) {
+        OrgChartSummaryResponse response = employeeService.getOrgChartSummary(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/list")
     @Operation(summary = "직원 목록 조회 (페이징 없음)")
     @PreAuthorize("hasAnyRole('HR_ADMIN', 'TENANT_ADMIN', 'SUPER_ADMIN')")
@@ -0,0 +1,40 @@
+package com.hrsaas.employee.controller;
+
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.employee.domain.dto.request.EmployeeDepartmentLookupRequest;
+import com.hrsaas.employee.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서비스 간 호출 전용 API.
+ * /internal 경로는 게이트웨이(Traefik)와 ALB 라우팅 규칙(/api/**)에 포함되지 않으므로
+ * 외부 클라이언트는 호출할 수 없고, 서비스 URL로 직접 호출하는 다른 서비스만 사용할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/internal/v1/employees")
+@RequiredArgsConstructor
+@Tag(name = "Employee Internal", description = "직원 내부 API")
+public class InternalEmployeeController {
+
+    private final EmployeeService employeeService;
+
+    @PostMapping("/department-ids")
+    @Operation(summary = "소속 부서 일괄 조회 (권한 범위 판단용)")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Map<UUID, UUID>>> getDepartmentIds(
+            @Valid @RequestBody EmployeeDepartmentLookupRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(employeeService.getDepartmentIds(request.getEmployeeIds())));
+    }
+}
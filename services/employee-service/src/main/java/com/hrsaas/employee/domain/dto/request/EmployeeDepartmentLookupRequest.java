@@ -0,0 +1,25 @@
+package com.hrsaas.employee.domain.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 소속 부서 일괄 조회 요청 (권한 범위 판단용 내부 API)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDepartmentLookupRequest {
+
+    @NotNull(message = "직원 ID 목록은 필수입니다")
+    @Size(max = 500, message = "직원 ID는 한 번에 500개까지 조회할 수 있습니다")
+    private List<UUID> employeeIds;
+}
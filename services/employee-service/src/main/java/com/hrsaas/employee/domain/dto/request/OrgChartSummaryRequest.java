@@ -0,0 +1,25 @@
+package com.hrsaas.employee.domain.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 조직도 요약 조회 요청 (organization-service 조직도 read model 용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartSummaryRequest {
+
+    /** 재직 인원을 집계할 부서. null이면 테넌트 전체 부서, 빈 목록이면 집계하지 않음 */
+    private List<UUID> departmentIds;
+
+    /** 요약 정보를 조회할 부서장 */
+    private List<UUID> managerIds;
+}
@@ -0,0 +1,35 @@
+package com.hrsaas.employee.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조직도 요약 응답: 부서별 재직 인원과 부서장 요약을 한 번에 반환합니다.
+ * 직급/직책은 코드만 내려주며 이름은 organization-service에서 해석합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartSummaryResponse {
+
+    private Map<UUID, Long> headcounts;
+    private List<ManagerSummary> managers;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManagerSummary {
+        private UUID id;
+        private String name;
+        private String positionCode;
+        private String jobTitleCode;
+    }
+}
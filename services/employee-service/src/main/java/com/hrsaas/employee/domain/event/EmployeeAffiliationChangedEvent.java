@@ -5,6 +5,7 @@ import com.hrsaas.common.event.EventTopics;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -19,6 +20,11 @@ public class EmployeeAffiliationChangedEvent extends DomainEvent {
     private final String affiliationType;
     private final String action; // ADDED, REMOVED, UPDATED
 
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(employeeId, null);
+    }
+
     @Override
     public String getTopic() {
         return EventTopics.EMPLOYEE_AFFILIATION_CHANGED;
@@ -6,6 +6,7 @@ import com.hrsaas.employee.domain.entity.Employee;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -20,6 +21,7 @@ public class EmployeeCreatedEvent extends DomainEvent {
 
     public static EmployeeCreatedEvent of(Employee employee) {
         return EmployeeCreatedEvent.builder()
+            .tenantId(employee.getTenantId())
             .employeeId(employee.getId())
             .employeeNumber(employee.getEmployeeNumber())
             .name(employee.getName())
@@ -28,6 +30,11 @@ public class EmployeeCreatedEvent extends DomainEvent {
             .build();
     }
 
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(employeeId, null);
+    }
+
     @Override
     public String getTopic() {
         return EventTopics.EMPLOYEE_CREATED;
@@ -0,0 +1,46 @@
+package com.hrsaas.employee.domain.event;
+
+import com.hrsaas.common.event.DomainEvent;
+import com.hrsaas.common.event.EventTopics;
+import com.hrsaas.employee.domain.entity.Employee;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when an employee's name, department, position, grade or status changes.
+ * previousDepartmentId is set only when the department changed.
+ */
+@Getter
+@SuperBuilder
+public class EmployeeUpdatedEvent extends DomainEvent {
+
+    private final UUID employeeId;
+    private final String name;
+    private final UUID departmentId;
+    private final UUID previousDepartmentId;
+    private final String status;
+
+    public static EmployeeUpdatedEvent of(Employee employee, UUID previousDepartmentId) {
+        return EmployeeUpdatedEvent.builder()
+            .tenantId(employee.getTenantId())
+            .employeeId(employee.getId())
+            .name(employee.getName())
+            .departmentId(employee.getDepartmentId())
+            .previousDepartmentId(previousDepartmentId)
+            .status(employee.getStatus().name())
+            .build();
+    }
+
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(employeeId, null);
+    }
+
+    @Override
+    public String getTopic() {
+        return EventTopics.EMPLOYEE_UPDATED;
+    }
+}
@@ -5,6 +5,7 @@ import com.hrsaas.common.event.EventTopics;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -17,6 +18,11 @@ public class TransferCompletedEvent extends DomainEvent {
     private final UUID sourceTenantId;
     private final UUID targetTenantId;
 
+    @Override
+    public String getAggregateId() {
+        return Objects.toString(transferRequestId, null);
+    }
+
     @Override
     public String getTopic() {
         return EventTopics.EMPLOYEE_TRANSFER_COMPLETED;
@@ -0,0 +1,65 @@
+package com.hrsaas.employee.listener;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.employee.service.OrganizationNameEnricher;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SQS listener for department updated/merged/split events.
+ * Evicts the affected cached department names; the enricher fans the eviction out to the
+ * other employee-service instances, since only one instance receives each SQS message.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepartmentChangedListener {
+
+    private final OrganizationNameEnricher organizationNameEnricher;
+
+    @SqsListener("employee-service-department-queue")
+    public void handleMessage(String rawMessage) {
+        try {
+            JsonNode envelope = JsonUtils.toJsonNode(rawMessage);
+            String message = envelope.has("Message") ? envelope.get("Message").asText() : rawMessage;
+            JsonNode event = JsonUtils.toJsonNode(message);
+
+            String eventType = event.has("eventType") ? event.get("eventType").asText() : "";
+
+            switch (eventType) {
+                case "DepartmentUpdatedEvent" -> evictDepartmentNames(event, "departmentId");
+                case "DepartmentMergedEvent" -> evictDepartmentNames(event, "sourceIds", "targetId");
+                case "DepartmentSplitEvent" -> evictDepartmentNames(event, "sourceId", "newDepartmentIds");
+                default -> log.debug("Ignoring event type: {}", eventType);
+            }
+        } catch (Exception e) {
+            log.error("Failed to process SQS message", e);
+            throw e;
+        }
+    }
+
+    private void evictDepartmentNames(JsonNode event, String... fields) {
+        List<UUID> departmentIds = new ArrayList<>();
+        for (String field : fields) {
+            JsonNode node = event.get(field);
+            if (node == null || node.isNull()) {
+                continue;
+            }
+            if (node.isArray()) {
+                node.forEach(id -> departmentIds.add(UUID.fromString(id.asText())));
+            } else {
+                departmentIds.add(UUID.fromString(node.asText()));
+            }
+        }
+        UUID tenantId = event.hasNonNull("tenantId") ? UUID.fromString(event.get("tenantId").asText()) : null;
+        log.info("Evicting cached department names: tenantId={}, departmentIds={}", tenantId, departmentIds);
+        organizationNameEnricher.evictDepartments(tenantId, departmentIds);
+    }
+}
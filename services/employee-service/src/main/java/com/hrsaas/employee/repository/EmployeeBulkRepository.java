@@ -0,0 +1,131 @@
+package com.hrsaas.employee.repository;
+
+import com.hrsaas.employee.domain.entity.EmployeeStatus;
+import com.hrsaas.employee.domain.entity.EmploymentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based JDBC access for bulk employee import.
+ * Lookups take a whole chunk of keys per query and inserts go out as JDBC batches,
+ * instead of one JPA round-trip per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBulkRepository {
+
+    /** Upper bound of bind parameters per IN list */
+    public static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    /** Rows per JDBC batch (pairs with reWriteBatchedInserts on the PostgreSQL driver) */
+    public static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO hr_core.employee (id, tenant_id, employee_number, name, name_en, email, phone, mobile, " +
+        "department_id, position_code, job_title_code, hire_date, status, employment_type, manager_id, " +
+        "created_at, updated_at, created_by, updated_by) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Employee IDs keyed by employee number, for the numbers that already exist in the tenant.
+     * Serves both the duplicate check and the manager lookup.
+     */
+    public Map<String, UUID> findIdsByEmployeeNumbers(UUID tenantId, Collection<String> employeeNumbers) {
+        Map<String, UUID> ids = new HashMap<>();
+        for (List<String> chunk : chunks(employeeNumbers)) {
+            namedJdbcTemplate.query(
+                "SELECT id, employee_number FROM hr_core.employee " +
+                "WHERE tenant_id = :tenantId AND employee_number IN (:numbers)",
+                new MapSqlParameterSource("tenantId", tenantId).addValue("numbers", chunk),
+                rs -> {
+                    ids.put(rs.getString("employee_number"), rs.getObject("id", UUID.class));
+                });
+        }
+        return ids;
+    }
+
+    public Set<String> findExistingEmails(UUID tenantId, Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : chunks(emails)) {
+            existing.addAll(namedJdbcTemplate.queryForList(
+                "SELECT email FROM hr_core.employee WHERE tenant_id = :tenantId AND email IN (:emails)",
+                new MapSqlParameterSource("tenantId", tenantId).addValue("emails", chunk),
+                String.class));
+        }
+        return existing;
+    }
+
+    public void insertAll(UUID tenantId, List<NewEmployee> employees, String actor) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, employees, INSERT_BATCH_SIZE, (ps, e) -> {
+            ps.setObject(1, e.id());
+            ps.setObject(2, tenantId);
+            ps.setString(3, e.employeeNumber());
+            ps.setString(4, e.name());
+            ps.setString(5, e.nameEn());
+            ps.setString(6, e.email());
+            ps.setString(7, e.phone());
+            ps.setString(8, e.mobile());
+            ps.setObject(9, e.departmentId(), Types.OTHER);
+            ps.setString(10, e.positionCode());
+            ps.setString(11, e.jobTitleCode());
+            ps.setDate(12, e.hireDate() != null ? Date.valueOf(e.hireDate()) : null);
+            ps.setString(13, EmployeeStatus.ACTIVE.name());
+            ps.setString(14, e.employmentType().name());
+            ps.setObject(15, e.managerId(), Types.OTHER);
+            ps.setTimestamp(16, now);
+            ps.setTimestamp(17, now);
+            ps.setString(18, actor);
+            ps.setString(19, actor);
+        });
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = List.copyOf(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += LOOKUP_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Row to insert. The ID is assigned by the caller so events can be built without reading back.
+     */
+    public record NewEmployee(
+        UUID id,
+        String employeeNumber,
+        String name,
+        String nameEn,
+        String email,
+        String phone,
+        String mobile,
+        UUID departmentId,
+        String positionCode,
+        String jobTitleCode,
+        LocalDate hireDate,
+        EmploymentType employmentType,
+        UUID managerId
+    ) {
+    }
+}
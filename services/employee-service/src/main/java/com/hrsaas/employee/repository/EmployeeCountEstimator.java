@@ -0,0 +1,35 @@
+package com.hrsaas.employee.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.hrsaas.common.core.util.JsonUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Planner-based row count estimates for employee search.
+ * Reads the "Plan Rows" of {@code EXPLAIN (FORMAT JSON)} instead of running {@code COUNT(*)},
+ * so the cost does not grow with the number of matching rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeCountEstimator {
+
+    private static final String EXPLAIN_SEARCH_SQL =
+        "EXPLAIN (FORMAT JSON) SELECT 1 FROM hr_core.employee e WHERE e.tenant_id = ? " +
+        "AND (CAST(? AS TEXT) IS NULL OR e.status = CAST(? AS TEXT)) " +
+        "AND (CAST(? AS TEXT) IS NULL OR e.department_id = CAST(? AS UUID)) " +
+        "AND (CAST(? AS TEXT) IS NULL OR e.name ILIKE '%' || CAST(? AS TEXT) || '%')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long estimateSearch(UUID tenantId, String status, UUID departmentId, String name) {
+        String department = departmentId != null ? departmentId.toString() : null;
+        String plan = jdbcTemplate.queryForObject(EXPLAIN_SEARCH_SQL, String.class,
+            tenantId, status, status, department, department, name, name);
+        JsonNode root = JsonUtils.toJsonNode(plan);
+        return root.path(0).path("Plan").path("Plan Rows").asLong(0);
+    }
+}
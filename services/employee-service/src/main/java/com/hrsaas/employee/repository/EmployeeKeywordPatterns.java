@@ -0,0 +1,91 @@
+package com.hrsaas.employee.repository;
+
+/**
+ * LIKE patterns for the employee keyword search (people picker).
+ * <p>
+ * Keywords of one character only match as a prefix, served by the text_pattern_ops B-tree
+ * indexes; longer keywords also match anywhere through the trigram GIN indexes. A keyword made
+ * only of Hangul compatibility consonants (e.g. "ㅎㄱㄷ") additionally matches the generated
+ * {@code name_choseong} column. LIKE metacharacters in the keyword are escaped.
+ *
+ * @param keyword        trimmed keyword, used for the exact-match rank and similarity
+ * @param prefix         {@code keyword%}
+ * @param contains       {@code %keyword%}, or {@code null} for one-character keywords
+ * @param choseong       choseong match pattern, or {@code null} if the keyword is not all consonants
+ * @param choseongPrefix choseong prefix pattern, or {@code null} if the keyword is not all consonants
+ */
+public record EmployeeKeywordPatterns(
+    String keyword,
+    String prefix,
+    String contains,
+    String choseong,
+    String choseongPrefix
+) {
+
+    /** Shortest keyword that is matched anywhere in the value rather than as a prefix only */
+    public static final int MIN_CONTAINS_LENGTH = 2;
+
+    static final String WHERE_CLAUSE =
+        "WHERE e.tenant_id = :tenantId AND e.status = 'ACTIVE' " +
+        "AND (e.name LIKE :prefix OR e.employee_number LIKE :prefix " +
+        "OR e.name ILIKE CAST(:contains AS TEXT) OR e.employee_number ILIKE CAST(:contains AS TEXT) " +
+        "OR e.name_choseong LIKE CAST(:choseong AS TEXT)) ";
+
+    static final String ORDER_BY_CLAUSE =
+        "ORDER BY CASE " +
+        "WHEN e.name = :keyword OR e.employee_number = :keyword THEN 0 " +
+        "WHEN e.name LIKE :prefix OR e.employee_number LIKE :prefix THEN 1 " +
+        "WHEN e.name_choseong LIKE CAST(:choseongPrefix AS TEXT) THEN 2 " +
+        "ELSE 3 END, similarity(e.name, :keyword) DESC, e.name, e.id";
+
+    /** Full search statement with named parameters, shared with the search benchmark */
+    public static final String SEARCH_SQL =
+        "SELECT e.* FROM hr_core.employee e " + WHERE_CLAUSE + ORDER_BY_CLAUSE + " LIMIT :limit";
+
+    /**
+     * @param keyword trimmed, non-blank keyword
+     */
+    public static EmployeeKeywordPatterns of(String keyword) {
+        String escaped = escapeLike(keyword);
+        String prefix = escaped + "%";
+        String contains = keyword.codePointCount(0, keyword.length()) >= MIN_CONTAINS_LENGTH
+            ? "%" + escaped + "%" : null;
+
+        String choseong = null;
+        String choseongPrefix = null;
+        if (isChoseong(keyword)) {
+            choseongPrefix = prefix;
+            choseong = contains != null ? contains : prefix;
+        }
+        return new EmployeeKeywordPatterns(keyword, prefix, contains, choseong, choseongPrefix);
+    }
+
+    /**
+     * Whether every character is a Hangul compatibility consonant (ㄱ U+3131 .. ㅎ U+314E).
+     */
+    static boolean isChoseong(String keyword) {
+        if (keyword.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char ch = keyword.charAt(i);
+            if (ch < 'ㄱ' || ch > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Escapes LIKE metacharacters using PostgreSQL's default escape character (backslash) */
+    static String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '\\' || ch == '%' || ch == '_') {
+                sb.append('\\');
+            }
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+}
@@ -2,16 +2,21 @@ package com.hrsaas.employee.repository;
 
 import com.hrsaas.employee.domain.entity.Employee;
 import com.hrsaas.employee.domain.entity.EmployeeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
@@ -53,6 +58,26 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
     @Query("SELECT e.departmentId, COUNT(e) FROM Employee e WHERE e.tenantId = :tenantId AND e.status = 'ACTIVE' GROUP BY e.departmentId")
     List<Object[]> countByDepartmentGrouped(@Param("tenantId") UUID tenantId);
 
+    @Query("SELECT e.departmentId, COUNT(e) FROM Employee e WHERE e.tenantId = :tenantId AND e.status = 'ACTIVE' " +
+           "AND e.departmentId IN :departmentIds GROUP BY e.departmentId")
+    List<Object[]> countByDepartmentIdsGrouped(@Param("tenantId") UUID tenantId,
+                                               @Param("departmentIds") Collection<UUID> departmentIds);
+
+    /**
+     * 조직도 부서장 요약: id, name, positionCode, jobTitleCode
+     */
+    @Query("SELECT e.id, e.name, e.positionCode, e.jobTitleCode FROM Employee e " +
+           "WHERE e.tenantId = :tenantId AND e.id IN :ids")
+    List<Object[]> findManagerSummaries(@Param("tenantId") UUID tenantId,
+                                        @Param("ids") Collection<UUID> ids);
+
+    /**
+     * 권한 범위 판단용 소속 일괄 조회: id, departmentId
+     */
+    @Query("SELECT e.id, e.departmentId FROM Employee e WHERE e.tenantId = :tenantId AND e.id IN :ids")
+    List<Object[]> findDepartmentIds(@Param("tenantId") UUID tenantId,
+                                     @Param("ids") Collection<UUID> ids);
+
     @Query(value = "SELECT * FROM hr_core.employee e WHERE e.tenant_id = :tenantId " +
            "AND e.status = 'ACTIVE' AND e.birth_date IS NOT NULL " +
            "AND (EXTRACT(MONTH FROM e.birth_date) * 100 + EXTRACT(DAY FROM e.birth_date)) " +
@@ -63,12 +88,22 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
                                          @Param("startMonthDay") int startMonthDay,
                                          @Param("endMonthDay") int endMonthDay);
 
-    @Query("SELECT e FROM Employee e WHERE e.tenantId = :tenantId " +
-           "AND e.status = 'ACTIVE' " +
-           "AND (:keyword IS NULL OR e.name LIKE %:keyword% OR e.employeeNumber LIKE %:keyword%)")
+    /**
+     * Ranked keyword search over name, employee number and name choseong (V5 indexes).
+     * Patterns come from {@link EmployeeKeywordPatterns}; the pageable must be unsorted since
+     * the relevance order is fixed: exact match, prefix match, choseong prefix, then similarity.
+     */
+    @Query(value = "SELECT e.* FROM hr_core.employee e " + EmployeeKeywordPatterns.WHERE_CLAUSE +
+           EmployeeKeywordPatterns.ORDER_BY_CLAUSE,
+           countQuery = "SELECT COUNT(*) FROM hr_core.employee e " + EmployeeKeywordPatterns.WHERE_CLAUSE,
+           nativeQuery = true)
     Page<Employee> searchByKeyword(
         @Param("tenantId") UUID tenantId,
         @Param("keyword") String keyword,
+        @Param("prefix") String prefix,
+        @Param("contains") String contains,
+        @Param("choseong") String choseong,
+        @Param("choseongPrefix") String choseongPrefix,
         Pageable pageable);
 
     long countByTenantId(UUID tenantId);
@@ -99,4 +134,78 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
      */
     Optional<Employee> findTopByTenantIdAndNameAndBirthDateAndStatusOrderByResignDateDesc(
         UUID tenantId, String name, java.time.LocalDate birthDate, EmployeeStatus status);
+
+    /**
+     * Forward-only cursor over the search result for Excel export.
+     * Rows are fetched from the driver in {@code fetch_size} chunks; the caller must consume
+     * the stream inside a read-only transaction and close it.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = "SELECT * FROM hr_core.employee e WHERE e.tenant_id = :tenantId " +
+           "AND (CAST(:status AS TEXT) IS NULL OR e.status = CAST(:status AS TEXT)) " +
+           "AND (CAST(:departmentId AS TEXT) IS NULL OR e.department_id = CAST(:departmentId AS UUID)) " +
+           "AND (:name IS NULL OR e.name ILIKE '%' || :name || '%') " +
+           "ORDER BY e.employee_number",
+           nativeQuery = true)
+    Stream<Employee> streamForExport(
+        @Param("tenantId") UUID tenantId,
+        @Param("status") String status,
+        @Param("departmentId") UUID departmentId,
+        @Param("name") String name);
+
+    /**
+     * Keyset page of the search ordered by (employee_number, id).
+     * Pass null {@code afterKey}/{@code afterId} for the first page; request {@code limit + 1} rows to detect a next page.
+     */
+    @Query(value = "SELECT * FROM hr_core.employee e WHERE e.tenant_id = :tenantId " +
+           "AND (CAST(:status AS TEXT) IS NULL OR e.status = CAST(:status AS TEXT)) " +
+           "AND (CAST(:departmentId AS TEXT) IS NULL OR e.department_id = CAST(:departmentId AS UUID)) " +
+           "AND (:name IS NULL OR e.name ILIKE '%' || :name || '%') " +
+           "AND (CAST(:afterId AS TEXT) IS NULL " +
+           "     OR (e.employee_number, e.id) > (CAST(:afterKey AS TEXT), CAST(:afterId AS UUID))) " +
+           "ORDER BY e.employee_number, e.id LIMIT :limit",
+           nativeQuery = true)
+    List<Employee> searchAfterEmployeeNumber(
+        @Param("tenantId") UUID tenantId,
+        @Param("status") String status,
+        @Param("departmentId") UUID departmentId,
+        @Param("name") String name,
+        @Param("afterKey") String afterKey,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit);
+
+    /**
+     * Keyset page of the search ordered by (name, id). See {@link #searchAfterEmployeeNumber}.
+     */
+    @Query(value = "SELECT * FROM hr_core.employee e WHERE e.tenant_id = :tenantId " +
+           "AND (CAST(:status AS TEXT) IS NULL OR e.status = CAST(:status AS TEXT)) " +
+           "AND (CAST(:departmentId AS TEXT) IS NULL OR e.department_id = CAST(:departmentId AS UUID)) " +
+           "AND (:name IS NULL OR e.name ILIKE '%' || :name || '%') " +
+           "AND (CAST(:afterId AS TEXT) IS NULL " +
+           "     OR (e.name, e.id) > (CAST(:afterKey AS TEXT), CAST(:afterId AS UUID))) " +
+           "ORDER BY e.name, e.id LIMIT :limit",
+           nativeQuery = true)
+    List<Employee> searchAfterName(
+        @Param("tenantId") UUID tenantId,
+        @Param("status") String status,
+        @Param("departmentId") UUID departmentId,
+        @Param("name") String name,
+        @Param("afterKey") String afterKey,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM hr_core.employee e WHERE e.tenant_id = :tenantId " +
+           "AND (CAST(:status AS TEXT) IS NULL OR e.status = CAST(:status AS TEXT)) " +
+           "AND (CAST(:departmentId AS TEXT) IS NULL OR e.department_id = CAST(:departmentId AS UUID)) " +
+           "AND (:name IS NULL OR e.name ILIKE '%' || :name || '%')",
+           nativeQuery = true)
+    long countSearch(
+        @Param("tenantId") UUID tenantId,
+        @Param("status") String status,
+        @Param("departmentId") UUID departmentId,
+        @Param("name") String name);
 }
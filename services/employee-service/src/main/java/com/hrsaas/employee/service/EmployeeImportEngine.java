@@ -0,0 +1,260 @@
+package com.hrsaas.employee.service;
+
+import com.hrsaas.common.entity.SecurityContextHolder;
+import com.hrsaas.common.event.EventPublisher;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.employee.domain.dto.response.BulkImportResultResponse;
+import com.hrsaas.employee.domain.entity.EmploymentType;
+import com.hrsaas.employee.domain.event.EmployeeCreatedEvent;
+import com.hrsaas.employee.repository.EmployeeBulkRepository;
+import com.hrsaas.employee.repository.EmployeeBulkRepository.NewEmployee;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Set-based employee import shared by the bulk API and Excel import.
+ * <p>
+ * Existing employee numbers, emails and manager IDs are loaded with one IN query per chunk
+ * up front, rows are classified in memory, and accepted rows are written with JDBC batch
+ * inserts followed by a single batched publish of {@link EmployeeCreatedEvent}s.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportEngine {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+
+    private final EmployeeBulkRepository employeeBulkRepository;
+    private final EventPublisher eventPublisher;
+
+    /**
+     * Import row. Either {@code managerId} or {@code managerEmployeeNumber} may be given.
+     */
+    public record Row(
+        int rowNumber,
+        String employeeNumber,
+        String name,
+        String nameEn,
+        String email,
+        String phone,
+        String mobile,
+        UUID departmentId,
+        String positionCode,
+        String jobTitleCode,
+        LocalDate hireDate,
+        EmploymentType employmentType,
+        UUID managerId,
+        String managerEmployeeNumber
+    ) {
+    }
+
+    public record Options(boolean validateOnly, boolean rollbackOnError, boolean skipDuplicates) {
+    }
+
+    @Transactional
+    public BulkImportResultResponse run(List<Row> rows, Options options) {
+        UUID tenantId = TenantContext.getCurrentTenant();
+        BulkImportResultResponse result = BulkImportResultResponse.builder()
+            .totalRequested(rows.size())
+            .processedAt(Instant.now())
+            .build();
+
+        // 1. 필드 검증 및 요청 내 중복 검사 (DB 접근 없음)
+        Set<String> requestedEmployeeNumbers = new HashSet<>();
+        Set<String> requestedEmails = new HashSet<>();
+        List<Row> candidates = new ArrayList<>();
+        for (Row row : rows) {
+            List<String> validationErrors = validate(row);
+            if (!validationErrors.isEmpty()) {
+                for (String error : validationErrors) {
+                    result.addError(row.rowNumber(), row.employeeNumber(), row.name(), null, error);
+                }
+                continue;
+            }
+            if (!requestedEmployeeNumbers.add(row.employeeNumber())) {
+                result.addError(row.rowNumber(), row.employeeNumber(), row.name(),
+                    "employeeNumber", "요청 내 중복된 사번입니다");
+                continue;
+            }
+            if (!requestedEmails.add(row.email())) {
+                result.addError(row.rowNumber(), row.employeeNumber(), row.name(),
+                    "email", "요청 내 중복된 이메일입니다");
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        // 2. 기존 사번(관리자 사번 포함)/이메일 일괄 조회
+        Set<String> lookupNumbers = new HashSet<>(requestedEmployeeNumbers);
+        for (Row row : candidates) {
+            if (row.managerId() == null && StringUtils.hasText(row.managerEmployeeNumber())) {
+                lookupNumbers.add(row.managerEmployeeNumber());
+            }
+        }
+        Map<String, UUID> existingIds = lookupNumbers.isEmpty() ? Map.of()
+            : employeeBulkRepository.findIdsByEmployeeNumbers(tenantId, lookupNumbers);
+        Set<String> existingEmails = requestedEmails.isEmpty() ? Set.of()
+            : employeeBulkRepository.findExistingEmails(tenantId, requestedEmails);
+
+        // 3. 중복 분류 및 ID 할당
+        String skipSuffix = options.validateOnly() ? " (건너뜀 예정)" : " (건너뜀)";
+        int skippedCount = 0;
+        List<Row> accepted = new ArrayList<>();
+        Map<String, UUID> newIds = new HashMap<>();
+        for (Row row : candidates) {
+            String duplicateField = existingIds.containsKey(row.employeeNumber()) ? "employeeNumber"
+                : existingEmails.contains(row.email()) ? "email" : null;
+            if (duplicateField != null) {
+                String message = "employeeNumber".equals(duplicateField) ? "이미 존재하는 사번입니다" : "이미 존재하는 이메일입니다";
+                if (options.skipDuplicates()) {
+                    result.addWarning(row.rowNumber(), row.employeeNumber(), message + skipSuffix);
+                    skippedCount++;
+                } else {
+                    result.addError(row.rowNumber(), row.employeeNumber(), row.name(), duplicateField, message);
+                }
+                continue;
+            }
+            accepted.add(row);
+            newIds.put(row.employeeNumber(), timeOrderedId());
+        }
+
+        if (options.validateOnly()) {
+            result.setSuccess(!result.hasErrors());
+            result.setSuccessCount(accepted.size());
+            result.setFailedCount(result.getErrors().size());
+            result.setSkippedCount(skippedCount);
+            log.info("Import validation completed: potential success={}, errors={}, skips={}",
+                     accepted.size(), result.getErrors().size(), skippedCount);
+            return result;
+        }
+
+        // 에러가 있고 rollbackOnError가 true면 저장하지 않음
+        if (result.hasErrors() && options.rollbackOnError()) {
+            result.setSuccess(false);
+            result.setSuccessCount(0);
+            result.setFailedCount(result.getErrors().size());
+            result.setSkippedCount(skippedCount);
+            log.warn("Bulk import aborted due to errors: {} errors", result.getErrors().size());
+            return result;
+        }
+
+        // 4. 관리자 해석: 기존 직원 또는 같은 요청으로 등록되는 직원
+        List<NewEmployee> employees = new ArrayList<>(accepted.size());
+        for (Row row : accepted) {
+            UUID managerId = row.managerId();
+            if (managerId == null && StringUtils.hasText(row.managerEmployeeNumber())) {
+                managerId = existingIds.getOrDefault(row.managerEmployeeNumber(), newIds.get(row.managerEmployeeNumber()));
+                if (managerId == null) {
+                    result.addWarning(row.rowNumber(), row.employeeNumber(),
+                        "관리자 사번을 찾을 수 없습니다: " + row.managerEmployeeNumber());
+                }
+            }
+            employees.add(new NewEmployee(
+                newIds.get(row.employeeNumber()),
+                row.employeeNumber(),
+                row.name(),
+                row.nameEn(),
+                row.email(),
+                row.phone(),
+                row.mobile(),
+                row.departmentId(),
+                row.positionCode(),
+                row.jobTitleCode(),
+                row.hireDate(),
+                row.employmentType() != null ? row.employmentType() : EmploymentType.REGULAR,
+                managerId));
+        }
+
+        // 5. JDBC 배치 저장 및 이벤트 일괄 발행
+        if (!employees.isEmpty()) {
+            UUID actor = SecurityContextHolder.getCurrentUserId();
+            employeeBulkRepository.insertAll(tenantId, employees, actor != null ? actor.toString() : null);
+
+            List<EmployeeCreatedEvent> events = new ArrayList<>(employees.size());
+            for (int i = 0; i < employees.size(); i++) {
+                NewEmployee employee = employees.get(i);
+                events.add(EmployeeCreatedEvent.builder()
+                    .tenantId(tenantId)
+                    .employeeId(employee.id())
+                    .employeeNumber(employee.employeeNumber())
+                    .name(employee.name())
+                    .email(employee.email())
+                    .departmentId(employee.departmentId())
+                    .build());
+                result.addImportedEmployee(accepted.get(i).rowNumber(), employee.id(),
+                    employee.employeeNumber(), employee.name(), employee.email());
+            }
+            eventPublisher.publishAll(events);
+        }
+
+        result.setSuccess(!result.hasErrors() || !options.rollbackOnError());
+        result.setSuccessCount(employees.size());
+        result.setFailedCount(result.getErrors().size());
+        result.setSkippedCount(skippedCount);
+
+        log.info("Bulk import completed: success={}, failed={}, skipped={}",
+                 employees.size(), result.getFailedCount(), skippedCount);
+
+        return result;
+    }
+
+    private List<String> validate(Row row) {
+        List<String> errors = new ArrayList<>();
+
+        if (!StringUtils.hasText(row.employeeNumber())) {
+            errors.add("사번이 비어있습니다");
+        } else if (row.employeeNumber().length() > 50) {
+            errors.add("사번은 50자 이하여야 합니다");
+        }
+
+        if (!StringUtils.hasText(row.name())) {
+            errors.add("이름이 비어있습니다");
+        } else if (row.name().length() > 100) {
+            errors.add("이름은 100자 이하여야 합니다");
+        }
+
+        if (!StringUtils.hasText(row.email())) {
+            errors.add("이메일이 비어있습니다");
+        } else if (!EMAIL_PATTERN.matcher(row.email()).matches()) {
+            errors.add("올바른 이메일 형식이 아닙니다");
+        } else if (row.email().length() > 200) {
+            errors.add("이메일은 200자 이하여야 합니다");
+        }
+
+        if (row.nameEn() != null && row.nameEn().length() > 100) {
+            errors.add("영문 이름은 100자 이하여야 합니다");
+        }
+
+        if (row.phone() != null && row.phone().length() > 20) {
+            errors.add("전화번호는 20자 이하여야 합니다");
+        }
+
+        if (row.mobile() != null && row.mobile().length() > 20) {
+            errors.add("휴대전화번호는 20자 이하여야 합니다");
+        }
+
+        return errors;
+    }
+
+    /**
+     * Time-ordered (version 7 layout) UUID: consecutive IDs land on the right edge of the
+     * primary key index like a sequence would, instead of random pages as with v4.
+     */
+    static UUID timeOrderedId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
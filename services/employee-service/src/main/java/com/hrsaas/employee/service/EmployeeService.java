@@ -1,15 +1,21 @@
 package com.hrsaas.employee.service;
 
+import com.hrsaas.common.response.PageCountMode;
 import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.employee.domain.dto.request.CreateEmployeeRequest;
 import com.hrsaas.employee.domain.dto.request.EmployeeSearchCondition;
+import com.hrsaas.employee.domain.dto.request.OrgChartSummaryRequest;
 import com.hrsaas.employee.domain.dto.request.UpdateEmployeeRequest;
 import com.hrsaas.employee.domain.dto.response.BulkImportResultResponse;
 import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.domain.dto.response.OrgChartSummaryResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface EmployeeService {
@@ -22,6 +28,16 @@ public interface EmployeeService {
 
     PageResponse<EmployeeResponse> search(EmployeeSearchCondition condition, Pageable pageable);
 
+    /**
+     * Keyset (seek) pagination over the same filters as {@link #search}.
+     * Each page costs the same regardless of depth; the next cursor is returned in the page info.
+     *
+     * @param cursor opaque cursor from the previous page, or null/blank for the first page
+     * @param sort   "employeeNumber" (default) or "name"
+     */
+    PageResponse<EmployeeResponse> searchByCursor(EmployeeSearchCondition condition, String cursor,
+                                                  int size, String sort, PageCountMode countMode);
+
     PageResponse<EmployeeResponse> searchByKeyword(String keyword, Pageable pageable);
 
     EmployeeResponse update(UUID id, UpdateEmployeeRequest request);
@@ -34,7 +50,10 @@ public interface EmployeeService {
 
     int bulkDelete(List<UUID> ids);
 
-    byte[] exportToExcel(EmployeeSearchCondition condition);
+    /**
+     * Streams the search result as xlsx into {@code outputStream} without materializing the full list.
+     */
+    void exportToExcel(EmployeeSearchCondition condition, OutputStream outputStream);
 
     BulkImportResultResponse importFromExcel(MultipartFile file);
 
@@ -52,6 +71,16 @@ public interface EmployeeService {
 
     List<EmployeeResponse> getBatch(List<UUID> ids);
 
+    /**
+     * 권한 범위(부서) 판단용 소속 부서 일괄 조회. 존재하지 않는 직원은 결과에서 제외
+     */
+    Map<UUID, UUID> getDepartmentIds(Collection<UUID> ids);
+
+    /**
+     * 조직도 요약: 부서별 재직 인원 + 부서장 요약 (1회 왕복)
+     */
+    OrgChartSummaryResponse getOrgChartSummary(OrgChartSummaryRequest request);
+
     List<EmployeeResponse> getList(EmployeeSearchCondition condition);
 
     List<EmployeeResponse> getByDepartment(UUID departmentId);
@@ -4,7 +4,9 @@ import com.hrsaas.employee.domain.dto.request.CreateEmployeeRequest;
 import com.hrsaas.employee.domain.entity.Employee;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service for Excel import/export of employee data.
@@ -13,6 +15,14 @@ public interface ExcelEmployeeService {
 
     byte[] exportToExcel(List<Employee> employees);
 
+    /**
+     * Streams employees into an xlsx written directly to {@code outputStream}.
+     * Only a bounded window of rows is kept in memory, so large tenants export in flat heap.
+     *
+     * @return number of exported rows
+     */
+    int exportToExcel(Stream<Employee> employees, OutputStream outputStream);
+
     List<CreateEmployeeRequest> importFromExcel(InputStream inputStream);
 
     byte[] generateTemplate();
@@ -0,0 +1,23 @@
+package com.hrsaas.employee.service;
+
+import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills department/position/grade names on employee responses using a tenant-scoped
+ * local cache backed by the organization-service bulk lookup. Best-effort: names stay
+ * empty when the organization service is unavailable.
+ */
+public interface OrganizationNameEnricher {
+
+    void enrich(List<EmployeeResponse> responses);
+
+    /**
+     * Drop cached department names of a tenant on every instance, e.g. after department
+     * updated/merged/split events. A null tenant drops the departments from every tenant.
+     */
+    void evictDepartments(UUID tenantId, Collection<UUID> departmentIds);
+}
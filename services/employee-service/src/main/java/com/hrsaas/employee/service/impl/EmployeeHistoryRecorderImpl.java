@@ -1,5 +1,7 @@
 package com.hrsaas.employee.service.impl;
 
+import com.hrsaas.common.security.scope.EmployeeAffiliationCache;
+import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.employee.domain.entity.Employee;
 import com.hrsaas.employee.domain.entity.EmployeeHistory;
 import com.hrsaas.employee.domain.entity.HistoryChangeType;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -19,6 +22,7 @@ import java.util.UUID;
 public class EmployeeHistoryRecorderImpl implements EmployeeHistoryRecorder {
 
     private final EmployeeHistoryRepository employeeHistoryRepository;
+    private final EmployeeAffiliationCache employeeAffiliationCache;
 
     @Override
     @Transactional
@@ -32,6 +36,8 @@ public class EmployeeHistoryRecorderImpl implements EmployeeHistoryRecorder {
             .reason(reason)
             .build();
         employeeHistoryRepository.save(history);
+        // Department scope checks on every node must see the new department after commit
+        employeeAffiliationCache.evict(TenantContext.getCurrentTenant(), List.of(employee.getId()));
         log.info("Department change history recorded: employeeId={}", employee.getId());
     }
 
@@ -1,44 +1,58 @@
 package com.hrsaas.employee.service.impl;
 
 import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheEvictor;
 import com.hrsaas.common.core.exception.DuplicateException;
 import com.hrsaas.common.core.exception.NotFoundException;
 import com.hrsaas.common.core.exception.ValidationException;
 import com.hrsaas.common.event.EventPublisher;
 import com.hrsaas.common.privacy.PrivacyContext;
+import com.hrsaas.common.response.KeysetCursor;
+import com.hrsaas.common.response.PageCountMode;
 import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.employee.domain.dto.request.CreateEmployeeRequest;
 import com.hrsaas.employee.domain.dto.request.EmployeeSearchCondition;
+import com.hrsaas.employee.domain.dto.request.OrgChartSummaryRequest;
 import com.hrsaas.employee.domain.dto.request.UpdateEmployeeRequest;
 import com.hrsaas.employee.domain.dto.response.BulkImportResultResponse;
 import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.domain.dto.response.OrgChartSummaryResponse;
 import com.hrsaas.employee.domain.entity.Employee;
 import com.hrsaas.employee.domain.entity.EmployeeStatus;
 import com.hrsaas.employee.domain.event.EmployeeCreatedEvent;
+import com.hrsaas.employee.domain.event.EmployeeUpdatedEvent;
+import com.hrsaas.employee.repository.EmployeeCountEstimator;
+import com.hrsaas.employee.repository.EmployeeKeywordPatterns;
 import com.hrsaas.employee.repository.EmployeeRepository;
-import com.hrsaas.employee.client.OrganizationServiceClient;
-import com.hrsaas.employee.client.dto.DepartmentClientResponse;
-import com.hrsaas.employee.client.dto.GradeClientResponse;
-import com.hrsaas.employee.client.dto.PositionClientResponse;
 import com.hrsaas.employee.service.EmployeeHistoryRecorder;
+import com.hrsaas.employee.service.EmployeeImportEngine;
 import com.hrsaas.employee.service.EmployeeService;
 import com.hrsaas.employee.service.ExcelEmployeeService;
+import com.hrsaas.employee.service.OrganizationNameEnricher;
 import com.hrsaas.employee.service.OrganizationValidationService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -46,17 +60,28 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
+    /** Cache key kind for lookups by employee number (see getByEmployeeNumber). */
+    private static final String EMPLOYEE_NUMBER_KEY = "empNo";
+
+    /** Keyset sort keys accepted by searchByCursor */
+    private static final String SORT_EMPLOYEE_NUMBER = "employeeNumber";
+    private static final String SORT_NAME = "name";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final EmployeeRepository employeeRepository;
     private final EventPublisher eventPublisher;
     private final PrivacyAuditServiceImpl privacyAuditService;
     private final EmployeeHistoryRecorder historyRecorder;
     private final OrganizationValidationService organizationValidationService;
     private final ExcelEmployeeService excelEmployeeService;
-    private final OrganizationServiceClient organizationServiceClient;
+    private final OrganizationNameEnricher organizationNameEnricher;
+    private final TenantCacheEvictor tenantCacheEvictor;
+    private final EntityManager entityManager;
+    private final EmployeeImportEngine importEngine;
+    private final EmployeeCountEstimator employeeCountEstimator;
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public EmployeeResponse create(CreateEmployeeRequest request) {
         UUID tenantId = TenantContext.getCurrentTenant();
 
@@ -94,7 +119,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.EMPLOYEE, key = "#id")
+    @Cacheable(value = CacheNames.EMPLOYEE, key = "@tenantCacheKeys.entity(#id)")
     public EmployeeResponse getById(UUID id) {
         // Set viewing employee ID for privacy context (determines if masking should be applied)
         PrivacyContext.setViewingEmployeeId(id);
@@ -105,7 +130,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.EMPLOYEE, key = "'empNo:' + #employeeNumber")
+    @Cacheable(value = CacheNames.EMPLOYEE, key = "@tenantCacheKeys.entity('empNo', #employeeNumber)")
     public EmployeeResponse getByEmployeeNumber(String employeeNumber) {
         UUID tenantId = TenantContext.getCurrentTenant();
         Employee employee = employeeRepository.findByEmployeeNumberAndTenantId(employeeNumber, tenantId)
@@ -137,15 +162,67 @@ public class EmployeeServiceImpl implements EmployeeService {
         return PageResponse.from(page, responses);
     }
 
+    @Override
+    public PageResponse<EmployeeResponse> searchByCursor(EmployeeSearchCondition condition, String cursor,
+                                                         int size, String sort, PageCountMode countMode) {
+        UUID tenantId = TenantContext.getCurrentTenant();
+        String sortKey = SORT_NAME.equals(sort) ? SORT_NAME : SORT_EMPLOYEE_NUMBER;
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor, sortKey);
+        String status = condition.getStatus() != null ? condition.getStatus().name() : null;
+
+        // Fetch one extra row to learn whether a next page exists without counting
+        List<Employee> rows = SORT_NAME.equals(sortKey)
+            ? employeeRepository.searchAfterName(tenantId, status, condition.getDepartmentId(), condition.getName(),
+                after != null ? after.key() : null, after != null ? after.id() : null, pageSize + 1)
+            : employeeRepository.searchAfterEmployeeNumber(tenantId, status, condition.getDepartmentId(),
+                condition.getName(), after != null ? after.key() : null, after != null ? after.id() : null,
+                pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Employee> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Employee last = page.get(page.size() - 1);
+            String lastKey = SORT_NAME.equals(sortKey) ? last.getName() : last.getEmployeeNumber();
+            nextCursor = new KeysetCursor(sortKey, lastKey, last.getId()).encode();
+        }
+
+        List<EmployeeResponse> responses = page.stream()
+            .map(EmployeeResponse::from)
+            .toList();
+        populateNames(responses);
+
+        Long total = switch (countMode != null ? countMode : PageCountMode.NONE) {
+            case EXACT -> employeeRepository.countSearch(tenantId, status, condition.getDepartmentId(), condition.getName());
+            case ESTIMATE -> employeeCountEstimator.estimateSearch(tenantId, status, condition.getDepartmentId(), condition.getName());
+            case NONE -> null;
+        };
+
+        return PageResponse.ofCursor(responses, pageSize, cursor, nextCursor, total,
+            countMode == PageCountMode.ESTIMATE);
+    }
+
     @Override
     public PageResponse<EmployeeResponse> searchByKeyword(String keyword, Pageable pageable) {
         UUID tenantId = TenantContext.getCurrentTenant();
 
-        Page<Employee> page = employeeRepository.searchByKeyword(
-            tenantId,
-            (keyword != null && !keyword.isBlank()) ? keyword.trim() : null,
-            pageable
-        );
+        Page<Employee> page;
+        if (keyword == null || keyword.isBlank()) {
+            page = employeeRepository.search(tenantId, EmployeeStatus.ACTIVE.name(), null, null, pageable);
+        } else {
+            // 관련도 순(정확 일치 > 접두 일치 > 초성 접두 > 유사도)으로 정렬하므로 요청 정렬은 무시
+            EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of(keyword.trim());
+            page = employeeRepository.searchByKeyword(
+                tenantId,
+                patterns.keyword(),
+                patterns.prefix(),
+                patterns.contains(),
+                patterns.choseong(),
+                patterns.choseongPrefix(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+            );
+        }
 
         List<EmployeeResponse> responses = page.getContent().stream()
             .map(EmployeeResponse::from)
@@ -157,7 +234,6 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public EmployeeResponse update(UUID id, UpdateEmployeeRequest request) {
         Employee employee = findById(id);
 
@@ -165,6 +241,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         UUID oldDeptId = employee.getDepartmentId();
         String oldPositionCode = employee.getPositionCode();
         String oldJobTitleCode = employee.getJobTitleCode();
+        String oldName = employee.getName();
 
         if (request.getName() != null) {
             employee.setName(request.getName());
@@ -209,7 +286,11 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (request.getJobTitleCode() != null && !request.getJobTitleCode().equals(oldJobTitleCode)) {
             historyRecorder.recordGradeChange(saved, oldJobTitleCode, request.getJobTitleCode(), "직급 변경");
         }
+        if (isOrgChartChange(saved, oldDeptId, oldPositionCode, oldJobTitleCode, oldName)) {
+            eventPublisher.publish(EmployeeUpdatedEvent.of(saved, changedDepartment(saved, oldDeptId)));
+        }
 
+        evictEmployeeCache(List.of(saved));
         log.info("Employee updated: id={}", id);
 
         return EmployeeResponse.from(saved);
@@ -217,28 +298,29 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public EmployeeResponse resign(UUID id, String resignDate) {
         Employee employee = findById(id);
         employee.resign(LocalDate.parse(resignDate));
         Employee saved = employeeRepository.save(employee);
+        eventPublisher.publish(EmployeeUpdatedEvent.of(saved, null));
+        evictEmployeeCache(List.of(saved));
         log.info("Employee resigned: id={}, resignDate={}", id, resignDate);
         return EmployeeResponse.from(saved);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void delete(UUID id) {
         Employee employee = findById(id);
         employee.resign(LocalDate.now());
         employeeRepository.save(employee);
+        eventPublisher.publish(EmployeeUpdatedEvent.of(employee, null));
+        evictEmployeeCache(List.of(employee));
         log.info("Employee soft-deleted (resigned): id={}", id);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public EmployeeResponse cancelResign(UUID id, String reason) {
         Employee employee = findById(id);
 
@@ -248,6 +330,8 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         employee.cancelResign();
         Employee saved = employeeRepository.save(employee);
+        eventPublisher.publish(EmployeeUpdatedEvent.of(saved, null));
+        evictEmployeeCache(List.of(saved));
 
         log.info("Employee resign cancelled: id={}, reason={}", id, reason);
 
@@ -256,33 +340,36 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public int bulkDelete(List<UUID> ids) {
-        int resigned = 0;
+        List<Employee> resignedEmployees = new ArrayList<>();
         for (UUID id : ids) {
             try {
                 Employee employee = findById(id);
                 employee.resign(LocalDate.now());
                 employeeRepository.save(employee);
-                resigned++;
+                resignedEmployees.add(employee);
             } catch (NotFoundException e) {
                 log.warn("Employee not found for bulk delete: id={}", id);
             }
         }
+        int resigned = resignedEmployees.size();
+        publishUpdated(resignedEmployees);
+        evictEmployeeCache(resignedEmployees);
         log.info("Bulk soft-delete completed: requested={}, resigned={}", ids.size(), resigned);
         return resigned;
     }
 
     @Override
-    public byte[] exportToExcel(EmployeeSearchCondition condition) {
+    public void exportToExcel(EmployeeSearchCondition condition, OutputStream outputStream) {
         UUID tenantId = TenantContext.getCurrentTenant();
-        Page<Employee> page = employeeRepository.search(
-            tenantId,
-            condition.getStatus() != null ? condition.getStatus().name() : null,
-            condition.getDepartmentId(),
-            condition.getName(),
-            org.springframework.data.domain.Pageable.unpaged());
-        return excelEmployeeService.exportToExcel(page.getContent());
+        try (Stream<Employee> employees = employeeRepository.streamForExport(
+                tenantId,
+                condition.getStatus() != null ? condition.getStatus().name() : null,
+                condition.getDepartmentId(),
+                condition.getName())) {
+            // Detach each row once it has been read so the persistence context does not grow with the export
+            excelEmployeeService.exportToExcel(employees.peek(entityManager::detach), outputStream);
+        }
     }
 
     @Override
@@ -291,29 +378,31 @@ public class EmployeeServiceImpl implements EmployeeService {
         log.info("Import from Excel requested: filename={}", file.getOriginalFilename());
 
         try {
-            List<com.hrsaas.employee.domain.dto.request.CreateEmployeeRequest> requests =
+            List<CreateEmployeeRequest> requests =
                 excelEmployeeService.importFromExcel(file.getInputStream());
 
-            int successCount = 0;
-            int failedCount = 0;
-            for (var request : requests) {
-                try {
-                    create(request);
-                    successCount++;
-                } catch (Exception e) {
-                    log.warn("Failed to import employee: {}", request.getEmployeeNumber(), e);
-                    failedCount++;
-                }
+            List<EmployeeImportEngine.Row> rows = new ArrayList<>(requests.size());
+            int rowNumber = 0;
+            for (CreateEmployeeRequest request : requests) {
+                rows.add(new EmployeeImportEngine.Row(
+                    ++rowNumber,
+                    request.getEmployeeNumber(),
+                    request.getName(),
+                    request.getNameEn(),
+                    request.getEmail(),
+                    request.getPhone(),
+                    request.getMobile(),
+                    request.getDepartmentId(),
+                    request.getPositionCode(),
+                    request.getJobTitleCode(),
+                    request.getHireDate(),
+                    request.getEmploymentType(),
+                    request.getManagerId(),
+                    null));
             }
 
-            return BulkImportResultResponse.builder()
-                .success(failedCount == 0)
-                .processedAt(Instant.now())
-                .totalRequested(requests.size())
-                .successCount(successCount)
-                .failedCount(failedCount)
-                .skippedCount(0)
-                .build();
+            // Keep partial success semantics of the former row-by-row create(): valid rows are saved
+            return importEngine.run(rows, new EmployeeImportEngine.Options(false, false, false));
         } catch (Exception e) {
             log.error("Excel import failed", e);
             return BulkImportResultResponse.builder()
@@ -393,52 +482,100 @@ public class EmployeeServiceImpl implements EmployeeService {
         return responses;
     }
 
-    private void populateNames(List<EmployeeResponse> responses) {
-        if (responses.isEmpty()) {
+    @Override
+    public Map<UUID, UUID> getDepartmentIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = employeeRepository.findDepartmentIds(TenantContext.getCurrentTenant(), ids);
+        // departmentId may be null, so Collectors.toMap cannot be used
+        Map<UUID, UUID> departmentIds = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            departmentIds.put((UUID) row[0], (UUID) row[1]);
+        }
+        return departmentIds;
+    }
+
+    @Override
+    public OrgChartSummaryResponse getOrgChartSummary(OrgChartSummaryRequest request) {
+        UUID tenantId = TenantContext.getCurrentTenant();
+
+        List<Object[]> countRows;
+        if (request.getDepartmentIds() == null) {
+            countRows = employeeRepository.countByDepartmentGrouped(tenantId);
+        } else if (request.getDepartmentIds().isEmpty()) {
+            countRows = List.of();
+        } else {
+            countRows = employeeRepository.countByDepartmentIdsGrouped(tenantId, request.getDepartmentIds());
+        }
+        Map<UUID, Long> headcounts = new HashMap<>(countRows.size() * 2);
+        for (Object[] row : countRows) {
+            if (row[0] != null) {
+                headcounts.put((UUID) row[0], ((Number) row[1]).longValue());
+            }
+        }
+
+        List<OrgChartSummaryResponse.ManagerSummary> managers = List.of();
+        if (request.getManagerIds() != null && !request.getManagerIds().isEmpty()) {
+            managers = employeeRepository.findManagerSummaries(tenantId, request.getManagerIds()).stream()
+                .map(row -> OrgChartSummaryResponse.ManagerSummary.builder()
+                    .id((UUID) row[0])
+                    .name((String) row[1])
+                    .positionCode((String) row[2])
+                    .jobTitleCode((String) row[3])
+                    .build())
+                .toList();
+        }
+
+        return OrgChartSummaryResponse.builder()
+            .headcounts(headcounts)
+            .managers(managers)
+            .build();
+    }
+
+    /**
+     * Department, position, grade or name changes are what the organization chart shows.
+     */
+    private static boolean isOrgChartChange(Employee employee, UUID oldDeptId, String oldPositionCode,
+                                            String oldJobTitleCode, String oldName) {
+        return !Objects.equals(employee.getDepartmentId(), oldDeptId)
+            || !Objects.equals(employee.getPositionCode(), oldPositionCode)
+            || !Objects.equals(employee.getJobTitleCode(), oldJobTitleCode)
+            || !Objects.equals(employee.getName(), oldName);
+    }
+
+    private static UUID changedDepartment(Employee employee, UUID oldDeptId) {
+        return Objects.equals(employee.getDepartmentId(), oldDeptId) ? null : oldDeptId;
+    }
+
+    /**
+     * Publish status changes (resign, suspend, activate) for the given employees in one batch.
+     */
+    private void publishUpdated(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishAll(employees.stream()
+            .map(employee -> EmployeeUpdatedEvent.of(employee, null))
+            .toList());
+    }
+
+    /**
+     * Evict the given employees' entries by ID and employee number.
+     */
+    private void evictEmployeeCache(List<Employee> employees) {
+        if (employees.isEmpty()) {
             return;
         }
+        tenantCacheEvictor.evictEntities(CacheNames.EMPLOYEE,
+            employees.stream().map(Employee::getId).toList());
+        tenantCacheEvictor.evictEntities(CacheNames.EMPLOYEE, EMPLOYEE_NUMBER_KEY,
+            employees.stream().map(Employee::getEmployeeNumber).toList());
+    }
 
+    private void populateNames(List<EmployeeResponse> responses) {
         try {
-            String tenantId = TenantContext.getCurrentTenant().toString();
-            // TODO: Implement caching for organization data or use batch fetch by IDs to avoid "Fetch All" scalability issues
-            // For now, wrapping in try-catch and logging to ensure robustness
-            List<DepartmentClientResponse> departments = organizationServiceClient.getDepartments(tenantId).getData();
-            List<PositionClientResponse> positions = organizationServiceClient.getPositions(tenantId).getData();
-            List<GradeClientResponse> grades = organizationServiceClient.getGrades(tenantId).getData();
-
-            java.util.Map<UUID, String> deptMap = departments != null ?
-                departments.stream().collect(java.util.stream.Collectors.toMap(
-                    DepartmentClientResponse::getId,
-                    DepartmentClientResponse::getName,
-                    (v1, v2) -> v1
-                )) : java.util.Collections.emptyMap();
-
-            java.util.Map<String, String> posMap = positions != null ?
-                positions.stream().collect(java.util.stream.Collectors.toMap(
-                    PositionClientResponse::getCode,
-                    PositionClientResponse::getName,
-                    (v1, v2) -> v1
-                )) : java.util.Collections.emptyMap();
-
-            java.util.Map<String, String> gradeMap = grades != null ?
-                grades.stream().collect(java.util.stream.Collectors.toMap(
-                    GradeClientResponse::getCode,
-                    GradeClientResponse::getName,
-                    (v1, v2) -> v1
-                )) : java.util.Collections.emptyMap();
-
-            for (EmployeeResponse response : responses) {
-                if (response.getDepartmentId() != null) {
-                    response.setDepartmentName(deptMap.get(response.getDepartmentId()));
-                }
-                if (response.getPositionCode() != null) {
-                    response.setPositionName(posMap.get(response.getPositionCode()));
-                }
-                if (response.getJobTitleCode() != null) {
-                    response.setGradeCode(response.getJobTitleCode());
-                    response.setGradeName(gradeMap.get(response.getJobTitleCode()));
-                }
-            }
+            organizationNameEnricher.enrich(responses);
         } catch (Exception e) {
             log.warn("Failed to populate names from organization service", e);
             // Proceed without names rather than failing the whole request
@@ -477,27 +614,28 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void suspend(UUID id) {
         Employee employee = findById(id);
         employee.suspend();
-        employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        eventPublisher.publish(EmployeeUpdatedEvent.of(saved, null));
+        evictEmployeeCache(List.of(saved));
         log.info("Employee suspended: id={}", id);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void activate(UUID id) {
         Employee employee = findById(id);
         employee.activate();
-        employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        eventPublisher.publish(EmployeeUpdatedEvent.of(saved, null));
+        evictEmployeeCache(List.of(saved));
         log.info("Employee activated: id={}", id);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void bulkUpdate(List<UpdateEmployeeRequest> requests) {
         if (requests == null || requests.isEmpty()) {
             return;
@@ -512,6 +650,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         java.util.Map<UUID, Employee> employeeMap = employees.stream()
             .collect(java.util.stream.Collectors.toMap(Employee::getId, e -> e));
 
+        List<EmployeeUpdatedEvent> events = new ArrayList<>();
         for (UpdateEmployeeRequest request : requests) {
             Employee employee = employeeMap.get(request.getEmployeeId());
             if (employee == null) {
@@ -546,15 +685,21 @@ public class EmployeeServiceImpl implements EmployeeService {
             if (request.getJobTitleCode() != null && !request.getJobTitleCode().equals(oldJobTitleCode)) {
                 historyRecorder.recordGradeChange(employee, oldJobTitleCode, request.getJobTitleCode(), "직급 변경 (일괄)");
             }
+            if (isOrgChartChange(employee, oldDeptId, oldPositionCode, oldJobTitleCode, employee.getName())) {
+                events.add(EmployeeUpdatedEvent.of(employee, changedDepartment(employee, oldDeptId)));
+            }
         }
 
         employeeRepository.saveAll(employees);
+        if (!events.isEmpty()) {
+            eventPublisher.publishAll(events);
+        }
+        evictEmployeeCache(employees);
         log.info("Bulk update completed: count={}", requests.size());
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void bulkResign(List<UUID> ids, String resignDate) {
         if (ids == null || ids.isEmpty()) {
             return;
@@ -567,12 +712,13 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         employeeRepository.saveAll(employees);
+        publishUpdated(employees);
+        evictEmployeeCache(employees);
         log.info("Bulk resign completed: count={}", ids.size());
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void bulkSuspend(List<UUID> ids) {
         if (ids == null || ids.isEmpty()) {
             return;
@@ -584,12 +730,13 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         employeeRepository.saveAll(employees);
+        publishUpdated(employees);
+        evictEmployeeCache(employees);
         log.info("Bulk suspend completed: count={}", ids.size());
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheNames.EMPLOYEE, allEntries = true)
     public void bulkActivate(List<UUID> ids) {
         if (ids == null || ids.isEmpty()) {
             return;
@@ -601,6 +748,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         employeeRepository.saveAll(employees);
+        publishUpdated(employees);
+        evictEmployeeCache(employees);
         log.info("Bulk activate completed: count={}", ids.size());
     }
 }
@@ -7,16 +7,20 @@ import com.hrsaas.employee.domain.entity.EmploymentType;
 import com.hrsaas.employee.service.ExcelEmployeeService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -29,11 +33,25 @@ public class ExcelEmployeeServiceImpl implements ExcelEmployeeService {
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    /** 내보내기 시 메모리에 유지할 최대 행 수 (초과분은 임시 파일로 flush) */
+    private static final int EXPORT_ROW_WINDOW = 200;
+
+    /** 내보내기 컬럼 너비 (문자 수 기준) */
+    private static final int[] EXPORT_COLUMN_WIDTHS = {16, 12, 20, 28, 16, 16, 38, 12, 12, 18, 20};
+
     @Override
     public byte[] exportToExcel(List<Employee> employees) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportToExcel(employees.stream(), baos);
+        return baos.toByteArray();
+    }
 
+    @Override
+    public int exportToExcel(Stream<Employee> employees, OutputStream outputStream) {
+        // SXSSF flushes rows beyond the window to a temp file, keeping heap usage independent of row count
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXPORT_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("직원목록");
 
             // Header style
@@ -52,10 +70,15 @@ public class ExcelEmployeeServiceImpl implements ExcelEmployeeService {
                 cell.setCellStyle(headerStyle);
             }
 
+            // Fixed column widths: autoSizeColumn would need every row in the window
+            for (int i = 0; i < EXPORT_COLUMN_WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, EXPORT_COLUMN_WIDTHS[i] * 256);
+            }
+
             // Data rows
-            int rowNum = 1;
-            for (Employee emp : employees) {
-                Row row = sheet.createRow(rowNum++);
+            int[] rowNum = {1};
+            employees.forEachOrdered(emp -> {
+                Row row = sheet.createRow(rowNum[0]++);
                 row.createCell(0).setCellValue(nullSafe(emp.getEmployeeNumber()));
                 row.createCell(1).setCellValue(nullSafe(emp.getName()));
                 row.createCell(2).setCellValue(nullSafe(emp.getNameEn()));
@@ -67,20 +90,24 @@ public class ExcelEmployeeServiceImpl implements ExcelEmployeeService {
                 row.createCell(8).setCellValue(nullSafe(emp.getJobTitleCode()));
                 row.createCell(9).setCellValue(emp.getHireDate() != null ? emp.getHireDate().format(DATE_FORMAT) : "");
                 row.createCell(10).setCellValue(emp.getEmploymentType() != null ? emp.getEmploymentType().name() : "REGULAR");
-            }
-
-            // Auto-size columns
-            for (int i = 0; i < HEADERS.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+            });
 
-            workbook.write(baos);
-            log.info("Excel export completed: {} employees", employees.size());
-            return baos.toByteArray();
+            workbook.write(outputStream);
+            outputStream.flush();
+            int exported = rowNum[0] - 1;
+            log.info("Excel export completed: {} employees", exported);
+            return exported;
 
         } catch (Exception e) {
             log.error("Failed to export employees to Excel", e);
             throw new BusinessException("EMP_040", "Excel 내보내기에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                log.debug("Failed to close export workbook", e);
+            }
         }
     }
 
@@ -0,0 +1,254 @@
+package com.hrsaas.employee.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationBus;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationMessage;
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.employee.client.OrganizationServiceClient;
+import com.hrsaas.employee.client.dto.OrganizationNameLookupClientRequest;
+import com.hrsaas.employee.client.dto.OrganizationNameLookupClientResponse;
+import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.service.OrganizationNameEnricher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 조직 이름 보강기.
+ * <p>
+ * 페이지에 등장하는 부서 ID/직책 코드/직급 코드만 모아 로컬 캐시를 먼저 조회하고,
+ * 캐시에 없는 항목만 organization-service 일괄 조회 API로 한 번에 요청합니다.
+ * 캐시 키는 테넌트를 포함하며, 존재하지 않는 항목은 짧은 TTL로 음성 캐시해 반복 호출을 막습니다.
+ * 부서 변경/통합/분할 이벤트 수신 시 해당 부서 항목을 제거하고, SQS 메시지는 한 인스턴스만 받으므로
+ * {@link CacheInvalidationBus}로 다른 인스턴스에도 제거를 전파합니다. 직책/직급은 변경 이벤트가 없으므로
+ * 별도의 짧은 TTL로 만료시킵니다. 일괄 조회 API 한도에 맞춰 종류별로 {@value #LOOKUP_CHUNK_SIZE}개씩 나눠 요청합니다.
+ */
+@Slf4j
+@Service
+public class OrganizationNameEnricherImpl implements OrganizationNameEnricher {
+
+    enum Kind { DEPARTMENT, POSITION, GRADE }
+
+    record NameKey(UUID tenantId, Kind kind, String value) {
+    }
+
+    /** 음성 캐시 표식 (organization-service에 존재하지 않는 ID/코드) */
+    static final String NOT_FOUND = "";
+
+    /** organization-service 일괄 조회 요청의 종류별 최대 건수 (@Size(max = 500)) */
+    static final int LOOKUP_CHUNK_SIZE = 500;
+
+    /** 전파 메시지에서 tenantId가 없는 부서 제거를 나타내는 표식 */
+    static final String ANY_TENANT = "*";
+
+    private final OrganizationServiceClient organizationServiceClient;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<NameKey, String> names;
+
+    public OrganizationNameEnricherImpl(
+            OrganizationServiceClient organizationServiceClient,
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.organization-names.cache.maximum-size:50000}") long maximumSize,
+            @Value("${app.organization-names.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.organization-names.cache.code-ttl-seconds:120}") long codeTtlSeconds,
+            @Value("${app.organization-names.cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.organizationServiceClient = organizationServiceClient;
+        this.invalidationBus = invalidationBus;
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        long codeTtlNanos = Duration.ofSeconds(codeTtlSeconds).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.names = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<NameKey, String>() {
+                @Override
+                public long expireAfterCreate(NameKey key, String value, long currentTime) {
+                    if (NOT_FOUND.equals(value)) {
+                        return negativeTtlNanos;
+                    }
+                    return key.kind() == Kind.DEPARTMENT ? ttlNanos : codeTtlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(NameKey key, String value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(NameKey key, String value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+        invalidationBus.subscribe(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, this::onInvalidation);
+    }
+
+    @Override
+    public void enrich(List<EmployeeResponse> responses) {
+        if (responses == null || responses.isEmpty()) {
+            return;
+        }
+        UUID tenantId = TenantContext.getCurrentTenant();
+        if (tenantId == null) {
+            return;
+        }
+
+        Set<NameKey> keys = new HashSet<>();
+        for (EmployeeResponse response : responses) {
+            if (response.getDepartmentId() != null) {
+                keys.add(new NameKey(tenantId, Kind.DEPARTMENT, response.getDepartmentId().toString()));
+            }
+            if (response.getPositionCode() != null) {
+                keys.add(new NameKey(tenantId, Kind.POSITION, response.getPositionCode()));
+            }
+            if (response.getJobTitleCode() != null) {
+                keys.add(new NameKey(tenantId, Kind.GRADE, response.getJobTitleCode()));
+            }
+        }
+
+        Map<NameKey, String> resolved = new HashMap<>(names.getAllPresent(keys));
+        if (resolved.size() < keys.size()) {
+            resolved.putAll(fetchMissing(tenantId, keys, resolved.keySet()));
+        }
+
+        for (EmployeeResponse response : responses) {
+            if (response.getDepartmentId() != null) {
+                response.setDepartmentName(nameOf(resolved,
+                    new NameKey(tenantId, Kind.DEPARTMENT, response.getDepartmentId().toString())));
+            }
+            if (response.getPositionCode() != null) {
+                response.setPositionName(nameOf(resolved,
+                    new NameKey(tenantId, Kind.POSITION, response.getPositionCode())));
+            }
+            if (response.getJobTitleCode() != null) {
+                response.setGradeCode(response.getJobTitleCode());
+                response.setGradeName(nameOf(resolved,
+                    new NameKey(tenantId, Kind.GRADE, response.getJobTitleCode())));
+            }
+        }
+    }
+
+    @Override
+    public void evictDepartments(UUID tenantId, Collection<UUID> departmentIds) {
+        if (departmentIds == null || departmentIds.isEmpty()) {
+            return;
+        }
+        Set<String> ids = new HashSet<>();
+        departmentIds.forEach(id -> ids.add(id.toString()));
+        evictLocal(tenantId, ids);
+        String tenant = tenantId != null ? tenantId.toString() : ANY_TENANT;
+        ids.forEach(id -> invalidationBus.publish(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, tenant + ":" + id));
+        log.debug("Evicted cached department names: tenantId={}, departmentIds={}", tenantId, ids);
+    }
+
+    /**
+     * 다른 인스턴스에서 전파된 부서 이름 제거 (키: {@code tenantId:departmentId}).
+     */
+    private void onInvalidation(CacheInvalidationMessage message) {
+        String key = message.key();
+        int separator = key != null ? key.indexOf(':') : -1;
+        if (separator < 0) {
+            names.invalidateAll();
+            return;
+        }
+        String tenant = key.substring(0, separator);
+        UUID tenantId = ANY_TENANT.equals(tenant) ? null : UUID.fromString(tenant);
+        evictLocal(tenantId, Set.of(key.substring(separator + 1)));
+    }
+
+    private void evictLocal(UUID tenantId, Set<String> ids) {
+        if (tenantId != null) {
+            List<NameKey> keys = ids.stream().map(id -> new NameKey(tenantId, Kind.DEPARTMENT, id)).toList();
+            names.invalidateAll(keys);
+        } else {
+            // tenantId가 없는 메시지는 부서 ID가 전역 유일한 점을 이용해 전 테넌트에서 제거
+            names.asMap().keySet().removeIf(key -> key.kind() == Kind.DEPARTMENT && ids.contains(key.value()));
+        }
+    }
+
+    private Map<NameKey, String> fetchMissing(UUID tenantId, Set<NameKey> keys, Set<NameKey> cached) {
+        List<UUID> departmentIds = new ArrayList<>();
+        List<String> positionCodes = new ArrayList<>();
+        List<String> gradeCodes = new ArrayList<>();
+        for (NameKey key : keys) {
+            if (cached.contains(key)) {
+                continue;
+            }
+            switch (key.kind()) {
+                case DEPARTMENT -> departmentIds.add(UUID.fromString(key.value()));
+                case POSITION -> positionCodes.add(key.value());
+                case GRADE -> gradeCodes.add(key.value());
+            }
+        }
+
+        Map<NameKey, String> fetched = new HashMap<>();
+        int total = Math.max(departmentIds.size(), Math.max(positionCodes.size(), gradeCodes.size()));
+        for (int from = 0; from < total; from += LOOKUP_CHUNK_SIZE) {
+            fetched.putAll(fetchChunk(tenantId,
+                chunk(departmentIds, from), chunk(positionCodes, from), chunk(gradeCodes, from)));
+        }
+        names.putAll(fetched);
+        return fetched;
+    }
+
+    private Map<NameKey, String> fetchChunk(UUID tenantId, Set<UUID> departmentIds,
+                                            Set<String> positionCodes, Set<String> gradeCodes) {
+        OrganizationNameLookupClientResponse data;
+        try {
+            ApiResponse<OrganizationNameLookupClientResponse> response = organizationServiceClient.lookupNames(
+                tenantId.toString(),
+                OrganizationNameLookupClientRequest.builder()
+                    .departmentIds(departmentIds)
+                    .positionCodes(positionCodes)
+                    .gradeCodes(gradeCodes)
+                    .build());
+            data = response != null ? response.getData() : null;
+        } catch (Exception e) {
+            // 조회 실패는 음성 캐시하지 않음 — 다음 요청에서 재시도
+            log.warn("Failed to look up organization names: tenantId={}", tenantId, e);
+            return Map.of();
+        }
+        if (data == null) {
+            return Map.of();
+        }
+
+        Map<NameKey, String> fetched = new HashMap<>();
+        departmentIds.forEach(id -> fetched.put(new NameKey(tenantId, Kind.DEPARTMENT, id.toString()),
+            valueOrNotFound(data.getDepartments(), id)));
+        positionCodes.forEach(code -> fetched.put(new NameKey(tenantId, Kind.POSITION, code),
+            valueOrNotFound(data.getPositions(), code)));
+        gradeCodes.forEach(code -> fetched.put(new NameKey(tenantId, Kind.GRADE, code),
+            valueOrNotFound(data.getGrades(), code)));
+        return fetched;
+    }
+
+    private static <T> Set<T> chunk(List<T> values, int from) {
+        if (from >= values.size()) {
+            return Set.of();
+        }
+        return new HashSet<>(values.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, values.size())));
+    }
+
+    private static <K> String valueOrNotFound(Map<K, String> source, K key) {
+        String name = source != null ? source.get(key) : null;
+        return name != null ? name : NOT_FOUND;
+    }
+
+    private static String nameOf(Map<NameKey, String> resolved, NameKey key) {
+        String name = resolved.get(key);
+        return name == null || NOT_FOUND.equals(name) ? null : name;
+    }
+}
@@ -0,0 +1,32 @@
+-- V3: Transactional event outbox
+-- Domain events are written here in the same transaction as the business change
+-- and relayed to SNS asynchronously (common-event OutboxRelay).
+-- No RLS: the relay drains events for all tenants.
+
+CREATE TABLE IF NOT EXISTS hr_core.event_outbox (
+    id               BIGSERIAL PRIMARY KEY,
+    event_id         VARCHAR(64) NOT NULL,
+    topic            VARCHAR(255) NOT NULL,
+    aggregate_key    VARCHAR(255) NOT NULL,
+    event_type       VARCHAR(255),
+    payload          TEXT NOT NULL,
+    status           VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts         INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error       VARCHAR(1000),
+    created_at       TIMESTAMPTZ NOT NULL DEFAULT now(),
+    published_at     TIMESTAMPTZ
+);
+
+-- Relay scan: pending rows in insertion order
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending
+    ON hr_core.event_outbox (id)
+    WHERE status = 'PENDING';
+
+-- Retention cleanup of published rows
+CREATE INDEX IF NOT EXISTS idx_event_outbox_published_at
+    ON hr_core.event_outbox (published_at)
+    WHERE status = 'PUBLISHED';
+
+COMMENT ON TABLE hr_core.event_outbox IS 'Transactional outbox for domain events relayed to SNS';
+COMMENT ON COLUMN hr_core.event_outbox.aggregate_key IS 'Events sharing a key are relayed strictly in id order';
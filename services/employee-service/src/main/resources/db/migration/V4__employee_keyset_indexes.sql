@@ -0,0 +1,9 @@
+-- V4: Keyset (cursor) pagination indexes for employee search
+-- Serve "WHERE tenant_id = ? AND (sort_key, id) > (?, ?) ORDER BY sort_key, id LIMIT n"
+-- as an index range scan, so every page costs the same regardless of depth.
+
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_number_id
+    ON hr_core.employee (tenant_id, employee_number, id);
+
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_name_id
+    ON hr_core.employee (tenant_id, name, id);
@@ -0,0 +1,49 @@
+-- V5: Indexed keyword search for employee name / employee number (people picker)
+-- - Korean initial-consonant (choseong) column so "ㅎㄱㄷ" finds "홍길동"
+-- - Tenant-leading GIN trigram indexes (btree_gin) for infix ILIKE on name, number and choseong
+-- - text_pattern_ops B-tree indexes for prefix LIKE 'x%' ranking
+
+SET search_path TO hr_core, public;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Hangul syllable (U+AC00..U+D7A3) -> compatibility jamo choseong; other characters pass through.
+-- syllable = 0xAC00 + (choseong * 21 + jungseong) * 28 + jongseong, so choseong = (code - 0xAC00) / 588
+CREATE OR REPLACE FUNCTION hr_core.korean_choseong(input TEXT)
+RETURNS TEXT
+LANGUAGE sql
+IMMUTABLE STRICT PARALLEL SAFE
+AS $$
+    SELECT coalesce(string_agg(
+        CASE
+            WHEN ascii(ch) BETWEEN 44032 AND 55203
+                THEN substr('ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ', ((ascii(ch) - 44032) / 588) + 1, 1)
+            ELSE ch
+        END, '' ORDER BY ord), '')
+    FROM unnest(string_to_array(input, NULL)) WITH ORDINALITY AS t(ch, ord)
+$$;
+
+ALTER TABLE hr_core.employee
+    ADD COLUMN IF NOT EXISTS name_choseong TEXT
+    GENERATED ALWAYS AS (hr_core.korean_choseong(name)) STORED;
+
+-- Infix search: tenant_id equality + trigram match served by one GIN index each
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_name_trgm
+    ON hr_core.employee USING GIN (tenant_id, name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_number_trgm
+    ON hr_core.employee USING GIN (tenant_id, employee_number gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_choseong_trgm
+    ON hr_core.employee USING GIN (tenant_id, name_choseong gin_trgm_ops);
+
+-- Prefix search (LIKE 'x%') and prefix ranking
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_name_prefix
+    ON hr_core.employee (tenant_id, name text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employee_tenant_number_prefix
+    ON hr_core.employee (tenant_id, employee_number text_pattern_ops);
+
+-- Superseded by the tenant-leading trigram index above
+DROP INDEX IF EXISTS hr_core.idx_employee_name_trgm;
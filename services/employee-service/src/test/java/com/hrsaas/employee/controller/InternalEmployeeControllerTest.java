@@ -0,0 +1,126 @@
+package com.hrsaas.employee.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrsaas.common.security.PermissionChecker;
+import com.hrsaas.common.security.SecurityFilter;
+import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.employee.config.SecurityConfig;
+import com.hrsaas.employee.domain.dto.request.EmployeeDepartmentLookupRequest;
+import com.hrsaas.employee.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+    value = InternalEmployeeController.class,
+    excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = {SecurityFilter.class, SecurityConfig.class}
+    )
+)
+@Import(InternalEmployeeControllerTest.TestSecurityConfig.class)
+@DisplayName("InternalEmployeeController Tests")
+class InternalEmployeeControllerTest {
+
+    @TestConfiguration
+    @EnableMethodSecurity(prePostEnabled = true)
+    static class TestSecurityConfig {
+        @Bean
+        public SecurityFilterChain testSecurityFilterChain(HttpSecurity http) throws Exception {
+            return http
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session ->
+                    session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .exceptionHandling(exceptions -> exceptions
+                    .authenticationEntryPoint((request, response, authException) ->
+                        response.sendError(jakarta.servlet.http.HttpServletResponse.SC_UNAUTHORIZED))
+                )
+                .build();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private PermissionChecker permissionChecker;
+
+    @Test
+    @DisplayName("소속 부서 일괄 조회: 500건 이하 성공")
+    @WithMockUser(roles = "EMPLOYEE")
+    void getDepartmentIds_withinLimit_success() throws Exception {
+        UUID employeeId = UUID.randomUUID();
+        UUID departmentId = UUID.randomUUID();
+        when(employeeService.getDepartmentIds(List.of(employeeId))).thenReturn(Map.of(employeeId, departmentId));
+
+        mockMvc.perform(post("/internal/v1/employees/department-ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    EmployeeDepartmentLookupRequest.builder().employeeIds(List.of(employeeId)).build())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data['" + employeeId + "']").value(departmentId.toString()));
+    }
+
+    @Test
+    @DisplayName("소속 부서 일괄 조회: 500건 초과 시 400")
+    @WithMockUser(roles = "EMPLOYEE")
+    void getDepartmentIds_overLimit_badRequest() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        mockMvc.perform(post("/internal/v1/employees/department-ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    EmployeeDepartmentLookupRequest.builder().employeeIds(ids).build())))
+            .andExpect(status().isBadRequest());
+        verify(employeeService, never()).getDepartmentIds(any());
+    }
+
+    @Test
+    @DisplayName("소속 부서 일괄 조회: 인증 없이 401")
+    void getDepartmentIds_unauthenticated() throws Exception {
+        mockMvc.perform(post("/internal/v1/employees/department-ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"employeeIds\":[]}"))
+            .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,87 @@
+package com.hrsaas.employee.listener;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.employee.service.OrganizationNameEnricher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentChangedListenerTest {
+
+    @Mock
+    private OrganizationNameEnricher organizationNameEnricher;
+
+    @InjectMocks
+    private DepartmentChangedListener listener;
+
+    @Test
+    void handleDepartmentMerged_evictsSourceAndTargetNames() {
+        UUID source1 = UUID.randomUUID();
+        UUID source2 = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        String message = String.format("""
+            {
+              "eventType": "DepartmentMergedEvent",
+              "tenantId": "%s",
+              "sourceIds": ["%s", "%s"],
+              "targetId": "%s",
+              "targetName": "통합본부"
+            }
+            """, tenantId, source1, source2, target);
+
+        listener.handleMessage(message);
+
+        verify(organizationNameEnricher).evictDepartments(tenantId, List.of(source1, source2, target));
+    }
+
+    @Test
+    void handleSnsWrappedDepartmentUpdated_evictsDepartmentName() {
+        UUID departmentId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        String event = String.format("""
+            {"eventType": "DepartmentUpdatedEvent", "tenantId": "%s", "departmentId": "%s"}
+            """, tenantId, departmentId);
+
+        listener.handleMessage(JsonUtils.toJson(Map.of("Type", "Notification", "Message", event)));
+
+        verify(organizationNameEnricher).evictDepartments(tenantId, List.of(departmentId));
+    }
+
+    @Test
+    void handleDepartmentSplitWithoutTenant_evictsAcrossTenants() {
+        UUID source = UUID.randomUUID();
+        UUID newDepartment = UUID.randomUUID();
+        String message = String.format("""
+            {
+              "eventType": "DepartmentSplitEvent",
+              "sourceId": "%s",
+              "newDepartmentIds": ["%s"]
+            }
+            """, source, newDepartment);
+
+        listener.handleMessage(message);
+
+        verify(organizationNameEnricher).evictDepartments(null, List.of(source, newDepartment));
+    }
+
+    @Test
+    void handleUnrelatedEvent_ignoresEvent() {
+        listener.handleMessage("""
+            {"eventType": "ApprovalCompletedEvent", "documentType": "CONDOLENCE"}
+            """);
+
+        verify(organizationNameEnricher, never()).evictDepartments(any(), anyCollection());
+    }
+}
@@ -0,0 +1,49 @@
+package com.hrsaas.employee.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeKeywordPatternsTest {
+
+    @Test
+    @DisplayName("두 글자 이상 키워드는 부분 일치 패턴을 생성")
+    void of_multiCharacterKeyword_buildsContainsPattern() {
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of("길동");
+
+        assertThat(patterns.prefix()).isEqualTo("길동%");
+        assertThat(patterns.contains()).isEqualTo("%길동%");
+        assertThat(patterns.choseong()).isNull();
+        assertThat(patterns.choseongPrefix()).isNull();
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드는 접두 일치만 사용")
+    void of_singleCharacterKeyword_prefixOnly() {
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of("김");
+
+        assertThat(patterns.prefix()).isEqualTo("김%");
+        assertThat(patterns.contains()).isNull();
+    }
+
+    @Test
+    @DisplayName("초성만으로 이루어진 키워드는 초성 패턴을 생성")
+    void of_choseongKeyword_buildsChoseongPatterns() {
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of("ㅎㄱㄷ");
+
+        assertThat(patterns.choseong()).isEqualTo("%ㅎㄱㄷ%");
+        assertThat(patterns.choseongPrefix()).isEqualTo("ㅎㄱㄷ%");
+        assertThat(EmployeeKeywordPatterns.of("ㅎ").choseong()).isEqualTo("ㅎ%");
+        assertThat(EmployeeKeywordPatterns.of("홍ㄱ").choseong()).isNull();
+    }
+
+    @Test
+    @DisplayName("LIKE 메타문자는 이스케이프")
+    void of_likeMetacharacters_areEscaped() {
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of("10%_a\\b");
+
+        assertThat(patterns.prefix()).isEqualTo("10\\%\\_a\\\\b%");
+        assertThat(patterns.contains()).isEqualTo("%10\\%\\_a\\\\b%");
+    }
+}
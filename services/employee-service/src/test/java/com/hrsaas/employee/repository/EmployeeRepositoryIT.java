@@ -7,6 +7,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -80,6 +82,50 @@ class EmployeeRepositoryIT extends AbstractRepositoryTest {
         assertThat(activeCount).isGreaterThanOrEqualTo(1);
     }
 
+    @Test
+    @DisplayName("키워드 검색 - 정확 일치, 접두 일치, 부분 일치 순으로 정렬")
+    void searchByKeyword_ranksExactThenPrefixThenContains() {
+        // given
+        setTenantContext(TENANT_A);
+        entityManager.persist(createEmployee(TENANT_A, "박김수", "EMP-101"));
+        entityManager.persist(createEmployee(TENANT_A, "김수현", "EMP-102"));
+        entityManager.persist(createEmployee(TENANT_A, "김수", "EMP-103"));
+        entityManager.persist(createEmployee(TENANT_A, "이영희", "EMP-104"));
+        entityManager.flush();
+
+        // when
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of("김수");
+        Page<Employee> page = employeeRepository.searchByKeyword(TENANT_A, patterns.keyword(),
+            patterns.prefix(), patterns.contains(), patterns.choseong(), patterns.choseongPrefix(),
+            PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).extracting(Employee::getName)
+            .containsExactly("김수", "김수현", "박김수");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 초성으로 이름 검색")
+    void searchByKeyword_choseong_matchesGeneratedColumn() {
+        // given
+        setTenantContext(TENANT_A);
+        entityManager.persist(createEmployee(TENANT_A, "홍길동", "EMP-201"));
+        entityManager.persist(createEmployee(TENANT_A, "한가득", "EMP-202"));
+        entityManager.persist(createEmployee(TENANT_A, "김철수", "EMP-203"));
+        entityManager.flush();
+
+        // when
+        EmployeeKeywordPatterns patterns = EmployeeKeywordPatterns.of("ㅎㄱ");
+        Page<Employee> page = employeeRepository.searchByKeyword(TENANT_A, patterns.keyword(),
+            patterns.prefix(), patterns.contains(), patterns.choseong(), patterns.choseongPrefix(),
+            PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).extracting(Employee::getName)
+            .containsExactlyInAnyOrder("홍길동", "한가득");
+    }
+
     private Employee createEmployee(UUID tenantId, String name, String empNumber) {
         Employee emp = Employee.builder()
                 .employeeNumber(empNumber)
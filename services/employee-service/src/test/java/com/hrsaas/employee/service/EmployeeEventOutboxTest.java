@@ -0,0 +1,89 @@
+package com.hrsaas.employee.service;
+
+import com.hrsaas.common.event.outbox.OutboxEventPublisher;
+import com.hrsaas.common.event.outbox.OutboxMessage;
+import com.hrsaas.common.event.outbox.OutboxRepository;
+import com.hrsaas.employee.domain.entity.Employee;
+import com.hrsaas.employee.domain.event.EmployeeCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("직원 이벤트 아웃박스 저장 테스트")
+class EmployeeEventOutboxTest {
+
+    private static final String TOPIC = "employee-created";
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private OutboxEventPublisher publisher;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OutboxEventPublisher(outboxRepository);
+        employee = Employee.builder()
+            .employeeNumber("EMP-001")
+            .name("홍길동")
+            .email("hong@test.com")
+            .hireDate(LocalDate.now())
+            .build();
+        employee.setTenantId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("빌더로 생성한 이벤트도 eventId, eventType, timestamp가 채워져 저장됨")
+    void publish_builderBuiltEvent_storesEventMetadata() {
+        EmployeeCreatedEvent event = EmployeeCreatedEvent.of(employee);
+
+        assertThat(event.getEventId()).isNotBlank();
+        assertThat(event.getEventType()).isEqualTo("EmployeeCreatedEvent");
+        assertThat(event.getTimestamp()).isNotNull();
+
+        publisher.publish(TOPIC, event);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository).insert(eq(event.getEventId()), eq(TOPIC), eq(event.getEventId()),
+            eq("EmployeeCreatedEvent"), payload.capture());
+        assertThat(payload.getValue())
+            .contains("\"eventId\":\"" + event.getEventId() + "\"")
+            .contains("\"eventType\":\"EmployeeCreatedEvent\"");
+    }
+
+    @Test
+    @DisplayName("빌더로 생성한 이벤트마다 고유한 eventId가 부여됨")
+    @SuppressWarnings("unchecked")
+    void publishAll_builderBuiltEvents_distinctEventIds() {
+        EmployeeCreatedEvent first = EmployeeCreatedEvent.of(employee);
+        EmployeeCreatedEvent second = EmployeeCreatedEvent.of(employee);
+
+        publisher.publishAll(List.of(first, second));
+
+        ArgumentCaptor<List<OutboxMessage>> messages = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(messages.capture());
+        assertThat(messages.getValue())
+            .extracting(OutboxMessage::getEventId)
+            .doesNotContainNull()
+            .doesNotHaveDuplicates();
+        assertThat(messages.getValue())
+            .extracting(OutboxMessage::getAggregateKey)
+            .doesNotContainNull();
+        assertThat(messages.getValue())
+            .extracting(OutboxMessage::getEventType)
+            .containsOnly("EmployeeCreatedEvent");
+    }
+}
@@ -1,5 +1,6 @@
 package com.hrsaas.employee.service;
 
+import com.hrsaas.common.security.scope.EmployeeAffiliationCache;
 import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.employee.domain.entity.Employee;
 import com.hrsaas.employee.domain.entity.EmployeeHistory;
@@ -16,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +31,9 @@ class EmployeeHistoryRecorderImplTest {
     @Mock
     private EmployeeHistoryRepository employeeHistoryRepository;
 
+    @Mock
+    private EmployeeAffiliationCache employeeAffiliationCache;
+
     @InjectMocks
     private EmployeeHistoryRecorderImpl historyRecorder;
 
@@ -80,6 +85,7 @@ class EmployeeHistoryRecorderImplTest {
         assertThat(history.getToDepartmentId()).isEqualTo(newDeptId);
         assertThat(history.getEffectiveDate()).isEqualTo(LocalDate.now());
         assertThat(history.getReason()).isEqualTo(reason);
+        verify(employeeAffiliationCache).evict(tenantId, List.of(employeeId));
     }
 
     @Test
@@ -0,0 +1,155 @@
+package com.hrsaas.employee.service;
+
+import com.hrsaas.common.event.EventPublisher;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.employee.domain.dto.response.BulkImportResultResponse;
+import com.hrsaas.employee.repository.EmployeeBulkRepository;
+import com.hrsaas.employee.repository.EmployeeBulkRepository.NewEmployee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportEngineTest {
+
+    @Mock
+    private EmployeeBulkRepository employeeBulkRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @InjectMocks
+    private EmployeeImportEngine engine;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        TenantContext.setCurrentTenant(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void run_largeImport_usesSetBasedLookupsAndSingleBatch() {
+        List<EmployeeImportEngine.Row> rows = new ArrayList<>();
+        for (int i = 1; i <= 5_000; i++) {
+            rows.add(row(i, "EMP-" + i, "user" + i + "@example.com", null));
+        }
+        when(employeeBulkRepository.findIdsByEmployeeNumbers(eq(tenantId), anyCollection())).thenReturn(Map.of());
+        when(employeeBulkRepository.findExistingEmails(eq(tenantId), anyCollection())).thenReturn(Set.of());
+
+        BulkImportResultResponse result = engine.run(rows, new EmployeeImportEngine.Options(false, true, false));
+
+        assertThat(result.getSuccessCount()).isEqualTo(5_000);
+        verify(employeeBulkRepository, times(1)).findIdsByEmployeeNumbers(eq(tenantId), anyCollection());
+        verify(employeeBulkRepository, times(1)).findExistingEmails(eq(tenantId), anyCollection());
+        verify(employeeBulkRepository, times(1)).insertAll(eq(tenantId), argThat(list -> list.size() == 5_000), any());
+        verify(eventPublisher, times(1)).publishAll(argThat(events -> events.size() == 5_000
+            && events.stream().allMatch(event -> tenantId.equals(event.getTenantId()))));
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void run_existingEmployeeNumber_skippedWhenSkipDuplicates() {
+        when(employeeBulkRepository.findIdsByEmployeeNumbers(eq(tenantId), anyCollection()))
+            .thenReturn(Map.of("EMP-1", UUID.randomUUID()));
+        when(employeeBulkRepository.findExistingEmails(eq(tenantId), anyCollection())).thenReturn(Set.of());
+
+        BulkImportResultResponse result = engine.run(
+            List.of(row(1, "EMP-1", "a@example.com", null), row(2, "EMP-2", "b@example.com", null)),
+            new EmployeeImportEngine.Options(false, true, true));
+
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(result.getImportedEmployees()).extracting("rowNumber").containsExactly(2);
+    }
+
+    @Test
+    void run_duplicateEmailWithRollback_insertsNothing() {
+        when(employeeBulkRepository.findIdsByEmployeeNumbers(eq(tenantId), anyCollection())).thenReturn(Map.of());
+        when(employeeBulkRepository.findExistingEmails(eq(tenantId), anyCollection()))
+            .thenReturn(Set.of("a@example.com"));
+
+        BulkImportResultResponse result = engine.run(
+            List.of(row(1, "EMP-1", "a@example.com", null), row(2, "EMP-2", "b@example.com", null)),
+            new EmployeeImportEngine.Options(false, true, false));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrors()).extracting("field").containsExactly("email");
+        verify(employeeBulkRepository, never()).insertAll(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_managerResolvedFromDatabaseAndSameImport() {
+        UUID existingManagerId = UUID.randomUUID();
+        when(employeeBulkRepository.findIdsByEmployeeNumbers(eq(tenantId), anyCollection()))
+            .thenReturn(Map.of("MGR-OLD", existingManagerId));
+        when(employeeBulkRepository.findExistingEmails(eq(tenantId), anyCollection())).thenReturn(Set.of());
+
+        engine.run(List.of(
+                row(1, "MGR-NEW", "mgr@example.com", null),
+                row(2, "EMP-1", "a@example.com", "MGR-OLD"),
+                row(3, "EMP-2", "b@example.com", "MGR-NEW")),
+            new EmployeeImportEngine.Options(false, true, false));
+
+        ArgumentCaptor<List<NewEmployee>> captor = ArgumentCaptor.forClass(List.class);
+        verify(employeeBulkRepository).insertAll(eq(tenantId), captor.capture(), any());
+        List<NewEmployee> inserted = captor.getValue();
+        assertThat(inserted.get(1).managerId()).isEqualTo(existingManagerId);
+        assertThat(inserted.get(2).managerId()).isEqualTo(inserted.get(0).id());
+    }
+
+    @Test
+    void run_validateOnly_doesNotWrite() {
+        when(employeeBulkRepository.findIdsByEmployeeNumbers(eq(tenantId), anyCollection())).thenReturn(Map.of());
+        when(employeeBulkRepository.findExistingEmails(eq(tenantId), anyCollection())).thenReturn(Set.of());
+
+        BulkImportResultResponse result = engine.run(
+            List.of(row(1, "EMP-1", "a@example.com", null), row(2, "EMP-1", "b@example.com", null)),
+            new EmployeeImportEngine.Options(true, true, false));
+
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting("message").containsExactly("요청 내 중복된 사번입니다");
+        verify(employeeBulkRepository, never()).insertAll(any(), any(), any());
+    }
+
+    @Test
+    void timeOrderedId_isMonotonicAcrossMilliseconds() throws InterruptedException {
+        UUID first = EmployeeImportEngine.timeOrderedId();
+        Thread.sleep(2);
+        UUID second = EmployeeImportEngine.timeOrderedId();
+
+        assertThat(first.version()).isEqualTo(7);
+        assertThat(second.getMostSignificantBits() >>> 16).isGreaterThan(first.getMostSignificantBits() >>> 16);
+    }
+
+    private static EmployeeImportEngine.Row row(int rowNumber, String employeeNumber, String email,
+                                               String managerEmployeeNumber) {
+        return new EmployeeImportEngine.Row(rowNumber, employeeNumber, "이름" + rowNumber, null, email,
+            null, null, null, null, null, LocalDate.of(2026, 3, 1), null, null, managerEmployeeNumber);
+    }
+}
@@ -1,23 +1,35 @@
 package com.hrsaas.employee.service;
 
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheEvictor;
 import com.hrsaas.common.core.exception.NotFoundException;
 import com.hrsaas.common.core.exception.ValidationException;
 import com.hrsaas.common.event.EventPublisher;
+import com.hrsaas.common.response.KeysetCursor;
+import com.hrsaas.common.response.PageCountMode;
+import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.employee.domain.dto.request.EmployeeSearchCondition;
+import com.hrsaas.employee.domain.dto.request.OrgChartSummaryRequest;
+import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.domain.dto.response.OrgChartSummaryResponse;
 import com.hrsaas.employee.domain.entity.Employee;
 import com.hrsaas.employee.domain.entity.EmployeeStatus;
+import com.hrsaas.employee.domain.event.EmployeeUpdatedEvent;
 import com.hrsaas.employee.repository.EmployeeRepository;
 import com.hrsaas.employee.service.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,6 +47,12 @@ class EmployeeServiceImplTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private TenantCacheEvictor tenantCacheEvictor;
+
+    @Mock
+    private OrganizationNameEnricher organizationNameEnricher;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -89,6 +107,17 @@ class EmployeeServiceImplTest {
         assertThat(employee.getResignDate()).isEqualTo(LocalDate.now());
     }
 
+    @Test
+    void delete_evictsOnlyAffectedEmployee() {
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+
+        employeeService.delete(employeeId);
+
+        verify(tenantCacheEvictor).evictEntities(CacheNames.EMPLOYEE, List.of(employeeId));
+        verify(tenantCacheEvictor).evictEntities(CacheNames.EMPLOYEE, "empNo", List.of("EMP-2026-0001"));
+    }
+
     @Test
     void bulkDelete_allSoftDeleted() {
         UUID id1 = UUID.randomUUID();
@@ -124,6 +153,68 @@ class EmployeeServiceImplTest {
         assertThat(emp1.getStatus()).isEqualTo(EmployeeStatus.RESIGNED);
     }
 
+    // --- Status Change Event Tests ---
+
+    @Test
+    void suspend_publishesUpdatedEventWithSuspendedStatus() {
+        UUID departmentId = UUID.randomUUID();
+        employee.setDepartmentId(departmentId);
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(i -> i.getArgument(0));
+
+        employeeService.suspend(employeeId);
+
+        ArgumentCaptor<EmployeeUpdatedEvent> captor = ArgumentCaptor.forClass(EmployeeUpdatedEvent.class);
+        verify(eventPublisher).publish(captor.capture());
+        assertThat(captor.getValue().getEmployeeId()).isEqualTo(employeeId);
+        assertThat(captor.getValue().getDepartmentId()).isEqualTo(departmentId);
+        assertThat(captor.getValue().getStatus()).isEqualTo("SUSPENDED");
+    }
+
+    @Test
+    void activate_publishesUpdatedEventWithActiveStatus() {
+        employee.suspend();
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(i -> i.getArgument(0));
+
+        employeeService.activate(employeeId);
+
+        ArgumentCaptor<EmployeeUpdatedEvent> captor = ArgumentCaptor.forClass(EmployeeUpdatedEvent.class);
+        verify(eventPublisher).publish(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkSuspend_publishesOneUpdatedEventPerEmployee() {
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        List<Employee> employees = List.of(createEmployee(id1, "EMP-001"), createEmployee(id2, "EMP-002"));
+        when(employeeRepository.findAllById(List.of(id1, id2))).thenReturn(employees);
+
+        employeeService.bulkSuspend(List.of(id1, id2));
+
+        ArgumentCaptor<List<EmployeeUpdatedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(captor.capture());
+        assertThat(captor.getValue()).extracting(EmployeeUpdatedEvent::getEmployeeId).containsExactly(id1, id2);
+        assertThat(captor.getValue()).extracting(EmployeeUpdatedEvent::getStatus).containsOnly("SUSPENDED");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkActivate_publishesOneUpdatedEventPerEmployee() {
+        UUID id1 = UUID.randomUUID();
+        Employee suspended = createEmployee(id1, "EMP-001");
+        suspended.suspend();
+        when(employeeRepository.findAllById(List.of(id1))).thenReturn(List.of(suspended));
+
+        employeeService.bulkActivate(List.of(id1));
+
+        ArgumentCaptor<List<EmployeeUpdatedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(captor.capture());
+        assertThat(captor.getValue()).extracting(EmployeeUpdatedEvent::getStatus).containsExactly("ACTIVE");
+    }
+
     // --- Count Tests ---
 
     @Test
@@ -163,6 +254,111 @@ class EmployeeServiceImplTest {
         assertThat(result).isTrue();
     }
 
+    // --- Org Chart Summary Tests ---
+
+    @Test
+    void getOrgChartSummary_returnsHeadcountsAndManagersInOneResponse() {
+        UUID deptA = UUID.randomUUID();
+        UUID deptB = UUID.randomUUID();
+        when(employeeRepository.countByDepartmentIdsGrouped(tenantId, List.of(deptA, deptB)))
+            .thenReturn(List.<Object[]>of(new Object[]{deptA, 12L}));
+        when(employeeRepository.findManagerSummaries(tenantId, List.of(employeeId)))
+            .thenReturn(List.<Object[]>of(new Object[]{employeeId, "홍길동", "TEAM_LEAD", "G3"}));
+
+        OrgChartSummaryResponse response = employeeService.getOrgChartSummary(OrgChartSummaryRequest.builder()
+            .departmentIds(List.of(deptA, deptB))
+            .managerIds(List.of(employeeId))
+            .build());
+
+        assertThat(response.getHeadcounts()).containsExactlyEntriesOf(Map.of(deptA, 12L));
+        assertThat(response.getManagers()).singleElement()
+            .satisfies(manager -> {
+                assertThat(manager.getName()).isEqualTo("홍길동");
+                assertThat(manager.getPositionCode()).isEqualTo("TEAM_LEAD");
+                assertThat(manager.getJobTitleCode()).isEqualTo("G3");
+            });
+        verify(employeeRepository, never()).countByDepartmentGrouped(any());
+    }
+
+    @Test
+    void getOrgChartSummary_noDepartmentIds_countsWholeTenant() {
+        when(employeeRepository.countByDepartmentGrouped(tenantId)).thenReturn(List.of());
+
+        OrgChartSummaryResponse response = employeeService.getOrgChartSummary(new OrgChartSummaryRequest());
+
+        assertThat(response.getHeadcounts()).isEmpty();
+        assertThat(response.getManagers()).isEmpty();
+        verify(employeeRepository, never()).findManagerSummaries(any(), any());
+    }
+
+    @Test
+    void getOrgChartSummary_emptyDepartmentIds_returnsManagersOnly() {
+        when(employeeRepository.findManagerSummaries(tenantId, List.of(employeeId)))
+            .thenReturn(List.<Object[]>of(new Object[]{employeeId, "홍길동", null, null}));
+
+        OrgChartSummaryResponse response = employeeService.getOrgChartSummary(OrgChartSummaryRequest.builder()
+            .departmentIds(List.of())
+            .managerIds(List.of(employeeId))
+            .build());
+
+        assertThat(response.getHeadcounts()).isEmpty();
+        assertThat(response.getManagers()).hasSize(1);
+        verify(employeeRepository, never()).countByDepartmentGrouped(any());
+        verify(employeeRepository, never()).countByDepartmentIdsGrouped(any(), any());
+    }
+
+    // --- Keyset Pagination Tests ---
+
+    @Test
+    void searchByCursor_moreRows_returnsNextCursorWithoutCount() {
+        Employee first = createEmployee(UUID.randomUUID(), "EMP-001");
+        Employee second = createEmployee(UUID.randomUUID(), "EMP-002");
+        Employee third = createEmployee(UUID.randomUUID(), "EMP-003");
+        when(employeeRepository.searchAfterEmployeeNumber(tenantId, null, null, null, null, null, 3))
+            .thenReturn(List.of(first, second, third));
+
+        PageResponse<EmployeeResponse> page = employeeService.searchByCursor(
+            new EmployeeSearchCondition(), "", 2, null, PageCountMode.NONE);
+
+        assertThat(page.getContent()).extracting(EmployeeResponse::getEmployeeNumber)
+            .containsExactly("EMP-001", "EMP-002");
+        assertThat(page.getPage().isFirst()).isTrue();
+        assertThat(page.getPage().isHasNext()).isTrue();
+        assertThat(page.getPage().getTotalElements()).isEqualTo(-1);
+        KeysetCursor next = KeysetCursor.decode(page.getPage().getNextCursor(), "employeeNumber");
+        assertThat(next.key()).isEqualTo("EMP-002");
+        assertThat(next.id()).isEqualTo(second.getId());
+        verify(employeeRepository, never()).countSearch(any(), any(), any(), any());
+    }
+
+    @Test
+    void searchByCursor_continuesAfterCursor_lastPage() {
+        UUID lastId = UUID.randomUUID();
+        String cursor = new KeysetCursor("employeeNumber", "EMP-002", lastId).encode();
+        Employee third = createEmployee(UUID.randomUUID(), "EMP-003");
+        when(employeeRepository.searchAfterEmployeeNumber(tenantId, null, null, null, "EMP-002", lastId, 3))
+            .thenReturn(List.of(third));
+        when(employeeRepository.countSearch(tenantId, null, null, null)).thenReturn(3L);
+
+        PageResponse<EmployeeResponse> page = employeeService.searchByCursor(
+            new EmployeeSearchCondition(), cursor, 2, "employeeNumber", PageCountMode.EXACT);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getPage().isFirst()).isFalse();
+        assertThat(page.getPage().isHasNext()).isFalse();
+        assertThat(page.getPage().getNextCursor()).isNull();
+        assertThat(page.getPage().getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void searchByCursor_cursorForOtherSort_throwsValidationException() {
+        String cursor = new KeysetCursor("employeeNumber", "EMP-002", UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> employeeService.searchByCursor(
+            new EmployeeSearchCondition(), cursor, 20, "name", PageCountMode.NONE))
+            .isInstanceOf(ValidationException.class);
+    }
+
     // --- Helper Methods ---
 
     private Employee createEmployee(UUID id, String empNo) {
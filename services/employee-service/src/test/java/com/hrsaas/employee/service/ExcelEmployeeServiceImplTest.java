@@ -18,6 +18,8 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,6 +86,32 @@ class ExcelEmployeeServiceImplTest {
         }
     }
 
+    @Test
+    @DisplayName("Export to Excel - Stream larger than row window")
+    void exportToExcel_stream_writesAllRowsInOrder() throws IOException {
+        // Given
+        int count = 1_000;
+        Stream<Employee> employees = IntStream.range(0, count)
+                .mapToObj(i -> Employee.builder()
+                        .employeeNumber(String.format("EMP-%04d", i))
+                        .name("User " + i)
+                        .hireDate(LocalDate.of(2023, 1, 1))
+                        .build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        int exported = excelEmployeeService.exportToExcel(employees, out);
+
+        // Then
+        assertEquals(count, exported);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("직원목록");
+            assertEquals(count, sheet.getLastRowNum());
+            assertEquals("EMP-0000", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("EMP-0999", sheet.getRow(count).getCell(0).getStringCellValue());
+        }
+    }
+
     @Test
     @DisplayName("Export to Excel - Empty List")
     void exportToExcel_emptyList_returnsHeadersOnly() throws IOException {
@@ -0,0 +1,228 @@
+package com.hrsaas.employee.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationBus;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationMessage;
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.employee.client.OrganizationServiceClient;
+import com.hrsaas.employee.client.dto.OrganizationNameLookupClientRequest;
+import com.hrsaas.employee.client.dto.OrganizationNameLookupClientResponse;
+import com.hrsaas.employee.domain.dto.response.EmployeeResponse;
+import com.hrsaas.employee.service.impl.OrganizationNameEnricherImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationNameEnricherImplTest {
+
+    @Mock
+    private OrganizationServiceClient organizationServiceClient;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private OrganizationNameEnricherImpl enricher;
+    private Consumer<CacheInvalidationMessage> remoteInvalidation;
+
+    private UUID tenantId;
+    private UUID deptA;
+    private UUID deptB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        enricher = new OrganizationNameEnricherImpl(organizationServiceClient, invalidationBus, 1000, 600, 120, 30);
+        ArgumentCaptor<Consumer<CacheInvalidationMessage>> subscriber = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(CacheNames.EMPLOYEE_ORGANIZATION_NAMES), subscriber.capture());
+        remoteInvalidation = subscriber.getValue();
+        tenantId = UUID.randomUUID();
+        deptA = UUID.randomUUID();
+        deptB = UUID.randomUUID();
+        TenantContext.setCurrentTenant(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void enrich_pageOfEmployees_makesSingleLookupWithDistinctIds() {
+        when(organizationServiceClient.lookupNames(anyString(), any())).thenReturn(ApiResponse.success(
+            lookupResponse(Map.of(deptA, "개발팀", deptB, "인사팀"), Map.of("P1", "팀장"), Map.of("G1", "과장"))));
+
+        List<EmployeeResponse> page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            page.add(employee(i % 2 == 0 ? deptA : deptB, "P1", "G1"));
+        }
+
+        enricher.enrich(page);
+
+        ArgumentCaptor<OrganizationNameLookupClientRequest> captor =
+            ArgumentCaptor.forClass(OrganizationNameLookupClientRequest.class);
+        verify(organizationServiceClient, times(1)).lookupNames(eq(tenantId.toString()), captor.capture());
+        assertThat(captor.getValue().getDepartmentIds()).containsExactlyInAnyOrder(deptA, deptB);
+        assertThat(captor.getValue().getPositionCodes()).containsExactly("P1");
+        assertThat(page.get(0).getDepartmentName()).isEqualTo("개발팀");
+        assertThat(page.get(1).getDepartmentName()).isEqualTo("인사팀");
+        assertThat(page.get(0).getPositionName()).isEqualTo("팀장");
+        assertThat(page.get(0).getGradeCode()).isEqualTo("G1");
+        assertThat(page.get(0).getGradeName()).isEqualTo("과장");
+    }
+
+    @Test
+    void enrich_cachedNames_skipsRemoteCall() {
+        when(organizationServiceClient.lookupNames(anyString(), any())).thenReturn(ApiResponse.success(
+            lookupResponse(Map.of(deptA, "개발팀"), Map.of(), Map.of())));
+
+        enricher.enrich(List.of(employee(deptA, null, null)));
+        EmployeeResponse second = employee(deptA, null, null);
+        enricher.enrich(List.of(second));
+
+        verify(organizationServiceClient, times(1)).lookupNames(anyString(), any());
+        assertThat(second.getDepartmentName()).isEqualTo("개발팀");
+    }
+
+    @Test
+    void enrich_unknownId_isNegativelyCached() {
+        when(organizationServiceClient.lookupNames(anyString(), any())).thenReturn(ApiResponse.success(
+            lookupResponse(Map.of(), Map.of(), Map.of())));
+
+        EmployeeResponse first = employee(deptA, null, null);
+        enricher.enrich(List.of(first));
+        enricher.enrich(List.of(employee(deptA, null, null)));
+
+        verify(organizationServiceClient, times(1)).lookupNames(anyString(), any());
+        assertThat(first.getDepartmentName()).isNull();
+    }
+
+    @Test
+    void evictDepartments_forcesReload() {
+        when(organizationServiceClient.lookupNames(anyString(), any()))
+            .thenReturn(ApiResponse.success(lookupResponse(Map.of(deptA, "개발팀"), Map.of(), Map.of())))
+            .thenReturn(ApiResponse.success(lookupResponse(Map.of(deptA, "플랫폼팀"), Map.of(), Map.of())));
+
+        enricher.enrich(List.of(employee(deptA, null, null)));
+        enricher.evictDepartments(tenantId, List.of(deptA));
+        EmployeeResponse reloaded = employee(deptA, null, null);
+        enricher.enrich(List.of(reloaded));
+
+        verify(organizationServiceClient, times(2)).lookupNames(anyString(), any());
+        assertThat(reloaded.getDepartmentName()).isEqualTo("플랫폼팀");
+    }
+
+    @Test
+    void evictDepartments_broadcastsToOtherInstances() {
+        enricher.evictDepartments(tenantId, List.of(deptA));
+        enricher.evictDepartments(null, List.of(deptB));
+
+        verify(invalidationBus).publish(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, tenantId + ":" + deptA);
+        verify(invalidationBus).publish(CacheNames.EMPLOYEE_ORGANIZATION_NAMES, "*:" + deptB);
+    }
+
+    @Test
+    void remoteInvalidation_forcesReloadWithoutRebroadcast() {
+        when(organizationServiceClient.lookupNames(anyString(), any()))
+            .thenReturn(ApiResponse.success(lookupResponse(Map.of(deptA, "개발팀"), Map.of(), Map.of())))
+            .thenReturn(ApiResponse.success(lookupResponse(Map.of(deptA, "플랫폼팀"), Map.of(), Map.of())));
+
+        enricher.enrich(List.of(employee(deptA, null, null)));
+        remoteInvalidation.accept(new CacheInvalidationMessage(
+            "other-node", CacheNames.EMPLOYEE_ORGANIZATION_NAMES, "*:" + deptA));
+        EmployeeResponse reloaded = employee(deptA, null, null);
+        enricher.enrich(List.of(reloaded));
+
+        verify(organizationServiceClient, times(2)).lookupNames(anyString(), any());
+        assertThat(reloaded.getDepartmentName()).isEqualTo("플랫폼팀");
+        verify(invalidationBus, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    void evictDepartments_otherTenant_keepsCachedName() {
+        when(organizationServiceClient.lookupNames(anyString(), any())).thenReturn(ApiResponse.success(
+            lookupResponse(Map.of(deptA, "개발팀"), Map.of(), Map.of())));
+
+        enricher.enrich(List.of(employee(deptA, null, null)));
+        enricher.evictDepartments(UUID.randomUUID(), List.of(deptA));
+        enricher.enrich(List.of(employee(deptA, null, null)));
+
+        verify(organizationServiceClient, times(1)).lookupNames(anyString(), any());
+    }
+
+    @Test
+    void enrich_moreIdsThanLookupLimit_requestsInChunks() {
+        when(organizationServiceClient.lookupNames(anyString(), any())).thenReturn(ApiResponse.success(
+            lookupResponse(Map.of(), Map.of(), Map.of())));
+
+        List<EmployeeResponse> page = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            page.add(employee(UUID.randomUUID(), i < 10 ? "P" + i : null, null));
+        }
+
+        enricher.enrich(page);
+
+        ArgumentCaptor<OrganizationNameLookupClientRequest> captor =
+            ArgumentCaptor.forClass(OrganizationNameLookupClientRequest.class);
+        verify(organizationServiceClient, times(3)).lookupNames(eq(tenantId.toString()), captor.capture());
+        assertThat(captor.getAllValues())
+            .allSatisfy(request -> assertThat(request.getDepartmentIds()).hasSizeLessThanOrEqualTo(500));
+        assertThat(captor.getAllValues())
+            .flatExtracting(OrganizationNameLookupClientRequest::getDepartmentIds)
+            .hasSize(1_200)
+            .doesNotHaveDuplicates();
+        assertThat(captor.getAllValues())
+            .flatExtracting(OrganizationNameLookupClientRequest::getPositionCodes)
+            .hasSize(10);
+    }
+
+    @Test
+    void enrich_lookupFailure_isNotCached() {
+        when(organizationServiceClient.lookupNames(anyString(), any()))
+            .thenThrow(new RuntimeException("organization-service down"))
+            .thenReturn(ApiResponse.success(lookupResponse(Map.of(deptA, "개발팀"), Map.of(), Map.of())));
+
+        EmployeeResponse failed = employee(deptA, null, null);
+        enricher.enrich(List.of(failed));
+        EmployeeResponse retried = employee(deptA, null, null);
+        enricher.enrich(List.of(retried));
+
+        assertThat(failed.getDepartmentName()).isNull();
+        assertThat(retried.getDepartmentName()).isEqualTo("개발팀");
+    }
+
+    private static EmployeeResponse employee(UUID departmentId, String positionCode, String jobTitleCode) {
+        return EmployeeResponse.builder()
+            .id(UUID.randomUUID())
+            .departmentId(departmentId)
+            .positionCode(positionCode)
+            .jobTitleCode(jobTitleCode)
+            .build();
+    }
+
+    private static OrganizationNameLookupClientResponse lookupResponse(Map<UUID, String> departments,
+                                                                       Map<String, String> positions,
+                                                                       Map<String, String> grades) {
+        return OrganizationNameLookupClientResponse.builder()
+            .departments(departments)
+            .positions(positions)
+            .grades(grades)
+            .build();
+    }
+}
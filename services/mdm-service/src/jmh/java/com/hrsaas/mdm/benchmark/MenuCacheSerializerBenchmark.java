@@ -0,0 +1,138 @@
+package com.hrsaas.mdm.benchmark;
+
+import com.hrsaas.common.cache.serializer.CacheCompression;
+import com.hrsaas.common.cache.serializer.CacheSerializers;
+import com.hrsaas.mdm.domain.dto.menu.MenuItemResponse;
+import com.hrsaas.mdm.domain.dto.menu.UserMenuResponse;
+import com.hrsaas.mdm.domain.entity.menu.MenuType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON cache value format against the binary format on menu trees
+ * (admin MenuItemResponse tree and per-user UserMenuResponse).
+ * Encoded sizes are printed during setup.
+ *
+ * Run: ./gradlew :services:mdm-service:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuCacheSerializerBenchmark {
+
+    private static final int TOP_LEVEL_MENUS = 15;
+    private static final int CHILDREN_PER_MENU = 8;
+
+    @Param({"json", "binary", "binary-lz4", "binary-zstd"})
+    public String format;
+
+    @Param({"menuTree", "userMenu"})
+    public String shape;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        serializer = switch (format) {
+            case "json" -> (RedisSerializer<Object>) (RedisSerializer<?>) CacheSerializers.json();
+            case "binary" -> CacheSerializers.binary(CacheCompression.NONE);
+            case "binary-lz4" -> CacheSerializers.binary(CacheCompression.LZ4);
+            case "binary-zstd" -> CacheSerializers.binary(CacheCompression.ZSTD);
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        value = "menuTree".equals(shape) ? menuTree() : userMenu();
+        encoded = serializer.serialize(value);
+
+        System.out.printf("%n[size] format=%s shape=%s bytes=%d%n", format, shape, encoded.length);
+    }
+
+    private List<MenuItemResponse> menuTree() {
+        List<MenuItemResponse> roots = new ArrayList<>();
+        for (int i = 0; i < TOP_LEVEL_MENUS; i++) {
+            List<MenuItemResponse> children = new ArrayList<>();
+            for (int j = 0; j < CHILDREN_PER_MENU; j++) {
+                children.add(menuItem("MENU_" + i + "_" + j, 2, j, new ArrayList<>()));
+            }
+            roots.add(menuItem("MENU_" + i, 1, i, children));
+        }
+        return roots;
+    }
+
+    private MenuItemResponse menuItem(String code, int level, int sortOrder, List<MenuItemResponse> children) {
+        return MenuItemResponse.builder()
+            .id(UUID.randomUUID())
+            .code(code)
+            .name("메뉴 " + code)
+            .nameEn("Menu " + code)
+            .path("/" + code.toLowerCase())
+            .icon("folder")
+            .menuType(MenuType.INTERNAL)
+            .level(level)
+            .sortOrder(sortOrder)
+            .isSystem(true)
+            .isActive(true)
+            .showInNav(true)
+            .showInMobile(false)
+            .groupName("main")
+            .roles(new ArrayList<>(List.of("HR_ADMIN", "HR_MANAGER")))
+            .permissions(new ArrayList<>(List.of("employee:read", "employee:write")))
+            .children(children)
+            .build();
+    }
+
+    private UserMenuResponse userMenu() {
+        List<UserMenuResponse.UserMenuItem> sidebar = new ArrayList<>();
+        for (int i = 0; i < TOP_LEVEL_MENUS; i++) {
+            List<UserMenuResponse.UserMenuItem> children = new ArrayList<>();
+            for (int j = 0; j < CHILDREN_PER_MENU; j++) {
+                children.add(userMenuItem("MENU_" + i + "_" + j, j, new ArrayList<>()));
+            }
+            sidebar.add(userMenuItem("MENU_" + i, i, children));
+        }
+        return UserMenuResponse.builder()
+            .sidebarMenus(sidebar)
+            .mobileMenus(new ArrayList<>(sidebar.subList(0, 4)))
+            .build();
+    }
+
+    private UserMenuResponse.UserMenuItem userMenuItem(String code, int sortOrder,
+                                                       List<UserMenuResponse.UserMenuItem> children) {
+        return UserMenuResponse.UserMenuItem.builder()
+            .code(code)
+            .name("메뉴 " + code)
+            .nameEn("Menu " + code)
+            .path("/" + code.toLowerCase())
+            .icon("folder")
+            .isExternal(false)
+            .sortOrder(sortOrder)
+            .groupName("main")
+            .children(children)
+            .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -3,8 +3,10 @@ package com.hrsaas.mdm.domain.dto.menu;
 import com.hrsaas.mdm.domain.entity.menu.MenuItem;
 import com.hrsaas.mdm.domain.entity.menu.MenuPermission;
 import com.hrsaas.mdm.domain.entity.menu.MenuType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 import java.util.UUID;
@@ -15,6 +17,8 @@ import java.util.stream.Collectors;
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MenuItemResponse {
 
     private UUID id;
@@ -1,7 +1,9 @@
 package com.hrsaas.mdm.domain.dto.menu;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -11,6 +13,8 @@ import java.util.List;
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class UserMenuResponse {
 
     /**
@@ -28,6 +32,8 @@ public class UserMenuResponse {
      */
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class UserMenuItem {
         private String code;
         private String name;
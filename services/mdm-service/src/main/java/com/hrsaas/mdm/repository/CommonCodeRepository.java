@@ -52,6 +52,24 @@ public interface CommonCodeRepository extends JpaRepository<CommonCode, UUID> {
            "ORDER BY cc.codeGroup.groupCode ASC, cc.sortOrder ASC")
     List<CommonCode> findAllByTenantId(@Param("tenantId") UUID tenantId);
 
+    /**
+     * 유사도 검색 인덱스 적재용: 테넌트 전용 코드 (시스템 코드 제외, 그룹 fetch join)
+     */
+    @Query("SELECT cc FROM CommonCode cc JOIN FETCH cc.codeGroup WHERE cc.tenantId = :tenantId")
+    List<CommonCode> findAllOwnedByTenantId(@Param("tenantId") UUID tenantId);
+
+    /**
+     * 유사도 검색 인덱스 적재용: 시스템 코드 (그룹 fetch join)
+     */
+    @Query("SELECT cc FROM CommonCode cc JOIN FETCH cc.codeGroup WHERE cc.tenantId IS NULL")
+    List<CommonCode> findAllSystemCodes();
+
+    /**
+     * 유사도 검색 인덱스 패치용: 다른 인스턴스에서 변경된 코드 1건 (그룹 fetch join)
+     */
+    @Query("SELECT cc FROM CommonCode cc JOIN FETCH cc.codeGroup WHERE cc.id = :id")
+    Optional<CommonCode> findWithCodeGroupById(@Param("id") UUID id);
+
     @Query("SELECT cc FROM CommonCode cc WHERE (cc.tenantId IS NULL OR cc.tenantId = :tenantId) " +
            "AND cc.active = true " +
            "ORDER BY cc.codeGroup.groupCode ASC, cc.sortOrder ASC")
@@ -5,6 +5,7 @@ import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.domain.event.CommonCodeUpdatedEvent;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
 import com.hrsaas.mdm.service.CodeHistoryService;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import com.hrsaas.mdm.domain.entity.CodeAction;
 import com.hrsaas.mdm.domain.entity.CodeStatus;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class CodeEffectiveScheduler {
     private final CommonCodeRepository commonCodeRepository;
     private final CodeHistoryService codeHistoryService;
     private final EventPublisher eventPublisher;
+    private final CodeSearchIndex codeSearchIndex;
 
     /**
      * 매일 01:00 실행: effectiveFrom ≤ today AND 비활성 → 활성화
@@ -45,6 +47,7 @@ public class CodeEffectiveScheduler {
             CodeStatus oldStatus = code.getStatus();
             code.activate();
             commonCodeRepository.save(code);
+            codeSearchIndex.codeChanged(code);
 
             codeHistoryService.recordStatusChanged(code, CodeAction.ACTIVATED, oldStatus, CodeStatus.ACTIVE);
             eventPublisher.publish(CommonCodeUpdatedEvent.of(code));
@@ -73,6 +76,7 @@ public class CodeEffectiveScheduler {
             CodeStatus oldStatus = code.getStatus();
             code.deactivate();
             commonCodeRepository.save(code);
+            codeSearchIndex.codeChanged(code);
 
             codeHistoryService.recordStatusChanged(code, CodeAction.DEACTIVATED, oldStatus, CodeStatus.INACTIVE);
             eventPublisher.publish(CommonCodeUpdatedEvent.of(code));
@@ -0,0 +1,647 @@
+package com.hrsaas.mdm.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationBus;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationMessage;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.mdm.domain.dto.response.SimilarCodeResponse;
+import com.hrsaas.mdm.domain.entity.CommonCode;
+import com.hrsaas.mdm.repository.CommonCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 공통코드 유사도 검색 인덱스 (테넌트별 인메모리).
+ *
+ * 코드/코드명/영문명/설명 값을 소문자 용어로 모아 길이별 BK-tree에 넣어 두고, 검색 시에는
+ * 임계값으로 가능한 용어 길이와 편집 거리 반경을 먼저 좁힌 뒤 해당 길이의 트리만 탐색합니다.
+ * 거리 계산은 두 행만 쓰는 Levenshtein이며 반경을 넘으면 즉시 중단합니다.
+ * 결과는 전체 코드를 {@link #similarity(String, String)}로 비교한 것과 같습니다.
+ *
+ * 시스템 코드와 테넌트 코드는 파티션을 나눠 시스템 코드 인덱스를 모든 테넌트가 공유합니다.
+ * 코드 변경은 커밋 후 이 인스턴스에서 해당 코드만 반영하고, {@link CacheInvalidationBus}로
+ * 파티션+코드 ID를 전파해 다른 인스턴스도 그 코드를 다시 읽어 반영합니다.
+ * index-max-age는 전파 메시지가 유실된 경우를 위한 재적재 주기입니다.
+ */
+@Slf4j
+@Component
+public class CodeSearchIndex {
+
+    /** 포함 관계 가산점 */
+    private static final double CONTAINS_BONUS = 0.1;
+    private static final double EPSILON = 1e-9;
+
+    /** 시스템 코드 파티션 키 */
+    private static final UUID SYSTEM_PARTITION = new UUID(0L, 0L);
+
+    private final CommonCodeRepository commonCodeRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final long maxAgeMillis;
+
+    private final Map<UUID, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public CodeSearchIndex(
+            CommonCodeRepository commonCodeRepository,
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.mdm.code-search.index-max-age-seconds:1800}") long maxAgeSeconds) {
+        this.commonCodeRepository = commonCodeRepository;
+        this.invalidationBus = invalidationBus;
+        this.maxAgeMillis = maxAgeSeconds * 1000L;
+        invalidationBus.subscribe(CacheNames.CODE_SEARCH_INDEX, this::onRemoteChange);
+    }
+
+    /**
+     * 검색 대상 필드 (동일 유사도면 앞선 필드를 매칭 필드로 사용)
+     */
+    public enum Field {
+        CODE("code"),
+        CODE_NAME("codeName"),
+        CODE_NAME_EN("codeNameEn"),
+        DESCRIPTION("description");
+
+        private final String responseName;
+
+        Field(String responseName) {
+            this.responseName = responseName;
+        }
+
+        String read(IndexedCode code) {
+            return switch (this) {
+                case CODE -> code.code();
+                case CODE_NAME -> code.codeName();
+                case CODE_NAME_EN -> code.codeNameEn();
+                case DESCRIPTION -> code.description();
+            };
+        }
+    }
+
+    /**
+     * 인덱스에 보관하는 코드 스냅샷 (엔티티/지연 로딩과 분리)
+     */
+    record IndexedCode(UUID id, UUID tenantId, String groupCode, String code, String codeName,
+                       String codeNameEn, String description, boolean active, Integer sortOrder) {
+
+        static IndexedCode from(CommonCode code) {
+            return new IndexedCode(code.getId(), code.getTenantId(), code.getCodeGroup().getGroupCode(),
+                code.getCode(), code.getCodeName(), code.getCodeNameEn(), code.getDescription(),
+                code.isActive(), code.getSortOrder());
+        }
+
+        SimilarCodeResponse toResponse(double similarity, Field field) {
+            return SimilarCodeResponse.builder()
+                .id(id)
+                .groupCode(groupCode)
+                .code(code)
+                .codeName(codeName)
+                .codeNameEn(codeNameEn)
+                .description(description)
+                .active(active)
+                .similarity(similarity)
+                .matchedField(field.responseName)
+                .build();
+        }
+    }
+
+    private record Posting(UUID codeId, Field field) {
+    }
+
+    private record Match(IndexedCode code, Field field, double similarity) {
+
+        Match better(Match other) {
+            if (other.similarity != similarity) {
+                return other.similarity > similarity ? other : this;
+            }
+            return other.field.ordinal() < field.ordinal() ? other : this;
+        }
+    }
+
+    private static final Comparator<Match> RESULT_ORDER = Comparator
+        .comparingDouble(Match::similarity).reversed()
+        .thenComparing(m -> m.code().groupCode())
+        .thenComparing(m -> m.code().sortOrder(), Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+        .thenComparing(m -> m.code().code());
+
+    /**
+     * 유사 코드 상위 maxResults건 (유사도 내림차순).
+     *
+     * @param groupCode 지정 시 해당 그룹의 활성 코드만 검색
+     */
+    public List<SimilarCodeResponse> search(UUID tenantId, String keyword, String groupCode,
+                                            boolean activeOnly, double threshold, int maxResults) {
+        boolean hasGroup = groupCode != null && !groupCode.isEmpty();
+        Predicate<IndexedCode> filter = hasGroup
+            ? code -> code.active() && groupCode.equals(code.groupCode())
+            : code -> !activeOnly || code.active();
+        return search(tenantId, keyword, EnumSet.allOf(Field.class), filter, threshold, maxResults);
+    }
+
+    /**
+     * 그룹 내 활성 코드 중 코드명이 유사한 코드 (중복 검사용)
+     */
+    public List<SimilarCodeResponse> searchCodeNames(UUID tenantId, String groupCode, String codeName,
+                                                     double threshold) {
+        return search(tenantId, codeName, EnumSet.of(Field.CODE_NAME),
+            code -> code.active() && groupCode.equals(code.groupCode()), threshold, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 생성/수정된 코드를 커밋 후 인덱스에 반영하고 다른 인스턴스에 전파합니다.
+     */
+    public void codeChanged(CommonCode code) {
+        IndexedCode snapshot = IndexedCode.from(code);
+        UUID key = partitionKey(snapshot.tenantId());
+        runAfterCommit(() -> {
+            generation(key).incrementAndGet();
+            Partition partition = partitions.get(key);
+            if (partition != null) {
+                partition.put(snapshot);
+            }
+            invalidationBus.publish(CacheNames.CODE_SEARCH_INDEX, key + ":" + snapshot.id());
+        });
+    }
+
+    /**
+     * 삭제된 코드를 커밋 후 인덱스에서 제거하고 다른 인스턴스에 전파합니다.
+     */
+    public void codeRemoved(CommonCode code) {
+        UUID codeId = code.getId();
+        UUID key = partitionKey(code.getTenantId());
+        runAfterCommit(() -> {
+            generation(key).incrementAndGet();
+            Partition partition = partitions.get(key);
+            if (partition != null) {
+                partition.remove(codeId);
+            }
+            invalidationBus.publish(CacheNames.CODE_SEARCH_INDEX, key + ":" + codeId);
+        });
+    }
+
+    /**
+     * 일괄 변경(임포트, 그룹 삭제 등) 후 모든 인스턴스에서 파티션을 버려 다음 검색 시 다시 적재합니다.
+     *
+     * @param tenantId null이면 시스템 코드 파티션
+     */
+    public void invalidate(UUID tenantId) {
+        UUID key = partitionKey(tenantId);
+        runAfterCommit(() -> {
+            dropPartition(key);
+            invalidationBus.publish(CacheNames.CODE_SEARCH_INDEX, key.toString());
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 변경 반영. 키는 {@code 파티션:코드 ID}(코드 1건) 또는 {@code 파티션}(파티션 전체)입니다.
+     * 코드는 커밋된 현재 상태를 다시 읽어 반영하며, 없으면 삭제된 것으로 보고 제거합니다.
+     */
+    private void onRemoteChange(CacheInvalidationMessage message) {
+        String[] parts = message.key() != null ? message.key().split(":") : new String[0];
+        if (parts.length == 0) {
+            partitions.keySet().forEach(this::dropPartition);
+            return;
+        }
+        UUID key = UUID.fromString(parts[0]);
+        if (parts.length == 1) {
+            dropPartition(key);
+            return;
+        }
+        UUID codeId = UUID.fromString(parts[1]);
+        AtomicLong generation = generation(key);
+        // 같은 파티션의 패치는 순서대로 적용해 늦게 읽은 이전 상태가 새 상태를 덮지 않게 합니다
+        synchronized (generation) {
+            generation.incrementAndGet();
+            Partition partition = partitions.get(key);
+            if (partition == null) {
+                return;
+            }
+            try {
+                Optional<IndexedCode> current = loadCode(key, codeId);
+                if (current.isPresent()) {
+                    partition.put(current.get());
+                } else {
+                    partition.remove(codeId);
+                }
+            } catch (RuntimeException e) {
+                // 반영하지 못한 파티션은 버려 다음 검색 시 다시 적재합니다
+                log.warn("Failed to patch code search index: partition={}, codeId={}", key, codeId, e);
+                partitions.remove(key);
+            }
+        }
+    }
+
+    private Optional<IndexedCode> loadCode(UUID key, UUID codeId) {
+        if (SYSTEM_PARTITION.equals(key)) {
+            return commonCodeRepository.findWithCodeGroupById(codeId).map(IndexedCode::from);
+        }
+        try {
+            TenantContext.setCurrentTenant(key);
+            return commonCodeRepository.findWithCodeGroupById(codeId).map(IndexedCode::from);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void dropPartition(UUID key) {
+        generation(key).incrementAndGet();
+        partitions.remove(key);
+    }
+
+    /**
+     * 기존 유사도 정의: 완전 일치 1.0, 포함 관계는 0.1 가산, 그 외 1 - 거리/최대 길이
+     */
+    public static double similarity(String s1, String s2) {
+        if (s1 == null || s2 == null) {
+            return 0.0;
+        }
+        if (s1.isEmpty() && s2.isEmpty()) {
+            return 1.0;
+        }
+        if (s1.isEmpty() || s2.isEmpty()) {
+            return 0.0;
+        }
+        return similarity(s1, s2, distance(s1, s2));
+    }
+
+    /**
+     * 두 행만 사용하는 Levenshtein 거리
+     */
+    public static int distance(String s1, String s2) {
+        return distance(s1, s2, Math.max(s1.length(), s2.length()));
+    }
+
+    /**
+     * limit 이하이면 정확한 거리, 초과하면 limit + 1을 반환합니다.
+     * 행의 최솟값이 limit을 넘는 순간 계산을 중단합니다.
+     */
+    static int distance(String s1, String s2, int limit) {
+        int m = s1.length();
+        int n = s2.length();
+        if (Math.abs(m - n) > limit) {
+            return limit + 1;
+        }
+        if (m < n) {
+            String tmp = s1;
+            s1 = s2;
+            s2 = tmp;
+            m = s1.length();
+            n = s2.length();
+        }
+
+        int[] prev = new int[n + 1];
+        int[] curr = new int[n + 1];
+        for (int j = 0; j <= n; j++) {
+            prev[j] = j;
+        }
+
+        for (int i = 1; i <= m; i++) {
+            curr[0] = i;
+            int rowMin = i;
+            char c = s1.charAt(i - 1);
+            for (int j = 1; j <= n; j++) {
+                int cost = c == s2.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        return prev[n] > limit ? limit + 1 : prev[n];
+    }
+
+    private static double similarity(String s1, String s2, int distance) {
+        if (s1.equals(s2)) {
+            return 1.0;
+        }
+        int maxLen = Math.max(s1.length(), s2.length());
+        double base = 1.0 - ((double) distance / maxLen);
+        if (s1.contains(s2) || s2.contains(s1)) {
+            return Math.min(1.0, base + CONTAINS_BONUS);
+        }
+        return base;
+    }
+
+    private List<SimilarCodeResponse> search(UUID tenantId, String keyword, Set<Field> fields,
+                                             Predicate<IndexedCode> filter, double threshold, int maxResults) {
+        String query = keyword.toLowerCase();
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Match> best = new HashMap<>();
+        partition(SYSTEM_PARTITION).collect(query, fields, filter, threshold, best);
+        if (tenantId != null) {
+            partition(tenantId).collect(query, fields, filter, threshold, best);
+        }
+
+        return best.values().stream()
+            .sorted(RESULT_ORDER)
+            .limit(maxResults)
+            .map(m -> m.code().toResponse(m.similarity(), m.field()))
+            .toList();
+    }
+
+    private Partition partition(UUID key) {
+        long now = System.currentTimeMillis();
+        Partition partition = partitions.get(key);
+        if (partition != null && now - partition.builtAtMillis <= maxAgeMillis) {
+            return partition;
+        }
+
+        long generation = generation(key).get();
+        List<CommonCode> codes = SYSTEM_PARTITION.equals(key)
+            ? commonCodeRepository.findAllSystemCodes()
+            : commonCodeRepository.findAllOwnedByTenantId(key);
+        Partition loaded = new Partition(now);
+        codes.forEach(code -> loaded.put(IndexedCode.from(code)));
+
+        // 적재 중에 변경이 반영되었으면 이번 결과는 캐시하지 않습니다
+        if (generation(key).get() == generation) {
+            partitions.put(key, loaded);
+        }
+        log.debug("Code search index loaded: partition={}, codes={}", key, codes.size());
+        return loaded;
+    }
+
+    private AtomicLong generation(UUID key) {
+        return generations.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private static UUID partitionKey(UUID tenantId) {
+        return tenantId != null ? tenantId : SYSTEM_PARTITION;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 길이 차이만으로도 유사도가 threshold 미만이 되지 않는 최대 용어 길이
+     */
+    private static int maxLength(int queryLength, double threshold) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.floor(queryLength / threshold + EPSILON));
+    }
+
+    /**
+     * 용어의 모든 1-gram과 2-gram
+     */
+    private static Set<String> grams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < term.length(); i++) {
+            grams.add(term.substring(i, i + 1));
+            if (i + 2 <= term.length()) {
+                grams.add(term.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * BK-tree 노드: 용어 하나와 그 용어를 값으로 가진 (코드, 필드) 목록
+     */
+    private static final class Node {
+        private final String term;
+        private final Set<Posting> postings = new HashSet<>();
+        private final Map<Integer, Node> children = new HashMap<>();
+        private int maxChildDistance;
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+
+    /**
+     * 파티션 하나(시스템 코드 또는 테넌트 코드)의 인덱스.
+     * 삭제된 용어의 노드는 빈 목록으로 남고 다음 재적재 때 정리됩니다.
+     */
+    private static final class Partition {
+        private final long builtAtMillis;
+        private final Map<UUID, IndexedCode> codes = new HashMap<>();
+        private final Map<String, Node> terms = new HashMap<>();
+        /** 1·2-gram → 그 n-gram을 포함하는 용어 노드 */
+        private final Map<String, Set<Node>> grams = new HashMap<>();
+        /** 용어 길이별 BK-tree 루트 */
+        private final NavigableMap<Integer, Node> roots = new TreeMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Partition(long builtAtMillis) {
+            this.builtAtMillis = builtAtMillis;
+        }
+
+        void put(IndexedCode code) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(code.id());
+                codes.put(code.id(), code);
+                for (Field field : Field.values()) {
+                    String value = field.read(code);
+                    if (value != null && !value.isEmpty()) {
+                        node(value.toLowerCase()).postings.add(new Posting(code.id(), field));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(UUID codeId) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(codeId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * 유사도가 threshold 이상인 (코드, 필드)를 찾아 코드별 최고 매칭을 best에 모읍니다.
+         * 편집 거리 조건(1 - 거리/최대 길이)은 BK-tree로, 0.1 가산점이 붙는 포함 관계는 부분 문자열/n-gram으로 찾습니다.
+         */
+        void collect(String query, Set<Field> fields, Predicate<IndexedCode> filter,
+                     double threshold, Map<UUID, Match> best) {
+            int q = query.length();
+            int minLen = threshold > 0 ? Math.max(1, (int) Math.ceil(threshold * q - EPSILON)) : 1;
+            int maxLen = threshold > 0 ? maxLength(q, threshold) : Integer.MAX_VALUE;
+            if (minLen > maxLen) {
+                return;
+            }
+
+            lock.readLock().lock();
+            try {
+                for (Map.Entry<Integer, Node> root : roots.subMap(minLen, true, maxLen, true).entrySet()) {
+                    int longer = Math.max(q, root.getKey());
+                    // 유사도 0은 결과에서 제외하므로 거리는 최대 길이 - 1까지만 봅니다
+                    int radius = longer - 1;
+                    if (threshold > 0) {
+                        radius = Math.min(radius, (int) Math.floor((1.0 - threshold) * longer + EPSILON));
+                    }
+                    visit(root.getValue(), query, radius, fields, filter, threshold, best);
+                }
+                if (threshold > 0) {
+                    collectContainments(query, fields, filter, threshold, best);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 검색어를 포함하거나 검색어에 포함되는 용어 (거리 = 길이 차이)
+         */
+        private void collectContainments(String query, Set<Field> fields, Predicate<IndexedCode> filter,
+                                         double threshold, Map<UUID, Match> best) {
+            int q = query.length();
+            double floor = threshold - CONTAINS_BONUS;
+
+            // 검색어의 부분 문자열
+            int minLen = floor > 0 ? Math.max(1, (int) Math.ceil(floor * q - EPSILON)) : 1;
+            Set<String> seen = new HashSet<>();
+            for (int len = minLen; len < q; len++) {
+                for (int i = 0; i + len <= q; i++) {
+                    String sub = query.substring(i, i + len);
+                    Node node = terms.get(sub);
+                    if (node != null && seen.add(sub)) {
+                        emit(node, query, q - len, fields, filter, threshold, best);
+                    }
+                }
+            }
+
+            // 검색어를 포함하는 용어: 검색어의 n-gram 중 가장 드문 것의 목록만 확인
+            int maxLen = floor > 0 ? maxLength(q, floor) : Integer.MAX_VALUE;
+            Set<Node> candidates = null;
+            for (String gram : grams(query)) {
+                Set<Node> nodes = this.grams.get(gram);
+                if (nodes == null) {
+                    return;
+                }
+                if (candidates == null || nodes.size() < candidates.size()) {
+                    candidates = nodes;
+                }
+            }
+            for (Node node : candidates) {
+                int len = node.term.length();
+                if (len > q && len <= maxLen && node.term.contains(query)) {
+                    emit(node, query, len - q, fields, filter, threshold, best);
+                }
+            }
+        }
+
+        private void visit(Node root, String query, int radius, Set<Field> fields,
+                           Predicate<IndexedCode> filter, double threshold, Map<UUID, Match> best) {
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                // 자식 간선은 maxChildDistance 이하이므로 그 이상 떨어진 노드는 하위 트리째 건너뜁니다
+                int limit = radius + node.maxChildDistance;
+                int d = distance(query, node.term, limit);
+                if (d > limit) {
+                    continue;
+                }
+                if (d <= radius) {
+                    emit(node, query, d, fields, filter, threshold, best);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - d) <= radius) {
+                        stack.push(child.getValue());
+                    }
+                }
+            }
+        }
+
+        private void emit(Node node, String query, int distance, Set<Field> fields,
+                          Predicate<IndexedCode> filter, double threshold, Map<UUID, Match> best) {
+            if (node.postings.isEmpty()) {
+                return;
+            }
+            double similarity = similarity(query, node.term, distance);
+            if (similarity <= 0 || similarity < threshold) {
+                return;
+            }
+            for (Posting posting : node.postings) {
+                IndexedCode code = codes.get(posting.codeId());
+                if (fields.contains(posting.field()) && filter.test(code)) {
+                    best.merge(code.id(), new Match(code, posting.field(), similarity), Match::better);
+                }
+            }
+        }
+
+        private Node node(String term) {
+            Node existing = terms.get(term);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node(term);
+            terms.put(term, created);
+            for (String gram : grams(term)) {
+                grams.computeIfAbsent(gram, g -> new HashSet<>()).add(created);
+            }
+
+            Node current = roots.get(term.length());
+            if (current == null) {
+                roots.put(term.length(), created);
+                return created;
+            }
+            while (true) {
+                int d = distance(term, current.term);
+                Node child = current.children.get(d);
+                if (child == null) {
+                    current.children.put(d, created);
+                    current.maxChildDistance = Math.max(current.maxChildDistance, d);
+                    return created;
+                }
+                current = child;
+            }
+        }
+
+        private void removeUnlocked(UUID codeId) {
+            IndexedCode previous = codes.remove(codeId);
+            if (previous == null) {
+                return;
+            }
+            for (Field field : Field.values()) {
+                String value = field.read(previous);
+                if (value != null && !value.isEmpty()) {
+                    Node node = terms.get(value.toLowerCase());
+                    if (node != null) {
+                        node.postings.remove(new Posting(codeId, field));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.hrsaas.mdm.domain.event.CodeGroupCreatedEvent;
 import com.hrsaas.mdm.domain.event.CodeGroupUpdatedEvent;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
 import com.hrsaas.mdm.service.CodeGroupService;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -33,6 +34,7 @@ public class CodeGroupServiceImpl implements CodeGroupService {
     private final CodeGroupRepository codeGroupRepository;
     private final EventPublisher eventPublisher;
     private final PermissionChecker permissionChecker;
+    private final CodeSearchIndex codeSearchIndex;
 
     @Override
     @Transactional
@@ -142,6 +144,7 @@ public class CodeGroupServiceImpl implements CodeGroupService {
         }
 
         codeGroupRepository.delete(codeGroup);
+        codeSearchIndex.invalidate(codeGroup.getTenantId());
         log.info("Code group deleted: id={}", id);
     }
 }
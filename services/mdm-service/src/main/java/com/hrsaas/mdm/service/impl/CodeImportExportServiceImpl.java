@@ -12,6 +12,7 @@ import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
 import com.hrsaas.mdm.service.CodeImportExportService;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -33,6 +34,7 @@ public class CodeImportExportServiceImpl implements CodeImportExportService {
 
     private final CodeGroupRepository codeGroupRepository;
     private final CommonCodeRepository commonCodeRepository;
+    private final CodeSearchIndex codeSearchIndex;
 
     @Override
     @Transactional
@@ -106,6 +108,10 @@ public class CodeImportExportServiceImpl implements CodeImportExportService {
             }
         }
 
+        if (codesCreated + codesUpdated > 0) {
+            codeSearchIndex.invalidate(tenantId);
+        }
+
         // 그룹 생성/업데이트 카운트
         result.setGroupsCreated(groupsCreated);
         result.setGroupsUpdated(groupsUpdated);
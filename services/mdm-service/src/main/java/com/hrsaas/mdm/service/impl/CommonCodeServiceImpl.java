@@ -21,6 +21,7 @@ import com.hrsaas.mdm.domain.event.CommonCodeCreatedEvent;
 import com.hrsaas.mdm.domain.event.CommonCodeUpdatedEvent;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import com.hrsaas.mdm.service.CommonCodeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +50,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
     private final CodeGroupRepository codeGroupRepository;
     private final EventPublisher eventPublisher;
     private final PermissionChecker permissionChecker;
+    private final CodeSearchIndex codeSearchIndex;
 
     @Override
     @Transactional
@@ -97,6 +99,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
             .build();
 
         CommonCode saved = commonCodeRepository.save(commonCode);
+        codeSearchIndex.codeChanged(saved);
 
         // Publish event
         eventPublisher.publish(CommonCodeCreatedEvent.of(saved));
@@ -188,6 +191,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
         }
 
         CommonCode saved = commonCodeRepository.save(commonCode);
+        codeSearchIndex.codeChanged(saved);
 
         // Publish event
         eventPublisher.publish(CommonCodeUpdatedEvent.of(saved));
@@ -207,6 +211,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
 
         commonCode.activate();
         CommonCode saved = commonCodeRepository.save(commonCode);
+        codeSearchIndex.codeChanged(saved);
         log.info("Common code activated: id={}", id);
         return CommonCodeResponse.from(saved);
     }
@@ -222,6 +227,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
 
         commonCode.deactivate();
         CommonCode saved = commonCodeRepository.save(commonCode);
+        codeSearchIndex.codeChanged(saved);
         log.info("Common code deactivated: id={}", id);
         return CommonCodeResponse.from(saved);
     }
@@ -237,6 +243,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
 
         commonCode.deprecate();
         CommonCode saved = commonCodeRepository.save(commonCode);
+        codeSearchIndex.codeChanged(saved);
         log.info("Common code deprecated: id={}", id);
         return CommonCodeResponse.from(saved);
     }
@@ -259,6 +266,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
 
         commonCode.deprecate(replacementCodeId, gracePeriodDays);
         CommonCode saved = commonCodeRepository.save(commonCode);
+        codeSearchIndex.codeChanged(saved);
 
         eventPublisher.publish(CommonCodeUpdatedEvent.of(saved));
         log.info("Common code deprecated with grace period: id={}, gracePeriodDays={}",
@@ -276,6 +284,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
         requireSystemCodePermission(commonCode);
 
         commonCodeRepository.delete(commonCode);
+        codeSearchIndex.codeRemoved(commonCode);
         log.info("Common code deleted: id={}", id);
     }
 
@@ -334,6 +343,7 @@ public class CommonCodeServiceImpl implements CommonCodeService {
                 }
 
                 commonCodeRepository.save(commonCode);
+                codeSearchIndex.codeChanged(commonCode);
                 successCount++;
             } catch (Exception e) {
                 response.addError(codeId.toString(), e.getMessage());
@@ -2,6 +2,8 @@ package com.hrsaas.mdm.service.menu.impl;
 
 import com.hrsaas.common.core.exception.NotFoundException;
 import com.hrsaas.common.core.exception.ValidationException;
+import com.hrsaas.common.security.permission.CompiledPermissions;
+import com.hrsaas.common.security.service.PermissionMappingService;
 import com.hrsaas.mdm.domain.dto.menu.*;
 import com.hrsaas.mdm.domain.entity.menu.*;
 import com.hrsaas.mdm.repository.menu.*;
@@ -27,6 +29,7 @@ public class MenuServiceImpl implements MenuService {
     private final MenuPermissionRepository menuPermissionRepository;
     private final TenantMenuConfigRepository tenantMenuConfigRepository;
     private final MenuCacheService menuCacheService;
+    private final PermissionMappingService permissionMappingService;
 
     // ============================================
     // User Menu Operations
@@ -35,6 +38,9 @@ public class MenuServiceImpl implements MenuService {
     @Override
     @Transactional(readOnly = true)
     public UserMenuResponse getUserMenus(UUID tenantId, Set<String> userRoles, Set<String> userPermissions) {
+        // Compile user permissions once for every menu check below
+        CompiledPermissions permissions = permissionMappingService.compile(userPermissions);
+
         // Get all menus with permissions
         List<MenuItem> allMenus = menuCacheService.getAllMenusWithPermissions();
 
@@ -51,12 +57,12 @@ public class MenuServiceImpl implements MenuService {
         // Filter menus based on permissions and tenant settings
         List<MenuItem> accessibleMenus = allMenus.stream()
             .filter(menu -> !disabledMenuIds.contains(menu.getId()))
-            .filter(menu -> canAccessMenu(menu, userRoles, userPermissions))
+            .filter(menu -> canAccessMenu(menu, userRoles, permissions))
             .collect(Collectors.toList());
 
         // Build sidebar menus (hierarchical)
         List<UserMenuResponse.UserMenuItem> sidebarMenus = buildSidebarMenus(
-            accessibleMenus, tenantConfigs, userRoles, userPermissions
+            accessibleMenus, tenantConfigs, userRoles, permissions
         );
 
         // Build mobile menus (flat, filtered by showInMobile)
@@ -70,13 +76,13 @@ public class MenuServiceImpl implements MenuService {
             .build();
     }
 
-    private boolean canAccessMenu(MenuItem menu, Set<String> userRoles, Set<String> userPermissions) {
+    private boolean canAccessMenu(MenuItem menu, Set<String> userRoles, CompiledPermissions permissions) {
         if (!menu.getIsActive() || !menu.getShowInNav()) {
             return false;
         }
 
         // Global wildcard: users with "*" permission can access all menus
-        if (userPermissions.contains("*") || userPermissions.contains("*:*")) {
+        if (permissions.isAll()) {
             return true;
         }
 
@@ -95,7 +101,7 @@ public class MenuServiceImpl implements MenuService {
         // Check if user has any required permission
         boolean hasRequiredPermission = requiredPermissions.stream()
             .filter(MenuPermission::isPermission)
-            .anyMatch(p -> hasPermission(userPermissions, p.getPermissionValue()));
+            .anyMatch(p -> permissions.matches(p.getPermissionValue()));
 
         // User needs either a matching role OR a matching permission
         boolean hasRoleRequirements = requiredPermissions.stream().anyMatch(MenuPermission::isRole);
@@ -112,30 +118,11 @@ public class MenuServiceImpl implements MenuService {
         return true;
     }
 
-    private boolean hasPermission(Set<String> userPermissions, String required) {
-        if (userPermissions.contains("*") || userPermissions.contains("*:*")) return true;
-        if (userPermissions.contains(required)) return true;
-
-        // Check wildcard patterns
-        String[] parts = required.split(":");
-        if (parts.length >= 2) {
-            String resourceWildcard = parts[0] + ":*";
-            if (userPermissions.contains(resourceWildcard)) return true;
-
-            // Check broader scope
-            if (parts.length == 3) {
-                String broaderPerm = parts[0] + ":" + parts[1];
-                if (userPermissions.contains(broaderPerm)) return true;
-            }
-        }
-        return false;
-    }
-
     private List<UserMenuResponse.UserMenuItem> buildSidebarMenus(
             List<MenuItem> menus,
             Map<UUID, TenantMenuConfig> tenantConfigs,
             Set<String> userRoles,
-            Set<String> userPermissions) {
+            CompiledPermissions permissions) {
 
         // Group by parent
         Map<UUID, List<MenuItem>> byParent = new HashMap<>();
@@ -154,7 +141,7 @@ public class MenuServiceImpl implements MenuService {
 
         // Build response
         return topLevel.stream()
-            .map(menu -> buildUserMenuItem(menu, byParent, tenantConfigs, userRoles, userPermissions))
+            .map(menu -> buildUserMenuItem(menu, byParent, tenantConfigs, userRoles, permissions))
             .collect(Collectors.toList());
     }
 
@@ -163,7 +150,7 @@ public class MenuServiceImpl implements MenuService {
             Map<UUID, List<MenuItem>> byParent,
             Map<UUID, TenantMenuConfig> tenantConfigs,
             Set<String> userRoles,
-            Set<String> userPermissions) {
+            CompiledPermissions permissions) {
 
         TenantMenuConfig config = tenantConfigs.get(menu.getId());
         List<MenuItem> children = byParent.get(menu.getId());
@@ -172,14 +159,14 @@ public class MenuServiceImpl implements MenuService {
         if (children != null && !children.isEmpty()) {
             // Filter children by permissions
             children = children.stream()
-                .filter(c -> canAccessMenu(c, userRoles, userPermissions))
+                .filter(c -> canAccessMenu(c, userRoles, permissions))
                 .collect(Collectors.toList());
 
             // Sort children
             children.sort(Comparator.comparing(c -> getEffectiveSortOrder(c, tenantConfigs.get(c.getId()))));
 
             childItems = children.stream()
-                .map(c -> buildUserMenuItem(c, byParent, tenantConfigs, userRoles, userPermissions))
+                .map(c -> buildUserMenuItem(c, byParent, tenantConfigs, userRoles, permissions))
                 .collect(Collectors.toList());
         }
 
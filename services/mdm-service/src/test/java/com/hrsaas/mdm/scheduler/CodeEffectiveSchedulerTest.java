@@ -8,6 +8,7 @@ import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.domain.event.CommonCodeUpdatedEvent;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
 import com.hrsaas.mdm.service.CodeHistoryService;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +38,9 @@ class CodeEffectiveSchedulerTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private CodeSearchIndex codeSearchIndex;
+
     @InjectMocks
     private CodeEffectiveScheduler scheduler;
 
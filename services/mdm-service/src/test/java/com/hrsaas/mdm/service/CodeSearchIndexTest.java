@@ -0,0 +1,280 @@
+package com.hrsaas.mdm.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationBus;
+import com.hrsaas.common.cache.twolevel.CacheInvalidationMessage;
+import com.hrsaas.common.entity.BaseEntity;
+import com.hrsaas.mdm.domain.dto.response.SimilarCodeResponse;
+import com.hrsaas.mdm.domain.entity.CodeGroup;
+import com.hrsaas.mdm.domain.entity.CommonCode;
+import com.hrsaas.mdm.repository.CommonCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodeSearchIndexTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+
+    @Mock
+    private CommonCodeRepository commonCodeRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private CodeSearchIndex index;
+    private Consumer<CacheInvalidationMessage> remoteChange;
+    private CodeGroup leaveType;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        index = new CodeSearchIndex(commonCodeRepository, invalidationBus, 300);
+        ArgumentCaptor<Consumer<CacheInvalidationMessage>> subscriber = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(CacheNames.CODE_SEARCH_INDEX), subscriber.capture());
+        remoteChange = subscriber.getValue();
+        leaveType = createCodeGroup("LEAVE_TYPE");
+    }
+
+    @Test
+    @DisplayName("search - 인덱스 검색 결과가 전체 코드 비교(기존 방식)와 동일")
+    void search_matchesFullScan() {
+        Random random = new Random(42);
+        List<CommonCode> codes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            CommonCode code = createCode(leaveType, randomWord(random, 2, 8), randomWord(random, 1, 6));
+            code.setCodeNameEn(random.nextBoolean() ? randomWord(random, 3, 10) : null);
+            code.setDescription(random.nextInt(4) == 0 ? randomWord(random, 10, 30) : null);
+            codes.add(code);
+        }
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(codes);
+
+        double[] thresholds = {0.0, 0.3, 0.5, 0.6, 0.85, 1.0};
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord(random, 1, 8);
+            double threshold = thresholds[i % thresholds.length];
+
+            List<SimilarCodeResponse> result = index.search(TENANT_ID, keyword, null, false, threshold, Integer.MAX_VALUE);
+
+            Map<UUID, String> actual = result.stream()
+                .collect(Collectors.toMap(SimilarCodeResponse::getId, r -> r.getMatchedField() + ":" + r.getSimilarity()));
+            assertThat(actual).as("keyword=%s, threshold=%s", keyword, threshold)
+                .isEqualTo(fullScan(codes, keyword, threshold));
+        }
+        verify(commonCodeRepository, times(1)).findAllOwnedByTenantId(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("search - 유사도 내림차순 상위 maxResults건, 그룹 지정 시 활성 코드만")
+    void search_topKWithinGroup() {
+        CommonCode annual = createCode(leaveType, "ANNUAL", "연차");
+        CommonCode annualLeave = createCode(leaveType, "ANNUAL_LEAVE", "연차휴가");
+        CommonCode inactive = createCode(leaveType, "ANNUAL_OLD", "연차");
+        inactive.deactivate();
+        CommonCode otherGroup = createCode(createCodeGroup("OTHER"), "X", "연차");
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of(otherGroup));
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(annual, annualLeave, inactive));
+
+        List<SimilarCodeResponse> result = index.search(TENANT_ID, "연차", "LEAVE_TYPE", false, 0.3, 1);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(annual.getId());
+        assertThat(result.get(0).getSimilarity()).isEqualTo(1.0);
+        assertThat(result.get(0).getMatchedField()).isEqualTo("codeName");
+    }
+
+    @Test
+    @DisplayName("codeChanged - 파티션을 다시 적재하지 않고 변경된 코드만 반영")
+    void codeChanged_updatesIncrementally() {
+        CommonCode code = createCode(leaveType, "ANNUAL", "연차");
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(code));
+        assertThat(index.search(TENANT_ID, "연차", null, true, 0.9, 10)).hasSize(1);
+
+        code.setCodeName("병가");
+        index.codeChanged(code);
+
+        assertThat(index.search(TENANT_ID, "연차", null, true, 0.9, 10)).isEmpty();
+        assertThat(index.search(TENANT_ID, "병가", null, true, 0.9, 10))
+            .extracting(SimilarCodeResponse::getId)
+            .containsExactly(code.getId());
+        verify(commonCodeRepository, times(1)).findAllOwnedByTenantId(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("codeRemoved / invalidate - 삭제는 즉시 제외하고 무효화 후에는 다시 적재")
+    void codeRemovedAndInvalidate() {
+        CommonCode code = createCode(leaveType, "ANNUAL", "연차");
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(code));
+        index.search(TENANT_ID, "연차", null, true, 0.9, 10);
+
+        index.codeRemoved(code);
+        assertThat(index.search(TENANT_ID, "연차", null, true, 0.9, 10)).isEmpty();
+
+        index.invalidate(TENANT_ID);
+        assertThat(index.search(TENANT_ID, "연차", null, true, 0.9, 10)).hasSize(1);
+        verify(commonCodeRepository, times(2)).findAllOwnedByTenantId(TENANT_ID);
+        verify(commonCodeRepository, times(1)).findAllSystemCodes();
+    }
+
+    @Test
+    @DisplayName("codeChanged / codeRemoved / invalidate - 파티션(+코드 ID)을 다른 인스턴스에 전파")
+    void changes_areBroadcast() {
+        CommonCode code = createCode(leaveType, "ANNUAL", "연차");
+
+        index.codeChanged(code);
+        index.codeRemoved(code);
+        index.invalidate(TENANT_ID);
+
+        verify(invalidationBus, times(2)).publish(CacheNames.CODE_SEARCH_INDEX, TENANT_ID + ":" + code.getId());
+        verify(invalidationBus).publish(CacheNames.CODE_SEARCH_INDEX, TENANT_ID.toString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 코드 변경 - 해당 코드만 다시 읽어 반영하고 파티션은 다시 적재하지 않음")
+    void remoteCodeChange_patchesCodeFromRepository() {
+        CommonCode code = createCode(leaveType, "ANNUAL", "연차");
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(code));
+        index.search(TENANT_ID, "연차", null, true, 0.9, 10);
+
+        CommonCode added = createCode(leaveType, "SICK", "병가");
+        when(commonCodeRepository.findWithCodeGroupById(added.getId())).thenReturn(Optional.of(added));
+        remoteChange.accept(remoteMessage(TENANT_ID + ":" + added.getId()));
+
+        assertThat(index.search(TENANT_ID, "병가", null, true, 0.9, 10))
+            .extracting(SimilarCodeResponse::getId)
+            .containsExactly(added.getId());
+
+        when(commonCodeRepository.findWithCodeGroupById(code.getId())).thenReturn(Optional.empty());
+        remoteChange.accept(remoteMessage(TENANT_ID + ":" + code.getId()));
+
+        assertThat(index.search(TENANT_ID, "연차", null, true, 0.9, 10)).isEmpty();
+        verify(commonCodeRepository, times(1)).findAllOwnedByTenantId(TENANT_ID);
+        verify(invalidationBus, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 파티션 무효화 - 다음 검색 시 다시 적재, 적재 전 파티션의 코드 변경은 조회하지 않음")
+    void remoteInvalidate_reloadsPartition() {
+        CommonCode code = createCode(leaveType, "ANNUAL", "연차");
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(code));
+        index.search(TENANT_ID, "연차", null, true, 0.9, 10);
+
+        remoteChange.accept(remoteMessage(TENANT_ID.toString()));
+        remoteChange.accept(remoteMessage(TENANT_ID + ":" + UUID.randomUUID()));
+        index.search(TENANT_ID, "연차", null, true, 0.9, 10);
+
+        verify(commonCodeRepository, times(2)).findAllOwnedByTenantId(TENANT_ID);
+        verify(commonCodeRepository, never()).findWithCodeGroupById(any());
+    }
+
+    @Test
+    @DisplayName("distance - 한도 이하면 정확한 거리, 넘으면 한도 + 1")
+    void distance_bounded() {
+        assertThat(CodeSearchIndex.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(CodeSearchIndex.distance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(CodeSearchIndex.distance("kitten", "sitting", 1)).isEqualTo(2);
+        assertThat(CodeSearchIndex.distance("a", "abcdef", 2)).isEqualTo(3);
+    }
+
+    /**
+     * 기존 CodeSearchServiceImpl의 전체 비교 방식
+     */
+    private static Map<UUID, String> fullScan(List<CommonCode> codes, String keyword, double threshold) {
+        String query = keyword.toLowerCase();
+        Map<UUID, String> expected = new HashMap<>();
+        for (CommonCode code : codes) {
+            double best = 0.0;
+            String field = null;
+            String[][] values = {
+                {"code", code.getCode()},
+                {"codeName", code.getCodeName()},
+                {"codeNameEn", code.getCodeNameEn()},
+                {"description", code.getDescription()}
+            };
+            for (String[] value : values) {
+                if (value[1] == null) {
+                    continue;
+                }
+                double similarity = CodeSearchIndex.similarity(query, value[1].toLowerCase());
+                if (similarity > best) {
+                    best = similarity;
+                    field = value[0];
+                }
+            }
+            if (field != null && best >= threshold) {
+                expected.put(code.getId(), field + ":" + best);
+            }
+        }
+        return expected;
+    }
+
+    private static CacheInvalidationMessage remoteMessage(String key) {
+        return new CacheInvalidationMessage("other-node", CacheNames.CODE_SEARCH_INDEX, key);
+    }
+
+    private static String randomWord(Random random, int minLength, int maxLength) {
+        String alphabet = "abcde연차휴";
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private CommonCode createCode(CodeGroup codeGroup, String code, String codeName) {
+        CommonCode commonCode = CommonCode.builder()
+            .codeGroup(codeGroup)
+            .tenantId(TENANT_ID)
+            .code(code)
+            .codeName(codeName)
+            .level(1)
+            .build();
+        setEntityId(commonCode, UUID.randomUUID());
+        return commonCode;
+    }
+
+    private CodeGroup createCodeGroup(String groupCode) {
+        CodeGroup codeGroup = CodeGroup.builder()
+            .tenantId(TENANT_ID)
+            .groupCode(groupCode)
+            .groupName("테스트 그룹")
+            .build();
+        setEntityId(codeGroup, UUID.randomUUID());
+        return codeGroup;
+    }
+
+    private void setEntityId(Object entity, UUID id) {
+        try {
+            java.lang.reflect.Field idField = BaseEntity.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.hrsaas.mdm.domain.dto.request.CreateCodeGroupRequest;
 import com.hrsaas.mdm.domain.dto.response.CodeGroupResponse;
 import com.hrsaas.mdm.domain.entity.CodeGroup;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +44,9 @@ class CodeGroupServiceImplTest {
     @Mock
     private PermissionChecker permissionChecker;
 
+    @Mock
+    private CodeSearchIndex codeSearchIndex;
+
     @InjectMocks
     private CodeGroupServiceImpl codeGroupService;
 
@@ -6,6 +6,7 @@ import com.hrsaas.mdm.domain.entity.CodeGroup;
 import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +35,9 @@ class CodeImportExportServiceBenchmarkTest {
     @Mock
     private CommonCodeRepository commonCodeRepository;
 
+    @Mock
+    private CodeSearchIndex codeSearchIndex;
+
     @InjectMocks
     private CodeImportExportServiceImpl codeImportExportService;
 
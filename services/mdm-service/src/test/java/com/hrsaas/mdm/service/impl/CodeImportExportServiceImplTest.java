@@ -10,6 +10,7 @@ import com.hrsaas.mdm.domain.entity.CodeGroup;
 import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +41,9 @@ class CodeImportExportServiceImplTest {
     @Mock
     private CommonCodeRepository commonCodeRepository;
 
+    @Mock
+    private CodeSearchIndex codeSearchIndex;
+
     @InjectMocks
     private CodeImportExportServiceImpl codeImportExportService;
 
@@ -1,5 +1,6 @@
 package com.hrsaas.mdm.service.impl;
 
+import com.hrsaas.common.cache.twolevel.CacheInvalidationBus;
 import com.hrsaas.common.entity.BaseEntity;
 import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.mdm.domain.dto.request.CodeSearchRequest;
@@ -7,12 +8,12 @@ import com.hrsaas.mdm.domain.dto.response.SimilarCodeResponse;
 import com.hrsaas.mdm.domain.entity.CodeGroup;
 import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,7 +32,9 @@ class CodeSearchServiceImplTest {
     @Mock
     private CommonCodeRepository commonCodeRepository;
 
-    @InjectMocks
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
     private CodeSearchServiceImpl codeSearchService;
 
     private CodeGroup testCodeGroup;
@@ -39,6 +42,7 @@ class CodeSearchServiceImplTest {
     @BeforeEach
     void setUp() {
         TenantContext.setCurrentTenant(TENANT_ID);
+        codeSearchService = new CodeSearchServiceImpl(new CodeSearchIndex(commonCodeRepository, invalidationBus, 300));
         testCodeGroup = createTestCodeGroup(CODE_GROUP_ID, "LEAVE_TYPE");
     }
 
@@ -98,8 +102,8 @@ class CodeSearchServiceImplTest {
         CommonCode code2 = createTestCode(UUID.randomUUID(), testCodeGroup, "SICK", "병가");
         CommonCode code3 = createTestCode(UUID.randomUUID(), testCodeGroup, "ANNUAL_LEAVE", "연차휴가");
 
-        when(commonCodeRepository.findByGroupCode("LEAVE_TYPE", TENANT_ID))
-            .thenReturn(List.of(code1, code2, code3));
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(code1, code2, code3));
 
         CodeSearchRequest request = CodeSearchRequest.builder()
             .keyword("연차")
@@ -132,8 +136,8 @@ class CodeSearchServiceImplTest {
         CommonCode code1 = createTestCode(UUID.randomUUID(), testCodeGroup, "ANNUAL", "연차");
         CommonCode code2 = createTestCode(UUID.randomUUID(), testCodeGroup, "ANNUAL_LEAVE", "연차휴가");
 
-        when(commonCodeRepository.findByGroupCode("LEAVE_TYPE", TENANT_ID))
-            .thenReturn(List.of(code1, code2));
+        when(commonCodeRepository.findAllSystemCodes()).thenReturn(List.of());
+        when(commonCodeRepository.findAllOwnedByTenantId(TENANT_ID)).thenReturn(List.of(code1, code2));
 
         // when -- searching for "연차" which is identical to code1's codeName
         List<SimilarCodeResponse> result = codeSearchService.checkDuplicate("LEAVE_TYPE", "연차");
@@ -15,6 +15,7 @@ import com.hrsaas.mdm.domain.entity.CodeStatus;
 import com.hrsaas.mdm.domain.entity.CommonCode;
 import com.hrsaas.mdm.repository.CodeGroupRepository;
 import com.hrsaas.mdm.repository.CommonCodeRepository;
+import com.hrsaas.mdm.service.CodeSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -53,6 +54,9 @@ class CommonCodeServiceImplTest {
     @Mock
     private PermissionChecker permissionChecker;
 
+    @Mock
+    private CodeSearchIndex codeSearchIndex;
+
     @InjectMocks
     private CommonCodeServiceImpl commonCodeService;
 
@@ -101,6 +105,7 @@ class CommonCodeServiceImplTest {
         assertThat(result.getGroupCode()).isEqualTo("LEAVE_TYPE");
         verify(commonCodeRepository).save(any(CommonCode.class));
         verify(eventPublisher).publish(any());
+        verify(codeSearchIndex).codeChanged(savedCode);
     }
 
     @Test
@@ -335,6 +340,7 @@ class CommonCodeServiceImplTest {
 
         // then
         verify(commonCodeRepository).delete(code);
+        verify(codeSearchIndex).codeRemoved(code);
     }
 
     // ================================================================
@@ -2,6 +2,7 @@ package com.hrsaas.mdm.service.menu.impl;
 
 import com.hrsaas.common.core.exception.NotFoundException;
 import com.hrsaas.common.core.exception.ValidationException;
+import com.hrsaas.common.security.service.PermissionMappingService;
 import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.mdm.domain.dto.menu.*;
 import com.hrsaas.mdm.domain.entity.menu.*;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
@@ -42,6 +44,9 @@ class MenuServiceImplTest {
     @Mock
     private MenuCacheService menuCacheService;
 
+    @Spy
+    private PermissionMappingService permissionMappingService = new PermissionMappingService();
+
     @InjectMocks
     private MenuServiceImpl menuService;
 
@@ -123,6 +128,43 @@ class MenuServiceImplTest {
         assertThat(result.getSidebarMenus()).isEmpty();
     }
 
+    // ================================================================
+    // getUserMenus - filters by permission
+    // ================================================================
+
+    @Test
+    @DisplayName("getUserMenus - filters by wildcard and scoped permission")
+    void getUserMenus_filtersByPermission() {
+        // given
+        MenuItem employeeMenu = createMenuItem(UUID.randomUUID(), "MENU_EMPLOYEE", "인사정보", "/employees", true);
+        MenuPermission employeePermission = MenuPermission.ofPermission("employee:read:department");
+        employeePermission.setMenuItem(employeeMenu);
+        employeeMenu.getPermissions().add(employeePermission);
+
+        MenuItem attendanceMenu = createMenuItem(UUID.randomUUID(), "MENU_ATTENDANCE", "근태관리", "/attendance", true);
+        MenuPermission attendancePermission = MenuPermission.ofPermission("attendance:write");
+        attendancePermission.setMenuItem(attendanceMenu);
+        attendanceMenu.getPermissions().add(attendancePermission);
+
+        when(menuCacheService.getAllMenusWithPermissions()).thenReturn(List.of(employeeMenu, attendanceMenu));
+        when(tenantMenuConfigRepository.findDisabledMenuIdsByTenantId(TENANT_ID))
+            .thenReturn(Collections.emptyList());
+        when(tenantMenuConfigRepository.findByTenantId(TENANT_ID))
+            .thenReturn(Collections.emptyList());
+
+        // employee:* covers employee:read:department, attendance:read:team does not cover attendance:write
+        Set<String> userPermissions = Set.of("employee:*", "attendance:read:team");
+
+        // when
+        UserMenuResponse result = menuService.getUserMenus(TENANT_ID, Set.of("ROLE_EMPLOYEE"), userPermissions);
+
+        // then
+        assertThat(result.getSidebarMenus())
+            .extracting(UserMenuResponse.UserMenuItem::getCode)
+            .containsExactly("MENU_EMPLOYEE");
+        verify(permissionMappingService, times(1)).compile(userPermissions);
+    }
+
     // ================================================================
     // createMenu
     // ================================================================
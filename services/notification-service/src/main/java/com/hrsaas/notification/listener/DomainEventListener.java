@@ -41,6 +41,7 @@ public class DomainEventListener {
             switch (eventType) {
                 case "ApprovalSubmittedEvent" -> handleApprovalSubmitted(event);
                 case "ApprovalCompletedEvent" -> handleApprovalCompleted(event);
+                case "ApprovalEscalatedEvent" -> handleApprovalEscalated(event);
                 case "LeaveRequestCreatedEvent" -> handleLeaveRequested(event);
                 case "EmployeeCreatedEvent" -> handleEmployeeCreated(event);
                 case "PasswordResetCompletedEvent" -> handlePasswordResetCompleted(event);
@@ -120,6 +121,35 @@ public class DomainEventListener {
         log.info("Approval completed notification sent: drafterId={}, status={}", drafterId, finalStatus);
     }
 
+    private void handleApprovalEscalated(JsonNode event) {
+        UUID currentApproverId = getUUID(event, "currentApproverId");
+        if (currentApproverId == null) return;
+
+        UUID tenantId = getUUID(event, "tenantId");
+        UUID documentId = getUUID(event, "documentId");
+        String title = getText(event, "title", "결재 요청");
+        String documentNumber = getText(event, "documentNumber", "");
+
+        if (isOptedOut(tenantId, currentApproverId, NotificationType.APPROVAL_REQUESTED)) {
+            log.info("Approval escalation notification opted out: approverId={}", currentApproverId);
+            return;
+        }
+
+        SendNotificationRequest request = SendNotificationRequest.builder()
+                .recipientId(currentApproverId)
+                .notificationType(NotificationType.APPROVAL_REQUESTED)
+                .channels(List.of(NotificationChannel.WEB_PUSH, NotificationChannel.EMAIL))
+                .title("[결재기한초과] " + title)
+                .content(String.format("결재 기한이 지났습니다. 결재를 진행해주세요. (문서번호: %s)", documentNumber))
+                .linkUrl("/approvals/" + documentId)
+                .referenceType("APPROVAL")
+                .referenceId(documentId)
+                .build();
+
+        notificationService.send(request);
+        log.info("Approval escalation notification sent: approverId={}, documentNumber={}", currentApproverId, documentNumber);
+    }
+
     private void handleLeaveRequested(JsonNode event) {
         UUID employeeId = getUUID(event, "employeeId");
         if (employeeId == null) return;
@@ -3,9 +3,11 @@ package com.hrsaas.organization;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.hrsaas")
 @EnableFeignClients
+@EnableScheduling
 public class OrganizationServiceApplication {
 
     public static void main(String[] args) {
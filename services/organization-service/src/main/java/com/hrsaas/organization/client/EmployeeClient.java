@@ -3,6 +3,8 @@ package com.hrsaas.organization.client;
 import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.organization.client.dto.BulkTransferRequest;
 import com.hrsaas.organization.client.dto.EmployeeClientResponse;
+import com.hrsaas.organization.client.dto.OrgChartSummaryRequest;
+import com.hrsaas.organization.client.dto.OrgChartSummaryResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
@@ -39,6 +41,12 @@ public interface EmployeeClient {
     @PostMapping("/api/v1/employees/count-by-departments")
     ApiResponse<Map<UUID, Long>> countByDepartmentIds(@RequestBody List<UUID> departmentIds);
 
+    /**
+     * 조직도용 부서별 재직 인원 + 부서장 요약을 1회 호출로 조회합니다.
+     */
+    @PostMapping("/api/v1/employees/org-chart-summary")
+    ApiResponse<OrgChartSummaryResponse> getOrgChartSummary(@RequestBody OrgChartSummaryRequest request);
+
     @PostMapping("/api/v1/employees/batch")
     ApiResponse<List<EmployeeClientResponse>> getBatch(@RequestBody List<UUID> ids);
 
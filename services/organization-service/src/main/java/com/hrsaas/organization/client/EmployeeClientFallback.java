@@ -3,6 +3,8 @@ package com.hrsaas.organization.client;
 import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.organization.client.dto.BulkTransferRequest;
 import com.hrsaas.organization.client.dto.EmployeeClientResponse;
+import com.hrsaas.organization.client.dto.OrgChartSummaryRequest;
+import com.hrsaas.organization.client.dto.OrgChartSummaryResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -51,6 +53,12 @@ public class EmployeeClientFallback implements EmployeeClient {
         return ApiResponse.success(Collections.emptyMap());
     }
 
+    @Override
+    public ApiResponse<OrgChartSummaryResponse> getOrgChartSummary(OrgChartSummaryRequest request) {
+        log.warn("EmployeeClient fallback: getOrgChartSummary");
+        return ApiResponse.success(null);
+    }
+
     @Override
     public ApiResponse<List<EmployeeClientResponse>> getBatch(List<UUID> ids) {
         log.warn("EmployeeClient fallback: getBatch({})", ids.size());
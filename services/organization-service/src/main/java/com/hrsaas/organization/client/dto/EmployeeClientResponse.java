@@ -18,6 +18,7 @@ public class EmployeeClientResponse {
     private UUID departmentId;
     private String departmentName;
     private String gradeName;
+    private String positionCode;
     private String positionName;
     private String profileImageUrl;
 }
@@ -0,0 +1,20 @@
+package com.hrsaas.organization.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartSummaryRequest {
+
+    /** 인원 집계 대상 부서 (null이면 테넌트 전체, 빈 목록이면 집계하지 않음) */
+    private List<UUID> departmentIds;
+    private List<UUID> managerIds;
+}
@@ -0,0 +1,31 @@
+package com.hrsaas.organization.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartSummaryResponse {
+
+    private Map<UUID, Long> headcounts;
+    private List<ManagerSummary> managers;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManagerSummary {
+        private UUID id;
+        private String name;
+        private String positionCode;
+        private String jobTitleCode;
+    }
+}
@@ -4,12 +4,14 @@ import com.hrsaas.common.response.ApiResponse;
 import com.hrsaas.common.response.PageResponse;
 import com.hrsaas.organization.client.EmployeeClient;
 import com.hrsaas.organization.client.dto.EmployeeClientResponse;
+import com.hrsaas.organization.domain.dto.request.ApproverLookupRequest;
 import com.hrsaas.organization.domain.dto.request.CreateDepartmentRequest;
 import com.hrsaas.organization.domain.dto.request.DepartmentMergeRequest;
 import com.hrsaas.organization.domain.dto.request.DepartmentSplitRequest;
 import com.hrsaas.organization.domain.dto.request.UpdateDepartmentRequest;
 import com.hrsaas.organization.domain.dto.response.*;
 import com.hrsaas.organization.service.DepartmentService;
+import com.hrsaas.organization.service.OrganizationLookupService;
 import com.hrsaas.organization.service.ReorgImpactAnalyzer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +37,7 @@ public class DepartmentController {
     private final DepartmentService departmentService;
     private final ReorgImpactAnalyzer reorgImpactAnalyzer;
     private final EmployeeClient employeeClient;
+    private final OrganizationLookupService organizationLookupService;
 
     @PostMapping
     @Operation(summary = "부서 생성")
@@ -70,6 +73,30 @@ public class DepartmentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{id}/subtree")
+    @Operation(summary = "하위 부서 조회 (자기 자신 포함)")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<DepartmentResponse>>> getSubtree(@PathVariable UUID id) {
+        List<DepartmentResponse> response = departmentService.getSubtree(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/ancestors")
+    @Operation(summary = "상위 부서 경로 조회")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<DepartmentResponse>>> getAncestorPath(@PathVariable UUID id) {
+        List<DepartmentResponse> response = departmentService.getAncestorPath(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/contains/{departmentId}")
+    @Operation(summary = "하위 부서 포함 여부 조회")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Boolean>> contains(@PathVariable UUID id, @PathVariable UUID departmentId) {
+        boolean response = departmentService.isWithin(departmentId, id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{id}/employees")
     @Operation(summary = "부서 소속 직원 목록 조회")
     @PreAuthorize("isAuthenticated()")
@@ -147,4 +174,13 @@ public class DepartmentController {
         List<OrgChartNodeResponse> response = departmentService.getOrgChart();
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @PostMapping("/approvers/lookup")
+    @Operation(summary = "부서장/직책자 일괄 조회 (결재선 해석용)")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ApproverLookupResponse>> lookupApprovers(
+            @Valid @RequestBody ApproverLookupRequest request) {
+        ApproverLookupResponse response = organizationLookupService.lookupApprovers(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
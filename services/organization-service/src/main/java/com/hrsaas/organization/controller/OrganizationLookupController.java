@@ -0,0 +1,31 @@
+package com.hrsaas.organization.controller;
+
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.organization.domain.dto.request.OrganizationNameLookupRequest;
+import com.hrsaas.organization.domain.dto.response.OrganizationNameLookupResponse;
+import com.hrsaas.organization.service.OrganizationLookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/organization/lookup")
+@RequiredArgsConstructor
+@Tag(name = "OrganizationLookup", description = "조직 정보 일괄 조회 API")
+public class OrganizationLookupController {
+
+    private final OrganizationLookupService organizationLookupService;
+
+    @PostMapping("/names")
+    @Operation(summary = "부서/직책/직급 이름 일괄 조회")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<OrganizationNameLookupResponse>> lookupNames(
+            @Valid @RequestBody OrganizationNameLookupRequest request) {
+        OrganizationNameLookupResponse response = organizationLookupService.lookupNames(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
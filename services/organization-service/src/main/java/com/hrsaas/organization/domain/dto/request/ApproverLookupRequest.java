@@ -0,0 +1,45 @@
+package com.hrsaas.organization.domain.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 결재선 해석용 부서장/직책자 일괄 조회 요청.
+ * approval-service가 결재선 템플릿 한 건에 필요한 부서/직책을 모아 한 번에 호출합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApproverLookupRequest {
+
+    @Size(max = 500, message = "부서장 조회 부서는 한 번에 500개까지 조회할 수 있습니다")
+    private Set<UUID> headDepartmentIds;
+
+    @Valid
+    @Size(max = 500, message = "직책자 조회는 한 번에 500개까지 가능합니다")
+    private List<PositionHolderKey> positionHolders;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PositionHolderKey {
+
+        @NotBlank
+        private String positionCode;
+
+        @NotNull
+        private UUID departmentId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.hrsaas.organization.domain.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 부서/직책/직급 이름 일괄 조회 요청.
+ * 목록 화면의 한 페이지에 등장하는 ID/코드만 담아 호출합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationNameLookupRequest {
+
+    @Size(max = 500, message = "부서 ID는 한 번에 500개까지 조회할 수 있습니다")
+    private Set<UUID> departmentIds;
+
+    @Size(max = 500, message = "직책 코드는 한 번에 500개까지 조회할 수 있습니다")
+    private Set<String> positionCodes;
+
+    @Size(max = 500, message = "직급 코드는 한 번에 500개까지 조회할 수 있습니다")
+    private Set<String> gradeCodes;
+}
@@ -0,0 +1,44 @@
+package com.hrsaas.organization.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부서장/직책자 일괄 조회 응답. 부서장이 없거나 해당 직책 재직자가 없는 항목은 포함되지 않습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApproverLookupResponse {
+
+    private Map<UUID, ApproverInfo> departmentHeads;
+    private List<PositionHolder> positionHolders;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PositionHolder {
+        private String positionCode;
+        private UUID departmentId;
+        private ApproverInfo holder;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApproverInfo {
+        private UUID employeeId;
+        private String employeeName;
+        private String positionName;
+        private String departmentName;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hrsaas.organization.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부서/직책/직급 이름 일괄 조회 응답. 존재하지 않는 ID/코드는 맵에 포함되지 않습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationNameLookupResponse {
+
+    private Map<UUID, String> departments;
+    private Map<String, String> positions;
+    private Map<String, String> grades;
+}
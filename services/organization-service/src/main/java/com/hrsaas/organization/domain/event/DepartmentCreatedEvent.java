@@ -20,6 +20,7 @@ public class DepartmentCreatedEvent extends DomainEvent {
 
     public static DepartmentCreatedEvent of(Department department) {
         return DepartmentCreatedEvent.builder()
+            .tenantId(department.getTenantId())
             .departmentId(department.getId())
             .code(department.getCode())
             .name(department.getName())
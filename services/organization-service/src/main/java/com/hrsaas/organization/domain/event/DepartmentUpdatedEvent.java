@@ -21,6 +21,7 @@ public class DepartmentUpdatedEvent extends DomainEvent {
 
     public static DepartmentUpdatedEvent of(Department department) {
         return DepartmentUpdatedEvent.builder()
+            .tenantId(department.getTenantId())
             .departmentId(department.getId())
             .code(department.getCode())
             .name(department.getName())
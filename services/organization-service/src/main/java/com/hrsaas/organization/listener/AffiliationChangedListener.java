@@ -1,8 +1,10 @@
 package com.hrsaas.organization.listener;
 
 import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.organization.domain.entity.CommitteeMember;
 import com.hrsaas.organization.repository.CommitteeMemberRepository;
+import com.hrsaas.organization.service.OrgChartSummaryCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.RequiredArgsConstructor;
@@ -10,12 +12,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
- * SQS listener for employee affiliation changed events targeting organization service.
+ * SQS listener for events targeting organization service.
  * When an employee's department or position changes, updates their active committee memberships.
+ * Employee and department changes refresh the affected departments in the cached org chart summary.
  */
 @Slf4j
 @Component
@@ -23,6 +27,7 @@ import java.util.UUID;
 public class AffiliationChangedListener {
 
     private final CommitteeMemberRepository committeeMemberRepository;
+    private final OrgChartSummaryCache orgChartSummaryCache;
 
     @SqsListener("organization-service-queue")
     @Transactional
@@ -34,8 +39,17 @@ public class AffiliationChangedListener {
 
             String eventType = event.has("eventType") ? event.get("eventType").asText() : "";
 
-            if ("EmployeeAffiliationChangedEvent".equals(eventType)) {
-                handleAffiliationChanged(event);
+            switch (eventType) {
+                case "EmployeeAffiliationChangedEvent" -> handleAffiliationChanged(event);
+                case "EmployeeCreatedEvent", "EmployeeUpdatedEvent" -> refreshOrgChart(event,
+                    ids(event, "departmentId", "previousDepartmentId"), ids(event, "employeeId"));
+                case "DepartmentCreatedEvent", "DepartmentUpdatedEvent" -> refreshOrgChart(event,
+                    ids(event, "departmentId"), List.of());
+                case "DepartmentMergedEvent" -> refreshOrgChart(event,
+                    ids(event, "sourceIds", "targetId"), List.of());
+                case "DepartmentSplitEvent" -> refreshOrgChart(event,
+                    ids(event, "sourceId", "newDepartmentIds"), List.of());
+                default -> log.debug("Ignoring event type: {}", eventType);
             }
         } catch (Exception e) {
             log.error("Failed to process SQS message", e);
@@ -94,6 +108,40 @@ public class AffiliationChangedListener {
         log.info("Updated {} committee memberships for employee: {}", updated, employeeId);
     }
 
+    private void refreshOrgChart(JsonNode event, List<UUID> departmentIds, List<UUID> employeeIds) {
+        String tenantIdStr = getText(event, "tenantId", null);
+        if (tenantIdStr == null) {
+            log.debug("Missing tenantId in event, org chart summary refreshes on expiry");
+            return;
+        }
+
+        try {
+            TenantContext.setCurrentTenant(UUID.fromString(tenantIdStr));
+            orgChartSummaryCache.refresh(departmentIds, employeeIds);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * Collects UUIDs from scalar or array fields.
+     */
+    private List<UUID> ids(JsonNode event, String... fields) {
+        List<UUID> ids = new ArrayList<>();
+        for (String field : fields) {
+            JsonNode value = event.get(field);
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            if (value.isArray()) {
+                value.forEach(element -> ids.add(UUID.fromString(element.asText())));
+            } else {
+                ids.add(UUID.fromString(value.asText()));
+            }
+        }
+        return ids;
+    }
+
     private String getText(JsonNode node, String field, String defaultValue) {
         if (node.has(field) && !node.get(field).isNull()) {
             return node.get(field).asText();
@@ -0,0 +1,59 @@
+package com.hrsaas.organization.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 공지사항 조회수/읽음 기록 일괄 반영 (write-behind 버퍼 flush 전용).
+ * 조회 요청마다 공지 행을 UPDATE하지 않고, 모아 둔 증가분을 JDBC 배치로 한 번에 반영합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnnouncementCounterRepository {
+
+    /** JDBC 배치당 행 수 */
+    public static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ViewDelta(UUID announcementId, long delta) {
+    }
+
+    public record PendingRead(UUID announcementId, UUID employeeId, Instant readAt) {
+    }
+
+    /**
+     * 조회수 증가분 반영. 여러 인스턴스가 동시에 반영해도 서로 덮어쓰지 않도록 가산 UPDATE를 사용합니다.
+     * 호출자는 교착을 피하기 위해 announcementId 순으로 정렬해 전달합니다.
+     */
+    public void addViewCounts(List<ViewDelta> deltas) {
+        jdbcTemplate.batchUpdate(
+            "UPDATE hr_core.announcement SET view_count = view_count + ? WHERE id = ?",
+            deltas, BATCH_SIZE, (ps, d) -> {
+                ps.setLong(1, d.delta());
+                ps.setObject(2, d.announcementId());
+            });
+    }
+
+    /**
+     * 읽음 기록 삽입. 이미 읽은 직원(다른 인스턴스가 먼저 기록한 경우 포함)과 삭제된 공지는 건너뜁니다.
+     */
+    public void insertReads(List<PendingRead> reads) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO hr_core.announcement_read (announcement_id, employee_id, read_at) " +
+            "SELECT ?, ?, ? WHERE EXISTS (SELECT 1 FROM hr_core.announcement WHERE id = ?) " +
+            "ON CONFLICT (announcement_id, employee_id) DO NOTHING",
+            reads, BATCH_SIZE, (ps, r) -> {
+                ps.setObject(1, r.announcementId());
+                ps.setObject(2, r.employeeId());
+                ps.setTimestamp(3, Timestamp.from(r.readAt()));
+                ps.setObject(4, r.announcementId());
+            });
+    }
+}
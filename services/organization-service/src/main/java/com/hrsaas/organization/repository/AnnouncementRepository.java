@@ -5,7 +5,6 @@ import com.hrsaas.organization.domain.entity.AnnouncementCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -75,10 +74,6 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, UUID
 
     Optional<Announcement> findByIdAndTenantId(UUID id, UUID tenantId);
 
-    @Modifying
-    @Query("UPDATE Announcement a SET a.viewCount = a.viewCount + 1 WHERE a.id = :id")
-    void incrementViewCount(@Param("id") UUID id);
-
     @Query("SELECT COUNT(a) FROM Announcement a WHERE a.tenantId = :tenantId")
     long countByTenantId(@Param("tenantId") UUID tenantId);
 
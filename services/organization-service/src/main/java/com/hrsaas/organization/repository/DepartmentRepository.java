@@ -3,10 +3,12 @@ package com.hrsaas.organization.repository;
 import com.hrsaas.organization.domain.entity.Department;
 import com.hrsaas.organization.domain.entity.DepartmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,4 +46,67 @@ public interface DepartmentRepository extends JpaRepository<Department, UUID> {
            "AND d.status = :status ORDER BY d.level ASC, d.sortOrder ASC")
     List<Department> findAllWithParent(@Param("tenantId") UUID tenantId,
                                        @Param("status") DepartmentStatus status);
+
+    /**
+     * 이름 일괄 조회용. 요청된 ID 집합만 조회하므로 목록 화면 한 페이지당 1회 호출로 끝납니다.
+     */
+    @Query("SELECT d FROM Department d WHERE d.tenantId = :tenantId AND d.id IN :ids")
+    List<Department> findByTenantIdAndIdIn(@Param("tenantId") UUID tenantId,
+                                           @Param("ids") Collection<UUID> ids);
+
+    // ===== 계층 조회 (hr_core.department_closure, V2 트리거가 부서 생성/이동과 함께 유지) =====
+
+    /**
+     * 하위 트리 전체 부서 ID (자기 자신 포함, 가까운 순)
+     */
+    @Query(value = "SELECT c.descendant_id FROM hr_core.department_closure c " +
+                   "WHERE c.ancestor_id = :id ORDER BY c.depth", nativeQuery = true)
+    List<UUID> findSubtreeIds(@Param("id") UUID id);
+
+    /**
+     * 하위 트리의 활성 부서 (자기 자신 포함, 가까운 순)
+     */
+    @Query(value = "SELECT d.* FROM hr_core.department d " +
+                   "JOIN hr_core.department_closure c ON c.descendant_id = d.id " +
+                   "WHERE c.ancestor_id = :id AND d.status = 'ACTIVE' " +
+                   "ORDER BY c.depth, d.sort_order", nativeQuery = true)
+    List<Department> findActiveSubtree(@Param("id") UUID id);
+
+    /**
+     * 최상위 부서부터 자기 자신까지의 상위 경로
+     */
+    @Query(value = "SELECT d.* FROM hr_core.department d " +
+                   "JOIN hr_core.department_closure c ON c.ancestor_id = d.id " +
+                   "WHERE c.descendant_id = :id ORDER BY c.depth DESC", nativeQuery = true)
+    List<Department> findAncestorPath(@Param("id") UUID id);
+
+    /**
+     * descendantId가 ancestorId 자신이거나 그 하위 부서인지 여부
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM hr_core.department_closure c " +
+                   "WHERE c.ancestor_id = :ancestorId AND c.descendant_id = :descendantId)", nativeQuery = true)
+    boolean existsInSubtree(@Param("ancestorId") UUID ancestorId,
+                            @Param("descendantId") UUID descendantId);
+
+    /**
+     * G04: 하위 트리의 최대 깊이 (하위 부서가 없으면 0)
+     */
+    @Query(value = "SELECT COALESCE(MAX(c.depth), 0) FROM hr_core.department_closure c " +
+                   "WHERE c.ancestor_id = :id", nativeQuery = true)
+    int findMaxSubtreeDepth(@Param("id") UUID id);
+
+    /**
+     * 부서 이동 후 하위 부서(자기 자신 제외)의 level/path를 한 번에 재계산합니다.
+     * 이동한 부서 자체의 변경이 먼저 flush되어야 closure가 새 위치를 반영합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE hr_core.department d " +
+                   "SET level = d.level + :levelDelta, " +
+                   "    path = :newPath || substr(d.path, length(:oldPath) + 1) " +
+                   "FROM hr_core.department_closure c " +
+                   "WHERE c.ancestor_id = :id AND c.depth > 0 AND d.id = c.descendant_id", nativeQuery = true)
+    int shiftSubtree(@Param("id") UUID id,
+                     @Param("oldPath") String oldPath,
+                     @Param("newPath") String newPath,
+                     @Param("levelDelta") int levelDelta);
 }
@@ -0,0 +1,43 @@
+package com.hrsaas.organization.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 테넌트별 부서 트리 revision (hr_core.department_tree_revision).
+ * 트리 캐시 스냅샷은 revision과 함께 저장되며, DB의 revision과 같을 때만 유효합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DepartmentTreeRevisionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * revision을 1 올리고 새 값을 반환합니다.
+     * 행 잠금이 트랜잭션 끝까지 유지되므로 같은 테넌트의 트리 변경은 순서대로 처리됩니다.
+     */
+    public long increment(UUID tenantId) {
+        Long revision = jdbcTemplate.queryForObject(
+            "INSERT INTO hr_core.department_tree_revision (tenant_id, revision) VALUES (?, 1) " +
+            "ON CONFLICT (tenant_id) DO UPDATE " +
+            "SET revision = hr_core.department_tree_revision.revision + 1, updated_at = now() " +
+            "RETURNING revision",
+            Long.class, tenantId);
+        return revision != null ? revision : 0L;
+    }
+
+    /**
+     * 현재 revision (변경 이력이 없으면 0)
+     */
+    public long current(UUID tenantId) {
+        List<Long> revisions = jdbcTemplate.queryForList(
+            "SELECT revision FROM hr_core.department_tree_revision WHERE tenant_id = ?",
+            Long.class, tenantId);
+        return revisions.isEmpty() ? 0L : revisions.get(0);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,4 +25,8 @@ public interface GradeRepository extends JpaRepository<Grade, UUID> {
     List<Grade> findActiveByTenantId(@Param("tenantId") UUID tenantId);
 
     boolean existsByCodeAndTenantId(String code, UUID tenantId);
+
+    @Query("SELECT g FROM Grade g WHERE g.tenantId = :tenantId AND g.code IN :codes")
+    List<Grade> findByTenantIdAndCodeIn(@Param("tenantId") UUID tenantId,
+                                        @Param("codes") Collection<String> codes);
 }
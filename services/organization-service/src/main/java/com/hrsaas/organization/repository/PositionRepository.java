@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,4 +25,8 @@ public interface PositionRepository extends JpaRepository<Position, UUID> {
     List<Position> findActiveByTenantId(@Param("tenantId") UUID tenantId);
 
     boolean existsByCodeAndTenantId(String code, UUID tenantId);
+
+    @Query("SELECT p FROM Position p WHERE p.tenantId = :tenantId AND p.code IN :codes")
+    List<Position> findByTenantIdAndCodeIn(@Param("tenantId") UUID tenantId,
+                                        @Param("codes") Collection<String> codes);
 }
@@ -0,0 +1,23 @@
+package com.hrsaas.organization.scheduler;
+
+import com.hrsaas.organization.service.AnnouncementCounterBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지사항 조회수/읽음 write-behind 버퍼를 주기적으로 DB에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnnouncementCounterFlushScheduler {
+
+    private final AnnouncementCounterBuffer announcementCounterBuffer;
+
+    @Scheduled(fixedDelayString = "${app.organization.announcement-counter.flush-interval-ms:5000}")
+    public void flush() {
+        announcementCounterBuffer.flush();
+    }
+}
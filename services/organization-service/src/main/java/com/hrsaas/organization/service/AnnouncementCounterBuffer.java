@@ -0,0 +1,220 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.organization.repository.AnnouncementCounterRepository;
+import com.hrsaas.organization.repository.AnnouncementCounterRepository.PendingRead;
+import com.hrsaas.organization.repository.AnnouncementCounterRepository.ViewDelta;
+import com.hrsaas.organization.repository.AnnouncementReadRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항 조회수/읽음 write-behind 버퍼.
+ *
+ * 조회 요청은 메모리 카운터(LongAdder, 스레드별 분산 셀)와 미반영 읽음 목록에만 기록하고,
+ * {@link #flush()}가 주기적으로 증가분과 읽음 기록을 한 트랜잭션의 JDBC 배치로 반영합니다.
+ * 전사 공지처럼 조회가 몰리는 공지도 요청마다 공지 행 잠금을 잡지 않습니다.
+ *
+ * 읽음은 (공지, 직원)당 한 번만 미반영 목록에 올리며, 이미 DB에 읽음 기록이 있는 직원은 집계하지 않습니다.
+ * 읽음 수는 DB 집계값(read-count-ttl 동안 재사용) + 이 인스턴스의 미반영 읽음 수로 응답하므로
+ * flush 주기 동안은 다른 인스턴스의 기록이 늦게 보일 수 있습니다.
+ *
+ * 반영이 끝나 비어 있는 카운터와 집계는 flush 시 맵에서 제거해 조회된 공지 수만큼 메모리가 늘지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class AnnouncementCounterBuffer {
+
+    private final AnnouncementCounterRepository counterRepository;
+    private final AnnouncementReadRepository announcementReadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long readCountTtlMillis;
+
+    private final Map<UUID, LongAdder> views = new ConcurrentHashMap<>();
+    private final Map<UUID, ReadTally> reads = new ConcurrentHashMap<>();
+
+    public AnnouncementCounterBuffer(
+            AnnouncementCounterRepository counterRepository,
+            AnnouncementReadRepository announcementReadRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.organization.announcement-counter.read-count-ttl-ms:5000}") long readCountTtlMillis) {
+        this.counterRepository = counterRepository;
+        this.announcementReadRepository = announcementReadRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.readCountTtlMillis = readCountTtlMillis;
+    }
+
+    /**
+     * 공지별 읽음 집계: DB 읽음 수 스냅샷 + 미반영 읽음 (직원 ID → 읽은 시각)
+     */
+    private static final class ReadTally {
+        private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+        private volatile long persisted;
+        private volatile long loadedAtMillis = Long.MIN_VALUE;
+
+        private void invalidate() {
+            loadedAtMillis = Long.MIN_VALUE;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return loadedAtMillis == Long.MIN_VALUE || now - loadedAtMillis > ttlMillis;
+        }
+    }
+
+    public void recordView(UUID announcementId) {
+        LongAdder adder = views.computeIfAbsent(announcementId, id -> new LongAdder());
+        adder.increment();
+        if (views.get(announcementId) != adder) {
+            // flush가 빈 카운터를 막 제거했으면 증가분을 현재 카운터로 옮깁니다
+            requeueView(announcementId, adder);
+        }
+    }
+
+    /**
+     * 직원의 첫 읽음만 기록합니다. 미반영 목록이나 DB에 이미 있는 읽음은 다시 집계하지 않습니다.
+     */
+    public void recordRead(UUID announcementId, UUID employeeId) {
+        ReadTally existing = reads.get(announcementId);
+        if (existing != null && existing.pending.containsKey(employeeId)) {
+            return;
+        }
+        if (announcementReadRepository.existsByAnnouncementIdAndEmployeeId(announcementId, employeeId)) {
+            return;
+        }
+        // flush의 빈 집계 제거와 겹치지 않도록 맵 갱신 안에서 추가합니다
+        reads.compute(announcementId, (id, tally) -> {
+            ReadTally target = tally != null ? tally : new ReadTally();
+            target.pending.putIfAbsent(employeeId, Instant.now());
+            return target;
+        });
+    }
+
+    /**
+     * DB 조회수 + 아직 반영되지 않은 증가분
+     */
+    public long viewCount(UUID announcementId, long persistedViewCount) {
+        LongAdder pending = views.get(announcementId);
+        return persistedViewCount + (pending != null ? pending.sum() : 0L);
+    }
+
+    /**
+     * DB 읽음 수 + 아직 반영되지 않은 읽음 수. DB 집계는 공지당 read-count-ttl마다 최대 1회 조회합니다.
+     */
+    public long readCount(UUID announcementId) {
+        ReadTally tally = reads.computeIfAbsent(announcementId, id -> new ReadTally());
+        long now = System.currentTimeMillis();
+        if (tally.isExpired(now, readCountTtlMillis)) {
+            tally.persisted = announcementReadRepository.countByAnnouncementId(announcementId);
+            tally.loadedAtMillis = now;
+        }
+        return tally.persisted + tally.pending.size();
+    }
+
+    /**
+     * 누적된 조회수 증가분과 읽음 기록을 일괄 반영합니다. 실패하면 다음 flush에서 다시 시도합니다.
+     */
+    public synchronized void flush() {
+        List<ViewDelta> deltas = drainViews();
+        Map<UUID, Map<UUID, Instant>> readSnapshot = snapshotReads();
+        if (deltas.isEmpty() && readSnapshot.isEmpty()) {
+            evictIdleReads();
+            return;
+        }
+
+        List<PendingRead> pendingReads = new ArrayList<>();
+        readSnapshot.forEach((announcementId, readers) -> readers.forEach((employeeId, readAt) ->
+            pendingReads.add(new PendingRead(announcementId, employeeId, readAt))));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!deltas.isEmpty()) {
+                    counterRepository.addViewCounts(deltas);
+                }
+                if (!pendingReads.isEmpty()) {
+                    counterRepository.insertReads(pendingReads);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 증가분은 카운터에 되돌리고 읽음 기록은 남겨 두었다가 다음 flush에서 다시 반영합니다
+            deltas.forEach(d -> views.computeIfAbsent(d.announcementId(), id -> new LongAdder()).add(d.delta()));
+            log.warn("Announcement counter flush failed, will retry: views={}, reads={}",
+                deltas.size(), pendingReads.size(), e);
+            return;
+        }
+
+        readSnapshot.forEach((announcementId, readers) -> {
+            ReadTally tally = reads.get(announcementId);
+            if (tally != null) {
+                readers.forEach(tally.pending::remove);
+                tally.invalidate();
+            }
+        });
+        evictIdleReads();
+        log.debug("Announcement counters flushed: views={}, reads={}", deltas.size(), pendingReads.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 증가분을 꺼내고 카운터를 0으로 되돌립니다. 꺼내는 도중의 증가분은 다음 flush로 넘어갑니다.
+     * 직전 flush 이후 증가가 없던 카운터는 맵에서 제거합니다.
+     */
+    private List<ViewDelta> drainViews() {
+        List<ViewDelta> deltas = new ArrayList<>();
+        views.forEach((announcementId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.add(new ViewDelta(announcementId, delta));
+            } else if (views.remove(announcementId, adder)) {
+                // 제거 직전에 들어온 증가분은 잃지 않도록 다시 옮깁니다
+                requeueView(announcementId, adder);
+            }
+        });
+        // 여러 인스턴스가 같은 공지 행들을 갱신할 때 교착을 피하도록 잠금 순서를 고정합니다
+        deltas.sort(Comparator.comparing(ViewDelta::announcementId));
+        return deltas;
+    }
+
+    private void requeueView(UUID announcementId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late > 0) {
+            views.computeIfAbsent(announcementId, id -> new LongAdder()).add(late);
+        }
+    }
+
+    /**
+     * 미반영 읽음이 없고 DB 집계 스냅샷도 만료된 공지 집계를 제거합니다.
+     */
+    private void evictIdleReads() {
+        long now = System.currentTimeMillis();
+        for (UUID announcementId : reads.keySet()) {
+            reads.computeIfPresent(announcementId, (id, tally) ->
+                tally.pending.isEmpty() && tally.isExpired(now, readCountTtlMillis) ? null : tally);
+        }
+    }
+
+    private Map<UUID, Map<UUID, Instant>> snapshotReads() {
+        Map<UUID, Map<UUID, Instant>> snapshot = new HashMap<>();
+        reads.forEach((announcementId, tally) -> {
+            if (!tally.pending.isEmpty()) {
+                snapshot.put(announcementId, Map.copyOf(tally.pending));
+            }
+        });
+        return snapshot;
+    }
+}
@@ -21,6 +21,21 @@ public interface DepartmentService {
 
     List<DepartmentTreeResponse> getTree();
 
+    /**
+     * 하위 트리의 활성 부서 (자기 자신 포함)
+     */
+    List<DepartmentResponse> getSubtree(UUID id);
+
+    /**
+     * 최상위 부서부터 자기 자신까지의 상위 경로
+     */
+    List<DepartmentResponse> getAncestorPath(UUID id);
+
+    /**
+     * departmentId가 ancestorId 자신이거나 그 하위 부서인지 여부
+     */
+    boolean isWithin(UUID departmentId, UUID ancestorId);
+
     DepartmentResponse update(UUID id, UpdateDepartmentRequest request);
 
     void delete(UUID id);
@@ -0,0 +1,347 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheKeys;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.domain.dto.response.DepartmentTreeResponse;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.domain.entity.DepartmentStatus;
+import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.repository.DepartmentTreeRevisionRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 테넌트별 활성 부서 트리 캐시 (ORGANIZATION_TREE).
+ *
+ * 스냅샷은 트리를 구성한 시점의 테넌트 트리 revision과 함께 저장되고, DB의 revision과 같을 때만 사용합니다.
+ * 부서 변경 시에는 트리를 버리지 않고 직전 revision 스냅샷의 복사본에 변경분만 반영해 다시 저장하며,
+ * 반영할 수 없는 변경이면 해당 테넌트의 스냅샷만 삭제합니다.
+ * 캐시 저장/삭제는 transaction-aware 캐시 매니저가 커밋 이후로 미룹니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepartmentTreeCache {
+
+    private static final String TREE_KEY_KIND = "tree";
+    private static final String TREE_KEY_VALUE = "active";
+
+    private final CacheManager cacheManager;
+    private final TenantCacheKeys tenantCacheKeys;
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentTreeRevisionRepository revisionRepository;
+
+    /**
+     * 캐시 값: 트리 revision + 루트 부서 목록
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snapshot {
+        private long revision;
+        private List<DepartmentTreeResponse> roots;
+    }
+
+    /**
+     * 트리 변경분. 추가한 순서대로 반영됩니다.
+     */
+    public static final class TreePatch {
+
+        private enum Kind { ADDED, UPDATED, REMOVED }
+
+        private record Change(Kind kind, Department department, UUID departmentId) {
+        }
+
+        private final List<Change> changes = new ArrayList<>();
+
+        public static TreePatch create() {
+            return new TreePatch();
+        }
+
+        /** 새로 생성된 부서 (하위 부서 없음) */
+        public TreePatch added(Department department) {
+            changes.add(new Change(Kind.ADDED, department, department.getId()));
+            return this;
+        }
+
+        /** 속성/상위 부서/상태가 바뀐 기존 부서. 비활성 상태이면 하위 트리와 함께 제외됩니다. */
+        public TreePatch updated(Department department) {
+            changes.add(new Change(Kind.UPDATED, department, department.getId()));
+            return this;
+        }
+
+        /** 트리에서 제외할 부서 (하위 트리 포함) */
+        public TreePatch removed(UUID departmentId) {
+            changes.add(new Change(Kind.REMOVED, null, departmentId));
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+    }
+
+    /**
+     * 현재 테넌트의 활성 부서 트리. 반환된 목록은 캐시와 공유되므로 수정하지 않습니다.
+     */
+    public List<DepartmentTreeResponse> getTree() {
+        UUID tenantId = TenantContext.getCurrentTenant();
+
+        // revision을 부서 조회보다 먼저 읽어야 스냅샷 내용이 표시된 revision보다 오래되지 않습니다
+        long revision = revisionRepository.current(tenantId);
+        Cache cache = cacheManager.getCache(CacheNames.ORGANIZATION_TREE);
+        String key = key();
+
+        Snapshot cached = read(cache, key);
+        if (cached != null && cached.getRevision() == revision) {
+            return cached.getRoots();
+        }
+
+        List<DepartmentTreeResponse> roots = build(
+            departmentRepository.findAllWithParent(tenantId, DepartmentStatus.ACTIVE));
+        if (cache != null && !roots.isEmpty()) {
+            cache.put(key, new Snapshot(revision, roots));
+        }
+        return roots;
+    }
+
+    /**
+     * 트리 변경 시작. 테넌트 revision을 올리고 새 revision을 반환합니다.
+     * 부서 변경 트랜잭션의 처음에 호출해 같은 테넌트의 트리 변경을 직렬화합니다.
+     */
+    public long beginChange() {
+        return revisionRepository.increment(TenantContext.getCurrentTenant());
+    }
+
+    /**
+     * 직전 revision 스냅샷이 캐시에 있으면 변경분을 반영해 새 revision으로 저장하고,
+     * 없거나 반영할 수 없으면 현재 테넌트의 스냅샷을 삭제합니다.
+     */
+    public void applyChange(long revision, TreePatch patch) {
+        Cache cache = cacheManager.getCache(CacheNames.ORGANIZATION_TREE);
+        if (cache == null) {
+            return;
+        }
+        String key = key();
+
+        Snapshot cached = read(cache, key);
+        if (cached == null) {
+            return;
+        }
+        if (cached.getRevision() != revision - 1) {
+            cache.evict(key);
+            return;
+        }
+
+        List<DepartmentTreeResponse> roots = new Patcher(cached.getRoots()).apply(patch);
+        if (roots == null || roots.isEmpty()) {
+            log.debug("Organization tree snapshot dropped: revision={}", revision);
+            cache.evict(key);
+            return;
+        }
+        cache.put(key, new Snapshot(revision, roots));
+    }
+
+    private String key() {
+        return tenantCacheKeys.entity(TREE_KEY_KIND, TREE_KEY_VALUE);
+    }
+
+    private Snapshot read(Cache cache, String key) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.get(key, Snapshot.class);
+    }
+
+    /**
+     * level/sortOrder 순으로 정렬된 부서 목록으로 트리를 구성합니다 (N+1 재귀 로드 방지).
+     */
+    static List<DepartmentTreeResponse> build(List<Department> departments) {
+        Map<UUID, List<Department>> childrenMap = departments.stream()
+            .filter(d -> d.getParent() != null)
+            .collect(Collectors.groupingBy(d -> d.getParent().getId()));
+
+        return departments.stream()
+            .filter(d -> d.getParent() == null)
+            .map(root -> buildNode(root, childrenMap))
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static DepartmentTreeResponse buildNode(Department department, Map<UUID, List<Department>> childrenMap) {
+        List<DepartmentTreeResponse> children = null;
+        List<Department> childDepts = childrenMap.get(department.getId());
+        if (childDepts != null && !childDepts.isEmpty()) {
+            children = childDepts.stream()
+                .map(child -> buildNode(child, childrenMap))
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+        return DepartmentTreeResponse.fromWithChildren(department, children);
+    }
+
+    /**
+     * 스냅샷 복사본에 변경분을 반영합니다. 원본 스냅샷은 다른 요청과 공유될 수 있으므로 수정하지 않습니다.
+     */
+    private static final class Patcher {
+
+        private final List<DepartmentTreeResponse> roots;
+        private final Map<UUID, DepartmentTreeResponse> nodes = new HashMap<>();
+        private final Map<UUID, List<DepartmentTreeResponse>> siblings = new HashMap<>();
+
+        Patcher(List<DepartmentTreeResponse> source) {
+            this.roots = copy(source);
+        }
+
+        /**
+         * @return 변경이 반영된 루트 목록, 반영할 수 없으면 null
+         */
+        List<DepartmentTreeResponse> apply(TreePatch patch) {
+            for (TreePatch.Change change : patch.changes) {
+                boolean applied = switch (change.kind()) {
+                    case ADDED -> upsert(change.department(), true);
+                    case UPDATED -> upsert(change.department(), false);
+                    case REMOVED -> {
+                        remove(change.departmentId());
+                        yield true;
+                    }
+                };
+                if (!applied) {
+                    return null;
+                }
+            }
+            return roots;
+        }
+
+        private List<DepartmentTreeResponse> copy(List<DepartmentTreeResponse> source) {
+            List<DepartmentTreeResponse> copies = new ArrayList<>(source != null ? source.size() : 0);
+            if (source == null) {
+                return copies;
+            }
+            for (DepartmentTreeResponse node : source) {
+                DepartmentTreeResponse copied = DepartmentTreeResponse.builder()
+                    .id(node.getId())
+                    .code(node.getCode())
+                    .name(node.getName())
+                    .nameEn(node.getNameEn())
+                    .level(node.getLevel())
+                    .managerId(node.getManagerId())
+                    .managerName(node.getManagerName())
+                    .employeeCount(node.getEmployeeCount())
+                    .status(node.getStatus())
+                    .sortOrder(node.getSortOrder())
+                    .children(copy(node.getChildren()))
+                    .build();
+                copies.add(copied);
+                nodes.put(copied.getId(), copied);
+                siblings.put(copied.getId(), copies);
+            }
+            return copies;
+        }
+
+        private boolean upsert(Department department, boolean created) {
+            UUID id = department.getId();
+            if (!department.isActive()) {
+                remove(id);
+                return true;
+            }
+
+            List<DepartmentTreeResponse> target;
+            if (department.getParent() == null) {
+                target = roots;
+            } else {
+                DepartmentTreeResponse parent = nodes.get(department.getParent().getId());
+                if (parent == null) {
+                    // 상위 부서가 트리에 없으면(비활성) 하위 트리도 표시되지 않습니다
+                    remove(id);
+                    return true;
+                }
+                target = parent.getChildren();
+            }
+
+            DepartmentTreeResponse node = nodes.get(id);
+            if (node == null) {
+                if (!created) {
+                    // 트리에 없던 기존 부서: 하위 트리를 스냅샷에서 알 수 없음
+                    return false;
+                }
+                node = DepartmentTreeResponse.from(department);
+                nodes.put(id, node);
+            } else {
+                DepartmentTreeResponse existing = node;
+                siblings.get(id).removeIf(sibling -> sibling == existing);
+                int levelDelta = department.getLevel() - node.getLevel();
+                if (levelDelta != 0) {
+                    shiftLevels(node.getChildren(), levelDelta);
+                }
+                node.setCode(department.getCode());
+                node.setName(department.getName());
+                node.setNameEn(department.getNameEn());
+                node.setLevel(department.getLevel());
+                node.setManagerId(department.getManagerId());
+                node.setStatus(department.getStatus());
+                node.setSortOrder(department.getSortOrder());
+            }
+
+            insertSorted(target, node);
+            siblings.put(id, target);
+            return true;
+        }
+
+        private void remove(UUID id) {
+            DepartmentTreeResponse node = nodes.get(id);
+            if (node == null) {
+                return;
+            }
+            siblings.get(id).removeIf(sibling -> sibling == node);
+            unindex(node);
+        }
+
+        private void unindex(DepartmentTreeResponse node) {
+            nodes.remove(node.getId());
+            siblings.remove(node.getId());
+            for (DepartmentTreeResponse child : node.getChildren()) {
+                unindex(child);
+            }
+        }
+
+        private static void shiftLevels(List<DepartmentTreeResponse> children, int levelDelta) {
+            for (DepartmentTreeResponse child : children) {
+                if (child.getLevel() != null) {
+                    child.setLevel(child.getLevel() + levelDelta);
+                }
+                shiftLevels(child.getChildren(), levelDelta);
+            }
+        }
+
+        /**
+         * sortOrder 오름차순, null은 마지막 (DB 정렬과 동일). 같은 값이면 기존 부서 뒤에 둡니다.
+         */
+        private static void insertSorted(List<DepartmentTreeResponse> target, DepartmentTreeResponse node) {
+            Integer sortOrder = node.getSortOrder();
+            int index = target.size();
+            if (sortOrder != null) {
+                for (int i = 0; i < target.size(); i++) {
+                    Integer other = target.get(i).getSortOrder();
+                    if (other == null || other > sortOrder) {
+                        index = i;
+                        break;
+                    }
+                }
+            }
+            target.add(index, node);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheKeys;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.client.EmployeeClient;
+import com.hrsaas.organization.client.dto.OrgChartSummaryRequest;
+import com.hrsaas.organization.client.dto.OrgChartSummaryResponse;
+import com.hrsaas.organization.domain.dto.response.DepartmentTreeResponse;
+import com.hrsaas.organization.domain.dto.response.OrgChartNodeResponse;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.domain.entity.Grade;
+import com.hrsaas.organization.domain.entity.Position;
+import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.repository.GradeRepository;
+import com.hrsaas.organization.repository.PositionRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 테넌트별 조직도 요약 캐시 (ORGANIZATION_TREE): 부서별 재직 인원 + 부서장 요약.
+ *
+ * 요약이 없으면 employee-service를 1회 호출해 테넌트 전체를 집계하고, 직원/부서 이벤트를 받으면
+ * 해당 부서만 다시 조회해 기존 요약에 덮어씁니다. 이벤트 처리끼리의 경합으로 생길 수 있는 오차는
+ * max-age가 지나면 전체 재집계로 정리됩니다.
+ */
+@Slf4j
+@Component
+public class OrgChartSummaryCache {
+
+    private static final String SUMMARY_KEY_KIND = "orgchart";
+    private static final String SUMMARY_KEY_VALUE = "summary";
+
+    private final CacheManager cacheManager;
+    private final TenantCacheKeys tenantCacheKeys;
+    private final EmployeeClient employeeClient;
+    private final DepartmentRepository departmentRepository;
+    private final GradeRepository gradeRepository;
+    private final PositionRepository positionRepository;
+    private final long maxAgeMillis;
+
+    public OrgChartSummaryCache(
+            CacheManager cacheManager,
+            TenantCacheKeys tenantCacheKeys,
+            EmployeeClient employeeClient,
+            DepartmentRepository departmentRepository,
+            GradeRepository gradeRepository,
+            PositionRepository positionRepository,
+            @Value("${app.organization.org-chart.max-age-seconds:600}") long maxAgeSeconds) {
+        this.cacheManager = cacheManager;
+        this.tenantCacheKeys = tenantCacheKeys;
+        this.employeeClient = employeeClient;
+        this.departmentRepository = departmentRepository;
+        this.gradeRepository = gradeRepository;
+        this.positionRepository = positionRepository;
+        this.maxAgeMillis = maxAgeSeconds * 1000L;
+    }
+
+    /**
+     * 캐시 값: 전체 집계 시각 + 부서별 인원 + 부서장 ID별 요약
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private long builtAtMillis;
+        private Map<UUID, Long> headcounts;
+        private Map<UUID, OrgChartNodeResponse.ManagerInfo> managers;
+
+        static Summary empty() {
+            return new Summary(0L, new HashMap<>(), new HashMap<>());
+        }
+    }
+
+    /**
+     * 현재 테넌트의 조직도 요약. employee-service 호출에 실패하면 빈 요약을 반환하고 캐시하지 않습니다.
+     *
+     * @param tree 부서장 ID를 모을 활성 부서 트리
+     */
+    public Summary get(List<DepartmentTreeResponse> tree) {
+        Cache cache = cacheManager.getCache(CacheNames.ORGANIZATION_TREE);
+        String key = key();
+
+        Summary cached = read(cache, key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Set<UUID> managerIds = new LinkedHashSet<>();
+        collectManagerIds(tree, managerIds);
+
+        OrgChartSummaryResponse response = fetch(null, new ArrayList<>(managerIds));
+        if (response == null) {
+            return Summary.empty();
+        }
+
+        Summary summary = new Summary(System.currentTimeMillis(), headcounts(response), managers(response));
+        if (cache != null) {
+            cache.put(key, summary);
+        }
+        return summary;
+    }
+
+    /**
+     * 캐시된 요약에서 주어진 부서의 인원/부서장과 주어진 직원의 부서장 요약만 다시 조회해 반영합니다.
+     * 요약이 없거나 만료되었으면 다음 조회 시 전체 집계하므로 아무것도 하지 않습니다.
+     */
+    public void refresh(Collection<UUID> departmentIds, Collection<UUID> employeeIds) {
+        Cache cache = cacheManager.getCache(CacheNames.ORGANIZATION_TREE);
+        String key = key();
+
+        Summary cached = read(cache, key);
+        if (cached == null || isExpired(cached)) {
+            return;
+        }
+
+        List<UUID> targetDepartments = departmentIds.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        Set<UUID> targetManagers = new LinkedHashSet<>();
+        if (!targetDepartments.isEmpty()) {
+            departmentRepository.findByTenantIdAndIdIn(TenantContext.getCurrentTenant(), targetDepartments).stream()
+                .map(Department::getManagerId)
+                .filter(Objects::nonNull)
+                .forEach(targetManagers::add);
+        }
+        employeeIds.stream()
+            .filter(id -> id != null && cached.getManagers().containsKey(id))
+            .forEach(targetManagers::add);
+
+        if (targetDepartments.isEmpty() && targetManagers.isEmpty()) {
+            return;
+        }
+
+        OrgChartSummaryResponse response = fetch(targetDepartments, new ArrayList<>(targetManagers));
+        if (response == null) {
+            cache.evict(key);
+            return;
+        }
+
+        Map<UUID, Long> headcounts = new HashMap<>(cached.getHeadcounts());
+        targetDepartments.forEach(headcounts::remove);
+        headcounts.putAll(headcounts(response));
+
+        // 응답에 없는 부서장은 제외해 ID만 표시되도록 합니다
+        Map<UUID, OrgChartNodeResponse.ManagerInfo> managers = new HashMap<>(cached.getManagers());
+        targetManagers.forEach(managers::remove);
+        managers.putAll(managers(response));
+
+        cache.put(key, new Summary(cached.getBuiltAtMillis(), headcounts, managers));
+    }
+
+    private boolean isExpired(Summary summary) {
+        return System.currentTimeMillis() - summary.getBuiltAtMillis() > maxAgeMillis;
+    }
+
+    /**
+     * departmentIds가 null이면 테넌트 전체 부서를 집계합니다.
+     */
+    private OrgChartSummaryResponse fetch(List<UUID> departmentIds, List<UUID> managerIds) {
+        try {
+            return employeeClient.getOrgChartSummary(OrgChartSummaryRequest.builder()
+                .departmentIds(departmentIds)
+                .managerIds(managerIds)
+                .build()).getData();
+        } catch (Exception e) {
+            log.warn("Failed to get org chart summary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<UUID, Long> headcounts(OrgChartSummaryResponse response) {
+        Map<UUID, Long> headcounts = new HashMap<>();
+        if (response.getHeadcounts() != null) {
+            headcounts.putAll(response.getHeadcounts());
+        }
+        return headcounts;
+    }
+
+    /**
+     * 직급(jobTitleCode)/직책(positionCode) 이름은 organization-service가 기준 정보이므로 직접 해석합니다.
+     */
+    private Map<UUID, OrgChartNodeResponse.ManagerInfo> managers(OrgChartSummaryResponse response) {
+        Map<UUID, OrgChartNodeResponse.ManagerInfo> managers = new HashMap<>();
+        List<OrgChartSummaryResponse.ManagerSummary> summaries = response.getManagers();
+        if (summaries == null || summaries.isEmpty()) {
+            return managers;
+        }
+
+        UUID tenantId = TenantContext.getCurrentTenant();
+        Set<String> gradeCodes = summaries.stream()
+            .map(OrgChartSummaryResponse.ManagerSummary::getJobTitleCode)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<String> positionCodes = summaries.stream()
+            .map(OrgChartSummaryResponse.ManagerSummary::getPositionCode)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<String, String> gradeNames = gradeCodes.isEmpty() ? Map.of()
+            : gradeRepository.findByTenantIdAndCodeIn(tenantId, gradeCodes).stream()
+                .collect(Collectors.toMap(Grade::getCode, Grade::getName, (a, b) -> a));
+        Map<String, String> positionNames = positionCodes.isEmpty() ? Map.of()
+            : positionRepository.findByTenantIdAndCodeIn(tenantId, positionCodes).stream()
+                .collect(Collectors.toMap(Position::getCode, Position::getName, (a, b) -> a));
+
+        for (OrgChartSummaryResponse.ManagerSummary summary : summaries) {
+            managers.put(summary.getId(), OrgChartNodeResponse.ManagerInfo.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .gradeName(nameOf(gradeNames, summary.getJobTitleCode()))
+                .positionName(nameOf(positionNames, summary.getPositionCode()))
+                .build());
+        }
+        return managers;
+    }
+
+    private static String nameOf(Map<String, String> names, String code) {
+        return code != null ? names.get(code) : null;
+    }
+
+    private static void collectManagerIds(List<DepartmentTreeResponse> nodes, Set<UUID> managerIds) {
+        if (nodes == null) {
+            return;
+        }
+        for (DepartmentTreeResponse node : nodes) {
+            if (node.getManagerId() != null) {
+                managerIds.add(node.getManagerId());
+            }
+            collectManagerIds(node.getChildren(), managerIds);
+        }
+    }
+
+    private String key() {
+        return tenantCacheKeys.entity(SUMMARY_KEY_KIND, SUMMARY_KEY_VALUE);
+    }
+
+    private Summary read(Cache cache, String key) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.get(key, Summary.class);
+    }
+}
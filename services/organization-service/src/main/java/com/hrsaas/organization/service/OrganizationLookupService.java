@@ -0,0 +1,16 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.organization.domain.dto.request.ApproverLookupRequest;
+import com.hrsaas.organization.domain.dto.request.OrganizationNameLookupRequest;
+import com.hrsaas.organization.domain.dto.response.ApproverLookupResponse;
+import com.hrsaas.organization.domain.dto.response.OrganizationNameLookupResponse;
+
+public interface OrganizationLookupService {
+
+    OrganizationNameLookupResponse lookupNames(OrganizationNameLookupRequest request);
+
+    /**
+     * 결재선 해석용 부서장/직책자 일괄 조회
+     */
+    ApproverLookupResponse lookupApprovers(ApproverLookupRequest request);
+}
@@ -10,6 +10,7 @@ import com.hrsaas.organization.domain.entity.*;
 import com.hrsaas.organization.repository.AnnouncementReadRepository;
 import com.hrsaas.organization.repository.AnnouncementRepository;
 import com.hrsaas.organization.repository.AnnouncementTargetRepository;
+import com.hrsaas.organization.service.AnnouncementCounterBuffer;
 import com.hrsaas.organization.service.AnnouncementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     private final AnnouncementRepository announcementRepository;
     private final AnnouncementTargetRepository announcementTargetRepository;
     private final AnnouncementReadRepository announcementReadRepository;
+    private final AnnouncementCounterBuffer announcementCounterBuffer;
 
     @Override
     @Transactional
@@ -83,30 +85,25 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
-    @Transactional
     public AnnouncementResponse getById(UUID id) {
         UUID tenantId = TenantContext.getCurrentTenant();
         Announcement announcement = findByIdAndTenantId(id, tenantId);
 
-        // Increment view count
-        announcementRepository.incrementViewCount(id);
-        announcement.incrementViewCount();
+        // 조회수/읽음은 write-behind 버퍼에 기록하고 주기적으로 일괄 반영 (공지 행 잠금 방지)
+        announcementCounterBuffer.recordView(id);
 
         // G12: Record read
         var currentUser = SecurityContextHolder.getCurrentUser();
         UUID employeeId = currentUser != null ? currentUser.getUserId() : null;
-        if (employeeId != null && !announcementReadRepository.existsByAnnouncementIdAndEmployeeId(id, employeeId)) {
-            announcementReadRepository.save(AnnouncementRead.builder()
-                .announcementId(id)
-                .employeeId(employeeId)
-                .build());
+        if (employeeId != null) {
+            announcementCounterBuffer.recordRead(id, employeeId);
         }
 
         AnnouncementResponse response = AnnouncementResponse.from(announcement);
+        response.setViewCount(announcementCounterBuffer.viewCount(id, announcement.getViewCount()));
         // G12: Enrich with read info
-        response.setReadCount(announcementReadRepository.countByAnnouncementId(id));
-        response.setIsRead(employeeId != null &&
-            announcementReadRepository.existsByAnnouncementIdAndEmployeeId(id, employeeId));
+        response.setReadCount(announcementCounterBuffer.readCount(id));
+        response.setIsRead(employeeId != null);
         response.setTargetScope(announcement.getTargetScope() != null
             ? announcement.getTargetScope().name() : "ALL");
 
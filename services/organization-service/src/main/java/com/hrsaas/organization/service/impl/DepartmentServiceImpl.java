@@ -1,6 +1,7 @@
 package com.hrsaas.organization.service.impl;
 
 import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheEvictor;
 import com.hrsaas.common.core.exception.BusinessException;
 import com.hrsaas.common.core.exception.DuplicateException;
 import com.hrsaas.common.core.exception.NotFoundException;
@@ -8,11 +9,13 @@ import com.hrsaas.common.event.EventPublisher;
 import com.hrsaas.common.tenant.TenantContext;
 import com.hrsaas.organization.client.EmployeeClient;
 import com.hrsaas.organization.client.dto.BulkTransferRequest;
-import com.hrsaas.organization.client.dto.EmployeeClientResponse;
 import com.hrsaas.organization.domain.event.DepartmentCreatedEvent;
 import com.hrsaas.organization.domain.event.DepartmentMergedEvent;
 import com.hrsaas.organization.domain.event.DepartmentSplitEvent;
 import com.hrsaas.organization.domain.event.DepartmentUpdatedEvent;
+import com.hrsaas.organization.service.DepartmentTreeCache;
+import com.hrsaas.organization.service.DepartmentTreeCache.TreePatch;
+import com.hrsaas.organization.service.OrgChartSummaryCache;
 import com.hrsaas.organization.service.OrganizationHistoryService;
 import com.hrsaas.organization.domain.dto.request.CreateDepartmentRequest;
 import com.hrsaas.organization.domain.dto.request.DepartmentMergeRequest;
@@ -25,7 +28,6 @@ import com.hrsaas.organization.repository.DepartmentRepository;
 import com.hrsaas.organization.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -37,7 +39,6 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -53,12 +54,15 @@ public class DepartmentServiceImpl implements DepartmentService {
     private final EventPublisher eventPublisher;
     private final EmployeeClient employeeClient;
     private final OrganizationHistoryService organizationHistoryService;
+    private final DepartmentTreeCache departmentTreeCache;
+    private final OrgChartSummaryCache orgChartSummaryCache;
+    private final TenantCacheEvictor tenantCacheEvictor;
 
     @Override
     @Transactional
-    @CacheEvict(value = {CacheNames.DEPARTMENT, CacheNames.ORGANIZATION_TREE}, allEntries = true)
     public DepartmentResponse create(CreateDepartmentRequest request) {
         UUID tenantId = TenantContext.getCurrentTenant();
+        long treeRevision = departmentTreeCache.beginChange();
 
         if (departmentRepository.existsByCodeAndTenantId(request.getCode(), tenantId)) {
             throw new DuplicateException("ORG_001", "이미 존재하는 부서 코드입니다: " + request.getCode());
@@ -86,6 +90,7 @@ public class DepartmentServiceImpl implements DepartmentService {
             .build();
 
         Department saved = departmentRepository.save(department);
+        departmentTreeCache.applyChange(treeRevision, TreePatch.create().added(saved));
 
         // Publish event
         eventPublisher.publish(DepartmentCreatedEvent.of(saved));
@@ -96,7 +101,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.DEPARTMENT, key = "#id")
+    @Cacheable(value = CacheNames.DEPARTMENT, key = "@tenantCacheKeys.entity(#id)")
     public DepartmentResponse getById(UUID id) {
         Department department = findById(id);
         return DepartmentResponse.from(department);
@@ -114,43 +119,41 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.ORGANIZATION_TREE, unless = "#result == null || #result.isEmpty()")
     public List<DepartmentTreeResponse> getTree() {
-        UUID tenantId = TenantContext.getCurrentTenant();
-
-        // 전체 부서를 1회 쿼리로 로드 후 in-memory 트리 구성 (N+1 재귀 로드 방지)
-        List<Department> allDepartments = departmentRepository.findAllWithParent(
-            tenantId, DepartmentStatus.ACTIVE);
+        // 테넌트별 스냅샷: revision이 일치하면 캐시, 아니면 전체 부서 1회 조회 후 in-memory 트리 구성
+        return departmentTreeCache.getTree();
+    }
 
-        // parentId 기준 Map 구성
-        Map<UUID, List<Department>> childrenMap = allDepartments.stream()
-            .filter(d -> d.getParent() != null)
-            .collect(Collectors.groupingBy(d -> d.getParent().getId()));
+    @Override
+    public List<DepartmentResponse> getSubtree(UUID id) {
+        findById(id); // verify existence
+        return departmentRepository.findActiveSubtree(id).stream()
+            .map(DepartmentResponse::from)
+            .toList();
+    }
 
-        // 루트 부서 필터링 후 트리 빌드
-        return allDepartments.stream()
-            .filter(d -> d.getParent() == null)
-            .map(root -> buildTreeNode(root, childrenMap))
-            .collect(Collectors.toList());
+    @Override
+    public List<DepartmentResponse> getAncestorPath(UUID id) {
+        findById(id); // verify existence
+        return departmentRepository.findAncestorPath(id).stream()
+            .map(DepartmentResponse::from)
+            .toList();
     }
 
-    private DepartmentTreeResponse buildTreeNode(Department department,
-                                                   Map<UUID, List<Department>> childrenMap) {
-        List<DepartmentTreeResponse> children = null;
-        List<Department> childDepts = childrenMap.get(department.getId());
-        if (childDepts != null && !childDepts.isEmpty()) {
-            children = childDepts.stream()
-                .map(child -> buildTreeNode(child, childrenMap))
-                .collect(Collectors.toList());
-        }
-        return DepartmentTreeResponse.fromWithChildren(department, children);
+    @Override
+    public boolean isWithin(UUID departmentId, UUID ancestorId) {
+        return departmentRepository.existsInSubtree(ancestorId, departmentId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {CacheNames.DEPARTMENT, CacheNames.ORGANIZATION_TREE}, allEntries = true)
     public DepartmentResponse update(UUID id, UpdateDepartmentRequest request) {
+        long treeRevision = departmentTreeCache.beginChange();
         Department department = findById(id);
+        String oldPath = department.getPath();
+        int oldLevel = department.getLevel();
+        boolean moved = false;
+        boolean renamed = request.getName() != null && !request.getName().equals(department.getName());
 
         if (request.getName() != null) {
             department.setName(request.getName());
@@ -159,18 +162,22 @@ public class DepartmentServiceImpl implements DepartmentService {
             department.setNameEn(request.getNameEn());
         }
         // G09: code is immutable — UpdateDepartmentRequest has no code field
-        if (request.getParentId() != null) {
+        if (request.getParentId() != null && !request.getParentId().equals(parentIdOf(department))) {
             Department parent = findById(request.getParentId());
+            // 자기 자신 또는 하위 부서 아래로 이동하면 순환이 생깁니다
+            if (departmentRepository.existsInSubtree(id, parent.getId())) {
+                throw new BusinessException("ORG_015", "하위 부서로 이동할 수 없습니다.");
+            }
             // G04: check depth limit on move
             int newLevel = parent.getLevel() + 1;
-            int maxChildDepth = getMaxChildDepth(department);
+            int maxChildDepth = departmentRepository.findMaxSubtreeDepth(id);
             if (newLevel + maxChildDepth > MAX_DEPTH) {
                 throw new BusinessException("ORG_011",
                     "이동 후 부서 계층 깊이가 최대 " + MAX_DEPTH + "을 초과합니다.");
             }
             department.setParent(parent);
             department.updateHierarchy();
-            recalculateSubTreeLevels(department);
+            moved = true;
         }
         if (request.getManagerId() != null) {
             // G10: manager verification
@@ -183,6 +190,15 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         Department saved = departmentRepository.save(department);
 
+        if (moved) {
+            // G04: 하위 부서 level/path를 closure 기준으로 일괄 재계산
+            departmentRepository.shiftSubtree(id, oldPath, saved.getPath(), saved.getLevel() - oldLevel);
+        }
+        // 하위 부서 응답에는 path/상위 부서명이 포함되므로 이동·이름 변경 시 하위 트리 전체를 무효화
+        tenantCacheEvictor.evictEntities(CacheNames.DEPARTMENT,
+            moved || renamed ? departmentRepository.findSubtreeIds(id) : List.of(id));
+        departmentTreeCache.applyChange(treeRevision, TreePatch.create().updated(saved));
+
         // Publish event
         eventPublisher.publish(DepartmentUpdatedEvent.of(saved));
 
@@ -193,8 +209,8 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {CacheNames.DEPARTMENT, CacheNames.ORGANIZATION_TREE}, allEntries = true)
     public void delete(UUID id) {
+        long treeRevision = departmentTreeCache.beginChange();
         Department department = findById(id);
 
         // G01: check for employees before delete
@@ -205,6 +221,8 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         department.setStatus(DepartmentStatus.DELETED);
         departmentRepository.save(department);
+        tenantCacheEvictor.evictEntities(CacheNames.DEPARTMENT, List.of(id));
+        departmentTreeCache.applyChange(treeRevision, TreePatch.create().removed(id));
 
         organizationHistoryService.recordEvent("DEPARTMENT_DELETED", id,
             department.getName(), department.getName() + " 부서 삭제",
@@ -230,29 +248,8 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
     }
 
-    /**
-     * G04: Calculate the maximum depth of a department's subtree.
-     */
-    private int getMaxChildDepth(Department department) {
-        if (department.getChildren() == null || department.getChildren().isEmpty()) {
-            return 0;
-        }
-        int max = 0;
-        for (Department child : department.getChildren()) {
-            max = Math.max(max, 1 + getMaxChildDepth(child));
-        }
-        return max;
-    }
-
-    /**
-     * G04: Recalculate levels for all children after a parent move.
-     */
-    private void recalculateSubTreeLevels(Department department) {
-        if (department.getChildren() == null) return;
-        for (Department child : department.getChildren()) {
-            child.updateHierarchy();
-            recalculateSubTreeLevels(child);
-        }
+    private UUID parentIdOf(Department department) {
+        return department.getParent() != null ? department.getParent().getId() : null;
     }
 
     @Override
@@ -268,9 +265,10 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {CacheNames.DEPARTMENT, CacheNames.ORGANIZATION_TREE}, allEntries = true)
     public DepartmentMergeResponse merge(DepartmentMergeRequest request) {
         UUID tenantId = TenantContext.getCurrentTenant();
+        long treeRevision = departmentTreeCache.beginChange();
+        TreePatch treePatch = TreePatch.create();
 
         // 1. Validate source departments
         List<Department> sources = new ArrayList<>();
@@ -297,6 +295,7 @@ public class DepartmentServiceImpl implements DepartmentService {
                 .parent(firstSource.getParent())
                 .build();
             target = departmentRepository.save(target);
+            treePatch.added(target);
         }
 
         // 3. Transfer employees from all sources to target
@@ -325,11 +324,15 @@ public class DepartmentServiceImpl implements DepartmentService {
                 source.setStatus(DepartmentStatus.MERGED);
                 departmentRepository.save(source);
                 mergedIds.add(source.getId());
+                treePatch.removed(source.getId());
             }
         }
+        tenantCacheEvictor.evictEntities(CacheNames.DEPARTMENT, mergedIds);
+        departmentTreeCache.applyChange(treeRevision, treePatch);
 
         // 5. Publish event
         eventPublisher.publish(DepartmentMergedEvent.builder()
+            .tenantId(tenantId)
             .sourceIds(mergedIds)
             .targetId(target.getId())
             .targetName(target.getName())
@@ -347,9 +350,10 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {CacheNames.DEPARTMENT, CacheNames.ORGANIZATION_TREE}, allEntries = true)
     public DepartmentSplitResponse split(DepartmentSplitRequest request) {
         UUID tenantId = TenantContext.getCurrentTenant();
+        long treeRevision = departmentTreeCache.beginChange();
+        TreePatch treePatch = TreePatch.create();
         Department source = findById(request.getSourceDepartmentId());
 
         List<DepartmentResponse> newDepartments = new ArrayList<>();
@@ -369,6 +373,7 @@ public class DepartmentServiceImpl implements DepartmentService {
                     .build();
                 newDept = departmentRepository.save(newDept);
                 newDepartmentIds.add(newDept.getId());
+                treePatch.added(newDept);
 
                 // Transfer specified employees
                 if (splitTarget.getEmployeeIds() != null && !splitTarget.getEmployeeIds().isEmpty()) {
@@ -390,10 +395,14 @@ public class DepartmentServiceImpl implements DepartmentService {
         if (!request.isKeepSource()) {
             source.deactivate();
             departmentRepository.save(source);
+            tenantCacheEvictor.evictEntities(CacheNames.DEPARTMENT, List.of(source.getId()));
+            treePatch.updated(source);
         }
+        departmentTreeCache.applyChange(treeRevision, treePatch);
 
         // Publish event
         eventPublisher.publish(DepartmentSplitEvent.builder()
+            .tenantId(tenantId)
             .sourceId(source.getId())
             .newDepartmentIds(newDepartmentIds)
             .reason(request.getReason())
@@ -410,103 +419,43 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public List<OrgChartNodeResponse> getOrgChart() {
-        UUID tenantId = TenantContext.getCurrentTenant();
-
-        // 전체 부서를 1회 쿼리로 로드 (N+1 재귀 로드 방지)
-        List<Department> allDepartments = departmentRepository.findAllWithParent(
-            tenantId, DepartmentStatus.ACTIVE);
-
-        // 부서별 직원 수를 배치 API로 1회 조회 (N+1 Feign 호출 방지)
-        List<UUID> departmentIds = allDepartments.stream()
-            .map(Department::getId)
-            .toList();
+        // 부서 트리와 인원/부서장 요약 모두 테넌트 캐시에서 읽고 메모리에서 조합합니다
+        List<DepartmentTreeResponse> tree = departmentTreeCache.getTree();
+        OrgChartSummaryCache.Summary summary = orgChartSummaryCache.get(tree);
 
-        Map<UUID, Long> empCountMap;
-        try {
-            empCountMap = employeeClient.countByDepartmentIds(departmentIds).getData();
-            if (empCountMap == null) empCountMap = Map.of();
-        } catch (Exception e) {
-            log.warn("Failed to batch get employee counts: {}", e.getMessage());
-            empCountMap = Map.of();
-        }
-
-        // Batch fetch manager details
-        List<UUID> managerIds = allDepartments.stream()
-            .map(Department::getManagerId)
-            .filter(java.util.Objects::nonNull)
-            .distinct()
-            .toList();
-
-        Map<UUID, EmployeeClientResponse> managerInfoMap;
-        if (!managerIds.isEmpty()) {
-            try {
-                List<EmployeeClientResponse> managers = employeeClient.getBatch(managerIds).getData();
-                managerInfoMap = managers != null ? managers.stream()
-                    .collect(Collectors.toMap(EmployeeClientResponse::getId, m -> m))
-                    : Map.of();
-            } catch (Exception e) {
-                log.warn("Failed to batch get manager info: {}", e.getMessage());
-                managerInfoMap = Map.of();
-            }
-        } else {
-            managerInfoMap = Map.of();
-        }
-
-        // parentId 기준 Map 구성
-        Map<UUID, List<Department>> childrenMap = allDepartments.stream()
-            .filter(d -> d.getParent() != null)
-            .collect(Collectors.groupingBy(d -> d.getParent().getId()));
-
-        // 루트 부서 필터링 후 트리 빌드
-        Map<UUID, Long> finalEmpCountMap = empCountMap;
-        Map<UUID, EmployeeClientResponse> finalManagerInfoMap = managerInfoMap;
-        return allDepartments.stream()
-            .filter(d -> d.getParent() == null)
-            .map(root -> buildOrgChartNode(root, childrenMap, finalEmpCountMap, finalManagerInfoMap))
+        return tree.stream()
+            .map(root -> buildOrgChartNode(root, summary))
             .collect(Collectors.toList());
     }
 
-    private OrgChartNodeResponse buildOrgChartNode(Department department,
-                                                     Map<UUID, List<Department>> childrenMap,
-                                                     Map<UUID, Long> empCountMap,
-                                                     Map<UUID, EmployeeClientResponse> managerInfoMap) {
-        Long empCount = empCountMap.getOrDefault(department.getId(), 0L);
-        if (empCount < 0) empCount = 0L;
+    private OrgChartNodeResponse buildOrgChartNode(DepartmentTreeResponse node, OrgChartSummaryCache.Summary summary) {
+        long empCount = summary.getHeadcounts().getOrDefault(node.getId(), 0L);
 
         OrgChartNodeResponse.ManagerInfo managerInfo = null;
-        if (department.getManagerId() != null) {
-            EmployeeClientResponse emp = managerInfoMap.get(department.getManagerId());
-            if (emp != null) {
-                managerInfo = OrgChartNodeResponse.ManagerInfo.builder()
-                    .id(department.getManagerId())
-                    .name(emp.getName())
-                    .gradeName(emp.getGradeName())
-                    .positionName(emp.getPositionName())
-                    .build();
-            } else {
+        if (node.getManagerId() != null) {
+            managerInfo = summary.getManagers().get(node.getManagerId());
+            if (managerInfo == null) {
                 managerInfo = OrgChartNodeResponse.ManagerInfo.builder()
-                    .id(department.getManagerId())
+                    .id(node.getManagerId())
                     .build();
             }
         }
 
         List<OrgChartNodeResponse> children = null;
-        List<Department> childDepts = childrenMap.get(department.getId());
-        if (childDepts != null && !childDepts.isEmpty()) {
-            children = childDepts.stream()
-                .filter(Department::isActive)
-                .map(child -> buildOrgChartNode(child, childrenMap, empCountMap, managerInfoMap))
+        if (node.getChildren() != null && !node.getChildren().isEmpty()) {
+            children = node.getChildren().stream()
+                .map(child -> buildOrgChartNode(child, summary))
                 .collect(Collectors.toList());
         }
 
         return OrgChartNodeResponse.builder()
-            .id(department.getId())
-            .code(department.getCode())
-            .name(department.getName())
-            .level(department.getLevel())
-            .status(department.getStatus().name())
+            .id(node.getId())
+            .code(node.getCode())
+            .name(node.getName())
+            .level(node.getLevel())
+            .status(node.getStatus().name())
             .manager(managerInfo)
-            .employeeCount(empCount.intValue())
+            .employeeCount((int) empCount)
             .children(children)
             .build();
     }
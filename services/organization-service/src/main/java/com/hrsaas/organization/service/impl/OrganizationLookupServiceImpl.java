@@ -0,0 +1,207 @@
+package com.hrsaas.organization.service.impl;
+
+import com.hrsaas.common.core.exception.ExternalServiceException;
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.client.EmployeeClient;
+import com.hrsaas.organization.client.dto.EmployeeClientResponse;
+import com.hrsaas.organization.client.dto.OrgChartSummaryRequest;
+import com.hrsaas.organization.client.dto.OrgChartSummaryResponse;
+import com.hrsaas.organization.domain.dto.request.ApproverLookupRequest;
+import com.hrsaas.organization.domain.dto.request.ApproverLookupRequest.PositionHolderKey;
+import com.hrsaas.organization.domain.dto.request.OrganizationNameLookupRequest;
+import com.hrsaas.organization.domain.dto.response.ApproverLookupResponse;
+import com.hrsaas.organization.domain.dto.response.ApproverLookupResponse.ApproverInfo;
+import com.hrsaas.organization.domain.dto.response.OrganizationNameLookupResponse;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.domain.entity.Grade;
+import com.hrsaas.organization.domain.entity.Position;
+import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.repository.GradeRepository;
+import com.hrsaas.organization.repository.PositionRepository;
+import com.hrsaas.organization.service.OrganizationLookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrganizationLookupServiceImpl implements OrganizationLookupService {
+
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+    private final GradeRepository gradeRepository;
+    private final EmployeeClient employeeClient;
+
+    @Override
+    public OrganizationNameLookupResponse lookupNames(OrganizationNameLookupRequest request) {
+        UUID tenantId = TenantContext.getCurrentTenant();
+
+        Map<UUID, String> departments = isEmpty(request.getDepartmentIds()) ? Map.of()
+            : departmentRepository.findByTenantIdAndIdIn(tenantId, request.getDepartmentIds()).stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName, (a, b) -> a));
+
+        Map<String, String> positions = isEmpty(request.getPositionCodes()) ? Map.of()
+            : positionRepository.findByTenantIdAndCodeIn(tenantId, request.getPositionCodes()).stream()
+                .collect(Collectors.toMap(Position::getCode, Position::getName, (a, b) -> a));
+
+        Map<String, String> grades = isEmpty(request.getGradeCodes()) ? Map.of()
+            : gradeRepository.findByTenantIdAndCodeIn(tenantId, request.getGradeCodes()).stream()
+                .collect(Collectors.toMap(Grade::getCode, Grade::getName, (a, b) -> a));
+
+        log.debug("Organization names looked up: tenant={}, departments={}/{}, positions={}/{}, grades={}/{}",
+            tenantId, departments.size(), size(request.getDepartmentIds()),
+            positions.size(), size(request.getPositionCodes()),
+            grades.size(), size(request.getGradeCodes()));
+
+        return OrganizationNameLookupResponse.builder()
+            .departments(departments)
+            .positions(positions)
+            .grades(grades)
+            .build();
+    }
+
+    /**
+     * 부서장은 부서의 managerId로, 직책자는 해당 부서 재직자 중 직책 코드가 일치하는 직원으로 해석합니다.
+     * 직책자가 여러 명이면 부서장을 우선하고, 그 외에는 사번 순으로 첫 번째 직원을 반환합니다.
+     * employee-service 조회에 실패하면 결재자가 누락되지 않도록 예외를 던집니다.
+     */
+    @Override
+    public ApproverLookupResponse lookupApprovers(ApproverLookupRequest request) {
+        UUID tenantId = TenantContext.getCurrentTenant();
+        Set<UUID> headDepartmentIds = request.getHeadDepartmentIds() != null ? request.getHeadDepartmentIds() : Set.of();
+        List<PositionHolderKey> holderKeys = request.getPositionHolders() != null ? request.getPositionHolders() : List.of();
+
+        Set<UUID> departmentIds = new HashSet<>(headDepartmentIds);
+        holderKeys.forEach(key -> departmentIds.add(key.getDepartmentId()));
+        Map<UUID, Department> departments = departmentIds.isEmpty() ? Map.of()
+            : departmentRepository.findByTenantIdAndIdIn(tenantId, departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, department -> department, (a, b) -> a));
+
+        Map<UUID, OrgChartSummaryResponse.ManagerSummary> heads = fetchHeads(headDepartmentIds.stream()
+            .map(departments::get)
+            .filter(Objects::nonNull)
+            .map(Department::getManagerId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList());
+
+        Map<UUID, List<EmployeeClientResponse>> members = new HashMap<>();
+        for (PositionHolderKey key : holderKeys) {
+            if (departments.containsKey(key.getDepartmentId())) {
+                members.computeIfAbsent(key.getDepartmentId(), this::fetchDepartmentMembers);
+            }
+        }
+
+        Set<String> positionCodes = new HashSet<>();
+        heads.values().forEach(head -> positionCodes.add(head.getPositionCode()));
+        holderKeys.forEach(key -> positionCodes.add(key.getPositionCode()));
+        positionCodes.remove(null);
+        Map<String, String> positionNames = positionCodes.isEmpty() ? Map.of()
+            : positionRepository.findByTenantIdAndCodeIn(tenantId, positionCodes).stream()
+                .collect(Collectors.toMap(Position::getCode, Position::getName, (a, b) -> a));
+
+        Map<UUID, ApproverInfo> departmentHeads = new LinkedHashMap<>();
+        for (UUID departmentId : headDepartmentIds) {
+            Department department = departments.get(departmentId);
+            OrgChartSummaryResponse.ManagerSummary head = department != null && department.getManagerId() != null
+                ? heads.get(department.getManagerId()) : null;
+            if (head != null) {
+                departmentHeads.put(departmentId, ApproverInfo.builder()
+                    .employeeId(head.getId())
+                    .employeeName(head.getName())
+                    .positionName(head.getPositionCode() != null ? positionNames.get(head.getPositionCode()) : null)
+                    .departmentName(department.getName())
+                    .build());
+            }
+        }
+
+        List<ApproverLookupResponse.PositionHolder> positionHolders = new ArrayList<>();
+        for (PositionHolderKey key : holderKeys) {
+            Department department = departments.get(key.getDepartmentId());
+            EmployeeClientResponse holder = department == null ? null
+                : selectHolder(members.get(key.getDepartmentId()), key.getPositionCode(), department.getManagerId());
+            if (holder != null) {
+                positionHolders.add(ApproverLookupResponse.PositionHolder.builder()
+                    .positionCode(key.getPositionCode())
+                    .departmentId(key.getDepartmentId())
+                    .holder(ApproverInfo.builder()
+                        .employeeId(holder.getId())
+                        .employeeName(holder.getName())
+                        .positionName(positionNames.getOrDefault(key.getPositionCode(), holder.getPositionName()))
+                        .departmentName(department.getName())
+                        .build())
+                    .build());
+            }
+        }
+
+        log.debug("Approvers looked up: tenant={}, heads={}/{}, positionHolders={}/{}",
+            tenantId, departmentHeads.size(), headDepartmentIds.size(), positionHolders.size(), holderKeys.size());
+
+        return ApproverLookupResponse.builder()
+            .departmentHeads(departmentHeads)
+            .positionHolders(positionHolders)
+            .build();
+    }
+
+    private Map<UUID, OrgChartSummaryResponse.ManagerSummary> fetchHeads(List<UUID> managerIds) {
+        if (managerIds.isEmpty()) {
+            return Map.of();
+        }
+        // 빈 departmentIds: 인원 집계 없이 부서장 요약만 조회
+        ApiResponse<OrgChartSummaryResponse> response = employeeClient.getOrgChartSummary(OrgChartSummaryRequest.builder()
+            .departmentIds(List.of())
+            .managerIds(managerIds)
+            .build());
+        if (response == null || response.getData() == null) {
+            throw new ExternalServiceException("employee-service", "부서장 정보를 조회할 수 없습니다");
+        }
+        List<OrgChartSummaryResponse.ManagerSummary> managers = response.getData().getManagers();
+        return managers == null ? Map.of() : managers.stream()
+            .collect(Collectors.toMap(OrgChartSummaryResponse.ManagerSummary::getId, manager -> manager, (a, b) -> a));
+    }
+
+    private List<EmployeeClientResponse> fetchDepartmentMembers(UUID departmentId) {
+        ApiResponse<List<EmployeeClientResponse>> response = employeeClient.getEmployeesByDepartment(departmentId);
+        if (response == null || response.getData() == null) {
+            throw new ExternalServiceException("employee-service", "부서 직원 정보를 조회할 수 없습니다: " + departmentId);
+        }
+        return response.getData();
+    }
+
+    private static EmployeeClientResponse selectHolder(List<EmployeeClientResponse> members, String positionCode,
+                                                       UUID managerId) {
+        if (members == null) {
+            return null;
+        }
+        return members.stream()
+            .filter(member -> positionCode.equals(member.getPositionCode()))
+            .min(Comparator.comparing((EmployeeClientResponse member) -> !member.getId().equals(managerId))
+                .thenComparing(EmployeeClientResponse::getEmployeeNumber, Comparator.nullsLast(Comparator.naturalOrder())))
+            .orElse(null);
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static int size(Collection<?> values) {
+        return values == null ? 0 : values.size();
+    }
+}
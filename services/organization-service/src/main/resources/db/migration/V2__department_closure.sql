@@ -0,0 +1,132 @@
+-- Organization Service: department closure table (V2)
+-- 하위 트리/상위 경로/포함 여부 조회를 인덱스 1회 조회로 처리하기 위한 closure table과
+-- 테넌트별 부서 트리 캐시 검증용 revision 카운터
+
+SET search_path TO hr_core, public;
+
+-- =============================================================================
+-- 1. TABLES
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1.1 department_closure: (ancestor, descendant) 모든 쌍. 자기 자신은 depth 0
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS hr_core.department_closure (
+    tenant_id     UUID NOT NULL,
+    ancestor_id   UUID NOT NULL,
+    descendant_id UUID NOT NULL,
+    depth         INTEGER NOT NULL,
+
+    CONSTRAINT pk_department_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_department_closure_ancestor
+        FOREIGN KEY (ancestor_id) REFERENCES hr_core.department (id) ON DELETE CASCADE,
+    CONSTRAINT fk_department_closure_descendant
+        FOREIGN KEY (descendant_id) REFERENCES hr_core.department (id) ON DELETE CASCADE
+);
+
+-- 상위 경로 조회 (descendant -> ancestors)
+CREATE INDEX idx_department_closure_descendant ON hr_core.department_closure (descendant_id, depth);
+
+-- -----------------------------------------------------------------------------
+-- 1.2 department_tree_revision: 테넌트별 부서 트리 변경 카운터
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS hr_core.department_tree_revision (
+    tenant_id  UUID PRIMARY KEY,
+    revision   BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- =============================================================================
+-- 2. CLOSURE MAINTENANCE TRIGGER
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION hr_core.maintain_department_closure()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO hr_core.department_closure (tenant_id, ancestor_id, descendant_id, depth)
+        VALUES (NEW.tenant_id, NEW.id, NEW.id, 0);
+
+        IF NEW.parent_id IS NOT NULL THEN
+            INSERT INTO hr_core.department_closure (tenant_id, ancestor_id, descendant_id, depth)
+            SELECT NEW.tenant_id, c.ancestor_id, NEW.id, c.depth + 1
+            FROM hr_core.department_closure c
+            WHERE c.descendant_id = NEW.parent_id;
+        END IF;
+        RETURN NEW;
+    END IF;
+
+    -- UPDATE OF parent_id: 하위 트리 전체를 새 상위 경로로 재연결
+    IF NEW.parent_id IS NOT DISTINCT FROM OLD.parent_id THEN
+        RETURN NEW;
+    END IF;
+
+    -- 기존 상위(자기 자신 제외) -> 하위 트리 경로 삭제
+    DELETE FROM hr_core.department_closure c
+    USING hr_core.department_closure sub, hr_core.department_closure sup
+    WHERE sub.ancestor_id = NEW.id
+      AND sup.descendant_id = NEW.id
+      AND sup.ancestor_id <> NEW.id
+      AND c.ancestor_id = sup.ancestor_id
+      AND c.descendant_id = sub.descendant_id;
+
+    -- 새 상위 경로 x 하위 트리
+    IF NEW.parent_id IS NOT NULL THEN
+        INSERT INTO hr_core.department_closure (tenant_id, ancestor_id, descendant_id, depth)
+        SELECT NEW.tenant_id, sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+        FROM hr_core.department_closure sup
+        CROSS JOIN hr_core.department_closure sub
+        WHERE sup.descendant_id = NEW.parent_id
+          AND sub.ancestor_id = NEW.id;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_department_closure_insert
+    AFTER INSERT ON hr_core.department
+    FOR EACH ROW
+    EXECUTE FUNCTION hr_core.maintain_department_closure();
+
+CREATE TRIGGER trg_department_closure_move
+    AFTER UPDATE OF parent_id ON hr_core.department
+    FOR EACH ROW
+    EXECUTE FUNCTION hr_core.maintain_department_closure();
+
+-- =============================================================================
+-- 3. BACKFILL
+-- =============================================================================
+
+INSERT INTO hr_core.department_closure (tenant_id, ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (tenant_id, ancestor_id, descendant_id, depth) AS (
+    SELECT d.tenant_id, d.id, d.id, 0
+    FROM hr_core.department d
+    UNION ALL
+    SELECT p.tenant_id, p.ancestor_id, d.id, p.depth + 1
+    FROM paths p
+    JOIN hr_core.department d ON d.parent_id = p.descendant_id
+)
+SELECT tenant_id, ancestor_id, descendant_id, depth
+FROM paths
+ON CONFLICT DO NOTHING;
+
+-- =============================================================================
+-- 4. ROW LEVEL SECURITY
+-- =============================================================================
+
+ALTER TABLE hr_core.department_closure ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_core.department_closure FORCE ROW LEVEL SECURITY;
+
+ALTER TABLE hr_core.department_tree_revision ENABLE ROW LEVEL SECURITY;
+ALTER TABLE hr_core.department_tree_revision FORCE ROW LEVEL SECURITY;
+
+CREATE POLICY department_closure_tenant_isolation ON hr_core.department_closure
+    FOR ALL
+    USING (hr_core.get_current_tenant_safe() IS NULL OR tenant_id = hr_core.get_current_tenant_safe())
+    WITH CHECK (hr_core.get_current_tenant_safe() IS NULL OR tenant_id = hr_core.get_current_tenant_safe());
+
+CREATE POLICY department_tree_revision_tenant_isolation ON hr_core.department_tree_revision
+    FOR ALL
+    USING (hr_core.get_current_tenant_safe() IS NULL OR tenant_id = hr_core.get_current_tenant_safe())
+    WITH CHECK (hr_core.get_current_tenant_safe() IS NULL OR tenant_id = hr_core.get_current_tenant_safe());
@@ -0,0 +1,117 @@
+package com.hrsaas.organization.listener;
+
+import com.hrsaas.common.core.util.JsonUtils;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.TestEntityFactory;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.domain.event.DepartmentMergedEvent;
+import com.hrsaas.organization.domain.event.DepartmentUpdatedEvent;
+import com.hrsaas.organization.repository.CommitteeMemberRepository;
+import com.hrsaas.organization.service.OrgChartSummaryCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AffiliationChangedListener Tests")
+class AffiliationChangedListenerTest {
+
+    @Mock
+    private CommitteeMemberRepository committeeMemberRepository;
+
+    @Mock
+    private OrgChartSummaryCache orgChartSummaryCache;
+
+    @InjectMocks
+    private AffiliationChangedListener listener;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("handleMessage: SNS-wrapped DepartmentUpdatedEvent refreshes the department in its tenant")
+    void handleMessage_departmentUpdated_refreshesOrgChart() {
+        UUID tenantId = UUID.randomUUID();
+        UUID departmentId = UUID.randomUUID();
+        Department department = TestEntityFactory.createDepartment(departmentId, "D01", "개발팀");
+        department.setTenantId(tenantId);
+        AtomicReference<UUID> refreshedTenant = new AtomicReference<>();
+        doAnswer(invocation -> {
+            refreshedTenant.set(TenantContext.getCurrentTenant());
+            return null;
+        }).when(orgChartSummaryCache).refresh(any(), any());
+
+        String event = JsonUtils.toJson(DepartmentUpdatedEvent.of(department));
+        listener.handleMessage(JsonUtils.toJson(Map.of("Type", "Notification", "Message", event)));
+
+        verify(orgChartSummaryCache).refresh(List.of(departmentId), List.of());
+        assertThat(refreshedTenant.get()).isEqualTo(tenantId);
+        assertThat(TenantContext.getCurrentTenant()).isNull();
+    }
+
+    @Test
+    @DisplayName("handleMessage: DepartmentMergedEvent refreshes the source and target departments")
+    void handleMessage_departmentMerged_refreshesSourcesAndTarget() {
+        UUID source1 = UUID.randomUUID();
+        UUID source2 = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        listener.handleMessage(JsonUtils.toJson(DepartmentMergedEvent.builder()
+            .tenantId(UUID.randomUUID())
+            .sourceIds(List.of(source1, source2))
+            .targetId(target)
+            .targetName("통합팀")
+            .build()));
+
+        verify(orgChartSummaryCache).refresh(List.of(source1, source2, target), List.of());
+    }
+
+    @Test
+    @DisplayName("handleMessage: employee created event payload refreshes the department and employee")
+    void handleMessage_employeeCreated_refreshesDepartmentAndEmployee() {
+        UUID tenantId = UUID.randomUUID();
+        UUID employeeId = UUID.randomUUID();
+        UUID departmentId = UUID.randomUUID();
+        // Payload as serialized by employee-service's EmployeeCreatedEvent (DomainEvent fields included)
+        String message = String.format("""
+            {
+                "eventId": "%s",
+                "eventType": "EmployeeCreatedEvent",
+                "timestamp": "2026-01-01T00:00:00Z",
+                "tenantId": "%s",
+                "employeeId": "%s",
+                "employeeNumber": "EMP-001",
+                "name": "홍길동",
+                "departmentId": "%s",
+                "topic": "employee-created"
+            }
+            """, UUID.randomUUID(), tenantId, employeeId, departmentId);
+
+        listener.handleMessage(message);
+
+        verify(orgChartSummaryCache).refresh(List.of(departmentId), List.of(employeeId));
+    }
+
+    @Test
+    @DisplayName("handleMessage: unrelated events are ignored")
+    void handleMessage_unknownEvent_ignored() {
+        listener.handleMessage("{\"eventType\":\"LeaveRequestCreatedEvent\"}");
+
+        verifyNoInteractions(orgChartSummaryCache, committeeMemberRepository);
+    }
+}
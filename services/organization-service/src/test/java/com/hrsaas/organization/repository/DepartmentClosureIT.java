@@ -0,0 +1,71 @@
+package com.hrsaas.organization.repository;
+
+import com.hrsaas.common.database.test.AbstractRepositoryTest;
+import com.hrsaas.organization.domain.entity.Department;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the department closure table (V2 trigger) with Testcontainers.
+ */
+@ActiveProfiles("test")
+class DepartmentClosureIT extends AbstractRepositoryTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Test
+    @DisplayName("closure - 부서 생성 시 하위 트리/상위 경로/포함 여부 조회")
+    void insert_maintainsClosure() {
+        UUID root = insert("ROOT", null, 1, "/ROOT");
+        UUID division = insert("DIV", root, 2, "/ROOT/DIV");
+        UUID team = insert("TEAM", division, 3, "/ROOT/DIV/TEAM");
+
+        assertThat(departmentRepository.findSubtreeIds(root)).containsExactly(root, division, team);
+        assertThat(departmentRepository.findAncestorPath(team))
+            .extracting(Department::getId)
+            .containsExactly(root, division, team);
+        assertThat(departmentRepository.existsInSubtree(root, team)).isTrue();
+        assertThat(departmentRepository.existsInSubtree(team, root)).isFalse();
+        assertThat(departmentRepository.findMaxSubtreeDepth(root)).isEqualTo(2);
+        assertThat(departmentRepository.findMaxSubtreeDepth(team)).isZero();
+    }
+
+    @Test
+    @DisplayName("closure - 부서 이동 시 하위 트리 경로 재연결 및 level/path 일괄 갱신")
+    void move_relinksSubtree() {
+        UUID rootA = insert("A", null, 1, "/A");
+        UUID rootB = insert("B", null, 1, "/B");
+        UUID division = insert("DIV", rootA, 2, "/A/DIV");
+        UUID team = insert("TEAM", division, 3, "/A/DIV/TEAM");
+        UUID bTeam = insert("BT", rootB, 2, "/B/BT");
+
+        // DIV를 B/BT 아래로 이동
+        jdbcTemplate.update("UPDATE hr_core.department SET parent_id = ?, level = 3, path = '/B/BT/DIV' WHERE id = ?",
+            bTeam, division);
+        departmentRepository.shiftSubtree(division, "/A/DIV", "/B/BT/DIV", 1);
+
+        assertThat(departmentRepository.findSubtreeIds(rootA)).containsExactly(rootA);
+        assertThat(departmentRepository.findSubtreeIds(rootB)).containsExactly(rootB, bTeam, division, team);
+        assertThat(departmentRepository.existsInSubtree(rootA, team)).isFalse();
+        assertThat(departmentRepository.existsInSubtree(bTeam, team)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT level || ':' || path FROM hr_core.department WHERE id = ?", String.class, team))
+            .isEqualTo("4:/B/BT/DIV/TEAM");
+    }
+
+    private UUID insert(String code, UUID parentId, int level, String path) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO hr_core.department (id, tenant_id, code, name, parent_id, level, path, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'ACTIVE')",
+            id, TENANT_A, code, code, parentId, level, path);
+        return id;
+    }
+}
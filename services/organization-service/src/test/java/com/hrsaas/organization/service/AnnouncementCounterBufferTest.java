@@ -0,0 +1,201 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.organization.repository.AnnouncementCounterRepository;
+import com.hrsaas.organization.repository.AnnouncementCounterRepository.PendingRead;
+import com.hrsaas.organization.repository.AnnouncementCounterRepository.ViewDelta;
+import com.hrsaas.organization.repository.AnnouncementReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnnouncementCounterBufferTest {
+
+    @Mock
+    private AnnouncementCounterRepository counterRepository;
+
+    @Mock
+    private AnnouncementReadRepository announcementReadRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AnnouncementCounterBuffer buffer;
+    private UUID announcementId;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new AnnouncementCounterBuffer(counterRepository, announcementReadRepository, transactionTemplate, 60_000);
+        announcementId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("조회수 - 요청마다 DB를 갱신하지 않고 flush 시 증가분을 한 번에 반영")
+    void recordView_flushesAggregatedDelta() {
+        runTransactionCallbacks();
+        IntStream.range(0, 50).parallel().forEach(i -> buffer.recordView(announcementId));
+
+        assertThat(buffer.viewCount(announcementId, 100L)).isEqualTo(150L);
+        verifyNoInteractions(counterRepository);
+
+        buffer.flush();
+
+        verify(counterRepository).addViewCounts(List.of(new ViewDelta(announcementId, 50L)));
+        assertThat(buffer.viewCount(announcementId, 150L)).isEqualTo(150L);
+    }
+
+    @Test
+    @DisplayName("읽음 - 같은 직원의 반복 조회는 1건으로 모아 flush")
+    void recordRead_dedupesPendingReaders() {
+        runTransactionCallbacks();
+        UUID employeeId = UUID.randomUUID();
+        buffer.recordRead(announcementId, employeeId);
+        buffer.recordRead(announcementId, employeeId);
+        buffer.recordRead(announcementId, UUID.randomUUID());
+
+        buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingRead>> captor = ArgumentCaptor.forClass(List.class);
+        verify(counterRepository).insertReads(captor.capture());
+        assertThat(captor.getValue()).hasSize(2)
+            .extracting(PendingRead::announcementId)
+            .containsOnly(announcementId);
+        verify(counterRepository, never()).addViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("읽음 - 이미 DB에 읽음 기록이 있는 직원은 다시 집계하지 않음")
+    void recordRead_alreadyPersisted_skipped() {
+        UUID employeeId = UUID.randomUUID();
+        when(announcementReadRepository.existsByAnnouncementIdAndEmployeeId(announcementId, employeeId))
+            .thenReturn(true);
+        when(announcementReadRepository.countByAnnouncementId(announcementId)).thenReturn(10L);
+
+        buffer.recordRead(announcementId, employeeId);
+
+        assertThat(buffer.readCount(announcementId)).isEqualTo(10L);
+        buffer.flush();
+        verifyNoInteractions(transactionTemplate, counterRepository);
+    }
+
+    @Test
+    @DisplayName("읽음 - 미반영 목록에 있는 직원은 DB 확인 없이 건너뜀")
+    void recordRead_pendingReader_skipsLookup() {
+        UUID employeeId = UUID.randomUUID();
+
+        buffer.recordRead(announcementId, employeeId);
+        buffer.recordRead(announcementId, employeeId);
+
+        verify(announcementReadRepository, times(1)).existsByAnnouncementIdAndEmployeeId(announcementId, employeeId);
+    }
+
+    @Test
+    @DisplayName("flush - 반영이 끝나 비어 있는 카운터와 읽음 집계는 맵에서 제거")
+    void flush_removesIdleEntries() {
+        runTransactionCallbacks();
+        buffer.recordView(announcementId);
+        buffer.recordRead(announcementId, UUID.randomUUID());
+
+        buffer.flush();
+        assertThat(trackedReads()).isEmpty();
+        assertThat(trackedViews()).containsOnlyKeys(announcementId);
+
+        buffer.flush();
+        assertThat(trackedViews()).isEmpty();
+
+        buffer.recordView(announcementId);
+        assertThat(buffer.viewCount(announcementId, 0L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("읽음 수 - DB 집계는 TTL 동안 재사용하고 미반영 읽음을 더해 응답")
+    void readCount_cachesPersistedCountAndAddsPending() {
+        when(announcementReadRepository.countByAnnouncementId(announcementId)).thenReturn(10L);
+
+        buffer.recordRead(announcementId, UUID.randomUUID());
+        long first = buffer.readCount(announcementId);
+        buffer.recordRead(announcementId, UUID.randomUUID());
+        long second = buffer.readCount(announcementId);
+
+        assertThat(first).isEqualTo(11L);
+        assertThat(second).isEqualTo(12L);
+        verify(announcementReadRepository, times(1)).countByAnnouncementId(announcementId);
+    }
+
+    @Test
+    @DisplayName("읽음 수 - flush 후에는 DB 집계를 다시 읽어 미반영분과 중복 집계하지 않음")
+    void readCount_afterFlush_reloadsPersistedCount() {
+        runTransactionCallbacks();
+        when(announcementReadRepository.countByAnnouncementId(announcementId)).thenReturn(10L, 11L);
+
+        buffer.recordRead(announcementId, UUID.randomUUID());
+        assertThat(buffer.readCount(announcementId)).isEqualTo(11L);
+
+        buffer.flush();
+
+        assertThat(buffer.readCount(announcementId)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("flush 실패 - 증가분과 읽음 기록을 유지해 다음 flush에서 재시도")
+    void flush_failure_keepsPendingForRetry() {
+        buffer.recordView(announcementId);
+        buffer.recordView(announcementId);
+        buffer.recordRead(announcementId, UUID.randomUUID());
+        doThrow(new IllegalStateException("db down")).when(transactionTemplate).executeWithoutResult(any());
+
+        buffer.flush();
+
+        assertThat(buffer.viewCount(announcementId, 0L)).isEqualTo(2L);
+
+        reset(transactionTemplate);
+        runTransactionCallbacks();
+        buffer.flush();
+
+        verify(counterRepository).addViewCounts(List.of(new ViewDelta(announcementId, 2L)));
+        verify(counterRepository).insertReads(argThat(reads -> reads.size() == 1));
+    }
+
+    @Test
+    @DisplayName("flush - 반영할 내용이 없으면 트랜잭션을 열지 않음")
+    void flush_nothingPending_skips() {
+        buffer.flush();
+
+        verifyNoInteractions(transactionTemplate, counterRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, LongAdder> trackedViews() {
+        return (Map<UUID, LongAdder>) ReflectionTestUtils.getField(buffer, "views");
+    }
+
+    private Map<?, ?> trackedReads() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(buffer, "reads");
+    }
+
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,184 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheKeys;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.TestEntityFactory;
+import com.hrsaas.organization.domain.dto.response.DepartmentTreeResponse;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.domain.entity.DepartmentStatus;
+import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.repository.DepartmentTreeRevisionRepository;
+import com.hrsaas.organization.service.DepartmentTreeCache.Snapshot;
+import com.hrsaas.organization.service.DepartmentTreeCache.TreePatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentTreeCacheTest {
+
+    private static final String KEY = "tree:tenant:active";
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TenantCacheKeys tenantCacheKeys;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private DepartmentTreeRevisionRepository revisionRepository;
+
+    private ConcurrentMapCache cache;
+    private DepartmentTreeCache treeCache;
+    private UUID tenantId;
+
+    private Department root;
+    private Department dev;
+    private Department sales;
+    private Department backend;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        TenantContext.setCurrentTenant(tenantId);
+
+        cache = new ConcurrentMapCache(CacheNames.ORGANIZATION_TREE);
+        when(cacheManager.getCache(CacheNames.ORGANIZATION_TREE)).thenReturn(cache);
+        when(tenantCacheKeys.entity("tree", "active")).thenReturn(KEY);
+        treeCache = new DepartmentTreeCache(cacheManager, tenantCacheKeys, departmentRepository, revisionRepository);
+
+        root = TestEntityFactory.createDepartment(UUID.randomUUID(), "HQ", "본사");
+        dev = department("DEV", "개발본부", root, 1);
+        sales = department("SALES", "영업본부", root, 2);
+        backend = department("BE", "백엔드팀", dev, 1);
+        when(departmentRepository.findAllWithParent(tenantId, DepartmentStatus.ACTIVE))
+            .thenReturn(List.of(root, dev, sales, backend));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("getTree - revision 일치 시 DB 조회 없이 스냅샷 반환")
+    void getTree_sameRevision_usesSnapshot() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L);
+
+        List<DepartmentTreeResponse> first = treeCache.getTree();
+        List<DepartmentTreeResponse> second = treeCache.getTree();
+
+        assertThat(second).isSameAs(first);
+        assertThat(names(first.get(0).getChildren())).containsExactly("개발본부", "영업본부");
+        verify(departmentRepository, times(1)).findAllWithParent(any(), any());
+    }
+
+    @Test
+    @DisplayName("getTree - revision 불일치 시 재구성")
+    void getTree_staleRevision_rebuilds() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L, 4L);
+
+        treeCache.getTree();
+        treeCache.getTree();
+
+        verify(departmentRepository, times(2)).findAllWithParent(any(), any());
+        assertThat(snapshot().getRevision()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("applyChange - 부서 추가는 sortOrder 위치에 삽입하고 원본 스냅샷은 유지")
+    void applyChange_added_insertsBySortOrder() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L);
+        List<DepartmentTreeResponse> original = treeCache.getTree();
+
+        Department hr = department("HR", "인사본부", root, 1);
+        treeCache.applyChange(4L, TreePatch.create().added(hr));
+
+        Snapshot patched = snapshot();
+        assertThat(patched.getRevision()).isEqualTo(4L);
+        assertThat(names(patched.getRoots().get(0).getChildren())).containsExactly("개발본부", "인사본부", "영업본부");
+        assertThat(names(original.get(0).getChildren())).containsExactly("개발본부", "영업본부");
+    }
+
+    @Test
+    @DisplayName("applyChange - 부서 이동 시 하위 트리를 함께 옮기고 level 조정")
+    void applyChange_moved_carriesSubtree() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L);
+        treeCache.getTree();
+
+        dev.setParent(sales);
+        dev.updateHierarchy();
+        treeCache.applyChange(4L, TreePatch.create().updated(dev));
+
+        DepartmentTreeResponse hq = snapshot().getRoots().get(0);
+        assertThat(names(hq.getChildren())).containsExactly("영업본부");
+        DepartmentTreeResponse movedDev = hq.getChildren().get(0).getChildren().get(0);
+        assertThat(movedDev.getLevel()).isEqualTo(3);
+        assertThat(movedDev.getChildren()).extracting(DepartmentTreeResponse::getLevel).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("applyChange - 비활성화/삭제 부서는 하위 트리와 함께 제외")
+    void applyChange_deactivated_removesSubtree() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L);
+        treeCache.getTree();
+
+        dev.deactivate();
+        treeCache.applyChange(4L, TreePatch.create().updated(dev).removed(sales.getId()));
+
+        assertThat(snapshot().getRoots().get(0).getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("applyChange - 직전 revision 스냅샷이 아니면 현재 테넌트 스냅샷 삭제")
+    void applyChange_revisionGap_evicts() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L);
+        treeCache.getTree();
+
+        treeCache.applyChange(5L, TreePatch.create().added(department("HR", "인사본부", root, 1)));
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("applyChange - 트리에 없던 기존 부서 변경은 반영할 수 없어 삭제")
+    void applyChange_unknownExistingDepartment_evicts() {
+        when(revisionRepository.current(tenantId)).thenReturn(3L);
+        treeCache.getTree();
+
+        treeCache.applyChange(4L, TreePatch.create().updated(department("OLD", "숨김부서", root, 9)));
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    private Department department(String code, String name, Department parent, int sortOrder) {
+        Department department = TestEntityFactory.createDepartment(UUID.randomUUID(), code, name, parent);
+        department.setSortOrder(sortOrder);
+        return department;
+    }
+
+    private Snapshot snapshot() {
+        return cache.get(KEY, Snapshot.class);
+    }
+
+    private static List<String> names(List<DepartmentTreeResponse> nodes) {
+        return nodes.stream().map(DepartmentTreeResponse::getName).toList();
+    }
+}
@@ -0,0 +1,228 @@
+package com.hrsaas.organization.service;
+
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheKeys;
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.TestEntityFactory;
+import com.hrsaas.organization.client.EmployeeClient;
+import com.hrsaas.organization.client.dto.OrgChartSummaryRequest;
+import com.hrsaas.organization.client.dto.OrgChartSummaryResponse;
+import com.hrsaas.organization.domain.dto.response.DepartmentTreeResponse;
+import com.hrsaas.organization.domain.dto.response.OrgChartNodeResponse;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.repository.GradeRepository;
+import com.hrsaas.organization.repository.PositionRepository;
+import com.hrsaas.organization.service.OrgChartSummaryCache.Summary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrgChartSummaryCacheTest {
+
+    private static final String KEY = "orgchart:tenant:summary";
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TenantCacheKeys tenantCacheKeys;
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private GradeRepository gradeRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    private ConcurrentMapCache cache;
+    private OrgChartSummaryCache summaryCache;
+    private UUID tenantId;
+
+    private UUID deptA;
+    private UUID deptB;
+    private UUID managerId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        TenantContext.setCurrentTenant(tenantId);
+
+        cache = new ConcurrentMapCache(CacheNames.ORGANIZATION_TREE);
+        when(cacheManager.getCache(CacheNames.ORGANIZATION_TREE)).thenReturn(cache);
+        when(tenantCacheKeys.entity("orgchart", "summary")).thenReturn(KEY);
+        summaryCache = new OrgChartSummaryCache(cacheManager, tenantCacheKeys, employeeClient,
+            departmentRepository, gradeRepository, positionRepository, 600);
+
+        deptA = UUID.randomUUID();
+        deptB = UUID.randomUUID();
+        managerId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("get - 요약이 없으면 테넌트 전체를 1회 호출로 집계하고 직급/직책 이름을 해석해 캐시")
+    void get_miss_fetchesWholeTenantOnce() {
+        when(employeeClient.getOrgChartSummary(any())).thenReturn(ApiResponse.success(response(
+            Map.of(deptA, 4L, deptB, 2L),
+            List.of(new OrgChartSummaryResponse.ManagerSummary(managerId, "김부장", "TEAM_LEAD", "G3")))));
+        when(gradeRepository.findByTenantIdAndCodeIn(any(), any()))
+            .thenReturn(List.of(TestEntityFactory.createGrade(UUID.randomUUID(), "G3", "부장", 3)));
+        when(positionRepository.findByTenantIdAndCodeIn(any(), any()))
+            .thenReturn(List.of(TestEntityFactory.createPosition(UUID.randomUUID(), "TEAM_LEAD", "팀장", 2)));
+
+        List<DepartmentTreeResponse> tree = List.of(node(deptA, managerId, List.of(node(deptB, null, List.of()))));
+        Summary first = summaryCache.get(tree);
+        Summary second = summaryCache.get(tree);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getHeadcounts()).containsEntry(deptA, 4L).containsEntry(deptB, 2L);
+        OrgChartNodeResponse.ManagerInfo manager = first.getManagers().get(managerId);
+        assertThat(manager.getName()).isEqualTo("김부장");
+        assertThat(manager.getGradeName()).isEqualTo("부장");
+        assertThat(manager.getPositionName()).isEqualTo("팀장");
+
+        ArgumentCaptor<OrgChartSummaryRequest> captor = ArgumentCaptor.forClass(OrgChartSummaryRequest.class);
+        verify(employeeClient, times(1)).getOrgChartSummary(captor.capture());
+        assertThat(captor.getValue().getDepartmentIds()).isNull();
+        assertThat(captor.getValue().getManagerIds()).containsExactly(managerId);
+    }
+
+    @Test
+    @DisplayName("get - employee-service 응답이 없으면 빈 요약을 반환하고 캐시하지 않음")
+    void get_unavailable_returnsEmptyWithoutCaching() {
+        when(employeeClient.getOrgChartSummary(any())).thenReturn(ApiResponse.success(null));
+
+        Summary summary = summaryCache.get(List.of(node(deptA, null, List.of())));
+
+        assertThat(summary.getHeadcounts()).isEmpty();
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("refresh - 변경된 부서만 다시 조회해 기존 요약에 반영하고 집계 시각은 유지")
+    void refresh_mergesChangedDepartments() {
+        long builtAt = System.currentTimeMillis();
+        OrgChartNodeResponse.ManagerInfo oldManager = OrgChartNodeResponse.ManagerInfo.builder()
+            .id(managerId).name("김부장").build();
+        cache.put(KEY, new Summary(builtAt,
+            new HashMap<>(Map.of(deptA, 4L, deptB, 2L)),
+            new HashMap<>(Map.of(managerId, oldManager))));
+
+        Department departmentB = TestEntityFactory.createDepartment(deptB, "B", "B팀");
+        when(departmentRepository.findByTenantIdAndIdIn(tenantId, List.of(deptB))).thenReturn(List.of(departmentB));
+        when(employeeClient.getOrgChartSummary(any())).thenReturn(ApiResponse.success(response(Map.of(), List.of())));
+
+        summaryCache.refresh(List.of(deptB), List.of());
+
+        Summary refreshed = cache.get(KEY, Summary.class);
+        assertThat(refreshed.getBuiltAtMillis()).isEqualTo(builtAt);
+        assertThat(refreshed.getHeadcounts()).containsOnlyKeys(deptA);
+        assertThat(refreshed.getManagers()).containsKey(managerId);
+
+        ArgumentCaptor<OrgChartSummaryRequest> captor = ArgumentCaptor.forClass(OrgChartSummaryRequest.class);
+        verify(employeeClient).getOrgChartSummary(captor.capture());
+        assertThat(captor.getValue().getDepartmentIds()).containsExactly(deptB);
+        assertThat(captor.getValue().getManagerIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refresh - 직원이 휴직(SUSPENDED) 처리되면 해당 부서 인원만 다시 집계해 감소시킴")
+    void refresh_employeeSuspended_decrementsHeadcount() {
+        UUID employeeId = UUID.randomUUID();
+        cache.put(KEY, new Summary(System.currentTimeMillis(),
+            new HashMap<>(Map.of(deptA, 4L, deptB, 2L)), new HashMap<>()));
+        when(departmentRepository.findByTenantIdAndIdIn(tenantId, List.of(deptA)))
+            .thenReturn(List.of(TestEntityFactory.createDepartment(deptA, "A", "A팀")));
+        when(employeeClient.getOrgChartSummary(any()))
+            .thenReturn(ApiResponse.success(response(Map.of(deptA, 3L), List.of())));
+
+        // EmployeeUpdatedEvent(status=SUSPENDED) carries the employee's department
+        summaryCache.refresh(List.of(deptA), List.of(employeeId));
+
+        Summary refreshed = cache.get(KEY, Summary.class);
+        assertThat(refreshed.getHeadcounts()).containsEntry(deptA, 3L).containsEntry(deptB, 2L);
+    }
+
+    @Test
+    @DisplayName("refresh - 부서장 본인 정보가 바뀌면 부서장 요약만 다시 조회")
+    void refresh_managerChanged_refetchesManager() {
+        cache.put(KEY, new Summary(System.currentTimeMillis(),
+            new HashMap<>(Map.of(deptA, 4L)),
+            new HashMap<>(Map.of(managerId, OrgChartNodeResponse.ManagerInfo.builder()
+                .id(managerId).name("김부장").build()))));
+        when(employeeClient.getOrgChartSummary(any())).thenReturn(ApiResponse.success(response(Map.of(),
+            List.of(new OrgChartSummaryResponse.ManagerSummary(managerId, "김상무", null, null)))));
+
+        summaryCache.refresh(List.of(), List.of(managerId, UUID.randomUUID()));
+
+        Summary refreshed = cache.get(KEY, Summary.class);
+        assertThat(refreshed.getManagers().get(managerId).getName()).isEqualTo("김상무");
+        assertThat(refreshed.getHeadcounts()).containsEntry(deptA, 4L);
+        verifyNoInteractions(departmentRepository, gradeRepository, positionRepository);
+    }
+
+    @Test
+    @DisplayName("refresh - 캐시된 요약이 없거나 만료되었으면 조회하지 않음")
+    void refresh_missingOrExpired_skips() {
+        summaryCache.refresh(List.of(deptA), List.of());
+
+        cache.put(KEY, new Summary(0L, new HashMap<>(), new HashMap<>()));
+        summaryCache.refresh(List.of(deptA), List.of());
+
+        verifyNoInteractions(employeeClient, departmentRepository);
+    }
+
+    @Test
+    @DisplayName("refresh - employee-service 응답이 없으면 요약 삭제")
+    void refresh_unavailable_evicts() {
+        cache.put(KEY, new Summary(System.currentTimeMillis(), new HashMap<>(Map.of(deptA, 4L)), new HashMap<>()));
+        when(departmentRepository.findByTenantIdAndIdIn(tenantId, List.of(deptA))).thenReturn(List.of());
+        when(employeeClient.getOrgChartSummary(any())).thenThrow(new RuntimeException("timeout"));
+
+        summaryCache.refresh(List.of(deptA), List.of());
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    private static OrgChartSummaryResponse response(Map<UUID, Long> headcounts,
+                                                    List<OrgChartSummaryResponse.ManagerSummary> managers) {
+        return new OrgChartSummaryResponse(new HashMap<>(headcounts), new ArrayList<>(managers));
+    }
+
+    private static DepartmentTreeResponse node(UUID id, UUID managerId, List<DepartmentTreeResponse> children) {
+        return DepartmentTreeResponse.builder()
+            .id(id)
+            .managerId(managerId)
+            .children(new ArrayList<>(children))
+            .build();
+    }
+}
@@ -14,6 +14,7 @@ import com.hrsaas.organization.domain.entity.AnnouncementTarget;
 import com.hrsaas.organization.repository.AnnouncementReadRepository;
 import com.hrsaas.organization.repository.AnnouncementRepository;
 import com.hrsaas.organization.repository.AnnouncementTargetRepository;
+import com.hrsaas.organization.service.AnnouncementCounterBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +51,9 @@ class AnnouncementServiceImplTest {
     @Mock
     private AnnouncementReadRepository announcementReadRepository;
 
+    @Mock
+    private AnnouncementCounterBuffer announcementCounterBuffer;
+
     @InjectMocks
     private AnnouncementServiceImpl announcementService;
 
@@ -150,7 +154,7 @@ class AnnouncementServiceImplTest {
     // ===== getById =====
 
     @Test
-    @DisplayName("getById: exists - increments viewCount and returns response")
+    @DisplayName("getById: exists - buffers view and returns counts from the buffer")
     void getById_exists_returnsResponse() {
         // given
         Announcement announcement = TestEntityFactory.createAnnouncement(
@@ -158,8 +162,8 @@ class AnnouncementServiceImplTest {
 
         when(announcementRepository.findByIdAndTenantId(announcementId, tenantId))
                 .thenReturn(Optional.of(announcement));
-        doNothing().when(announcementRepository).incrementViewCount(announcementId);
-        when(announcementReadRepository.countByAnnouncementId(announcementId)).thenReturn(5L);
+        when(announcementCounterBuffer.viewCount(announcementId, 0L)).thenReturn(1L);
+        when(announcementCounterBuffer.readCount(announcementId)).thenReturn(5L);
 
         // when (no user context set - employeeId will be null)
         AnnouncementResponse response = announcementService.getById(announcementId);
@@ -171,9 +175,12 @@ class AnnouncementServiceImplTest {
         assertThat(response.getReadCount()).isEqualTo(5L);
         assertThat(response.getIsRead()).isFalse();
 
-        verify(announcementRepository).incrementViewCount(announcementId);
+        verify(announcementCounterBuffer).recordView(announcementId);
         // No read recorded because no user context
-        verify(announcementReadRepository, never()).save(any(AnnouncementRead.class));
+        verify(announcementCounterBuffer, never()).recordRead(any(), any());
+        // View path does not write to the announcement or read tables
+        verify(announcementRepository, never()).save(any(Announcement.class));
+        verifyNoInteractions(announcementReadRepository);
     }
 
     @Test
@@ -207,14 +214,7 @@ class AnnouncementServiceImplTest {
 
         when(announcementRepository.findByIdAndTenantId(announcementId, tenantId))
                 .thenReturn(Optional.of(announcement));
-        doNothing().when(announcementRepository).incrementViewCount(announcementId);
-        // Called twice: first in recording check (line 98), then for isRead enrichment (line 109)
-        when(announcementReadRepository.existsByAnnouncementIdAndEmployeeId(announcementId, userId))
-                .thenReturn(false)  // first call: not yet read -> triggers save
-                .thenReturn(true);  // second call: now marked as read
-        when(announcementReadRepository.save(any(AnnouncementRead.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(announcementReadRepository.countByAnnouncementId(announcementId)).thenReturn(1L);
+        when(announcementCounterBuffer.readCount(announcementId)).thenReturn(1L);
 
         // when
         AnnouncementResponse response = announcementService.getById(announcementId);
@@ -224,12 +224,8 @@ class AnnouncementServiceImplTest {
         assertThat(response.getReadCount()).isEqualTo(1L);
         assertThat(response.getIsRead()).isTrue();
 
-        ArgumentCaptor<AnnouncementRead> readCaptor = ArgumentCaptor.forClass(AnnouncementRead.class);
-        verify(announcementReadRepository).save(readCaptor.capture());
-
-        AnnouncementRead savedRead = readCaptor.getValue();
-        assertThat(savedRead.getAnnouncementId()).isEqualTo(announcementId);
-        assertThat(savedRead.getEmployeeId()).isEqualTo(userId);
+        verify(announcementCounterBuffer).recordRead(announcementId, userId);
+        verify(announcementReadRepository, never()).save(any(AnnouncementRead.class));
     }
 
     // ===== getAll =====
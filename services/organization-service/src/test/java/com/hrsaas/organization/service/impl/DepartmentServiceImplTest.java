@@ -1,5 +1,7 @@
 package com.hrsaas.organization.service.impl;
 
+import com.hrsaas.common.cache.CacheNames;
+import com.hrsaas.common.cache.TenantCacheEvictor;
 import com.hrsaas.common.core.exception.BusinessException;
 import com.hrsaas.common.core.exception.DuplicateException;
 import com.hrsaas.common.core.exception.NotFoundException;
@@ -17,9 +19,14 @@ import com.hrsaas.organization.domain.dto.request.UpdateDepartmentRequest;
 import com.hrsaas.organization.domain.dto.response.DepartmentMergeResponse;
 import com.hrsaas.organization.domain.dto.response.DepartmentResponse;
 import com.hrsaas.organization.domain.dto.response.DepartmentSplitResponse;
+import com.hrsaas.organization.domain.dto.response.DepartmentTreeResponse;
+import com.hrsaas.organization.domain.dto.response.OrgChartNodeResponse;
 import com.hrsaas.organization.domain.entity.Department;
 import com.hrsaas.organization.domain.entity.DepartmentStatus;
 import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.service.DepartmentTreeCache;
+import com.hrsaas.organization.service.DepartmentTreeCache.TreePatch;
+import com.hrsaas.organization.service.OrgChartSummaryCache;
 import com.hrsaas.organization.service.OrganizationHistoryService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,13 +38,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -56,6 +68,15 @@ class DepartmentServiceImplTest {
     @Mock
     private OrganizationHistoryService organizationHistoryService;
 
+    @Mock
+    private DepartmentTreeCache departmentTreeCache;
+
+    @Mock
+    private OrgChartSummaryCache orgChartSummaryCache;
+
+    @Mock
+    private TenantCacheEvictor tenantCacheEvictor;
+
     @InjectMocks
     private DepartmentServiceImpl departmentService;
 
@@ -106,6 +127,8 @@ class DepartmentServiceImplTest {
 
         verify(departmentRepository).save(any(Department.class));
         verify(eventPublisher).publish(any(DomainEvent.class));
+        verify(departmentTreeCache).beginChange();
+        verify(departmentTreeCache).applyChange(anyLong(), any(TreePatch.class));
     }
 
     @Test
@@ -271,6 +294,108 @@ class DepartmentServiceImplTest {
         verify(eventPublisher).publish(any(DomainEvent.class));
     }
 
+    @Test
+    @DisplayName("update: move - checks cycle/depth via closure and shifts subtree")
+    void update_move_shiftsSubtreeAndEvictsDescendants() {
+        // given
+        UUID deptId = UUID.randomUUID();
+        UUID newParentId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        Department department = TestEntityFactory.createDepartment(deptId, "DEV001", "개발팀");
+        Department newParent = TestEntityFactory.createDepartment(newParentId, "DIV001", "사업부");
+
+        UpdateDepartmentRequest request = UpdateDepartmentRequest.builder()
+                .parentId(newParentId)
+                .build();
+
+        when(departmentTreeCache.beginChange()).thenReturn(7L);
+        when(departmentRepository.findById(deptId)).thenReturn(Optional.of(department));
+        when(departmentRepository.findById(newParentId)).thenReturn(Optional.of(newParent));
+        when(departmentRepository.existsInSubtree(deptId, newParentId)).thenReturn(false);
+        when(departmentRepository.findMaxSubtreeDepth(deptId)).thenReturn(2);
+        when(departmentRepository.save(any(Department.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(departmentRepository.findSubtreeIds(deptId)).thenReturn(List.of(deptId, childId));
+
+        // when
+        DepartmentResponse response = departmentService.update(deptId, request);
+
+        // then
+        assertThat(response.getParentId()).isEqualTo(newParentId);
+        assertThat(response.getLevel()).isEqualTo(2);
+        assertThat(response.getPath()).isEqualTo("/DIV001/DEV001");
+
+        verify(departmentRepository).shiftSubtree(deptId, "/DEV001", "/DIV001/DEV001", 1);
+        verify(tenantCacheEvictor).evictEntities(CacheNames.DEPARTMENT, List.of(deptId, childId));
+        verify(departmentTreeCache).applyChange(eq(7L), any(TreePatch.class));
+    }
+
+    @Test
+    @DisplayName("update: move under own descendant - throws BusinessException")
+    void update_moveUnderDescendant_throwsBusinessException() {
+        // given
+        UUID deptId = UUID.randomUUID();
+        UUID descendantId = UUID.randomUUID();
+        Department department = TestEntityFactory.createDepartment(deptId, "DEV001", "개발팀");
+        Department descendant = TestEntityFactory.createDepartment(descendantId, "BE001", "백엔드팀", department);
+
+        UpdateDepartmentRequest request = UpdateDepartmentRequest.builder()
+                .parentId(descendantId)
+                .build();
+
+        when(departmentRepository.findById(deptId)).thenReturn(Optional.of(department));
+        when(departmentRepository.findById(descendantId)).thenReturn(Optional.of(descendant));
+        when(departmentRepository.existsInSubtree(deptId, descendantId)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> departmentService.update(deptId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("하위 부서");
+
+        verify(departmentRepository, never()).save(any());
+        verify(departmentRepository, never()).shiftSubtree(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("update: move exceeds depth limit (G04) - throws BusinessException")
+    void update_moveExceedsDepth_throwsBusinessException() {
+        // given
+        UUID deptId = UUID.randomUUID();
+        UUID newParentId = UUID.randomUUID();
+        Department department = TestEntityFactory.createDepartment(deptId, "DEV001", "개발팀");
+        Department newParent = TestEntityFactory.createDepartment(newParentId, "DEEP", "깊은부서");
+        newParent.setLevel(8);
+
+        UpdateDepartmentRequest request = UpdateDepartmentRequest.builder()
+                .parentId(newParentId)
+                .build();
+
+        when(departmentRepository.findById(deptId)).thenReturn(Optional.of(department));
+        when(departmentRepository.findById(newParentId)).thenReturn(Optional.of(newParent));
+        when(departmentRepository.existsInSubtree(deptId, newParentId)).thenReturn(false);
+        when(departmentRepository.findMaxSubtreeDepth(deptId)).thenReturn(2);
+
+        // when & then
+        assertThatThrownBy(() -> departmentService.update(deptId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("최대");
+
+        verify(departmentRepository, never()).save(any());
+    }
+
+    // ===== hierarchy queries =====
+
+    @Test
+    @DisplayName("isWithin: delegates to closure lookup")
+    void isWithin_usesClosureLookup() {
+        // given
+        UUID ancestorId = UUID.randomUUID();
+        UUID deptId = UUID.randomUUID();
+        when(departmentRepository.existsInSubtree(ancestorId, deptId)).thenReturn(true);
+
+        // when & then
+        assertThat(departmentService.isWithin(deptId, ancestorId)).isTrue();
+    }
+
     // ===== delete =====
 
     @Test
@@ -291,6 +416,8 @@ class DepartmentServiceImplTest {
         verify(departmentRepository).save(argThat(dept -> dept.getStatus() == DepartmentStatus.DELETED));
         verify(organizationHistoryService).recordEvent(
                 eq("DEPARTMENT_DELETED"), eq(deptId), any(), any(), any(), any(), any(), any());
+        verify(tenantCacheEvictor).evictEntities(CacheNames.DEPARTMENT, List.of(deptId));
+        verify(departmentTreeCache).applyChange(anyLong(), any(TreePatch.class));
     }
 
     @Test
@@ -420,4 +547,58 @@ class DepartmentServiceImplTest {
         verify(employeeClient, times(2)).bulkTransferDepartment(any(BulkTransferRequest.class));
         verify(eventPublisher).publish(any(DomainEvent.class));
     }
+
+    // ===== getOrgChart =====
+
+    @Test
+    @DisplayName("getOrgChart: 캐시된 트리와 인원/부서장 요약을 조합하고 employee-service를 직접 호출하지 않음")
+    void getOrgChart_assemblesFromCachedTreeAndSummary() {
+        // given
+        UUID managerId = UUID.randomUUID();
+        UUID unknownManagerId = UUID.randomUUID();
+        DepartmentTreeResponse child = treeNode("DEV", 2, unknownManagerId, new ArrayList<>());
+        DepartmentTreeResponse root = treeNode("HQ", 1, managerId, new ArrayList<>(List.of(child)));
+        List<DepartmentTreeResponse> tree = List.of(root);
+
+        OrgChartNodeResponse.ManagerInfo manager = OrgChartNodeResponse.ManagerInfo.builder()
+                .id(managerId).name("김대표").gradeName("임원").positionName("대표이사").build();
+        OrgChartSummaryCache.Summary summary = new OrgChartSummaryCache.Summary(
+                System.currentTimeMillis(),
+                new HashMap<>(Map.of(root.getId(), 3L, child.getId(), 7L)),
+                new HashMap<>(Map.of(managerId, manager)));
+
+        when(departmentTreeCache.getTree()).thenReturn(tree);
+        when(orgChartSummaryCache.get(tree)).thenReturn(summary);
+
+        // when
+        List<OrgChartNodeResponse> chart = departmentService.getOrgChart();
+
+        // then
+        assertThat(chart).hasSize(1);
+        OrgChartNodeResponse rootNode = chart.get(0);
+        assertThat(rootNode.getEmployeeCount()).isEqualTo(3);
+        assertThat(rootNode.getManager().getName()).isEqualTo("김대표");
+        assertThat(rootNode.getStatus()).isEqualTo("ACTIVE");
+
+        OrgChartNodeResponse childNode = rootNode.getChildren().get(0);
+        assertThat(childNode.getEmployeeCount()).isEqualTo(7);
+        assertThat(childNode.getManager().getId()).isEqualTo(unknownManagerId);
+        assertThat(childNode.getManager().getName()).isNull();
+        assertThat(childNode.getChildren()).isNull();
+
+        verifyNoInteractions(employeeClient);
+    }
+
+    private DepartmentTreeResponse treeNode(String code, int level, UUID managerId,
+                                            List<DepartmentTreeResponse> children) {
+        return DepartmentTreeResponse.builder()
+                .id(UUID.randomUUID())
+                .code(code)
+                .name(code)
+                .level(level)
+                .managerId(managerId)
+                .status(DepartmentStatus.ACTIVE)
+                .children(children)
+                .build();
+    }
 }
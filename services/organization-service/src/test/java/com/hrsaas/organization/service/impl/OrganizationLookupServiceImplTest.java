@@ -0,0 +1,156 @@
+package com.hrsaas.organization.service.impl;
+
+import com.hrsaas.common.core.exception.ExternalServiceException;
+import com.hrsaas.common.response.ApiResponse;
+import com.hrsaas.common.tenant.TenantContext;
+import com.hrsaas.organization.TestEntityFactory;
+import com.hrsaas.organization.client.EmployeeClient;
+import com.hrsaas.organization.client.dto.EmployeeClientResponse;
+import com.hrsaas.organization.client.dto.OrgChartSummaryResponse;
+import com.hrsaas.organization.domain.dto.request.ApproverLookupRequest;
+import com.hrsaas.organization.domain.dto.request.ApproverLookupRequest.PositionHolderKey;
+import com.hrsaas.organization.domain.dto.response.ApproverLookupResponse;
+import com.hrsaas.organization.domain.entity.Department;
+import com.hrsaas.organization.repository.DepartmentRepository;
+import com.hrsaas.organization.repository.GradeRepository;
+import com.hrsaas.organization.repository.PositionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationLookupServiceImplTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @Mock
+    private GradeRepository gradeRepository;
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @InjectMocks
+    private OrganizationLookupServiceImpl organizationLookupService;
+
+    private UUID tenantId;
+    private UUID departmentId;
+    private UUID headId;
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        departmentId = UUID.randomUUID();
+        headId = UUID.randomUUID();
+        TenantContext.setCurrentTenant(tenantId);
+
+        department = TestEntityFactory.createDepartment(departmentId, "D01", "개발팀");
+        department.setManagerId(headId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("lookupApprovers: 부서장과 직책자를 한 번에 조회")
+    void lookupApprovers_headsAndPositionHolders() {
+        UUID holderId = UUID.randomUUID();
+        when(departmentRepository.findByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(department));
+        when(employeeClient.getOrgChartSummary(argThat(request ->
+                request.getDepartmentIds().isEmpty() && request.getManagerIds().equals(List.of(headId)))))
+            .thenReturn(ApiResponse.success(OrgChartSummaryResponse.builder()
+                .managers(List.of(OrgChartSummaryResponse.ManagerSummary.builder()
+                    .id(headId).name("김부장").positionCode("P01").build()))
+                .build()));
+        when(employeeClient.getEmployeesByDepartment(departmentId)).thenReturn(ApiResponse.success(List.of(
+            member(UUID.randomUUID(), "E003", "P02"),
+            member(holderId, "E002", "P02"),
+            member(headId, "E001", "P01"))));
+        when(positionRepository.findByTenantIdAndCodeIn(eq(tenantId), anyCollection())).thenReturn(List.of(
+            TestEntityFactory.createPosition(UUID.randomUUID(), "P01", "부장", 1),
+            TestEntityFactory.createPosition(UUID.randomUUID(), "P02", "파트장", 2)));
+
+        ApproverLookupResponse response = organizationLookupService.lookupApprovers(ApproverLookupRequest.builder()
+            .headDepartmentIds(Set.of(departmentId))
+            .positionHolders(List.of(PositionHolderKey.builder().positionCode("P02").departmentId(departmentId).build()))
+            .build());
+
+        assertThat(response.getDepartmentHeads()).containsOnlyKeys(departmentId);
+        ApproverLookupResponse.ApproverInfo head = response.getDepartmentHeads().get(departmentId);
+        assertThat(head.getEmployeeId()).isEqualTo(headId);
+        assertThat(head.getEmployeeName()).isEqualTo("김부장");
+        assertThat(head.getPositionName()).isEqualTo("부장");
+        assertThat(head.getDepartmentName()).isEqualTo("개발팀");
+
+        assertThat(response.getPositionHolders()).hasSize(1);
+        ApproverLookupResponse.PositionHolder holder = response.getPositionHolders().get(0);
+        assertThat(holder.getPositionCode()).isEqualTo("P02");
+        assertThat(holder.getDepartmentId()).isEqualTo(departmentId);
+        assertThat(holder.getHolder().getEmployeeId()).isEqualTo(holderId);
+        assertThat(holder.getHolder().getPositionName()).isEqualTo("파트장");
+        verify(employeeClient, times(1)).getEmployeesByDepartment(departmentId);
+    }
+
+    @Test
+    @DisplayName("lookupApprovers: 부서장이 없거나 부서가 없으면 응답에서 제외")
+    void lookupApprovers_missingHeadOrDepartment_omitted() {
+        department.setManagerId(null);
+        UUID unknownDepartmentId = UUID.randomUUID();
+        when(departmentRepository.findByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(department));
+
+        ApproverLookupResponse response = organizationLookupService.lookupApprovers(ApproverLookupRequest.builder()
+            .headDepartmentIds(Set.of(departmentId, unknownDepartmentId))
+            .positionHolders(List.of(
+                PositionHolderKey.builder().positionCode("P02").departmentId(unknownDepartmentId).build()))
+            .build());
+
+        assertThat(response.getDepartmentHeads()).isEmpty();
+        assertThat(response.getPositionHolders()).isEmpty();
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    @DisplayName("lookupApprovers: employee-service 조회 실패 시 예외")
+    void lookupApprovers_employeeServiceUnavailable_throws() {
+        when(departmentRepository.findByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(department));
+        when(employeeClient.getOrgChartSummary(any())).thenReturn(ApiResponse.success(null));
+
+        assertThatThrownBy(() -> organizationLookupService.lookupApprovers(ApproverLookupRequest.builder()
+                .headDepartmentIds(Set.of(departmentId))
+                .build()))
+            .isInstanceOf(ExternalServiceException.class);
+    }
+
+    private EmployeeClientResponse member(UUID id, String employeeNumber, String positionCode) {
+        return EmployeeClientResponse.builder()
+            .id(id)
+            .employeeNumber(employeeNumber)
+            .name("직원" + employeeNumber)
+            .departmentId(departmentId)
+            .positionCode(positionCode)
+            .build();
+    }
+}
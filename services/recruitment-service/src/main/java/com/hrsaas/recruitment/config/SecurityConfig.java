@@ -2,6 +2,7 @@ package com.hrsaas.recruitment.config;
 
 import com.hrsaas.common.security.SecurityFilter;
 import com.hrsaas.common.security.jwt.JwtTokenProvider;
+import com.hrsaas.common.security.revocation.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,10 +25,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Bean
     public SecurityFilter securityFilter() {
-        return new SecurityFilter(jwtTokenProvider);
+        return new SecurityFilter(jwtTokenProvider, tokenRevocationService);
     }
 
     @Bean